@@ -0,0 +1,39 @@
+package com.dadp.jdbc.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * benchmarks.jar 진입점
+ * 
+ * JMH 명령행 옵션을 그대로 받으며, 할당률(gc.alloc.rate.norm)을 함께 보도록 GC 프로파일러를 항상 추가합니다.
+ * 릴리스 간 비교는 -rf json -rff result.json으로 결과를 저장해 두고 비교합니다.
+ * 
+ * <pre>
+ * java -jar benchmarks.jar                         # 전체
+ * java -jar benchmarks.jar ResultSetBenchmark      # 특정 벤치마크
+ * </pre>
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+public class BenchmarkMain {
+    
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp() || commandLine.shouldList()) {
+            // 도움말/목록은 JMH 기본 진입점에 위임
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+        Options options = new OptionsBuilder()
+                .parent(commandLine)
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
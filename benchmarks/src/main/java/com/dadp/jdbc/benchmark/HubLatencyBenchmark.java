@@ -0,0 +1,114 @@
+package com.dadp.jdbc.benchmark;
+
+import com.dadp.jdbc.DadpProxyConnection;
+import com.dadp.jdbc.stub.StubHubServer;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Hub 지연 시간에 따른 암호화 비용 벤치마크 (Stub Hub + 실제 HTTP 전송)
+ * 
+ * Stub Hub에 고정 지연을 주입하고 보호 컬럼 setString(Hub 암호화 호출)을 여러 스레드에서 측정합니다.
+ * 매핑도 Stub Hub에서 로드하므로 Wrapper의 Hub 연동 경로 전체를 거칩니다.
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@Threads(8)
+public class HubLatencyBenchmark {
+    
+    private static final AtomicInteger SEQ = new AtomicInteger();
+    
+    @State(Scope.Benchmark)
+    public static class HubState {
+        
+        @Param({"0", "2"})
+        public long latencyMillis;
+        
+        // Hub 암복호화 전송 방식 (rest: dadp-hub-crypto-lib)
+        @Param({"rest"})
+        public String transport;
+        
+        StubHubServer hub;
+        
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            hub = new StubHubServer(0, 32);
+            hub.addMapping("users", "email", WrapperState.POLICY);
+            // 매핑 로드는 지연 없이, 암복호화에만 지연 주입
+            hub.setFaultEndpoints(EnumSet.of(StubHubServer.Endpoint.CRYPTO));
+            hub.setLatencyMillis(latencyMillis);
+            hub.start();
+        }
+        
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            hub.stop();
+        }
+    }
+    
+    @State(Scope.Thread)
+    public static class ConnectionState {
+        
+        DadpProxyConnection connection;
+        PreparedStatement ps;
+        
+        @Setup(Level.Trial)
+        public void setUp(HubState hubState) throws SQLException {
+            int seq = SEQ.incrementAndGet();
+            String url = "jdbc:h2:mem:dadp_hub_bench_" + seq + ";DATABASE_TO_LOWER=TRUE";
+            Connection raw = DriverManager.getConnection(url);
+            try (Statement st = raw.createStatement()) {
+                st.execute("CREATE TABLE users (id BIGINT PRIMARY KEY, email VARCHAR(255), name VARCHAR(64))");
+            }
+            Map<String, String> params = new HashMap<>();
+            params.put("hubUrl", hubState.hub.getUrl());
+            params.put("instanceId", "jmh-hub-" + seq);
+            params.put("failOpen", "true");
+            params.put("cryptoTransport", hubState.transport);
+            connection = new DadpProxyConnection(raw, url, params);
+            // 첫 prepareStatement는 Stub Hub에서 매핑 로드가 끝날 때까지 대기
+            ps = connection.prepareStatement("insert into users (id, email, name) values (?, ?, ?)");
+        }
+        
+        @TearDown(Level.Trial)
+        public void tearDown() throws SQLException {
+            ps.close();
+            connection.close();
+        }
+    }
+    
+    @Benchmark
+    public void setStringProtected(ConnectionState state) throws SQLException {
+        state.ps.setString(2, "user@example.com");
+    }
+}
@@ -0,0 +1,62 @@
+package com.dadp.jdbc.benchmark;
+
+import com.dadp.jdbc.metrics.DadpMetrics;
+import com.dadp.jdbc.policy.PolicyResolver;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * PolicyResolver.resolvePolicy 벤치마크
+ * 
+ * 셀/파라미터마다 호출되는 정책 조회 비용 (매핑 적중/미적중, 지표 집계 포함)
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PolicyResolverBenchmark {
+    
+    @Param({"10", "1000"})
+    public int mappingCount;
+    
+    private PolicyResolver resolver;
+    
+    @Setup
+    public void setUp() {
+        resolver = new PolicyResolver(DadpMetrics.forInstance(WrapperState.INSTANCE_ID));
+        Map<String, String> mappings = new HashMap<>();
+        for (int i = 0; i < mappingCount; i++) {
+            mappings.put("table" + (i % 50) + ".column" + i, "policy" + (i % 5));
+        }
+        mappings.put("users.email", WrapperState.POLICY);
+        resolver.refreshMappings(mappings);
+    }
+    
+    @Benchmark
+    public String mapped() {
+        return resolver.resolvePolicy("users", "email");
+    }
+    
+    @Benchmark
+    public String notMapped() {
+        return resolver.resolvePolicy("users", "name");
+    }
+}
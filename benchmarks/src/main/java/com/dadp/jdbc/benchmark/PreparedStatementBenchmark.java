@@ -0,0 +1,68 @@
+package com.dadp.jdbc.benchmark;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * DadpProxyPreparedStatement.setString 벤치마크
+ * 
+ * 보호 컬럼(email: 정책 조회 + 암호화)과 평문 컬럼(name: 정책 조회만),
+ * Wrapper를 거치지 않는 H2 PreparedStatement를 비교합니다.
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PreparedStatementBenchmark {
+    
+    private static final String SQL = "insert into users (id, email, name) values (?, ?, ?)";
+    
+    private PreparedStatement proxyPs;
+    private PreparedStatement rawPs;
+    
+    @Setup(Level.Trial)
+    public void setUp(WrapperState state) throws SQLException {
+        proxyPs = state.connection.prepareStatement(SQL);
+        rawPs = state.rawConnection.prepareStatement(SQL);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        proxyPs.close();
+        rawPs.close();
+    }
+    
+    @Benchmark
+    public void setStringProtected() throws SQLException {
+        proxyPs.setString(2, "user@example.com");
+    }
+    
+    @Benchmark
+    public void setStringPlain() throws SQLException {
+        proxyPs.setString(3, "사용자");
+    }
+    
+    @Benchmark
+    public void setStringRaw() throws SQLException {
+        rawPs.setString(2, "user@example.com");
+    }
+}
@@ -0,0 +1,89 @@
+package com.dadp.jdbc.benchmark;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * DadpProxyResultSet.getString 셀 단위 벤치마크
+ * 
+ * Hibernate 형태의 SELECT 결과에서 한 행에 커서를 고정하고 같은 셀을 반복해서 읽습니다.
+ * (보호 컬럼: 메타데이터/별칭 해석 + 정책 조회 + 복호화, 평문 컬럼: 정책 조회까지)
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultSetBenchmark {
+    
+    private PreparedStatement proxyPs;
+    private PreparedStatement rawPs;
+    private ResultSet proxyRs;
+    private ResultSet rawRs;
+    
+    @Setup(Level.Trial)
+    public void setUp(WrapperState state) throws SQLException {
+        proxyPs = state.connection.prepareStatement(SqlParserBenchmark.HIBERNATE_SELECT);
+        proxyPs.setLong(1, 1L);
+        proxyRs = proxyPs.executeQuery();
+        proxyRs.next();
+        
+        rawPs = state.rawConnection.prepareStatement(SqlParserBenchmark.HIBERNATE_SELECT);
+        rawPs.setLong(1, 1L);
+        rawRs = rawPs.executeQuery();
+        rawRs.next();
+        
+        // 측정 대상 경로(복호화)를 실제로 타는지 확인
+        String email = proxyRs.getString(2);
+        if (email == null || email.startsWith(StubCryptoTransport.PREFIX)) {
+            throw new IllegalStateException("복호화되지 않음: " + email);
+        }
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        proxyRs.close();
+        proxyPs.close();
+        rawRs.close();
+        rawPs.close();
+    }
+    
+    @Benchmark
+    public String getStringProtected() throws SQLException {
+        return proxyRs.getString(2);
+    }
+    
+    @Benchmark
+    public String getStringProtectedByLabel() throws SQLException {
+        return proxyRs.getString("email2_0_0_");
+    }
+    
+    @Benchmark
+    public String getStringPlain() throws SQLException {
+        return proxyRs.getString(3);
+    }
+    
+    @Benchmark
+    public String getStringRaw() throws SQLException {
+        return rawRs.getString(2);
+    }
+}
@@ -0,0 +1,71 @@
+package com.dadp.jdbc.benchmark;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 문장 단위 왕복 벤치마크 (prepare → UPDATE → prepare → SELECT → 행 읽기 → close)
+ * 
+ * 애플리케이션이 문장마다 PreparedStatement를 새로 만드는 일반적인 패턴에서
+ * Wrapper가 추가하는 비용(SQL 파싱, 래핑, 암복호화)을 H2 직접 호출과 비교합니다.
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoundTripBenchmark {
+    
+    private static final String UPDATE_SQL = "update users set email=?, name=? where id=?";
+    
+    private long nextId;
+    
+    @Benchmark
+    public void wrapper(WrapperState state, Blackhole bh) throws SQLException {
+        roundTrip(state.connection, bh);
+    }
+    
+    @Benchmark
+    public void raw(WrapperState state, Blackhole bh) throws SQLException {
+        roundTrip(state.rawConnection, bh);
+    }
+    
+    private void roundTrip(Connection connection, Blackhole bh) throws SQLException {
+        long id = (nextId++ % WrapperState.ROW_COUNT) + 1;
+        try (PreparedStatement ps = connection.prepareStatement(UPDATE_SQL)) {
+            ps.setString(1, "user" + id + "@example.com");
+            ps.setString(2, "사용자" + id);
+            ps.setLong(3, id);
+            bh.consume(ps.executeUpdate());
+        }
+        try (PreparedStatement ps = connection.prepareStatement(SqlParserBenchmark.HIBERNATE_SELECT)) {
+            ps.setLong(1, id);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    bh.consume(rs.getLong(1));
+                    bh.consume(rs.getString(2));
+                    bh.consume(rs.getString(3));
+                    bh.consume(rs.getString(4));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.dadp.jdbc.benchmark;
+
+import com.dadp.jdbc.policy.SqlParser;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * SqlParser.parse 벤치마크 (Hibernate가 생성하는 형태의 SQL)
+ * 
+ * Wrapper는 PreparedStatement/ResultSet을 만들 때마다 SQL을 파싱하므로 문장당 고정 비용입니다.
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SqlParserBenchmark {
+    
+    static final String HIBERNATE_SELECT =
+            "select u1_0.id as id1_0_0_, u1_0.email as email2_0_0_, u1_0.name as name3_0_0_, "
+                    + "u1_0.phone as phone4_0_0_ from users u1_0 where u1_0.id=?";
+    static final String HIBERNATE_INSERT =
+            "insert into users (email, name, phone, id) values (?, ?, ?, ?)";
+    static final String HIBERNATE_UPDATE =
+            "update users set email=?, name=?, phone=? where id=?";
+    
+    @Param({"select", "insert", "update"})
+    public String statement;
+    
+    private String sql;
+    
+    @Setup
+    public void setUp() {
+        switch (statement) {
+            case "insert":
+                sql = HIBERNATE_INSERT;
+                break;
+            case "update":
+                sql = HIBERNATE_UPDATE;
+                break;
+            default:
+                sql = HIBERNATE_SELECT;
+        }
+    }
+    
+    @Benchmark
+    public SqlParser.SqlParseResult parse() {
+        // Wrapper와 동일하게 문장마다 SqlParser 생성
+        return new SqlParser().parse(sql);
+    }
+}
@@ -0,0 +1,43 @@
+package com.dadp.jdbc.benchmark;
+
+import com.dadp.jdbc.crypto.HubCryptoTransport;
+
+/**
+ * 벤치마크용 스텁 암복호화 전송
+ * 
+ * Hub 호출 없이 접두어만 붙이고 떼므로, 측정 결과에는 Wrapper 자체 비용만 남습니다.
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+public class StubCryptoTransport implements HubCryptoTransport {
+    
+    public static final String TYPE = "stub";
+    public static final String PREFIX = "stub::";
+    
+    /**
+     * crypto-transport=stub으로 사용할 수 있도록 등록
+     */
+    public static void register() {
+        HubCryptoTransport.Factory.register(TYPE, hubUrl -> new StubCryptoTransport());
+    }
+    
+    @Override
+    public String encrypt(String data, String policyName) {
+        return PREFIX + data;
+    }
+    
+    @Override
+    public String decrypt(String encryptedData) {
+        if (!isEncryptedData(encryptedData)) {
+            return null; // 암호화되지 않은 데이터
+        }
+        return encryptedData.substring(PREFIX.length());
+    }
+    
+    @Override
+    public boolean isEncryptedData(String data) {
+        return data != null && data.startsWith(PREFIX);
+    }
+}
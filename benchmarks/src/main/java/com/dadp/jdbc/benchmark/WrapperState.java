@@ -0,0 +1,83 @@
+package com.dadp.jdbc.benchmark;
+
+import com.dadp.jdbc.DadpProxyConnection;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * H2 in-memory DB 위의 DadpProxyConnection (벤치마크 공통 상태)
+ * 
+ * users.email, users.phone 컬럼에 정책이 매핑되어 있고 name은 평문 컬럼입니다.
+ * Hub는 연결되지 않으며 (Fail-open), 암복호화는 StubCryptoTransport가 처리합니다.
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+@State(Scope.Thread)
+public class WrapperState {
+    
+    public static final String INSTANCE_ID = "jmh-bench";
+    public static final String POLICY = "pii";
+    public static final int ROW_COUNT = 100;
+    
+    // 연결되지 않는 Hub 주소 (스키마 동기화/매핑 로드는 즉시 실패하고 Fail-open으로 진행)
+    private static final String HUB_URL = "http://127.0.0.1:9";
+    private static final AtomicInteger DB_SEQ = new AtomicInteger();
+    
+    public Connection rawConnection;
+    public DadpProxyConnection connection;
+    
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        StubCryptoTransport.register();
+        
+        // 스레드별 DB (DATABASE_TO_LOWER: MySQL처럼 메타데이터를 소문자로 반환)
+        String url = "jdbc:h2:mem:dadp_bench_" + DB_SEQ.incrementAndGet() + ";DATABASE_TO_LOWER=TRUE";
+        rawConnection = DriverManager.getConnection(url);
+        try (Statement st = rawConnection.createStatement()) {
+            st.execute("CREATE TABLE users ("
+                    + "id BIGINT PRIMARY KEY, email VARCHAR(255), phone VARCHAR(64), name VARCHAR(64))");
+        }
+        
+        Map<String, String> params = new HashMap<>();
+        params.put("hubUrl", HUB_URL);
+        params.put("instanceId", INSTANCE_ID);
+        params.put("failOpen", "true");
+        params.put("cryptoTransport", StubCryptoTransport.TYPE);
+        connection = new DadpProxyConnection(rawConnection, url, params);
+        
+        Map<String, String> mappings = new HashMap<>();
+        mappings.put("users.email", POLICY);
+        mappings.put("users.phone", POLICY);
+        connection.getPolicyResolver().refreshMappings(mappings);
+        
+        // Wrapper를 거쳐 암호화된 상태로 저장
+        try (PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO users (id, email, phone, name) VALUES (?, ?, ?, ?)")) {
+            for (int i = 1; i <= ROW_COUNT; i++) {
+                ps.setLong(1, i);
+                ps.setString(2, "user" + i + "@example.com");
+                ps.setString(3, "010-0000-" + String.format("%04d", i));
+                ps.setString(4, "사용자" + i);
+                ps.executeUpdate();
+            }
+        }
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+}
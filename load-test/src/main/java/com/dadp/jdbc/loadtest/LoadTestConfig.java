@@ -0,0 +1,169 @@
+package com.dadp.jdbc.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정
+ * 
+ * 명령행 인자 --이름=값으로 지정합니다 (예: --threads=32 --read-ratio=0.9).
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+public class LoadTestConfig {
+    
+    /** 보호 대상 후보 컬럼 (c1 ~ c4) */
+    public static final int TEXT_COLUMNS = 4;
+    
+    int threads = 16;
+    int poolSize = -1; // 기본값: threads
+    int warmupSeconds = 5;
+    int durationSeconds = 30;
+    int rows = 10000;
+    double readRatio = 0.8;
+    double protectedRatio = 0.5;
+    long hubLatencyMillis = 0;
+    long hubJitterMillis = 0;
+    double hubErrorRate = 0;
+    String transport = "rest";
+    String db = "h2";
+    String mode = "both";
+    
+    /**
+     * 명령행 인자 파싱
+     * 
+     * @throws IllegalArgumentException 알 수 없는 옵션 또는 잘못된 값
+     */
+    public static LoadTestConfig parse(String[] args) {
+        LoadTestConfig config = new LoadTestConfig();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || arg.indexOf('=') < 0) {
+                throw new IllegalArgumentException("옵션 형식 오류 (--이름=값): " + arg);
+            }
+            String name = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            switch (name) {
+                case "threads":
+                    config.threads = Integer.parseInt(value);
+                    break;
+                case "pool-size":
+                    config.poolSize = Integer.parseInt(value);
+                    break;
+                case "warmup-seconds":
+                    config.warmupSeconds = Integer.parseInt(value);
+                    break;
+                case "duration-seconds":
+                    config.durationSeconds = Integer.parseInt(value);
+                    break;
+                case "rows":
+                    config.rows = Integer.parseInt(value);
+                    break;
+                case "read-ratio":
+                    config.readRatio = Double.parseDouble(value);
+                    break;
+                case "protected-ratio":
+                    config.protectedRatio = Double.parseDouble(value);
+                    break;
+                case "hub-latency-ms":
+                    config.hubLatencyMillis = Long.parseLong(value);
+                    break;
+                case "hub-jitter-ms":
+                    config.hubJitterMillis = Long.parseLong(value);
+                    break;
+                case "hub-error-rate":
+                    config.hubErrorRate = Double.parseDouble(value);
+                    break;
+                case "transport":
+                    config.transport = value;
+                    break;
+                case "db":
+                    config.db = value;
+                    break;
+                case "mode":
+                    config.mode = value;
+                    break;
+                default:
+                    throw new IllegalArgumentException("알 수 없는 옵션: --" + name);
+            }
+        }
+        config.validate();
+        return config;
+    }
+    
+    private void validate() {
+        if (poolSize <= 0) {
+            poolSize = threads;
+        }
+        if (readRatio < 0 || readRatio > 1 || protectedRatio < 0 || protectedRatio > 1) {
+            throw new IllegalArgumentException("read-ratio, protected-ratio는 0.0 ~ 1.0이어야 합니다");
+        }
+        if (!"h2".equals(db) && !"h2-postgres".equals(db)) {
+            throw new IllegalArgumentException("db는 h2 또는 h2-postgres여야 합니다: " + db);
+        }
+        if (!"both".equals(mode) && !"raw".equals(mode) && !"wrapper".equals(mode)) {
+            throw new IllegalArgumentException("mode는 both, raw, wrapper 중 하나여야 합니다: " + mode);
+        }
+    }
+    
+    /**
+     * 정책이 매핑되는 컬럼 수 (c1부터 순서대로)
+     */
+    public int getProtectedColumns() {
+        return (int) Math.round(TEXT_COLUMNS * protectedRatio);
+    }
+    
+    /**
+     * H2 URL 옵션 (h2-postgres는 PostgreSQL 호환 모드)
+     */
+    public String getH2Options() {
+        String options = ";DB_CLOSE_DELAY=-1;DATABASE_TO_LOWER=TRUE";
+        return "h2-postgres".equals(db) ? options + ";MODE=PostgreSQL" : options;
+    }
+    
+    public boolean runRaw() {
+        return !"wrapper".equals(mode);
+    }
+    
+    public boolean runWrapper() {
+        return !"raw".equals(mode);
+    }
+    
+    /**
+     * 보고서 출력용 설정 요약
+     */
+    public Map<String, Object> describe() {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("threads", threads);
+        values.put("pool-size", poolSize);
+        values.put("warmup-seconds", warmupSeconds);
+        values.put("duration-seconds", durationSeconds);
+        values.put("rows", rows);
+        values.put("read-ratio", readRatio);
+        values.put("protected-ratio", protectedRatio + " (" + getProtectedColumns() + "/" + TEXT_COLUMNS + " columns)");
+        values.put("hub-latency-ms", hubLatencyMillis);
+        values.put("hub-jitter-ms", hubJitterMillis);
+        values.put("hub-error-rate", hubErrorRate);
+        values.put("transport", transport);
+        values.put("db", db);
+        return values;
+    }
+    
+    static String usage() {
+        return "사용법: java -jar load-test.jar [옵션]\n"
+                + "  --threads=16            동시 스레드 수\n"
+                + "  --pool-size=<threads>   커넥션 풀 크기\n"
+                + "  --warmup-seconds=5      워밍업 시간 (결과 제외)\n"
+                + "  --duration-seconds=30   측정 시간\n"
+                + "  --rows=10000            테이블 행 수\n"
+                + "  --read-ratio=0.8        SELECT 비율 (나머지는 UPDATE)\n"
+                + "  --protected-ratio=0.5   보호 컬럼 비율 (텍스트 컬럼 4개 중)\n"
+                + "  --hub-latency-ms=0      Stub Hub 암복호화 지연\n"
+                + "  --hub-jitter-ms=0       Stub Hub 지연 편차\n"
+                + "  --hub-error-rate=0      Stub Hub 오류율 (Fail-open 경로)\n"
+                + "  --transport=rest        Hub 전송 방식 (rest)\n"
+                + "  --db=h2                 저장소 (h2, h2-postgres)\n"
+                + "  --mode=both             both: raw 대비 오버헤드, raw, wrapper";
+    }
+}
@@ -0,0 +1,143 @@
+package com.dadp.jdbc.loadtest;
+
+import com.dadp.jdbc.metrics.DadpMetrics;
+import com.dadp.jdbc.stub.StubHubServer;
+import java.io.PrintStream;
+import java.net.URLEncoder;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.EnumSet;
+import java.util.Map;
+
+/**
+ * DADP JDBC Wrapper 부하 테스트 진입점
+ * 
+ * Stub Hub를 띄우고 같은 작업 부하를 H2 직접 연결(raw)과 DadpJdbcDriver 경유(wrapper)로 각각 실행한 뒤
+ * 처리량, 지연 시간 백분위수, raw 대비 Wrapper 오버헤드를 출력합니다.
+ * 두 단계는 서로 다른 in-memory DB를 사용하며, wrapper 단계의 데이터는 Wrapper를 거쳐 암호화된 상태로 적재됩니다.
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+public class LoadTestMain {
+    
+    private static final String INSTANCE_ID = "load-test";
+    private static final String POLICY = "dadp";
+    
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config;
+        try {
+            config = LoadTestConfig.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(LoadTestConfig.usage());
+            System.exit(2);
+            return;
+        }
+        
+        PrintStream out = System.out;
+        out.println("=== DADP JDBC Wrapper 부하 테스트 ===");
+        for (Map.Entry<String, Object> entry : config.describe().entrySet()) {
+            out.printf("  %-18s %s%n", entry.getKey(), entry.getValue());
+        }
+        
+        PhaseResult raw = null;
+        PhaseResult wrapper = null;
+        
+        if (config.runRaw()) {
+            String url = "jdbc:h2:mem:loadtest_raw" + config.getH2Options();
+            raw = runPhase(config, url, "raw");
+        }
+        
+        if (config.runWrapper()) {
+            StubHubServer hub = new StubHubServer(0, Math.max(16, config.threads * 2));
+            for (int i = 1; i <= config.getProtectedColumns(); i++) {
+                hub.addMapping("users", "c" + i, POLICY);
+            }
+            hub.setFaultEndpoints(EnumSet.of(StubHubServer.Endpoint.CRYPTO));
+            hub.start();
+            try {
+                String url = "jdbc:dadp:h2:mem:loadtest_wrapper" + config.getH2Options()
+                        + "?hubUrl=" + URLEncoder.encode(hub.getUrl(), "UTF-8")
+                        + "&instanceId=" + INSTANCE_ID
+                        + "&failOpen=true"
+                        + "&cryptoTransport=" + config.transport;
+                wrapper = runPhase(config, url, "wrapper", hub);
+                verifyEncrypted(config, out, hub);
+                printWrapperMetrics(out, hub);
+            } finally {
+                hub.stop();
+            }
+        }
+        
+        if (raw != null && wrapper != null) {
+            printOverhead(out, raw, wrapper);
+        }
+        System.exit(0);
+    }
+    
+    private static PhaseResult runPhase(LoadTestConfig config, String url, String label) throws Exception {
+        return runPhase(config, url, label, null);
+    }
+    
+    private static PhaseResult runPhase(LoadTestConfig config, String url, String label, StubHubServer hub)
+            throws Exception {
+        try (SimpleConnectionPool pool = new SimpleConnectionPool(url, config.poolSize)) {
+            Workload workload = new Workload(config, pool);
+            System.out.printf("%n[%s] %d행 적재 중...%n", label, config.rows);
+            workload.seed();
+            if (hub != null) {
+                // 적재 후 지연/오류 주입 (적재 시간에는 영향 없음)
+                hub.setLatencyMillis(config.hubLatencyMillis);
+                hub.setLatencyJitterMillis(config.hubJitterMillis);
+                hub.setErrorRate(config.hubErrorRate);
+            }
+            System.out.printf("[%s] 실행 중 (워밍업 %ds + 측정 %ds)...%n", label, config.warmupSeconds, config.durationSeconds);
+            PhaseResult result = workload.run(label);
+            result.print(System.out);
+            return result;
+        }
+    }
+    
+    /**
+     * 보호 컬럼이 실제로 암호화되어 저장되었는지 확인 (Wrapper를 거치지 않고 조회)
+     */
+    private static void verifyEncrypted(LoadTestConfig config, PrintStream out, StubHubServer hub) throws Exception {
+        if (config.getProtectedColumns() == 0) {
+            return;
+        }
+        try (Connection raw = DriverManager.getConnection("jdbc:h2:mem:loadtest_wrapper" + config.getH2Options());
+             Statement st = raw.createStatement();
+             ResultSet rs = st.executeQuery("select c1 from users where id = 1")) {
+            String stored = rs.next() ? rs.getString(1) : null;
+            boolean encrypted = stored != null && hub.decrypt(stored) != null;
+            out.printf("%n보호 컬럼 저장 상태 (c1): %s%n", encrypted ? "암호화됨" : "평문 (확인 필요)");
+        }
+    }
+    
+    private static void printWrapperMetrics(PrintStream out, StubHubServer hub) {
+        DadpMetrics metrics = DadpMetrics.forInstance(INSTANCE_ID);
+        out.printf("Wrapper 지표: encrypt=%d (p99 %dus), decrypt=%d (p99 %dus), hubErrors=%d, failOpen=%d%n",
+                metrics.getEncryptCount(), metrics.getEncryptLatencyP99Micros(),
+                metrics.getDecryptCount(), metrics.getDecryptLatencyP99Micros(),
+                metrics.getHubErrorCount(), metrics.getFailOpenFallbackCount());
+        out.printf("Stub Hub 요청: crypto=%d, 주입 오류=%d%n",
+                hub.getRequestCount(StubHubServer.Endpoint.CRYPTO), hub.getInjectedErrorCount());
+    }
+    
+    private static void printOverhead(PrintStream out, PhaseResult raw, PhaseResult wrapper) {
+        out.printf("%n=== Wrapper 오버헤드 (raw 대비) ===%n");
+        out.printf("throughput: %.1f → %.1f ops/s (%+.1f%%)%n", raw.getThroughput(), wrapper.getThroughput(),
+                (wrapper.getThroughput() / raw.getThroughput() - 1) * 100);
+        for (double percentile : new double[]{50, 90, 99, 99.9}) {
+            double r = PhaseResult.micros(raw.total.getValueAtPercentile(percentile));
+            double w = PhaseResult.micros(wrapper.total.getValueAtPercentile(percentile));
+            out.printf("p%-5s %10.1f → %10.1f us (%+.1f us, x%.2f)%n",
+                    percentile == (long) percentile ? String.valueOf((long) percentile) : String.valueOf(percentile),
+                    r, w, w - r, r == 0 ? 0 : w / r);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.dadp.jdbc.loadtest;
+
+import java.io.PrintStream;
+import org.HdrHistogram.Histogram;
+
+/**
+ * 부하 테스트 단계(raw / wrapper) 결과
+ * 
+ * 지연 시간은 풀 대기 + prepare + 실행 + 결과 읽기까지 포함한 한 작업의 시간입니다.
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+class PhaseResult {
+    
+    final String label;
+    final Histogram read = new Histogram(3);
+    final Histogram write = new Histogram(3);
+    final Histogram total = new Histogram(3);
+    long errors;
+    long measuredNanos;
+    
+    PhaseResult(String label) {
+        this.label = label;
+    }
+    
+    /**
+     * 스레드별 결과 합산
+     */
+    synchronized void merge(Histogram threadRead, Histogram threadWrite, long threadErrors) {
+        read.add(threadRead);
+        write.add(threadWrite);
+        total.add(threadRead);
+        total.add(threadWrite);
+        errors += threadErrors;
+    }
+    
+    double getThroughput() {
+        return measuredNanos == 0 ? 0 : total.getTotalCount() * 1_000_000_000.0 / measuredNanos;
+    }
+    
+    void print(PrintStream out) {
+        out.printf("%n=== %s ===%n", label);
+        out.printf("ops=%d  throughput=%.1f ops/s  errors=%d%n", total.getTotalCount(), getThroughput(), errors);
+        out.printf("%-6s %10s %10s %10s %10s %10s %10s  (us)%n", "", "count", "p50", "p90", "p99", "p99.9", "max");
+        printRow(out, "read", read);
+        printRow(out, "write", write);
+        printRow(out, "total", total);
+    }
+    
+    private static void printRow(PrintStream out, String name, Histogram h) {
+        out.printf("%-6s %10d %10.1f %10.1f %10.1f %10.1f %10.1f%n", name, h.getTotalCount(),
+                micros(h.getValueAtPercentile(50)), micros(h.getValueAtPercentile(90)),
+                micros(h.getValueAtPercentile(99)), micros(h.getValueAtPercentile(99.9)), micros(h.getMaxValue()));
+    }
+    
+    static double micros(long nanos) {
+        return nanos / 1000.0;
+    }
+}
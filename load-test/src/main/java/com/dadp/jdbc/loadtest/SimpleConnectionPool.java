@@ -0,0 +1,63 @@
+package com.dadp.jdbc.loadtest;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 고정 크기 커넥션 풀 (부하 테스트 전용)
+ * 
+ * 애플리케이션 커넥션 풀처럼 Connection을 미리 만들어 재사용합니다.
+ * 풀 라이브러리 의존성 없이 풀 대기 시간까지 측정에 포함하기 위해 직접 구현합니다.
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+class SimpleConnectionPool implements AutoCloseable {
+    
+    private final BlockingQueue<Connection> idle;
+    private final List<Connection> all = new ArrayList<>();
+    
+    SimpleConnectionPool(String url, int size) throws SQLException {
+        this.idle = new ArrayBlockingQueue<>(size);
+        for (int i = 0; i < size; i++) {
+            Connection connection = DriverManager.getConnection(url);
+            all.add(connection);
+            idle.add(connection);
+        }
+    }
+    
+    Connection borrow() throws SQLException {
+        try {
+            Connection connection = idle.poll(30, TimeUnit.SECONDS);
+            if (connection == null) {
+                throw new SQLException("커넥션 풀 대기 타임아웃");
+            }
+            return connection;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("커넥션 풀 대기 중 인터럽트", e);
+        }
+    }
+    
+    void release(Connection connection) {
+        idle.offer(connection);
+    }
+    
+    @Override
+    public void close() {
+        for (Connection connection : all) {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                // 종료 중 오류는 무시
+            }
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.dadp.jdbc.loadtest;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 읽기/쓰기 혼합 작업 부하
+ * 
+ * 스레드마다 풀에서 Connection을 빌려 PreparedStatement를 만들고 실행한 뒤 반납합니다
+ * (일반적인 애플리케이션/ORM 패턴). 워밍업 구간이 끝난 뒤의 작업만 집계합니다.
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+class Workload {
+    
+    private static final Logger log = LoggerFactory.getLogger(Workload.class);
+    
+    static final String CREATE_SQL = "CREATE TABLE IF NOT EXISTS users (id BIGINT PRIMARY KEY, "
+            + "c1 VARCHAR(255), c2 VARCHAR(255), c3 VARCHAR(255), c4 VARCHAR(255), score INT)";
+    static final String INSERT_SQL = "insert into users (id, c1, c2, c3, c4, score) values (?, ?, ?, ?, ?, ?)";
+    static final String SELECT_SQL = "select id, c1, c2, c3, c4, score from users where id = ?";
+    static final String UPDATE_SQL = "update users set c1 = ?, c2 = ?, c3 = ?, c4 = ?, score = ? where id = ?";
+    
+    private final LoadTestConfig config;
+    private final SimpleConnectionPool pool;
+    
+    Workload(LoadTestConfig config, SimpleConnectionPool pool) {
+        this.config = config;
+        this.pool = pool;
+    }
+    
+    /**
+     * 테이블 생성 및 초기 데이터 적재
+     */
+    void seed() throws SQLException {
+        Connection connection = pool.borrow();
+        try {
+            try (Statement st = connection.createStatement()) {
+                st.execute(CREATE_SQL);
+            }
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL)) {
+                for (int id = 1; id <= config.rows; id++) {
+                    bindRow(ps, id, id);
+                    ps.addBatch();
+                    if (id % 500 == 0) {
+                        ps.executeBatch();
+                    }
+                }
+                ps.executeBatch();
+            }
+        } finally {
+            pool.release(connection);
+        }
+    }
+    
+    /**
+     * 부하 실행
+     */
+    PhaseResult run(String label) throws InterruptedException {
+        PhaseResult result = new PhaseResult(label);
+        long start = System.nanoTime();
+        long measureStart = start + config.warmupSeconds * 1_000_000_000L;
+        long end = measureStart + config.durationSeconds * 1_000_000_000L;
+        
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < config.threads; i++) {
+            Thread thread = new Thread(() -> runThread(result, measureStart, end), "load-" + label + "-" + i);
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        result.measuredNanos = end - measureStart;
+        return result;
+    }
+    
+    private void runThread(PhaseResult result, long measureStart, long end) {
+        Histogram read = new Histogram(3);
+        Histogram write = new Histogram(3);
+        long errors = 0;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        
+        long now;
+        while ((now = System.nanoTime()) < end) {
+            boolean isRead = random.nextDouble() < config.readRatio;
+            long id = random.nextInt(config.rows) + 1;
+            try {
+                if (isRead) {
+                    doRead(id);
+                } else {
+                    doWrite(id, random.nextInt());
+                }
+                long done = System.nanoTime();
+                if (now >= measureStart) {
+                    (isRead ? read : write).recordValue(done - now);
+                }
+            } catch (SQLException e) {
+                if (errors++ == 0) {
+                    log.warn("⚠️ 작업 실패: {}", e.getMessage());
+                }
+            }
+        }
+        result.merge(read, write, errors);
+    }
+    
+    private void doRead(long id) throws SQLException {
+        Connection connection = pool.borrow();
+        try (PreparedStatement ps = connection.prepareStatement(SELECT_SQL)) {
+            ps.setLong(1, id);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    rs.getLong(1);
+                    rs.getString(2);
+                    rs.getString(3);
+                    rs.getString(4);
+                    rs.getString(5);
+                    rs.getInt(6);
+                }
+            }
+        } finally {
+            pool.release(connection);
+        }
+    }
+    
+    private void doWrite(long id, int seed) throws SQLException {
+        Connection connection = pool.borrow();
+        try (PreparedStatement ps = connection.prepareStatement(UPDATE_SQL)) {
+            ps.setString(1, "user" + seed + "@example.com");
+            ps.setString(2, "010-" + Math.abs(seed % 10000) + "-" + id);
+            ps.setString(3, "사용자" + seed);
+            ps.setString(4, "서울시 강남구 " + id);
+            ps.setInt(5, seed);
+            ps.setLong(6, id);
+            ps.executeUpdate();
+        } finally {
+            pool.release(connection);
+        }
+    }
+    
+    private static void bindRow(PreparedStatement ps, long id, int seed) throws SQLException {
+        ps.setLong(1, id);
+        ps.setString(2, "user" + seed + "@example.com");
+        ps.setString(3, "010-" + (seed % 10000) + "-" + id);
+        ps.setString(4, "사용자" + seed);
+        ps.setString(5, "서울시 강남구 " + id);
+        ps.setInt(6, seed);
+    }
+}
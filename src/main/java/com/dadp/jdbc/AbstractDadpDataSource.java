@@ -0,0 +1,124 @@
+package com.dadp.jdbc;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * DADP DataSource 공통 설정
+ * 
+ * Proxy 설정(hubUrl, instanceId, failOpen, cryptoTransport, blindIndex, prefixIndex)을 JavaBean 프로퍼티로 받고,
+ * 첫 Connection 요청 시 DadpProxyRuntime을 한 번만 생성하여 이후 모든 Connection이 공유합니다.
+ * 지정하지 않은 설정은 JDBC URL 방식과 동일하게 시스템 프로퍼티/환경 변수/기본값을 사용합니다.
+ * 
+ * 런타임 생성 후에는 설정을 변경할 수 없습니다 (IllegalStateException).
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+public abstract class AbstractDadpDataSource {
+    
+    private final Map<String, String> proxyParams = new LinkedHashMap<>();
+    private volatile DadpProxyRuntime runtime;
+    
+    public String getHubUrl() {
+        return proxyParams.get("hubUrl");
+    }
+    
+    public void setHubUrl(String hubUrl) {
+        setProxyParam("hubUrl", hubUrl);
+    }
+    
+    public String getInstanceId() {
+        return proxyParams.get("instanceId");
+    }
+    
+    public void setInstanceId(String instanceId) {
+        setProxyParam("instanceId", instanceId);
+    }
+    
+    public boolean isFailOpen() {
+        DadpProxyRuntime current = runtime;
+        if (current != null) {
+            return current.getConfig().isFailOpen();
+        }
+        return !"false".equalsIgnoreCase(proxyParams.get("failOpen"));
+    }
+    
+    public void setFailOpen(boolean failOpen) {
+        setProxyParam("failOpen", String.valueOf(failOpen));
+    }
+    
+    public String getCryptoTransport() {
+        return proxyParams.get("cryptoTransport");
+    }
+    
+    public void setCryptoTransport(String cryptoTransport) {
+        setProxyParam("cryptoTransport", cryptoTransport);
+    }
+    
+    public String getBlindIndex() {
+        return proxyParams.get("blindIndex");
+    }
+    
+    /**
+     * @param blindIndex 블라인드 인덱스 대상 컬럼 (table.column 콤마 구분, 키는 dadp.proxy.blind-index-key)
+     */
+    public void setBlindIndex(String blindIndex) {
+        setProxyParam("blindIndex", blindIndex);
+    }
+    
+    public String getPrefixIndex() {
+        return proxyParams.get("prefixIndex");
+    }
+    
+    /**
+     * @param prefixIndex 접두사 인덱스 대상 컬럼 (table.column 콤마 구분, 키는 dadp.proxy.blind-index-key)
+     */
+    public void setPrefixIndex(String prefixIndex) {
+        setProxyParam("prefixIndex", prefixIndex);
+    }
+    
+    public String getPrefixIndexLength() {
+        return proxyParams.get("prefixIndexLength");
+    }
+    
+    public void setPrefixIndexLength(String prefixIndexLength) {
+        setProxyParam("prefixIndexLength", prefixIndexLength);
+    }
+    
+    private synchronized void setProxyParam(String key, String value) {
+        if (runtime != null) {
+            throw new IllegalStateException("이미 Connection을 제공 중인 DataSource의 설정은 변경할 수 없습니다: " + key);
+        }
+        if (value == null || value.trim().isEmpty()) {
+            proxyParams.remove(key);
+        } else {
+            proxyParams.put(key, value.trim());
+        }
+    }
+    
+    /**
+     * 공유 런타임 반환 (최초 호출 시 생성)
+     */
+    protected DadpProxyRuntime getRuntime() {
+        DadpProxyRuntime current = runtime;
+        if (current == null) {
+            synchronized (this) {
+                current = runtime;
+                if (current == null) {
+                    current = new DadpProxyRuntime(new LinkedHashMap<>(proxyParams));
+                    runtime = current;
+                }
+            }
+        }
+        return current;
+    }
+    
+    /**
+     * 로그/진단용 식별자 (DadpProxyConnection의 originalUrl 자리에 사용)
+     */
+    protected String describe(Object delegate) {
+        return "dadp-datasource:" + (delegate != null ? delegate.getClass().getName() : "null");
+    }
+}
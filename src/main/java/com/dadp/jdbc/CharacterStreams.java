@@ -0,0 +1,48 @@
+package com.dadp.jdbc;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.SQLException;
+
+/**
+ * 문자 스트림 유틸리티
+ * 
+ * 암복호화는 값 전체가 필요하므로 보호 컬럼의 Reader/Clob은 한 번 읽어 문자열로 만듭니다.
+ * 길이를 알면 그 크기로 버퍼를 할당하여 확장 시 재할당 복사를 피합니다.
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+final class CharacterStreams {
+    
+    private static final int BUFFER_SIZE = 8192;
+    
+    private CharacterStreams() {
+    }
+    
+    /**
+     * Reader를 끝까지(또는 length 문자까지) 읽음
+     * 
+     * @param length 읽을 문자 수 (모르면 -1)
+     */
+    static String read(Reader reader, long length) throws SQLException {
+        boolean bounded = length >= 0;
+        StringBuilder sb = new StringBuilder(bounded && length <= Integer.MAX_VALUE - 8 ? (int) length : BUFFER_SIZE);
+        char[] buffer = new char[BUFFER_SIZE];
+        try {
+            long remaining = bounded ? length : Long.MAX_VALUE;
+            while (remaining > 0) {
+                int read = reader.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (read < 0) {
+                    break;
+                }
+                sb.append(buffer, 0, read);
+                remaining -= read;
+            }
+        } catch (IOException e) {
+            throw new SQLException("문자 스트림 읽기 실패: " + e.getMessage(), e);
+        }
+        return sb.toString();
+    }
+}
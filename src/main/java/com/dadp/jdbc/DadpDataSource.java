@@ -0,0 +1,126 @@
+package com.dadp.jdbc;
+
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.logging.Logger;
+import javax.sql.DataSource;
+
+/**
+ * DADP DataSource
+ * 
+ * 기존 DataSource(HikariCP 등 커넥션 풀 또는 DB 벤더 DataSource)를 감싸서
+ * 암복호화 Proxy Connection을 제공합니다.
+ * JDBC URL 방식(DadpJdbcDriver)과 달리 설정 파싱과 Hub 연동 서비스 생성을 한 번만 수행하고
+ * 실제 Connection 획득은 위임 DataSource에 맡기므로, Connection 획득 비용이 위임 풀과 같습니다.
+ * 
+ * 사용 예 (HikariCP):
+ * <pre>
+ * HikariDataSource pool = new HikariDataSource(hikariConfig); // jdbc:mysql://... (jdbc:dadp: 아님)
+ * DadpDataSource dataSource = new DadpDataSource(pool);
+ * dataSource.setHubUrl("http://hub:9004");
+ * dataSource.setInstanceId("app-1");
+ * </pre>
+ * 
+ * close() 시 위임 DataSource가 AutoCloseable이면 함께 종료합니다.
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+public class DadpDataSource extends AbstractDadpDataSource implements DataSource, AutoCloseable {
+    
+    private volatile DataSource dataSource;
+    
+    public DadpDataSource() {
+    }
+    
+    /**
+     * @param dataSource 위임 DataSource (실제 DB Connection 제공)
+     */
+    public DadpDataSource(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+    
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+    
+    public void setDataSource(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+    
+    private DataSource delegate() throws SQLException {
+        DataSource current = dataSource;
+        if (current == null) {
+            throw new SQLException("위임 DataSource가 설정되지 않았습니다 (setDataSource 필요)");
+        }
+        return current;
+    }
+    
+    @Override
+    public Connection getConnection() throws SQLException {
+        DataSource delegate = delegate();
+        return new DadpProxyConnection(delegate.getConnection(), describe(delegate), getRuntime());
+    }
+    
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        DataSource delegate = delegate();
+        return new DadpProxyConnection(delegate.getConnection(username, password), describe(delegate), getRuntime());
+    }
+    
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return delegate().getLogWriter();
+    }
+    
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        delegate().setLogWriter(out);
+    }
+    
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        delegate().setLoginTimeout(seconds);
+    }
+    
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return delegate().getLoginTimeout();
+    }
+    
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        DataSource current = dataSource;
+        if (current == null) {
+            throw new SQLFeatureNotSupportedException("getParentLogger not supported");
+        }
+        return current.getParentLogger();
+    }
+    
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        return delegate().unwrap(iface);
+    }
+    
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || delegate().isWrapperFor(iface);
+    }
+    
+    /**
+     * 위임 DataSource 종료 (AutoCloseable인 경우, 예: HikariDataSource)
+     */
+    @Override
+    public void close() throws Exception {
+        DataSource current = dataSource;
+        if (current instanceof AutoCloseable) {
+            ((AutoCloseable) current).close();
+        }
+    }
+}
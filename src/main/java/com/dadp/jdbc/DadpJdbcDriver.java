@@ -21,6 +21,14 @@ public class DadpJdbcDriver implements Driver {
     private static final int MAJOR_VERSION = 3;
     private static final int MINOR_VERSION = 0;
     
+    // JDBC URL에서 추출하여 실제 Driver에는 전달하지 않는 Proxy 설정 파라미터
+    private static final java.util.Set<String> PROXY_PARAM_KEYS = com.dadp.jdbc.config.ProxyConfig.URL_PARAM_NAMES;
+    
+    // URL별 파싱 결과 캐시 (URL 수가 비정상적으로 많으면 더 이상 캐시하지 않음)
+    private static final int MAX_CACHED_URLS = 64;
+    private static final java.util.concurrent.ConcurrentHashMap<String, ParsedUrl> parsedUrls =
+            new java.util.concurrent.ConcurrentHashMap<>();
+    
     static {
         try {
             DriverManager.registerDriver(new DadpJdbcDriver());
@@ -45,6 +53,9 @@ public class DadpJdbcDriver implements Driver {
     /**
      * Connection 생성
      * DADP URL을 실제 DB URL로 변환하여 실제 Driver로 연결
+     * 
+     * URL 파싱 결과(실제 URL, Proxy 파라미터, 실제 Driver, 공유 런타임)는 URL별로 캐시하므로
+     * 같은 URL의 두 번째 연결부터는 파싱과 DriverManager 드라이버 탐색 없이 실제 Driver로 바로 연결합니다.
      */
     @Override
     public Connection connect(String url, Properties info) throws SQLException {
@@ -53,25 +64,19 @@ public class DadpJdbcDriver implements Driver {
         }
         
         try {
-            log.info("🔗 DADP JDBC Driver 연결 요청: {}", url);
-            
-            // JDBC URL에서 Proxy 설정 파라미터 추출 (hubUrl, instanceId, failOpen)
-            java.util.Map<String, String> proxyParams = extractProxyParams(url);
-            if (!proxyParams.isEmpty()) {
-                log.info("✅ Proxy 설정 파라미터 추출: {}", proxyParams);
-            } else {
-                log.warn("⚠️ Proxy 설정 파라미터가 없습니다. 시스템 프로퍼티나 환경 변수를 사용합니다.");
+            ParsedUrl parsed = parsedUrls.get(url);
+            if (parsed == null) {
+                parsed = parse(url);
             }
             
-            // DADP URL을 실제 DB URL로 변환 (Proxy 파라미터 제거)
-            String actualUrl = extractActualUrl(url);
-            log.info("🔗 실제 DB URL: {}", actualUrl);
-            
-            // 실제 Driver로 연결
-            Connection actualConnection = DriverManager.getConnection(actualUrl, info);
+            // 실제 Driver로 연결 (Driver가 URL을 거부하면 DriverManager로 다시 탐색)
+            Connection actualConnection = parsed.delegate != null ? parsed.delegate.connect(parsed.actualUrl, info) : null;
+            if (actualConnection == null) {
+                actualConnection = DriverManager.getConnection(parsed.actualUrl, info);
+            }
             
-            // Proxy Connection으로 래핑 (Proxy 설정 전달)
-            return new DadpProxyConnection(actualConnection, url, proxyParams);
+            // Proxy Connection으로 래핑 (URL별 공유 런타임)
+            return new DadpProxyConnection(actualConnection, url, parsed.runtime());
             
         } catch (SQLException e) {
             log.error("❌ DADP JDBC Driver 연결 실패: {}", e.getMessage(), e);
@@ -79,6 +84,45 @@ public class DadpJdbcDriver implements Driver {
         }
     }
     
+    /**
+     * DADP URL 파싱 및 실제 Driver 조회 (URL별 최초 한 번)
+     */
+    private ParsedUrl parse(String url) {
+        log.info("🔗 DADP JDBC Driver 연결 요청: {}", url);
+        
+        // JDBC URL에서 Proxy 설정 파라미터 추출 (PROXY_PARAM_KEYS)
+        java.util.Map<String, String> proxyParams = extractProxyParams(url);
+        if (!proxyParams.isEmpty()) {
+            log.info("✅ Proxy 설정 파라미터 추출: {}", proxyParams);
+        } else {
+            log.warn("⚠️ Proxy 설정 파라미터가 없습니다. 시스템 프로퍼티나 환경 변수를 사용합니다.");
+        }
+        
+        // DADP URL을 실제 DB URL로 변환 (Proxy 파라미터 제거)
+        String actualUrl = extractActualUrl(url);
+        log.info("🔗 실제 DB URL: {}", actualUrl);
+        
+        // 실제 Driver 조회 (찾지 못하면 연결 시 DriverManager.getConnection 사용)
+        Driver delegate = null;
+        try {
+            delegate = DriverManager.getDriver(actualUrl);
+        } catch (SQLException e) {
+            log.debug("실제 Driver 조회 실패, DriverManager로 연결: {}", e.getMessage());
+        }
+        
+        ParsedUrl parsed = new ParsedUrl(actualUrl, proxyParams, delegate);
+        if (delegate == null) {
+            // Driver가 나중에 등록될 수 있으므로 캐시하지 않음
+            return parsed;
+        }
+        if (parsedUrls.size() >= MAX_CACHED_URLS) {
+            log.debug("URL 캐시 한도 초과, 캐시하지 않음: {}", MAX_CACHED_URLS);
+            return parsed;
+        }
+        ParsedUrl existing = parsedUrls.putIfAbsent(url, parsed);
+        return existing != null ? existing : parsed;
+    }
+    
     /**
      * JDBC URL에서 Proxy 설정 파라미터 추출
      * 예: jdbc:dadp:mysql://localhost:3306/db?hubUrl=http://localhost:9004&instanceId=sample-app-1
@@ -102,7 +146,7 @@ public class DadpJdbcDriver implements Driver {
                 String value = pair.substring(eqIndex + 1).trim();
                 
                 // Proxy 설정 파라미터만 추출
-                if ("hubUrl".equals(key) || "instanceId".equals(key) || "failOpen".equals(key)) {
+                if (PROXY_PARAM_KEYS.contains(key)) {
                     try {
                         // URL 디코딩
                         value = java.net.URLDecoder.decode(value, "UTF-8");
@@ -130,7 +174,7 @@ public class DadpJdbcDriver implements Driver {
         // jdbc:dadp: 제거
         String urlWithoutPrefix = dadpUrl.substring(DADP_URL_PREFIX.length());
         
-        // Proxy 파라미터 제거 (hubUrl, instanceId, failOpen)
+        // Proxy 파라미터 제거 (PROXY_PARAM_KEYS)
         int queryIndex = urlWithoutPrefix.indexOf('?');
         if (queryIndex != -1) {
             String baseUrl = urlWithoutPrefix.substring(0, queryIndex);
@@ -145,7 +189,7 @@ public class DadpJdbcDriver implements Driver {
                 if (eqIndex > 0) {
                     String key = pair.substring(0, eqIndex).trim();
                     // Proxy 파라미터가 아니면 유지
-                    if (!"hubUrl".equals(key) && !"instanceId".equals(key) && !"failOpen".equals(key)) {
+                    if (!PROXY_PARAM_KEYS.contains(key)) {
                         validParams.add(pair);
                     }
                 } else {
@@ -190,5 +234,37 @@ public class DadpJdbcDriver implements Driver {
     public java.util.logging.Logger getParentLogger() throws SQLFeatureNotSupportedException {
         throw new SQLFeatureNotSupportedException("getParentLogger not supported");
     }
+    
+    /**
+     * DADP URL 파싱 결과
+     */
+    private static final class ParsedUrl {
+        final String actualUrl;
+        final java.util.Map<String, String> proxyParams;
+        final Driver delegate;
+        private volatile DadpProxyRuntime runtime;
+        
+        ParsedUrl(String actualUrl, java.util.Map<String, String> proxyParams, Driver delegate) {
+            this.actualUrl = actualUrl;
+            this.proxyParams = proxyParams;
+            this.delegate = delegate;
+        }
+        
+        /**
+         * 공유 런타임 (최초 연결 시 생성, Fail-closed 초기화 실패 시 다음 연결에서 재시도)
+         */
+        DadpProxyRuntime runtime() {
+            DadpProxyRuntime current = runtime;
+            if (current == null) {
+                synchronized (this) {
+                    current = runtime;
+                    if (current == null) {
+                        current = new DadpProxyRuntime(proxyParams);
+                        runtime = current;
+                    }
+                }
+            }
+            return current;
+        }
+    }
 }
-
@@ -0,0 +1,91 @@
+package com.dadp.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.sql.ConnectionEvent;
+import javax.sql.ConnectionEventListener;
+import javax.sql.PooledConnection;
+import javax.sql.StatementEventListener;
+import javax.sql.XAConnection;
+import javax.transaction.xa.XAResource;
+
+/**
+ * DADP PooledConnection / XAConnection
+ * 
+ * 위임 PooledConnection(또는 XAConnection)이 제공하는 논리 Connection을 DadpProxyConnection으로 래핑합니다.
+ * 커넥션 이벤트는 이 객체를 source로 다시 발행하므로, 풀 관리자가 등록한 PooledConnection으로 이벤트를 식별할 수 있습니다.
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+final class DadpPooledConnection implements XAConnection {
+    
+    private final PooledConnection delegate;
+    private final String originalUrl;
+    private final DadpProxyRuntime runtime;
+    private final CopyOnWriteArrayList<ConnectionEventListener> listeners = new CopyOnWriteArrayList<>();
+    
+    DadpPooledConnection(PooledConnection delegate, String originalUrl, DadpProxyRuntime runtime) {
+        this.delegate = delegate;
+        this.originalUrl = originalUrl;
+        this.runtime = runtime;
+        delegate.addConnectionEventListener(new ConnectionEventListener() {
+            @Override
+            public void connectionClosed(ConnectionEvent event) {
+                ConnectionEvent forwarded = new ConnectionEvent(DadpPooledConnection.this, event.getSQLException());
+                for (ConnectionEventListener listener : listeners) {
+                    listener.connectionClosed(forwarded);
+                }
+            }
+            
+            @Override
+            public void connectionErrorOccurred(ConnectionEvent event) {
+                ConnectionEvent forwarded = new ConnectionEvent(DadpPooledConnection.this, event.getSQLException());
+                for (ConnectionEventListener listener : listeners) {
+                    listener.connectionErrorOccurred(forwarded);
+                }
+            }
+        });
+    }
+    
+    @Override
+    public Connection getConnection() throws SQLException {
+        return new DadpProxyConnection(delegate.getConnection(), originalUrl, runtime);
+    }
+    
+    @Override
+    public XAResource getXAResource() throws SQLException {
+        if (!(delegate instanceof XAConnection)) {
+            throw new SQLFeatureNotSupportedException("위임 PooledConnection이 XAConnection이 아닙니다");
+        }
+        return ((XAConnection) delegate).getXAResource();
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        delegate.close();
+    }
+    
+    @Override
+    public void addConnectionEventListener(ConnectionEventListener listener) {
+        listeners.addIfAbsent(listener);
+    }
+    
+    @Override
+    public void removeConnectionEventListener(ConnectionEventListener listener) {
+        listeners.remove(listener);
+    }
+    
+    @Override
+    public void addStatementEventListener(StatementEventListener listener) {
+        delegate.addStatementEventListener(listener);
+    }
+    
+    @Override
+    public void removeStatementEventListener(StatementEventListener listener) {
+        delegate.removeStatementEventListener(listener);
+    }
+}
@@ -1,21 +1,24 @@
 package com.dadp.jdbc;
 
-import com.dadp.hub.crypto.HubCryptoService;
 import com.dadp.jdbc.config.ProxyConfig;
 import com.dadp.jdbc.crypto.HubCryptoAdapter;
+import com.dadp.jdbc.http.VirtualThreads;
 import com.dadp.jdbc.mapping.MappingSyncService;
+import com.dadp.jdbc.metrics.DadpMetrics;
 import com.dadp.jdbc.notification.HubNotificationService;
 import com.dadp.jdbc.policy.PolicyResolver;
 import com.dadp.jdbc.schema.SchemaSyncService;
 import java.sql.*;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,81 +39,49 @@ public class DadpProxyConnection implements Connection {
     private final Connection actualConnection;
     private final String originalUrl;
     private final ProxyConfig config;
-    private volatile HubCryptoAdapter hubCryptoAdapter;
+    private final DadpProxyRuntime runtime;
     private final SchemaSyncService schemaSyncService;
     private final MappingSyncService mappingSyncService;
     private final PolicyResolver policyResolver;
     private final HubNotificationService notificationService;
+    private final DadpMetrics metrics;
     private boolean closed = false;
     
-    // Proxy Instance별 스키마 동기화/매핑 로드 여부 (static으로 공유하여 중복 방지)
+    // Hub URL + Proxy Instance(DadpProxyRuntime.getMappingKey)별 스키마 동기화/매핑 로드 여부 (static으로 공유하여 중복 방지)
     private static final ConcurrentHashMap<String, Boolean> schemaSyncedMap = new ConcurrentHashMap<>();
     private static final ConcurrentHashMap<String, Boolean> mappingsLoadedMap = new ConcurrentHashMap<>();
     
-    // Proxy Instance별 매핑 로드 완료 대기용 Latch (static으로 공유)
+    // Hub URL + Proxy Instance별 매핑 로드 완료 대기용 Latch (static으로 공유)
     private static final ConcurrentHashMap<String, CountDownLatch> mappingsLoadedLatchMap = new ConcurrentHashMap<>();
     
     // 정책 로드 대기 타임아웃 (초)
     private static final int POLICY_LOAD_TIMEOUT_SECONDS = 10;
     
-    // Proxy Instance별 매핑 폴링 스케줄러 (static으로 공유하여 중복 방지)
+    // Proxy Instance별 백그라운드 스케줄러, Hub URL + Proxy Instance별 폴링 시작 여부 (static으로 공유하여 중복 방지)
     private static final ConcurrentHashMap<String, ScheduledExecutorService> mappingPollingSchedulers = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, Boolean> mappingPollingStarted = new ConcurrentHashMap<>();
     
     public DadpProxyConnection(Connection actualConnection, String originalUrl) {
-        this(actualConnection, originalUrl, null);
+        this(actualConnection, originalUrl, (Map<String, String>) null);
     }
     
     public DadpProxyConnection(Connection actualConnection, String originalUrl, Map<String, String> urlParams) {
+        this(actualConnection, originalUrl, new DadpProxyRuntime(urlParams));
+    }
+    
+    /**
+     * 공유 런타임으로 Connection 래핑 (DadpDataSource 등 설정을 한 번만 파싱하는 진입점에서 사용)
+     */
+    public DadpProxyConnection(Connection actualConnection, String originalUrl, DadpProxyRuntime runtime) {
         this.actualConnection = actualConnection;
         this.originalUrl = originalUrl;
-        // JDBC URL 파라미터가 있으면 사용, 없으면 싱글톤 인스턴스 사용
-        this.config = urlParams != null ? new ProxyConfig(urlParams) : ProxyConfig.getInstance();
-        
-        // Hub 암복호화 어댑터 초기화 (지연 초기화 또는 Fail-open 모드)
-        HubCryptoService hubCryptoService = null;
-        try {
-            hubCryptoService = HubCryptoService.createInstance(config.getHubUrl(), 5000, true);
-            this.hubCryptoAdapter = new HubCryptoAdapter(config.getHubUrl(), config.isFailOpen(), null);
-            log.info("✅ Hub 암복호화 어댑터 초기화 완료: hubUrl={}, failOpen={}", config.getHubUrl(), config.isFailOpen());
-        } catch (Exception e) {
-            log.error("❌ Hub 암복호화 어댑터 초기화 실패: {}", e.getMessage());
-            if (config.isFailOpen()) {
-                // Fail-open 모드: 어댑터를 null로 두고 나중에 재시도
-                log.warn("⚠️ Fail-open 모드: Hub 연결 실패해도 계속 진행. 암복호화는 나중에 재시도됩니다.");
-                this.hubCryptoAdapter = null;
-            } else {
-                // Fail-closed 모드: 예외 발생
-                throw new RuntimeException("Hub 연결 실패 (Fail-closed 모드)", e);
-            }
-        }
-        
-        // 스키마 동기화 서비스 초기화
-        this.schemaSyncService = new SchemaSyncService(config.getHubUrl(), config.getInstanceId());
-        
-        // PolicyResolver 초기화 (Connection별로 인스턴스 생성)
-        this.policyResolver = new PolicyResolver();
-        
-        // 매핑 동기화 서비스 초기화
-        this.mappingSyncService = new MappingSyncService(config.getHubUrl(), config.getInstanceId(), policyResolver);
-        
-        // Hub 알림 서비스 초기화 (HubCryptoService를 통합 컴포넌트로 사용)
-        if (hubCryptoService != null) {
-            this.notificationService = new HubNotificationService(hubCryptoService, config.getInstanceId());
-            // 어댑터에 알림 서비스 설정
-            if (this.hubCryptoAdapter != null) {
-                // HubCryptoAdapter에 알림 서비스 설정 (리플렉션 사용)
-                try {
-                    java.lang.reflect.Field field = HubCryptoAdapter.class.getDeclaredField("notificationService");
-                    field.setAccessible(true);
-                    field.set(this.hubCryptoAdapter, this.notificationService);
-                } catch (Exception e) {
-                    log.warn("⚠️ HubCryptoAdapter에 알림 서비스 설정 실패: {}", e.getMessage());
-                }
-            }
-        } else {
-            this.notificationService = null;
-            log.warn("⚠️ HubCryptoService가 초기화되지 않아 알림 서비스를 생성할 수 없습니다");
-        }
+        this.runtime = runtime;
+        this.config = runtime.getConfig();
+        this.metrics = runtime.getMetrics();
+        this.notificationService = runtime.getNotificationService();
+        this.schemaSyncService = runtime.getSchemaSyncService();
+        this.policyResolver = runtime.getPolicyResolver();
+        this.mappingSyncService = runtime.getMappingSyncService();
         
         // Connection 생성 시 스키마 메타데이터 수집 및 Hub로 전송 (비동기)
         syncSchemaMetadata();
@@ -119,80 +90,81 @@ public class DadpProxyConnection implements Connection {
         loadMappingsFromHub();
         
         // 폴링 시작 (이미 로드되었어도 폴링은 시작되어야 함)
-        startMappingPolling(config.getInstanceId());
+        startMappingPolling();
         
         log.debug("✅ DADP Proxy Connection 생성 완료");
     }
     
     /**
      * 스키마 메타데이터를 Hub로 동기화 (비동기)
-     * Proxy Instance별로 한 번만 실행됩니다.
+     * Hub URL + Proxy Instance별로 한 번만 실행됩니다.
      */
     private void syncSchemaMetadata() {
         String instanceId = config.getInstanceId();
+        String mappingKey = runtime.getMappingKey();
         
         // 이미 동기화된 경우 스킵
-        if (schemaSyncedMap.getOrDefault(instanceId, false)) {
+        if (schemaSyncedMap.getOrDefault(mappingKey, false)) {
             return;
         }
         
         // 동기화 시작 표시 (동시 실행 방지)
-        if (schemaSyncedMap.putIfAbsent(instanceId, true) != null) {
+        if (schemaSyncedMap.putIfAbsent(mappingKey, true) != null) {
             return; // 다른 스레드가 이미 시작함
         }
         
-        // 별도 스레드에서 비동기로 실행 (Connection 생성 지연 방지)
-        new Thread(() -> {
+        // 인스턴스 스케줄러에서 지연 실행 (Connection 생성 지연 방지)
+        // 메타데이터 수집(JDBC)만 스케줄러 스레드에서 수행하고, Hub 전송은 비동기로 처리
+        getOrCreateScheduler(instanceId).schedule(() -> {
             try {
-                Thread.sleep(1000); // Connection 완전 초기화 대기
-                schemaSyncService.syncSchemaToHub(actualConnection);
+                schemaSyncService.syncSchemaToHubAsync(actualConnection);
             } catch (Exception e) {
                 log.warn("⚠️ 스키마 메타데이터 동기화 실패 (무시): {}", e.getMessage());
                 // 동기화 실패 시 플래그 제거하여 재시도 가능하도록
-                schemaSyncedMap.remove(instanceId);
+                schemaSyncedMap.remove(mappingKey);
             }
-        }, "dadp-proxy-schema-sync-" + instanceId).start();
+        }, 1000, TimeUnit.MILLISECONDS); // Connection 완전 초기화 대기
     }
     
     /**
      * Hub에서 정책 매핑 정보를 로드 (비동기, 완료 대기 가능)
-     * Proxy Instance별로 한 번만 실행되고, 이후 주기적으로 폴링합니다.
+     * Hub URL + Proxy Instance별로 한 번만 실행되고, 이후 주기적으로 폴링합니다.
      */
     private void loadMappingsFromHub() {
         String instanceId = config.getInstanceId();
+        String mappingKey = runtime.getMappingKey();
         
         // 이미 로드된 경우 스킵 (폴링은 계속 진행)
-        if (mappingsLoadedMap.getOrDefault(instanceId, false)) {
+        if (mappingsLoadedMap.getOrDefault(mappingKey, false)) {
             return;
         }
         
         // Latch 생성 (최초 한 번만)
-        mappingsLoadedLatchMap.putIfAbsent(instanceId, new CountDownLatch(1));
+        mappingsLoadedLatchMap.putIfAbsent(mappingKey, new CountDownLatch(1));
         
         // 로드 시작 표시 (동시 실행 방지)
-        if (mappingsLoadedMap.putIfAbsent(instanceId, true) != null) {
+        if (mappingsLoadedMap.putIfAbsent(mappingKey, true) != null) {
             return; // 다른 스레드가 이미 시작함
         }
         
-        // 첫 로드 실행
-        new Thread(() -> {
-            CountDownLatch latch = mappingsLoadedLatchMap.get(instanceId);
-            try {
-                Thread.sleep(1500); // 스키마 동기화 후 실행
-                int count = mappingSyncService.loadMappingsFromHub();
-                // 초기 로드 완료는 INFO 레벨로 로그 출력 (초기화 확인용)
-                log.info("✅ 정책 매핑 정보 초기 로드 완료: {}개 매핑", count);
-            } catch (Exception e) {
-                log.warn("⚠️ 정책 매핑 정보 로드 실패 (무시): {}", e.getMessage());
-                // 로드 실패 시 플래그 제거하여 재시도 가능하도록
-                mappingsLoadedMap.remove(instanceId);
-            } finally {
+        // 첫 로드 실행 (스키마 동기화 후 실행, Hub 응답 대기 중 스레드 점유 없음)
+        CountDownLatch latch = mappingsLoadedLatchMap.get(mappingKey);
+        getOrCreateScheduler(instanceId).schedule(() -> {
+            mappingSyncService.loadMappingsFromHubAsync().whenComplete((count, e) -> {
+                if (e != null) {
+                    log.warn("⚠️ 정책 매핑 정보 로드 실패 (무시): {}", e.getMessage());
+                    // 로드 실패 시 플래그 제거하여 재시도 가능하도록
+                    mappingsLoadedMap.remove(mappingKey);
+                } else {
+                    // 초기 로드 완료는 INFO 레벨로 로그 출력 (초기화 확인용)
+                    log.info("✅ 정책 매핑 정보 초기 로드 완료: {}개 매핑", count);
+                }
                 // 성공/실패 여부와 관계없이 Latch 해제 (대기 중인 스레드 풀어줌)
                 if (latch != null) {
                     latch.countDown();
                 }
-            }
-        }, "dadp-proxy-mapping-load-" + instanceId).start();
+            });
+        }, 1500, TimeUnit.MILLISECONDS);
     }
     
     /**
@@ -201,7 +173,7 @@ public class DadpProxyConnection implements Connection {
      */
     private boolean waitForMappingsLoaded() {
         String instanceId = config.getInstanceId();
-        CountDownLatch latch = mappingsLoadedLatchMap.get(instanceId);
+        CountDownLatch latch = mappingsLoadedLatchMap.get(runtime.getMappingKey());
         
         if (latch == null) {
             // Latch가 없으면 이미 로드 완료됨
@@ -222,49 +194,88 @@ public class DadpProxyConnection implements Connection {
     }
     
     /**
-     * 주기적으로 Hub에서 매핑 정보를 폴링
-     * Proxy Instance별로 한 번만 스케줄러가 시작됩니다.
+     * Proxy Instance별 백그라운드 스케줄러 조회 (없으면 생성)
+     * 스키마 동기화, 초기 매핑 로드, 매핑 폴링이 하나의 데몬 스레드를 공유합니다.
      */
-    private void startMappingPolling(String instanceId) {
-        // 이미 스케줄러가 있는 경우 스킵
-        if (mappingPollingSchedulers.containsKey(instanceId)) {
-            return;
+    private static ScheduledExecutorService getOrCreateScheduler(String instanceId) {
+        ScheduledExecutorService scheduler = mappingPollingSchedulers.get(instanceId);
+        if (scheduler != null) {
+            return scheduler;
         }
         
-        // 스케줄러 생성 및 시작
-        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
-            Thread t = new Thread(r, "dadp-proxy-mapping-poll-" + instanceId);
-            t.setDaemon(true);
-            return t;
-        });
+        // Java 21+에서는 가상 스레드 (Hub 요청 대기 중 OS 스레드를 점유하지 않음)
+        ScheduledExecutorService created = Executors.newSingleThreadScheduledExecutor(
+                VirtualThreads.threadFactory("dadp-proxy-mapping-poll-" + instanceId + "-", r -> {
+                    Thread t = new Thread(r, "dadp-proxy-mapping-poll-" + instanceId);
+                    t.setDaemon(true);
+                    return t;
+                }));
         
         // 기존 스케줄러가 없을 때만 추가
-        ScheduledExecutorService existing = mappingPollingSchedulers.putIfAbsent(instanceId, scheduler);
+        ScheduledExecutorService existing = mappingPollingSchedulers.putIfAbsent(instanceId, created);
         if (existing != null) {
             // 다른 스레드가 이미 생성했으므로 새로 만든 스케줄러 종료
-            scheduler.shutdown();
+            created.shutdown();
+            return existing;
+        }
+        return created;
+    }
+    
+    /**
+     * 주기적으로 Hub에서 매핑 정보를 폴링
+     * Hub URL + Proxy Instance별로 한 번만 폴링이 시작됩니다.
+     */
+    private void startMappingPolling() {
+        String instanceId = config.getInstanceId();
+        // 이미 폴링이 시작된 경우 스킵
+        if (mappingPollingStarted.putIfAbsent(runtime.getMappingKey(), Boolean.TRUE) != null) {
             return;
         }
         
+        ScheduledExecutorService scheduler = getOrCreateScheduler(instanceId);
+        
+        // 이전 확인이 아직 진행 중이면 이번 주기는 건너뜀 (Hub 지연 시 요청 중첩 방지)
+        AtomicBoolean inFlight = new AtomicBoolean(false);
+        
         // 초기 로드 후 즉시 첫 번째 변경사항 확인 (초기 지연 0초)
-        // 이후 30초마다 변경사항 확인 (경량 요청)
+        // 이후 30초마다 변경사항 확인 (경량 요청, 비동기)
         scheduler.scheduleAtFixedRate(() -> {
+            if (!inFlight.compareAndSet(false, true)) {
+                log.trace("⏭️ 이전 정책 매핑 변경사항 확인 진행 중, 건너뜀");
+                return;
+            }
             try {
-                // 변경사항 확인 (경량 요청)
-                boolean hasChange = mappingSyncService.checkMappingChange();
-                if (hasChange) {
-                    // 변경사항이 있으면 전체 매핑 로드
-                    int count = mappingSyncService.loadMappingsFromHub();
-                    log.info("🔄 정책 매핑 변경사항 반영 완료: {}개 매핑", count);
-                } else {
-                    log.trace("⏭️ 정책 매핑 변경사항 없음");
-                }
+                mappingSyncService.checkMappingChangeAsync()
+                    .thenCompose(hasChange -> {
+                        if (!hasChange) {
+                            log.trace("⏭️ 정책 매핑 변경사항 없음");
+                            return CompletableFuture.completedFuture((Integer) null);
+                        }
+                        // 변경사항이 있으면 전체 매핑 로드
+                        return mappingSyncService.loadMappingsFromHubAsync();
+                    })
+                    .whenComplete((count, e) -> {
+                        inFlight.set(false);
+                        if (e != null) {
+                            log.warn("⚠️ 정책 매핑 변경사항 확인 실패: {}", e.getMessage());
+                        } else if (count != null) {
+                            log.info("🔄 정책 매핑 변경사항 반영 완료: {}개 매핑", count);
+                        }
+                    });
             } catch (Exception e) {
+                inFlight.set(false);
                 log.warn("⚠️ 정책 매핑 변경사항 확인 실패: {}", e.getMessage());
             }
         }, 0, 30, TimeUnit.SECONDS); // 초기 지연 0초 (즉시 실행), 이후 30초마다
         
-        log.info("✅ 정책 매핑 변경사항 확인 시작: proxyInstanceId={}, 주기=30초", instanceId);
+        log.info("✅ 정책 매핑 변경사항 확인 시작: hubUrl={}, proxyInstanceId={}, 주기=30초", config.getHubUrl(), instanceId);
+    }
+    
+    /**
+     * instanceId별 지표
+     */
+    public DadpMetrics getMetrics() {
+        return metrics;
     }
     
     /**
@@ -278,27 +289,25 @@ public class DadpProxyConnection implements Connection {
      * 매핑 정보 강제 새로고침 (Hub에서 변경 알림 받을 때 사용)
      */
     public void refreshMappings() {
-        new Thread(() -> {
-            try {
-                int count = mappingSyncService.loadMappingsFromHub();
-                log.info("🔄 정책 매핑 정보 강제 새로고침 완료: {}개 매핑", count);
-            } catch (Exception e) {
+        mappingSyncService.loadMappingsFromHubAsync().whenComplete((count, e) -> {
+            if (e != null) {
                 log.warn("⚠️ 정책 매핑 정보 새로고침 실패: {}", e.getMessage());
+            } else {
+                log.info("🔄 정책 매핑 정보 강제 새로고침 완료: {}개 매핑", count);
             }
-        }, "dadp-proxy-mapping-refresh").start();
+        });
     }
     
     public HubCryptoAdapter getHubCryptoAdapter() {
-        // 지연 초기화: 아직 초기화되지 않았으면 재시도
-        if (hubCryptoAdapter == null && config.isFailOpen()) {
-            try {
-                this.hubCryptoAdapter = new HubCryptoAdapter(config.getHubUrl(), config.isFailOpen(), notificationService);
-                log.info("✅ Hub 암복호화 어댑터 지연 초기화 완료: hubUrl={}", config.getHubUrl());
-            } catch (Exception e) {
-                log.warn("⚠️ Hub 암복호화 어댑터 지연 초기화 실패 (무시): {}", e.getMessage());
-            }
-        }
-        return hubCryptoAdapter;
+        // 지연 초기화는 공유 런타임에서 처리
+        return runtime.getHubCryptoAdapter();
+    }
+    
+    /**
+     * 공유 런타임 (컬럼 크기/암호문 크기 모델 등)
+     */
+    public DadpProxyRuntime getRuntime() {
+        return runtime;
     }
     
     public HubNotificationService getNotificationService() {
@@ -321,8 +330,16 @@ public class DadpProxyConnection implements Connection {
         log.debug("🔍 PreparedStatement 생성: {}", sql);
         // 정책 매핑 로드 완료 대기 (첫 번째 쿼리 실행 전 정책 적용 보장)
         ensureMappingsLoaded();
-        PreparedStatement actualPs = actualConnection.prepareStatement(sql);
-        return new DadpProxyPreparedStatement(actualPs, sql, this);
+        StatementPlan plan = statementPlan(sql);
+        PreparedStatement actualPs = actualConnection.prepareStatement(plan.getExecutableSql());
+        return new DadpProxyPreparedStatement(actualPs, sql, this, plan);
+    }
+    
+    /**
+     * SQL의 실행 계획 조회 (블라인드 인덱스를 사용하면 실행 SQL이 재작성될 수 있음)
+     */
+    private StatementPlan statementPlan(String sql) {
+        return runtime.getStatementPlans().getPlan(sql, metrics, runtime.getBlindIndex());
     }
     
     /**
@@ -331,7 +348,7 @@ public class DadpProxyConnection implements Connection {
      */
     private void ensureMappingsLoaded() {
         String instanceId = config.getInstanceId();
-        CountDownLatch latch = mappingsLoadedLatchMap.get(instanceId);
+        CountDownLatch latch = mappingsLoadedLatchMap.get(runtime.getMappingKey());
         
         // Latch가 있고 아직 해제되지 않았으면 대기
         if (latch != null && latch.getCount() > 0) {
@@ -440,8 +457,9 @@ public class DadpProxyConnection implements Connection {
     @Override
     public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
         ensureMappingsLoaded();
-        PreparedStatement actualPs = actualConnection.prepareStatement(sql, resultSetType, resultSetConcurrency);
-        return new DadpProxyPreparedStatement(actualPs, sql, this);
+        StatementPlan plan = statementPlan(sql);
+        PreparedStatement actualPs = actualConnection.prepareStatement(plan.getExecutableSql(), resultSetType, resultSetConcurrency);
+        return new DadpProxyPreparedStatement(actualPs, sql, this, plan);
     }
     
     @Override
@@ -499,8 +517,9 @@ public class DadpProxyConnection implements Connection {
     @Override
     public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
         ensureMappingsLoaded();
-        PreparedStatement actualPs = actualConnection.prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
-        return new DadpProxyPreparedStatement(actualPs, sql, this);
+        StatementPlan plan = statementPlan(sql);
+        PreparedStatement actualPs = actualConnection.prepareStatement(plan.getExecutableSql(), resultSetType, resultSetConcurrency, resultSetHoldability);
+        return new DadpProxyPreparedStatement(actualPs, sql, this, plan);
     }
     
     @Override
@@ -511,22 +530,25 @@ public class DadpProxyConnection implements Connection {
     @Override
     public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
         ensureMappingsLoaded();
-        PreparedStatement actualPs = actualConnection.prepareStatement(sql, autoGeneratedKeys);
-        return new DadpProxyPreparedStatement(actualPs, sql, this);
+        StatementPlan plan = statementPlan(sql);
+        PreparedStatement actualPs = actualConnection.prepareStatement(plan.getExecutableSql(), autoGeneratedKeys);
+        return new DadpProxyPreparedStatement(actualPs, sql, this, plan);
     }
     
     @Override
     public PreparedStatement prepareStatement(String sql, int[] columnIndexes) throws SQLException {
         ensureMappingsLoaded();
-        PreparedStatement actualPs = actualConnection.prepareStatement(sql, columnIndexes);
-        return new DadpProxyPreparedStatement(actualPs, sql, this);
+        StatementPlan plan = statementPlan(sql);
+        PreparedStatement actualPs = actualConnection.prepareStatement(plan.getExecutableSql(), columnIndexes);
+        return new DadpProxyPreparedStatement(actualPs, sql, this, plan);
     }
     
     @Override
     public PreparedStatement prepareStatement(String sql, String[] columnNames) throws SQLException {
         ensureMappingsLoaded();
-        PreparedStatement actualPs = actualConnection.prepareStatement(sql, columnNames);
-        return new DadpProxyPreparedStatement(actualPs, sql, this);
+        StatementPlan plan = statementPlan(sql);
+        PreparedStatement actualPs = actualConnection.prepareStatement(plan.getExecutableSql(), columnNames);
+        return new DadpProxyPreparedStatement(actualPs, sql, this, plan);
     }
     
     @Override
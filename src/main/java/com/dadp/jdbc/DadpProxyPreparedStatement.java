@@ -1,11 +1,12 @@
 package com.dadp.jdbc;
 
+import com.dadp.jdbc.crypto.CiphertextSizeModel;
 import com.dadp.jdbc.crypto.HubCryptoAdapter;
 import com.dadp.jdbc.notification.HubNotificationService;
-import com.dadp.jdbc.policy.PolicyResolver;
 import com.dadp.jdbc.policy.SqlParser;
 import java.io.InputStream;
 import java.io.Reader;
+import java.io.StringReader;
 import java.math.BigDecimal;
 import java.net.URL;
 import java.sql.*;
@@ -32,125 +33,80 @@ public class DadpProxyPreparedStatement implements PreparedStatement {
     private final String sql;
     private final DadpProxyConnection proxyConnection;
     private final SqlParser.SqlParseResult sqlParseResult;
-    private final Map<Integer, String> parameterToColumnMap; // parameterIndex -> columnName
+    private final StatementPlan plan; // SQL 파싱 결과, parameterIndex -> columnName/정책명 (SQL별 공유)
     private final Map<Integer, String> originalDataMap; // parameterIndex -> original plaintext data (for fail-open on truncation)
     
     public DadpProxyPreparedStatement(PreparedStatement actualPs, String sql, DadpProxyConnection proxyConnection) {
+        // SQL 파싱 및 파라미터 인덱스와 컬럼명 매핑 (같은 SQL이면 캐시된 실행 계획 재사용)
+        // actualPs는 원본 SQL로 준비되었으므로 블라인드 인덱스로 재작성된 계획은 사용하지 않음
+        this(actualPs, sql, proxyConnection, withoutRewrite(proxyConnection.getRuntime().getStatementPlans()
+                .getPlan(sql, proxyConnection.getMetrics(), proxyConnection.getRuntime().getBlindIndex()), sql));
+    }
+    
+    /**
+     * @param actualPs plan.getExecutableSql()로 준비한 PreparedStatement
+     * @param sql 애플리케이션이 전달한 원본 SQL
+     */
+    DadpProxyPreparedStatement(PreparedStatement actualPs, String sql, DadpProxyConnection proxyConnection,
+                               StatementPlan plan) {
         this.actualPreparedStatement = actualPs;
         this.sql = sql;
         this.proxyConnection = proxyConnection;
-        
-        // SQL 파싱
-        SqlParser sqlParser = new SqlParser();
-        this.sqlParseResult = sqlParser.parse(sql);
-        
-        // 파라미터 인덱스와 컬럼명 매핑 생성
-        this.parameterToColumnMap = buildParameterMapping(sqlParseResult);
+        this.plan = plan;
+        this.sqlParseResult = plan.getParseResult();
+        proxyConnection.getMetrics().recordWrappedStatement();
         
         // 원본 데이터 저장용 맵 초기화 (Data truncation 시 평문으로 재시도)
         this.originalDataMap = new HashMap<>();
         
-            if (sqlParseResult != null && !parameterToColumnMap.isEmpty()) {
-                log.trace("🔍 DADP Proxy PreparedStatement 생성: {} ({}개 파라미터 매핑)", sql, parameterToColumnMap.size());
+            if (sqlParseResult != null && plan.getMappedParameterCount() > 0) {
+                log.trace("🔍 DADP Proxy PreparedStatement 생성: {} ({}개 파라미터 매핑)", sql, plan.getMappedParameterCount());
             } else {
                 log.trace("🔍 DADP Proxy PreparedStatement 생성: {}", sql);
             }
     }
     
+    private static StatementPlan withoutRewrite(StatementPlan plan, String sql) {
+        return plan.isRewritten() ? new StatementPlan(sql, plan.getParseResult(), null) : plan;
+    }
+    
     /**
-     * SQL 파싱 결과로부터 파라미터 인덱스와 컬럼명 매핑 생성
-     * INSERT/UPDATE: SET 절의 컬럼만 매핑
-     * SELECT: WHERE 절의 파라미터도 매핑
+     * 사용자 파라미터 인덱스 → 실제 PreparedStatement 파라미터 인덱스 (블라인드 인덱스 재작성 시 달라짐)
      */
-    private Map<Integer, String> buildParameterMapping(SqlParser.SqlParseResult parseResult) {
-        Map<Integer, String> mapping = new HashMap<>();
-        
-        if (parseResult == null) {
-            return mapping;
-        }
-        
-        // INSERT/UPDATE: SET 절 또는 VALUES 절의 컬럼 매핑
-        if ("INSERT".equals(parseResult.getSqlType()) || "UPDATE".equals(parseResult.getSqlType())) {
-            if (parseResult.getColumns() != null) {
-                String[] columns = parseResult.getColumns();
-                for (int i = 0; i < columns.length; i++) {
-                    // null이 아닌 컬럼명만 매핑
-                    if (columns[i] != null && !columns[i].trim().isEmpty()) {
-                        // 파라미터 인덱스는 1부터 시작
-                        mapping.put(i + 1, columns[i].trim());
-                    }
-                }
-            }
-        }
-        // SELECT: WHERE 절의 파라미터 매핑
-        else if ("SELECT".equals(parseResult.getSqlType())) {
-            // WHERE 절에서 파라미터와 컬럼 매핑 추출
-            parseWhereClauseParameters(sql, parseResult.getTableName(), mapping);
-        }
-        
-        return mapping;
+    private int index(int parameterIndex) {
+        return plan.getActualIndex(parameterIndex);
     }
     
     /**
-     * WHERE 절에서 파라미터와 컬럼명 매핑 추출
-     * 예: WHERE u1_0.phone like ? -> parameterIndex 1 -> phone
+     * 동반 파라미터 바인딩 (INSERT/UPDATE 재작성 시 추가한 "컬럼_bidx", "컬럼_pidx" 값)
+     * 
+     * 모든 setter가 값을 바인딩하기 전에 호출하므로 이전 바인딩의 원본 평문도 여기서 제거합니다
+     * (null, 문자열이 아닌 값, 암호화 대상이 아닌 값으로 다시 바인딩한 뒤 재시도에 이전 평문이 쓰이지 않도록).
      */
-    private void parseWhereClauseParameters(String sql, String tableName, Map<Integer, String> mapping) {
-        if (sql == null || tableName == null) {
-            return;
-        }
-        
-        // WHERE 절 찾기
-        int whereIndex = sql.toUpperCase().indexOf(" WHERE ");
-        if (whereIndex < 0) {
-            return;
+    private void bindCompanion(int parameterIndex, String plaintext) throws SQLException {
+        originalDataMap.remove(parameterIndex);
+        int companionIndex = plan.getCompanionIndex(parameterIndex);
+        if (companionIndex > 0) {
+            if (plaintext == null) {
+                actualPreparedStatement.setNull(companionIndex, Types.VARCHAR);
+            } else {
+                actualPreparedStatement.setString(companionIndex, blindIndexValue(parameterIndex, plaintext));
+            }
         }
-        
-        // WHERE 절 이전의 ? 개수 계산 (INSERT/UPDATE의 VALUES/SET 절 파라미터)
-        String beforeWhere = sql.substring(0, whereIndex);
-        int beforeWhereParamCount = countParameters(beforeWhere);
-        
-        String whereClause = sql.substring(whereIndex + 7); // " WHERE " 길이
-        
-        // WHERE 절에서 파라미터 위치와 컬럼명 매핑
-        // 패턴: table.col like ?, table.col = ?, table.col > ? 등
-        java.util.regex.Pattern pattern = java.util.regex.Pattern.compile(
-            "(?:\\w+\\.)?(\\w+)\\s*(?:like|=|!=|<>|>|<|>=|<=|in|not\\s+in)\\s*\\?",
-            java.util.regex.Pattern.CASE_INSENSITIVE
-        );
-        java.util.regex.Matcher matcher = pattern.matcher(whereClause);
-        
-        while (matcher.find()) {
-            String columnName = matcher.group(1);
-            // WHERE 절의 ? 위치 찾기
-            int questionMarkIndex = matcher.end() - 1; // ? 위치
-            // WHERE 절 내에서 이 ? 이전의 ? 개수 계산
-            String beforeQuestionMark = whereClause.substring(0, questionMarkIndex);
-            int localParamIndex = countParameters(beforeQuestionMark);
-            // 전체 파라미터 인덱스 = WHERE 절 이전 파라미터 개수 + WHERE 절 내 파라미터 인덱스
-            int globalParamIndex = beforeWhereParamCount + localParamIndex + 1; // 1-based
-            
-            if (!mapping.containsKey(globalParamIndex)) {
-                mapping.put(globalParamIndex, columnName);
-                log.trace("🔍 WHERE 절 파라미터 매핑: parameterIndex={} -> column={}", globalParamIndex, columnName);
+        int prefixIndex = plan.getPrefixCompanionIndex(parameterIndex);
+        if (prefixIndex > 0) {
+            if (plaintext == null) {
+                actualPreparedStatement.setNull(prefixIndex, Types.VARCHAR);
+            } else {
+                actualPreparedStatement.setString(prefixIndex, proxyConnection.getRuntime().getBlindIndex()
+                        .computePrefixes(sqlParseResult.getTableName(), plan.getBlindIndexColumn(parameterIndex), plaintext));
             }
         }
     }
     
-    /**
-     * SQL 문자열에서 ? 파라미터 개수 계산
-     */
-    private int countParameters(String sql) {
-        if (sql == null) {
-            return 0;
-        }
-        int count = 0;
-        for (int i = 0; i < sql.length(); i++) {
-            if (sql.charAt(i) == '?') {
-                count++;
-            }
-        }
-        return count;
+    private String blindIndexValue(int parameterIndex, String plaintext) {
+        return proxyConnection.getRuntime().getBlindIndex()
+                .compute(sqlParseResult.getTableName(), plan.getBlindIndexColumn(parameterIndex), plaintext);
     }
     
     @Override
@@ -179,37 +135,24 @@ public class DadpProxyPreparedStatement implements PreparedStatement {
                 
                 String tableName = sqlParseResult != null ? sqlParseResult.getTableName() : null;
                 
-                // 모든 암호화된 파라미터를 원본 데이터로 되돌리기
-                int restoredCount = 0;
-                for (Map.Entry<Integer, String> entry : originalDataMap.entrySet()) {
+                // 모든 암호화된 파라미터를 크기 초과로 처리 (사전 검사와 동일한 지표/알림, Fail-closed면 예외)
+                // handleOversize가 originalDataMap에서 제거하므로 복사본으로 순회
+                Map<Integer, String> originals = new HashMap<>(originalDataMap);
+                for (Map.Entry<Integer, String> entry : originals.entrySet()) {
                     Integer paramIndex = entry.getKey();
                     String originalData = entry.getValue();
+                    String paramColumnName = plan.getParameterColumn(paramIndex);
+                    String policyName = paramColumnName != null
+                            ? proxyConnection.getPolicyResolver().resolvePolicy(tableName, paramColumnName) : null;
+                    handleOversize(paramIndex, tableName, paramColumnName, policyName,
+                            "원본: " + (originalData != null ? originalData.length() : 0) + "자, DB 오류: " + e.getMessage(), e);
                     
-                    // 원본 데이터로 재설정
-                    actualPreparedStatement.setString(paramIndex, originalData);
-                    restoredCount++;
-                    
-                    // 해당 파라미터의 컬럼명 찾기
-                    String paramColumnName = parameterToColumnMap.get(paramIndex);
-                    if (paramColumnName != null) {
-                        String policyName = proxyConnection.getPolicyResolver().resolvePolicy(tableName, paramColumnName);
-                        String errorMsg = "암호화된 데이터가 컬럼 크기를 초과합니다 (원본: " + 
-                                         (originalData != null ? originalData.length() : 0) + "자)";
-                        log.warn("⚠️ 암호화 데이터 크기 초과: {}.{} (정책: {}), 평문으로 재시도 - {}", 
-                                 tableName, paramColumnName, policyName, errorMsg);
-                        
-                        // Hub에 알림 전송 (Hub 연결이 확인된 경우에만)
-                        HubNotificationService notificationService = proxyConnection.getNotificationService();
-                        HubCryptoAdapter adapter = proxyConnection.getHubCryptoAdapter();
-                        if (notificationService != null && adapter != null && adapter.isHubAvailable()) {
-                            notificationService.notifyEncryptionError(tableName, paramColumnName, policyName, errorMsg);
-                        }
-                    } else {
-                        log.warn("⚠️ 암호화 데이터 크기 초과: parameterIndex={}, 평문으로 재시도", paramIndex);
-                    }
+                    // Fail-open: 원본 데이터로 재설정
+                    actualPreparedStatement.setString(index(paramIndex), originalData);
                 }
                 
-                log.info("🔄 Data truncation 발생: {}개 파라미터를 평문으로 되돌려 재시도", restoredCount);
+                log.info("🔄 Data truncation 발생: {}개 파라미터를 평문으로 되돌려 재시도", originals.size());
+                proxyConnection.getMetrics().recordTruncationRetry();
                 
                 // 평문으로 재시도
                 try {
@@ -226,174 +169,413 @@ public class DadpProxyPreparedStatement implements PreparedStatement {
         }
     }
     
+    /**
+     * 블라인드/접두사 인덱스 검색 조건 파라미터 ("컬럼_bidx = ?", "컬럼_pidx LIKE ?"로 재작성된 파라미터)
+     */
+    private boolean isIndexSearch(int parameterIndex) {
+        return plan.isBlindSearch(parameterIndex) || plan.isPrefixSearch(parameterIndex);
+    }
+    
+    /**
+     * 문자열이 아닌 값의 블라인드/접두사 인덱스 처리 (동반 파라미터 바인딩 또는 검색 값 변환)
+     * 
+     * 인덱스는 문자열 표현(toString)으로 계산하므로, 검색 조건 파라미터는 문자열로 변환해 setString과 동일하게 바인딩합니다.
+     * 
+     * @return 검색 조건 파라미터를 바인딩했으면 true (호출자는 원래 값을 바인딩하지 않음)
+     */
+    private boolean bindIndexed(int parameterIndex, Object x) throws SQLException {
+        if (isIndexSearch(parameterIndex)) {
+            setString(parameterIndex, x != null ? x.toString() : null);
+            return true;
+        }
+        bindCompanion(parameterIndex, x != null ? x.toString() : null);
+        return false;
+    }
+    
+    /**
+     * 블라인드/접두사 인덱스 값을 계산할 수 없는 setter(바이너리, LOB 등)를 인덱스 대상 파라미터에 사용하면 거부
+     * (그대로 바인딩하면 검색 결과가 조용히 비거나 동반 파라미터가 바인딩되지 않음)
+     */
+    private void rejectIndexed(int parameterIndex, String setter) throws SQLException {
+        originalDataMap.remove(parameterIndex);
+        if (isIndexSearch(parameterIndex) || plan.hasCompanion(parameterIndex)) {
+            throw new SQLFeatureNotSupportedException(setter + "는 블라인드/접두사 인덱스 대상 파라미터에 사용할 수 없습니다: "
+                    + sqlParseResult.getTableName() + "." + plan.getParameterColumn(parameterIndex));
+        }
+    }
+    
     @Override
     public void setNull(int parameterIndex, int sqlType) throws SQLException {
-        actualPreparedStatement.setNull(parameterIndex, sqlType);
+        bindCompanion(parameterIndex, null);
+        actualPreparedStatement.setNull(index(parameterIndex), sqlType);
     }
     
     @Override
     public void setBoolean(int parameterIndex, boolean x) throws SQLException {
-        actualPreparedStatement.setBoolean(parameterIndex, x);
+        if (bindIndexed(parameterIndex, x)) {
+            return;
+        }
+        actualPreparedStatement.setBoolean(index(parameterIndex), x);
     }
     
     @Override
     public void setByte(int parameterIndex, byte x) throws SQLException {
-        actualPreparedStatement.setByte(parameterIndex, x);
+        if (bindIndexed(parameterIndex, x)) {
+            return;
+        }
+        actualPreparedStatement.setByte(index(parameterIndex), x);
     }
     
     @Override
     public void setShort(int parameterIndex, short x) throws SQLException {
-        actualPreparedStatement.setShort(parameterIndex, x);
+        if (bindIndexed(parameterIndex, x)) {
+            return;
+        }
+        actualPreparedStatement.setShort(index(parameterIndex), x);
     }
     
     @Override
     public void setInt(int parameterIndex, int x) throws SQLException {
-        actualPreparedStatement.setInt(parameterIndex, x);
+        if (bindIndexed(parameterIndex, x)) {
+            return;
+        }
+        actualPreparedStatement.setInt(index(parameterIndex), x);
     }
     
     @Override
     public void setLong(int parameterIndex, long x) throws SQLException {
-        actualPreparedStatement.setLong(parameterIndex, x);
+        if (bindIndexed(parameterIndex, x)) {
+            return;
+        }
+        actualPreparedStatement.setLong(index(parameterIndex), x);
     }
     
     @Override
     public void setFloat(int parameterIndex, float x) throws SQLException {
-        actualPreparedStatement.setFloat(parameterIndex, x);
+        if (bindIndexed(parameterIndex, x)) {
+            return;
+        }
+        actualPreparedStatement.setFloat(index(parameterIndex), x);
     }
     
     @Override
     public void setDouble(int parameterIndex, double x) throws SQLException {
-        actualPreparedStatement.setDouble(parameterIndex, x);
+        if (bindIndexed(parameterIndex, x)) {
+            return;
+        }
+        actualPreparedStatement.setDouble(index(parameterIndex), x);
     }
     
     @Override
     public void setBigDecimal(int parameterIndex, BigDecimal x) throws SQLException {
-        actualPreparedStatement.setBigDecimal(parameterIndex, x);
+        if (bindIndexed(parameterIndex, x)) {
+            return;
+        }
+        actualPreparedStatement.setBigDecimal(index(parameterIndex), x);
     }
     
     @Override
     public void setString(int parameterIndex, String x) throws SQLException {
-        // 암호화 대상 확인
-        if (x != null && sqlParseResult != null) {
-            String columnName = parameterToColumnMap.get(parameterIndex);
-            String tableName = sqlParseResult.getTableName();
+        actualPreparedStatement.setString(index(parameterIndex), protect(parameterIndex, x));
+    }
+    
+    /**
+     * 파라미터 암호화 대상 정책 조회
+     * 
+     * @return 암호화해야 하면 정책명, 암호화 대상이 아니면(SELECT WHERE 절 포함) null
+     */
+    private String resolveTargetPolicy(int parameterIndex) {
+        if (sqlParseResult == null) {
+            log.warn("⚠️ SQL 파싱 결과 없음: 암호화 대상 확인 불가, parameterIndex={}", parameterIndex);
+            return null;
+        }
+        String columnName = plan.getParameterColumn(parameterIndex);
+        String tableName = sqlParseResult.getTableName();
+        
+        if (columnName == null || tableName == null) {
+            log.warn("⚠️ 테이블명 또는 컬럼명 없음: 암호화 대상 확인 불가, tableName={}, columnName={}, parameterIndex={}", 
+                    tableName, columnName, parameterIndex);
+            return null;
+        }
+        
+        // SELECT 문의 WHERE 절 파라미터는 암호화하지 않음
+        // 이유: 부분 암호화된 데이터 검색을 위해 평문으로 검색해야 함
+        // 예: DB에 "3422::ENC::..." 형태로 저장된 경우, "3422"로 검색해야 함
+        if ("SELECT".equals(sqlParseResult.getSqlType())) {
+            log.trace("🔓 SELECT WHERE 절 파라미터: 암호화하지 않음 (부분 암호화 검색 지원), {}.{}", tableName, columnName);
+            return null;
+        }
+        
+        // 실행 계획에서 정책 확인 (매핑이 바뀌었으면 PolicyResolver에서 다시 조회)
+        String policyName = plan.getParameterPolicy(parameterIndex, proxyConnection.getPolicyResolver());
+        if (policyName == null) {
+            log.trace("🔓 암호화 대상 아님: {}.{}", tableName, columnName);
+        }
+        return policyName;
+    }
+    
+    /**
+     * 바인딩할 값 결정 (setString, setNString, setObject, 문자 스트림 공통)
+     * 
+     * 블라인드 인덱스 동반 파라미터도 함께 바인딩합니다.
+     * 
+     * @return 암호화 대상이면 암호문, 블라인드 인덱스 검색 조건이면 블라인드 인덱스 값,
+     *         접두사 인덱스 검색 조건이면 접두사 인덱스 패턴,
+     *         암호화 대상이 아니거나 암호화 실패/크기 초과 시 원본 값
+     */
+    private String protect(int parameterIndex, String x) throws SQLException {
+        bindCompanion(parameterIndex, x);
+        if (x == null) {
+            return null;
+        }
+        if (plan.isBlindSearch(parameterIndex)) {
+            log.trace("🔎 블라인드 인덱스 검색: {}.{}", sqlParseResult.getTableName(), plan.getParameterColumn(parameterIndex));
+            return blindIndexValue(parameterIndex, x);
+        }
+        if (plan.isPrefixSearch(parameterIndex)) {
+            String pattern = proxyConnection.getRuntime().getBlindIndex()
+                    .prefixPattern(sqlParseResult.getTableName(), plan.getBlindIndexColumn(parameterIndex), x);
+            if (pattern == null) {
+                // 동반 컬럼 조건으로 바뀐 SQL이므로 원본 패턴으로는 검색할 수 없음 (빈 결과 대신 오류)
+                throw new SQLFeatureNotSupportedException("접두사 인덱스로 검색할 수 없는 LIKE 패턴입니다: "
+                        + sqlParseResult.getTableName() + "." + plan.getParameterColumn(parameterIndex)
+                        + " ('abc%' 형태, " + proxyConnection.getRuntime().getConfig().getPrefixIndexLength()
+                        + "자 이내만 지원)");
+            }
+            return pattern;
+        }
+        String policyName = resolveTargetPolicy(parameterIndex);
+        return policyName != null ? protect(parameterIndex, x, policyName) : x;
+    }
+    
+    private String protect(int parameterIndex, String x, String policyName) throws SQLException {
+        String tableName = sqlParseResult.getTableName();
+        String columnName = plan.getParameterColumn(parameterIndex);
+        
+        // 암호화 대상: Hub를 통해 암호화
+        HubCryptoAdapter adapter = proxyConnection.getHubCryptoAdapter();
+        if (adapter == null) {
+            log.warn("⚠️ Hub 어댑터가 초기화되지 않았습니다: {}.{} (정책: {}), 원본 데이터로 저장", 
+                    tableName, columnName, policyName);
+            return x;
+        }
+        
+        // 컬럼 크기 사전 검사: 암호문 길이 하한이 컬럼 크기를 넘으면 Hub 호출 없이 크기 초과 처리
+        Integer columnSize = proxyConnection.getRuntime().getColumnSizes().getColumnSize(tableName, columnName);
+        CiphertextSizeModel sizeModel = proxyConnection.getRuntime().getCiphertextSizes();
+        if (columnSize != null) {
+            int predicted = sizeModel.minCipherLength(policyName, x.length());
+            if (predicted > columnSize) {
+                handleOversize(parameterIndex, tableName, columnName, policyName, columnSize, predicted);
+                return x;
+            }
+        }
+        String encrypted;
+        try {
+            encrypted = adapter.encrypt(x, policyName);
+        } catch (Exception e) {
+            // 암호화 실패 시 경고 레벨로 간략하게 출력하고 평문으로 저장
+            String errorMsg = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            log.warn("⚠️ 암호화 실패: {}.{} (정책: {}), 평문으로 저장 - {}", 
+                     tableName, columnName, policyName, errorMsg);
             
-            if (columnName == null || tableName == null) {
-                log.warn("⚠️ 테이블명 또는 컬럼명 없음: 암호화 대상 확인 불가, tableName={}, columnName={}, parameterIndex={}", 
-                        tableName, columnName, parameterIndex);
-            } else {
-                // SELECT 문의 WHERE 절 파라미터는 암호화하지 않음
-                // 이유: 부분 암호화된 데이터 검색을 위해 평문으로 검색해야 함
-                // 예: DB에 "3422::ENC::..." 형태로 저장된 경우, "3422"로 검색해야 함
-                if ("SELECT".equals(sqlParseResult.getSqlType())) {
-                    log.trace("🔓 SELECT WHERE 절 파라미터: 암호화하지 않음 (부분 암호화 검색 지원), {}.{}", tableName, columnName);
-                    actualPreparedStatement.setString(parameterIndex, x);
-                    return;
-                }
-                
-                // PolicyResolver에서 정책 확인 (메모리 캐시에서 조회)
-                PolicyResolver policyResolver = proxyConnection.getPolicyResolver();
-                String policyName = policyResolver.resolvePolicy(tableName, columnName);
-                
-                if (policyName != null) {
-                    // 암호화 대상: Hub를 통해 암호화
-                    HubCryptoAdapter adapter = proxyConnection.getHubCryptoAdapter();
-                    if (adapter != null) {
-                        try {
-                            String encrypted = adapter.encrypt(x, policyName);
-                            
-                            // 원본 데이터 저장 (Data truncation 시 평문으로 재시도하기 위해)
-                            originalDataMap.put(parameterIndex, x);
-                            
-                            // 암호화된 데이터 설정 (MySQL은 executeUpdate 시점에 검증하므로 여기서는 에러가 발생하지 않음)
-                            actualPreparedStatement.setString(parameterIndex, encrypted);
-                            log.debug("🔐 암호화 완료: {}.{} → {} (정책: {})", tableName, columnName, 
-                                     encrypted != null && encrypted.length() > 20 ? encrypted.substring(0, 20) + "..." : encrypted, 
-                                     policyName);
-                            return;
-                        } catch (Exception e) {
-                            // 암호화 실패 시 경고 레벨로 간략하게 출력하고 평문으로 저장
-                            String errorMsg = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
-                            log.warn("⚠️ 암호화 실패: {}.{} (정책: {}), 평문으로 저장 - {}", 
-                                     tableName, columnName, policyName, errorMsg);
-                            
-                            // Hub에 알림 전송 (Hub 연결이 확인된 경우에만)
-                            HubNotificationService notificationService = proxyConnection.getNotificationService();
-                            if (notificationService != null && adapter.isHubAvailable()) {
-                                notificationService.notifyEncryptionError(tableName, columnName, policyName, errorMsg);
-                            } else if (notificationService != null && !adapter.isHubAvailable()) {
-                                log.debug("Hub 연결이 확인되지 않아 알림 전송 건너뜀");
-                            }
-                            
-                            // 암호화 실패 시 원본 데이터로 저장 (Fail-open)
-                        }
-                    } else {
-                        log.warn("⚠️ Hub 어댑터가 초기화되지 않았습니다: {}.{} (정책: {}), 원본 데이터로 저장", 
-                                tableName, columnName, policyName);
-                    }
-                } else {
-                    log.trace("🔓 암호화 대상 아님: {}.{}", tableName, columnName);
-                }
+            // Hub에 알림 전송 (Hub 연결이 확인된 경우에만)
+            HubNotificationService notificationService = proxyConnection.getNotificationService();
+            if (notificationService != null && adapter.isHubAvailable()) {
+                notificationService.notifyEncryptionError(tableName, columnName, policyName, errorMsg);
+            } else if (notificationService != null && !adapter.isHubAvailable()) {
+                log.debug("Hub 연결이 확인되지 않아 알림 전송 건너뜀");
+            }
+            
+            // 암호화 실패 시 원본 데이터로 저장 (Fail-open)
+            return x;
+        }
+        if (encrypted != null && !encrypted.equals(x)) {
+            sizeModel.record(policyName, x.length(), encrypted.length());
+            if (columnSize != null && encrypted.length() > columnSize) {
+                // 실행하면 Data too long이 되므로 DB 왕복 없이 바로 크기 초과 처리
+                handleOversize(parameterIndex, tableName, columnName, policyName, columnSize, encrypted.length());
+                return x;
             }
-        } else if (x != null && sqlParseResult == null) {
-            log.warn("⚠️ SQL 파싱 결과 없음: 암호화 대상 확인 불가, parameterIndex={}", parameterIndex);
         }
         
-        // 암호화 대상이 아니거나 암호화 실패 시 원본 데이터 그대로 저장
-        actualPreparedStatement.setString(parameterIndex, x);
+        // 원본 데이터 저장 (Data truncation 시 평문으로 재시도하기 위해)
+        originalDataMap.put(parameterIndex, x);
+        
+        // 암호화된 데이터 반환 (MySQL은 executeUpdate 시점에 검증하므로 바인딩 시에는 에러가 발생하지 않음)
+        log.trace("🔐 암호화 완료: {}.{} (정책: {})", tableName, columnName, policyName);
+        return encrypted;
+    }
+    
+    /**
+     * 암호문이 컬럼 크기를 초과하는 값 처리
+     * 
+     * 실행 전 사전 검사와 실행 후 Data truncation 오류 모두 여기서 처리하여 지표/알림을 같은 방식으로 한 번씩 기록합니다.
+     * Fail-open 모드에서는 평문 저장을 허용하고 (호출자가 평문 바인딩),
+     * Fail-closed 모드에서는 평문을 저장하지 않도록 예외를 발생시킵니다.
+     * 
+     * @param cipherLength 실제 암호문 길이 또는 예측한 하한
+     * @throws SQLException Fail-closed 모드 (SQLState 22001)
+     */
+    private void handleOversize(int parameterIndex, String tableName, String columnName, String policyName,
+                                int columnSize, int cipherLength) throws SQLException {
+        handleOversize(parameterIndex, tableName, columnName, policyName,
+                "암호문: " + cipherLength + "자 이상, 컬럼: " + columnSize + "자", null);
+    }
+    
+    /**
+     * @param detail 크기 정보 (오류 메시지용)
+     * @param cause DB에서 발생한 Data truncation 오류 (사전 검사면 null)
+     */
+    private void handleOversize(int parameterIndex, String tableName, String columnName, String policyName,
+                                String detail, SQLException cause) throws SQLException {
+        originalDataMap.remove(parameterIndex);
+        proxyConnection.getMetrics().recordOversize(tableName, columnName);
+        
+        String errorMsg = "암호화된 데이터가 컬럼 크기를 초과합니다 (" + detail + ")";
+        if (!proxyConnection.getRuntime().getConfig().isFailOpen()) {
+            log.warn("⚠️ 암호화 데이터 크기 초과: {}.{} (정책: {}), 실행 중단 (Fail-closed) - {}",
+                    tableName, columnName, policyName, errorMsg);
+            throw new SQLException(errorMsg + ": " + tableName + "." + columnName + " (정책: " + policyName + ")",
+                    "22001", cause);
+        }
+        log.warn("⚠️ 암호화 데이터 크기 초과: {}.{} (정책: {}), 평문으로 저장 - {}",
+                tableName, columnName, policyName, errorMsg);
+        
+        // Hub에 알림 전송 (Hub 연결이 확인된 경우에만)
+        HubNotificationService notificationService = proxyConnection.getNotificationService();
+        HubCryptoAdapter adapter = proxyConnection.getHubCryptoAdapter();
+        if (notificationService != null && adapter != null && adapter.isHubAvailable()) {
+            notificationService.notifyEncryptionError(tableName, columnName, policyName, errorMsg);
+        }
+    }
+    
+    /**
+     * 문자 스트림 바인딩
+     * 
+     * 암호화 대상 컬럼이거나 블라인드/접두사 인덱스 대상(동반 파라미터, 검색 조건)일 때만 스트림을 읽고,
+     * 그 외에는 스트림을 읽지 않고 그대로 위임합니다.
+     * 암호화는 값 전체가 필요하므로 스트림을 한 번 읽어 들입니다 (CharacterStreams 참고).
+     * 
+     * @param length 문자 수 (모르면 -1)
+     */
+    private void bindCharacters(int parameterIndex, Reader reader, long length, ReaderBinder binder) throws SQLException {
+        String policyName = reader != null ? resolveTargetPolicy(parameterIndex) : null;
+        if (reader == null || (policyName == null && !plan.hasCompanion(parameterIndex) && !isIndexSearch(parameterIndex))) {
+            bindCompanion(parameterIndex, null);
+            binder.bind(reader, length);
+            return;
+        }
+        String value = CharacterStreams.read(reader, length);
+        if (isIndexSearch(parameterIndex)) {
+            value = protect(parameterIndex, value); // 블라인드/접두사 인덱스 검색 값
+        } else {
+            bindCompanion(parameterIndex, value);
+            if (policyName != null) {
+                value = protect(parameterIndex, value, policyName);
+            }
+        }
+        binder.bind(new StringReader(value), value.length());
+    }
+    
+    private static boolean isCharacterType(int sqlType) {
+        switch (sqlType) {
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+            case Types.CLOB:
+            case Types.NCLOB:
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    /**
+     * 문자 스트림을 위임 PreparedStatement에 바인딩하는 setter
+     */
+    private interface ReaderBinder {
+        void bind(Reader reader, long length) throws SQLException;
     }
     
     @Override
     public void setBytes(int parameterIndex, byte[] x) throws SQLException {
-        actualPreparedStatement.setBytes(parameterIndex, x);
+        rejectIndexed(parameterIndex, "setBytes");
+        actualPreparedStatement.setBytes(index(parameterIndex), x);
     }
     
     @Override
     public void setDate(int parameterIndex, Date x) throws SQLException {
-        actualPreparedStatement.setDate(parameterIndex, x);
+        if (bindIndexed(parameterIndex, x)) {
+            return;
+        }
+        actualPreparedStatement.setDate(index(parameterIndex), x);
     }
     
     @Override
     public void setTime(int parameterIndex, Time x) throws SQLException {
-        actualPreparedStatement.setTime(parameterIndex, x);
+        if (bindIndexed(parameterIndex, x)) {
+            return;
+        }
+        actualPreparedStatement.setTime(index(parameterIndex), x);
     }
     
     @Override
     public void setTimestamp(int parameterIndex, Timestamp x) throws SQLException {
-        actualPreparedStatement.setTimestamp(parameterIndex, x);
+        if (bindIndexed(parameterIndex, x)) {
+            return;
+        }
+        actualPreparedStatement.setTimestamp(index(parameterIndex), x);
     }
     
     @Override
     public void setAsciiStream(int parameterIndex, InputStream x, int length) throws SQLException {
-        actualPreparedStatement.setAsciiStream(parameterIndex, x, length);
+        rejectIndexed(parameterIndex, "setAsciiStream");
+        actualPreparedStatement.setAsciiStream(index(parameterIndex), x, length);
     }
     
     @Override
     @Deprecated
     public void setUnicodeStream(int parameterIndex, InputStream x, int length) throws SQLException {
-        actualPreparedStatement.setUnicodeStream(parameterIndex, x, length);
+        rejectIndexed(parameterIndex, "setUnicodeStream");
+        actualPreparedStatement.setUnicodeStream(index(parameterIndex), x, length);
     }
     
     @Override
     public void setBinaryStream(int parameterIndex, InputStream x, int length) throws SQLException {
-        actualPreparedStatement.setBinaryStream(parameterIndex, x, length);
+        rejectIndexed(parameterIndex, "setBinaryStream");
+        actualPreparedStatement.setBinaryStream(index(parameterIndex), x, length);
     }
     
     @Override
     public void clearParameters() throws SQLException {
+        originalDataMap.clear();
         actualPreparedStatement.clearParameters();
     }
     
     @Override
     public void setObject(int parameterIndex, Object x, int targetSqlType) throws SQLException {
-        // TODO: Object 타입인 경우 String으로 변환하여 암호화 처리
-        actualPreparedStatement.setObject(parameterIndex, x, targetSqlType);
+        // 문자 타입으로 바인딩하는 String만 암호화 (숫자/날짜 등으로 변환되는 값은 그대로 위임)
+        if (x instanceof String && isCharacterType(targetSqlType)) {
+            x = protect(parameterIndex, (String) x);
+        } else if (bindIndexed(parameterIndex, x)) {
+            return;
+        }
+        actualPreparedStatement.setObject(index(parameterIndex), x, targetSqlType);
     }
     
     @Override
     public void setObject(int parameterIndex, Object x) throws SQLException {
-        // TODO: Object 타입인 경우 String으로 변환하여 암호화 처리
-        actualPreparedStatement.setObject(parameterIndex, x);
+        // String은 setString과 동일하게 암호화 (JPA/jOOQ 등 setObject로 바인딩하는 프레임워크 지원)
+        if (x instanceof String) {
+            x = protect(parameterIndex, (String) x);
+        } else if (bindIndexed(parameterIndex, x)) {
+            return;
+        }
+        actualPreparedStatement.setObject(index(parameterIndex), x);
     }
     
     @Override
@@ -409,27 +591,39 @@ public class DadpProxyPreparedStatement implements PreparedStatement {
     
     @Override
     public void setCharacterStream(int parameterIndex, Reader reader, int length) throws SQLException {
-        actualPreparedStatement.setCharacterStream(parameterIndex, reader, length);
+        bindCharacters(parameterIndex, reader, length,
+                (r, len) -> actualPreparedStatement.setCharacterStream(index(parameterIndex), r, (int) len));
     }
     
     @Override
     public void setRef(int parameterIndex, Ref x) throws SQLException {
-        actualPreparedStatement.setRef(parameterIndex, x);
+        rejectIndexed(parameterIndex, "setRef");
+        actualPreparedStatement.setRef(index(parameterIndex), x);
     }
     
     @Override
     public void setBlob(int parameterIndex, Blob x) throws SQLException {
-        actualPreparedStatement.setBlob(parameterIndex, x);
+        rejectIndexed(parameterIndex, "setBlob");
+        actualPreparedStatement.setBlob(index(parameterIndex), x);
     }
     
     @Override
     public void setClob(int parameterIndex, Clob x) throws SQLException {
-        actualPreparedStatement.setClob(parameterIndex, x);
+        // Clob 객체는 암호화 대상(또는 블라인드 인덱스 대상)일 때만 내용을 읽어 다시 바인딩
+        if (x == null || (resolveTargetPolicy(parameterIndex) == null && !plan.hasCompanion(parameterIndex)
+                && !isIndexSearch(parameterIndex))) {
+            bindCompanion(parameterIndex, null);
+            actualPreparedStatement.setClob(index(parameterIndex), x);
+            return;
+        }
+        bindCharacters(parameterIndex, x.getCharacterStream(), x.length(),
+                (r, len) -> actualPreparedStatement.setClob(index(parameterIndex), r, len));
     }
     
     @Override
     public void setArray(int parameterIndex, Array x) throws SQLException {
-        actualPreparedStatement.setArray(parameterIndex, x);
+        rejectIndexed(parameterIndex, "setArray");
+        actualPreparedStatement.setArray(index(parameterIndex), x);
     }
     
     @Override
@@ -439,27 +633,40 @@ public class DadpProxyPreparedStatement implements PreparedStatement {
     
     @Override
     public void setDate(int parameterIndex, Date x, Calendar cal) throws SQLException {
-        actualPreparedStatement.setDate(parameterIndex, x, cal);
+        if (bindIndexed(parameterIndex, x)) {
+            return;
+        }
+        actualPreparedStatement.setDate(index(parameterIndex), x, cal);
     }
     
     @Override
     public void setTime(int parameterIndex, Time x, Calendar cal) throws SQLException {
-        actualPreparedStatement.setTime(parameterIndex, x, cal);
+        if (bindIndexed(parameterIndex, x)) {
+            return;
+        }
+        actualPreparedStatement.setTime(index(parameterIndex), x, cal);
     }
     
     @Override
     public void setTimestamp(int parameterIndex, Timestamp x, Calendar cal) throws SQLException {
-        actualPreparedStatement.setTimestamp(parameterIndex, x, cal);
+        if (bindIndexed(parameterIndex, x)) {
+            return;
+        }
+        actualPreparedStatement.setTimestamp(index(parameterIndex), x, cal);
     }
     
     @Override
     public void setNull(int parameterIndex, int sqlType, String typeName) throws SQLException {
-        actualPreparedStatement.setNull(parameterIndex, sqlType, typeName);
+        bindCompanion(parameterIndex, null);
+        actualPreparedStatement.setNull(index(parameterIndex), sqlType, typeName);
     }
     
     @Override
     public void setURL(int parameterIndex, URL x) throws SQLException {
-        actualPreparedStatement.setURL(parameterIndex, x);
+        if (bindIndexed(parameterIndex, x)) {
+            return;
+        }
+        actualPreparedStatement.setURL(index(parameterIndex), x);
     }
     
     @Override
@@ -469,98 +676,125 @@ public class DadpProxyPreparedStatement implements PreparedStatement {
     
     @Override
     public void setRowId(int parameterIndex, RowId x) throws SQLException {
-        actualPreparedStatement.setRowId(parameterIndex, x);
+        rejectIndexed(parameterIndex, "setRowId");
+        actualPreparedStatement.setRowId(index(parameterIndex), x);
     }
     
     @Override
     public void setNString(int parameterIndex, String value) throws SQLException {
-        // TODO: 암호화 처리 (setString과 동일)
-        actualPreparedStatement.setNString(parameterIndex, value);
+        actualPreparedStatement.setNString(index(parameterIndex), protect(parameterIndex, value));
     }
     
     @Override
     public void setNCharacterStream(int parameterIndex, Reader value, long length) throws SQLException {
-        actualPreparedStatement.setNCharacterStream(parameterIndex, value, length);
+        bindCharacters(parameterIndex, value, length,
+                (r, len) -> actualPreparedStatement.setNCharacterStream(index(parameterIndex), r, len));
     }
     
     @Override
     public void setNClob(int parameterIndex, NClob value) throws SQLException {
-        actualPreparedStatement.setNClob(parameterIndex, value);
+        if (value == null || (resolveTargetPolicy(parameterIndex) == null && !plan.hasCompanion(parameterIndex)
+                && !isIndexSearch(parameterIndex))) {
+            bindCompanion(parameterIndex, null);
+            actualPreparedStatement.setNClob(index(parameterIndex), value);
+            return;
+        }
+        bindCharacters(parameterIndex, value.getCharacterStream(), value.length(),
+                (r, len) -> actualPreparedStatement.setNClob(index(parameterIndex), r, len));
     }
     
     @Override
     public void setClob(int parameterIndex, Reader reader, long length) throws SQLException {
-        actualPreparedStatement.setClob(parameterIndex, reader, length);
+        bindCharacters(parameterIndex, reader, length,
+                (r, len) -> actualPreparedStatement.setClob(index(parameterIndex), r, len));
     }
     
     @Override
     public void setBlob(int parameterIndex, InputStream inputStream, long length) throws SQLException {
-        actualPreparedStatement.setBlob(parameterIndex, inputStream, length);
+        rejectIndexed(parameterIndex, "setBlob");
+        actualPreparedStatement.setBlob(index(parameterIndex), inputStream, length);
     }
     
     @Override
     public void setNClob(int parameterIndex, Reader reader, long length) throws SQLException {
-        actualPreparedStatement.setNClob(parameterIndex, reader, length);
+        bindCharacters(parameterIndex, reader, length,
+                (r, len) -> actualPreparedStatement.setNClob(index(parameterIndex), r, len));
     }
     
     @Override
     public void setSQLXML(int parameterIndex, SQLXML xmlObject) throws SQLException {
-        actualPreparedStatement.setSQLXML(parameterIndex, xmlObject);
+        rejectIndexed(parameterIndex, "setSQLXML");
+        actualPreparedStatement.setSQLXML(index(parameterIndex), xmlObject);
     }
     
     @Override
     public void setObject(int parameterIndex, Object x, int targetSqlType, int scaleOrLength) throws SQLException {
-        actualPreparedStatement.setObject(parameterIndex, x, targetSqlType, scaleOrLength);
+        if (x instanceof String && isCharacterType(targetSqlType)) {
+            x = protect(parameterIndex, (String) x);
+        } else if (bindIndexed(parameterIndex, x)) {
+            return;
+        }
+        actualPreparedStatement.setObject(index(parameterIndex), x, targetSqlType, scaleOrLength);
     }
     
     @Override
     public void setAsciiStream(int parameterIndex, InputStream x, long length) throws SQLException {
-        actualPreparedStatement.setAsciiStream(parameterIndex, x, length);
+        rejectIndexed(parameterIndex, "setAsciiStream");
+        actualPreparedStatement.setAsciiStream(index(parameterIndex), x, length);
     }
     
     @Override
     public void setBinaryStream(int parameterIndex, InputStream x, long length) throws SQLException {
-        actualPreparedStatement.setBinaryStream(parameterIndex, x, length);
+        rejectIndexed(parameterIndex, "setBinaryStream");
+        actualPreparedStatement.setBinaryStream(index(parameterIndex), x, length);
     }
     
     @Override
     public void setCharacterStream(int parameterIndex, Reader reader, long length) throws SQLException {
-        actualPreparedStatement.setCharacterStream(parameterIndex, reader, length);
+        bindCharacters(parameterIndex, reader, length,
+                (r, len) -> actualPreparedStatement.setCharacterStream(index(parameterIndex), r, len));
     }
     
     @Override
     public void setAsciiStream(int parameterIndex, InputStream x) throws SQLException {
-        actualPreparedStatement.setAsciiStream(parameterIndex, x);
+        rejectIndexed(parameterIndex, "setAsciiStream");
+        actualPreparedStatement.setAsciiStream(index(parameterIndex), x);
     }
     
     @Override
     public void setBinaryStream(int parameterIndex, InputStream x) throws SQLException {
-        actualPreparedStatement.setBinaryStream(parameterIndex, x);
+        rejectIndexed(parameterIndex, "setBinaryStream");
+        actualPreparedStatement.setBinaryStream(index(parameterIndex), x);
     }
     
     @Override
     public void setCharacterStream(int parameterIndex, Reader reader) throws SQLException {
-        actualPreparedStatement.setCharacterStream(parameterIndex, reader);
+        bindCharacters(parameterIndex, reader, -1,
+                (r, len) -> actualPreparedStatement.setCharacterStream(index(parameterIndex), r));
     }
     
     @Override
     public void setNCharacterStream(int parameterIndex, Reader value) throws SQLException {
-        actualPreparedStatement.setNCharacterStream(parameterIndex, value);
+        bindCharacters(parameterIndex, value, -1,
+                (r, len) -> actualPreparedStatement.setNCharacterStream(index(parameterIndex), r));
     }
     
     @Override
     public void setClob(int parameterIndex, Reader reader) throws SQLException {
-        actualPreparedStatement.setClob(parameterIndex, reader);
+        bindCharacters(parameterIndex, reader, -1,
+                (r, len) -> actualPreparedStatement.setClob(index(parameterIndex), r));
     }
     
     @Override
     public void setBlob(int parameterIndex, InputStream inputStream) throws SQLException {
-        actualPreparedStatement.setBlob(parameterIndex, inputStream);
+        rejectIndexed(parameterIndex, "setBlob");
+        actualPreparedStatement.setBlob(index(parameterIndex), inputStream);
     }
     
     @Override
     public void setNClob(int parameterIndex, Reader reader) throws SQLException {
-        actualPreparedStatement.setNClob(parameterIndex, reader);
+        bindCharacters(parameterIndex, reader, -1,
+                (r, len) -> actualPreparedStatement.setNClob(index(parameterIndex), r));
     }
     
     // Statement 인터페이스 메서드들
@@ -1,12 +1,18 @@
 package com.dadp.jdbc;
 
 import com.dadp.jdbc.crypto.HubCryptoAdapter;
+import com.dadp.jdbc.crypto.ParallelDecryptor;
+import com.dadp.jdbc.diagnostics.DadpDiagnostics;
+import com.dadp.jdbc.diagnostics.StatementTrace;
 import com.dadp.jdbc.policy.PolicyResolver;
 import com.dadp.jdbc.policy.SqlParser;
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.io.Reader;
+import java.io.StringReader;
 import java.math.BigDecimal;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.sql.*;
 import java.util.Calendar;
 import java.util.Map;
@@ -17,6 +23,15 @@ import org.slf4j.LoggerFactory;
  * DADP Proxy ResultSet
  * 
  * ResultSet을 래핑하여 결과셋 조회 시 복호화 처리를 수행합니다.
+ * 셀 접근 경로에서는 로그를 남기지 않고 StatementTrace 카운터만 증가시키며,
+ * ResultSet 종료 시 요약 이벤트를 한 번 기록합니다 (DadpDiagnostics 참고).
+ * 
+ * dadp.proxy.decrypt-window-rows가 설정되면 보호 컬럼이 있는 읽기 전용/순방향 결과는 해당 행 수만큼 미리 읽어
+ * 보호 컬럼 값을 병렬로 복호화한 뒤 버퍼에서 값을 반환합니다 (ResultSetWindow, ParallelDecryptor 참고).
+ * 
+ * 행 단위 복호화에서는 같은 행의 같은 컬럼을 여러 번 읽어도(getObject 후 getString, 인덱스/레이블 혼용 등)
+ * Hub 복호화는 한 번만 수행하도록 현재 행의 복호화 결과를 컬럼별 슬롯에 보관합니다.
+ * 커서가 이동하면 무효화되며, 같은 행이라도 암호문이 달라지면(updateRow 등) 다시 복호화합니다.
  * 
  * @author DADP Development Team
  * @version 3.0.0
@@ -30,27 +45,137 @@ public class DadpProxyResultSet implements ResultSet {
     private final String sql;
     private final DadpProxyConnection proxyConnection;
     private final SqlParser.SqlParseResult sqlParseResult;
+    private final StatementTrace trace;
+    
+    // 복호화 윈도우 (첫 next()에서 결정, 사용하지 않으면 null)
+    private ResultSetWindow window;
+    private boolean windowChecked;
+    private String[] windowValues;
+    private String[] windowPolicies;
+    
+    // 컬럼별 정책 조회용 컬럼명 (첫 조회 시 메타데이터로 한 번 구성, 인덱스 1부터)
+    private String[] columnNames;
+    
+    // 현재 행의 복호화 결과 메모 (컬럼별 슬롯 재사용, 커서 이동 시 rowStamp 증가로 무효화)
+    private long rowStamp;
+    private long[] memoStamps;
+    private String[] memoCiphertexts;
+    private String[] memoPlaintexts;
     
     public DadpProxyResultSet(ResultSet actualRs, String sql, DadpProxyConnection proxyConnection) {
         this.actualResultSet = actualRs;
         this.sql = sql;
         this.proxyConnection = proxyConnection;
         
-        // SQL 파싱 (SELECT 쿼리의 경우 테이블명과 컬럼명 추출)
-        SqlParser sqlParser = new SqlParser();
-        this.sqlParseResult = sqlParser.parse(sql);
-        
-        log.info("🔍 DADP Proxy ResultSet 생성: table={}", 
-                 sqlParseResult != null ? sqlParseResult.getTableName() : "null");
+        // SQL 파싱 (SELECT 쿼리의 경우 테이블명과 컬럼명 추출, 같은 SQL이면 캐시된 실행 계획 재사용)
+        this.sqlParseResult = proxyConnection.getRuntime().getStatementPlans()
+                .getPlan(sql, proxyConnection.getMetrics(), proxyConnection.getRuntime().getBlindIndex()).getParseResult();
+        proxyConnection.getMetrics().recordWrappedResultSet();
+        this.trace = DadpDiagnostics.begin(sqlParseResult != null ? sqlParseResult.getTableName() : null);
     }
     
     @Override
     public boolean next() throws SQLException {
-        return actualResultSet.next();
+        rowStamp++;
+        if (!windowChecked) {
+            windowChecked = true;
+            window = openWindow();
+        }
+        boolean hasNext;
+        if (window != null) {
+            hasNext = window.advance() || fillWindow();
+        } else {
+            hasNext = actualResultSet.next();
+        }
+        if (hasNext) {
+            trace.row();
+        }
+        return hasNext;
+    }
+    
+    /**
+     * 복호화 윈도우 생성 (설정되지 않았거나 보호 컬럼이 없거나 스크롤/갱신 가능한 결과면 null)
+     */
+    private ResultSetWindow openWindow() {
+        int windowRows = ParallelDecryptor.getWindowRows();
+        if (windowRows <= 0 || sqlParseResult == null || sqlParseResult.getTableName() == null) {
+            return null;
+        }
+        try {
+            if (actualResultSet.getType() != TYPE_FORWARD_ONLY || actualResultSet.getConcurrency() != CONCUR_READ_ONLY) {
+                return null;
+            }
+            ResultSetMetaData metaData = actualResultSet.getMetaData();
+            String[] names = columnNames();
+            String[] policyNames = new String[names.length];
+            boolean hasProtected = false;
+            PolicyResolver policyResolver = proxyConnection.getPolicyResolver();
+            for (int i = 1; i < names.length; i++) {
+                String columnName = names[i];
+                if (columnName != null) {
+                    policyNames[i] = policyResolver.resolvePolicy(sqlParseResult.getTableName(), columnName);
+                    hasProtected |= policyNames[i] != null;
+                }
+            }
+            if (!hasProtected) {
+                return null;
+            }
+            ResultSetWindow created = ResultSetWindow.create(actualResultSet, metaData, policyNames, windowRows);
+            if (created != null) {
+                windowValues = new String[created.protectedCapacity()];
+                windowPolicies = new String[windowValues.length];
+            }
+            return created;
+        } catch (SQLException e) {
+            // 윈도우 구성 실패 시 행 단위 복호화
+            if (trace.firstWarning(StatementTrace.WARN_METADATA)) {
+                log.warn("⚠️ 복호화 윈도우 구성 실패, 행 단위로 복호화: {}", e.getMessage());
+            }
+            return null;
+        }
+    }
+    
+    /**
+     * 다음 윈도우를 읽고 보호 컬럼 값을 병렬 복호화
+     */
+    private boolean fillWindow() throws SQLException {
+        if (!window.fill()) {
+            return false;
+        }
+        int count = window.collectProtected(windowValues, windowPolicies);
+        HubCryptoAdapter adapter = proxyConnection.getHubCryptoAdapter();
+        if (adapter == null) {
+            trace.unavailable();
+            if (trace.firstWarning(StatementTrace.WARN_NO_ADAPTER)) {
+                log.warn("⚠️ Hub 어댑터가 초기화되지 않았습니다: {}, 원본 데이터 반환", sqlParseResult.getTableName());
+            }
+            return true;
+        }
+        try {
+            ParallelDecryptor.decryptAll(adapter, windowValues, windowPolicies, count);
+        } catch (RuntimeException e) {
+            // Fail-closed 모드 복호화 실패
+            throw new SQLException("복호화 실패", e);
+        }
+        window.storeProtected(windowValues);
+        for (int i = 0; i < count; i++) {
+            if (windowValues[i] != null) {
+                trace.decrypted();
+            }
+            windowValues[i] = null;
+        }
+        return true;
     }
     
     @Override
     public void close() throws SQLException {
+        trace.close(log);
+        if (window != null) {
+            window.clear();
+        }
+        memoCiphertexts = null;
+        memoPlaintexts = null;
+        memoStamps = null;
         actualResultSet.close();
     }
     
@@ -61,6 +186,9 @@ public class DadpProxyResultSet implements ResultSet {
     
     @Override
     public boolean wasNull() throws SQLException {
+        if (window != null) {
+            return window.wasNull();
+        }
         return actualResultSet.wasNull();
     }
     
@@ -76,325 +204,312 @@ public class DadpProxyResultSet implements ResultSet {
     
     @Override
     public String getString(int columnIndex) throws SQLException {
-        String value = actualResultSet.getString(columnIndex);
-        log.info("🔓 getString(int) 호출: columnIndex={}, valueLength={}", 
-                 columnIndex, value != null ? value.length() : 0);
-        
-        if (value == null) {
-            return value;
-        }
-        
-        if (sqlParseResult == null) {
-            log.warn("⚠️ SQL 파싱 결과 없음: 복호화 대상 확인 불가, columnIndex={}", columnIndex);
-            return value;
+        if (window != null) {
+            // 윈도우의 보호 컬럼은 이미 복호화됨
+            trace.cell();
+            return window.getString(columnIndex);
         }
-        
-        try {
-            // ResultSetMetaData로 컬럼명 조회
-            ResultSetMetaData metaData = actualResultSet.getMetaData();
-            String columnName = metaData.getColumnName(columnIndex);
-            String columnLabel = metaData.getColumnLabel(columnIndex);
-            String tableName = sqlParseResult.getTableName();
-            
-            log.debug("🔓 복호화 확인: tableName={}, columnName={}, columnLabel={}, columnIndex={}", 
-                     tableName, columnName, columnLabel, columnIndex);
-            
-            if (columnName != null && tableName != null) {
-                // 컬럼명에서 테이블 별칭 제거 (u1_0.email -> email)
-                if (columnName.contains(".")) {
-                    columnName = columnName.substring(columnName.lastIndexOf('.') + 1);
-                }
-                
-                // Hibernate alias 매핑 확인 (email3_0_ → email)
-                // columnLabel이 alias인 경우 원본 컬럼명으로 변환
-                String originalColumnName = sqlParseResult.getOriginalColumnName(columnLabel);
-                if (!originalColumnName.equals(columnLabel)) {
-                    log.debug("🔓 alias 변환: {} → {}", columnLabel, originalColumnName);
-                    columnName = originalColumnName;
-                } else if (!columnName.equalsIgnoreCase(columnLabel)) {
-                    // columnName과 columnLabel이 다르면 alias일 수 있음
-                    // 추가로 columnName 기반으로도 매핑 시도
-                    String mappedName = sqlParseResult.getOriginalColumnName(columnName);
-                    if (!mappedName.equals(columnName)) {
-                        log.debug("🔓 alias 변환 (columnName): {} → {}", columnName, mappedName);
-                        columnName = mappedName;
-                    }
-                }
-                
-                // PolicyResolver에서 정책 확인 (메모리 캐시에서 조회)
-                PolicyResolver policyResolver = proxyConnection.getPolicyResolver();
-                String policyName = policyResolver.resolvePolicy(tableName, columnName);
-                
-                log.trace("🔓 정책 확인: {}.{} → {}", tableName, columnName, policyName);
-                
-                if (policyName != null) {
-                    // 복호화 대상: Hub를 통해 복호화
-                    HubCryptoAdapter adapter = proxyConnection.getHubCryptoAdapter();
-                    if (adapter != null) {
-                        // HubCryptoAdapter에서 에러 처리 및 로그 출력 담당
-                        String decrypted = adapter.decrypt(value);
-                        // decrypted는 null이거나 원본 데이터 (HubCryptoAdapter에서 처리)
-                        if (decrypted != null) {
-                            log.info("🔓 복호화 완료: {}.{} → {} (정책: {})", tableName, columnName, 
-                                     decrypted.length() > 20 ? decrypted.substring(0, 20) + "..." : decrypted, 
-                                     policyName);
-                            return decrypted;
-                        }
-                        // value가 null인 경우 원본 반환
-                    } else {
-                        log.warn("⚠️ Hub 어댑터가 초기화되지 않았습니다: {}.{} (정책: {}), 원본 데이터 반환", 
-                                tableName, columnName, policyName);
-                    }
-                } else {
-                    log.trace("🔓 복호화 대상 아님: {}.{}", tableName, columnName);
-                }
-            } else {
-                    log.warn("⚠️ 테이블명 또는 컬럼명 없음: 복호화 대상 확인 불가, tableName={}, columnName={}", tableName, columnName);
-                }
-            } catch (SQLException e) {
-                log.warn("⚠️ 컬럼 메타데이터 조회 실패, 원본 데이터 반환: {}", e.getMessage());
-            }
-            
-            log.trace("🔓 getString 호출: columnIndex={}", columnIndex);
-        return value;
+        return decryptIfNeeded(columnIndex, actualResultSet.getString(columnIndex));
     }
     
     @Override
     public String getString(String columnLabel) throws SQLException {
+        if (window != null) {
+            return getString(findColumn(columnLabel));
+        }
         String value = actualResultSet.getString(columnLabel);
-        log.info("🔓 getString(String) 호출: columnLabel={}, valueLength={}", 
-                 columnLabel, value != null ? value.length() : 0);
-        
-        if (value != null && sqlParseResult != null) {
-            try {
-                String tableName = sqlParseResult.getTableName();
-                
-                // Hibernate alias 매핑: email3_0_ → email
-                String originalColumnName = sqlParseResult.getOriginalColumnName(columnLabel);
-                String columnName = (originalColumnName != null && !originalColumnName.equals(columnLabel)) 
-                    ? originalColumnName : columnLabel;
-                
-                if (!columnName.equals(columnLabel)) {
-                    log.debug("🔓 alias 변환: {} → {}", columnLabel, columnName);
-                }
-                
-                if (tableName == null) {
-                    log.warn("⚠️ 테이블명 없음: 복호화 대상 확인 불가, columnLabel={}", columnLabel);
-                } else {
-                    // PolicyResolver에서 정책 확인 (메모리 캐시에서 조회)
-                    PolicyResolver policyResolver = proxyConnection.getPolicyResolver();
-                    String policyName = policyResolver.resolvePolicy(tableName, columnName);
-                    
-                    if (policyName != null) {
-                        // 복호화 대상: Hub를 통해 복호화
-                        HubCryptoAdapter adapter = proxyConnection.getHubCryptoAdapter();
-                        if (adapter != null) {
-                            // HubCryptoAdapter에서 에러 처리 및 로그 출력 담당
-                            String decrypted = adapter.decrypt(value);
-                            // decrypted는 null이거나 원본 데이터 (HubCryptoAdapter에서 처리)
-                            if (decrypted != null) {
-                                log.debug("🔓 복호화 완료: {}.{} → {} (정책: {})", tableName, columnName, 
-                                         decrypted.length() > 20 ? decrypted.substring(0, 20) + "..." : decrypted, 
-                                         policyName);
-                                return decrypted;
-                            }
-                            // value가 null인 경우 원본 반환
-                        } else {
-                            log.warn("⚠️ Hub 어댑터가 초기화되지 않았습니다: {}.{} (정책: {}), 원본 데이터 반환", 
-                                    tableName, columnName, policyName);
-                        }
-                    } else {
-                        log.trace("🔓 복호화 대상 아님: {}.{}", tableName, columnName);
-                    }
-                }
-            } catch (Exception e) {
-                // 복호화 처리 중 오류 발생 시 경고 레벨로 간략하게 출력하고 평문 반환
-                String errorMsg = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
-                log.warn("⚠️ 복호화 처리 중 오류, 평문 반환: {}", errorMsg);
-            }
-        } else if (value != null && sqlParseResult == null) {
-            log.warn("⚠️ SQL 파싱 결과 없음: 복호화 대상 확인 불가, columnLabel={}", columnLabel);
+        try {
+            return decryptStringByLabel(columnLabel, value);
+        } catch (Exception e) {
+            // 복호화 처리 중 오류 발생 시 경고 레벨로 간략하게 출력하고 평문 반환
+            String errorMsg = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            log.warn("⚠️ 복호화 처리 중 오류, 평문 반환: {}", errorMsg);
+            return value;
         }
-        
-        log.trace("🔓 getString 호출: columnLabel={}", columnLabel);
-        return value;
     }
     
     @Override
     public boolean getBoolean(int columnIndex) throws SQLException {
+        if (window != null) {
+            return window.getBoolean(columnIndex);
+        }
         return actualResultSet.getBoolean(columnIndex);
     }
     
     @Override
     public byte getByte(int columnIndex) throws SQLException {
+        if (window != null) {
+            return window.getByte(columnIndex);
+        }
         return actualResultSet.getByte(columnIndex);
     }
     
     @Override
     public short getShort(int columnIndex) throws SQLException {
+        if (window != null) {
+            return window.getShort(columnIndex);
+        }
         return actualResultSet.getShort(columnIndex);
     }
     
     @Override
     public int getInt(int columnIndex) throws SQLException {
+        if (window != null) {
+            return window.getInt(columnIndex);
+        }
         return actualResultSet.getInt(columnIndex);
     }
     
     @Override
     public long getLong(int columnIndex) throws SQLException {
+        if (window != null) {
+            return window.getLong(columnIndex);
+        }
         return actualResultSet.getLong(columnIndex);
     }
     
     @Override
     public float getFloat(int columnIndex) throws SQLException {
+        if (window != null) {
+            return (float) window.getDouble(columnIndex);
+        }
         return actualResultSet.getFloat(columnIndex);
     }
     
     @Override
     public double getDouble(int columnIndex) throws SQLException {
+        if (window != null) {
+            return window.getDouble(columnIndex);
+        }
         return actualResultSet.getDouble(columnIndex);
     }
     
     @Override
     public BigDecimal getBigDecimal(int columnIndex, int scale) throws SQLException {
+        if (window != null) {
+            return window.getBigDecimal(columnIndex, scale);
+        }
         return actualResultSet.getBigDecimal(columnIndex, scale);
     }
     
     @Override
     public byte[] getBytes(int columnIndex) throws SQLException {
+        if (window != null) {
+            return window.getBytes(columnIndex);
+        }
         return actualResultSet.getBytes(columnIndex);
     }
     
     @Override
     public Date getDate(int columnIndex) throws SQLException {
+        if (window != null) {
+            return window.getDate(columnIndex, null);
+        }
         return actualResultSet.getDate(columnIndex);
     }
     
     @Override
     public Time getTime(int columnIndex) throws SQLException {
+        if (window != null) {
+            return window.getTime(columnIndex, null);
+        }
         return actualResultSet.getTime(columnIndex);
     }
     
     @Override
     public Timestamp getTimestamp(int columnIndex) throws SQLException {
+        if (window != null) {
+            return window.getTimestamp(columnIndex, null);
+        }
         return actualResultSet.getTimestamp(columnIndex);
     }
     
     @Override
     public InputStream getAsciiStream(int columnIndex) throws SQLException {
+        if (window != null) {
+            return window.getAsciiStream(columnIndex);
+        }
+        if (protectedPolicy(columnIndex) != null) {
+            String value = decryptIfNeeded(columnIndex, actualResultSet.getString(columnIndex));
+            return value != null ? new ByteArrayInputStream(value.getBytes(StandardCharsets.US_ASCII)) : null;
+        }
         return actualResultSet.getAsciiStream(columnIndex);
     }
     
     @Override
     @Deprecated
     public InputStream getUnicodeStream(int columnIndex) throws SQLException {
+        if (window != null) {
+            return window.getUnicodeStream(columnIndex);
+        }
         return actualResultSet.getUnicodeStream(columnIndex);
     }
     
     @Override
     public InputStream getBinaryStream(int columnIndex) throws SQLException {
+        if (window != null) {
+            return window.getBinaryStream(columnIndex);
+        }
         return actualResultSet.getBinaryStream(columnIndex);
     }
     
     @Override
     public boolean getBoolean(String columnLabel) throws SQLException {
+        if (window != null) {
+            return window.getBoolean(findColumn(columnLabel));
+        }
         return actualResultSet.getBoolean(columnLabel);
     }
     
     @Override
     public byte getByte(String columnLabel) throws SQLException {
+        if (window != null) {
+            return window.getByte(findColumn(columnLabel));
+        }
         return actualResultSet.getByte(columnLabel);
     }
     
     @Override
     public short getShort(String columnLabel) throws SQLException {
+        if (window != null) {
+            return window.getShort(findColumn(columnLabel));
+        }
         return actualResultSet.getShort(columnLabel);
     }
     
     @Override
     public int getInt(String columnLabel) throws SQLException {
+        if (window != null) {
+            return window.getInt(findColumn(columnLabel));
+        }
         return actualResultSet.getInt(columnLabel);
     }
     
     @Override
     public long getLong(String columnLabel) throws SQLException {
+        if (window != null) {
+            return window.getLong(findColumn(columnLabel));
+        }
         return actualResultSet.getLong(columnLabel);
     }
     
     @Override
     public float getFloat(String columnLabel) throws SQLException {
+        if (window != null) {
+            return (float) window.getDouble(findColumn(columnLabel));
+        }
         return actualResultSet.getFloat(columnLabel);
     }
     
     @Override
     public double getDouble(String columnLabel) throws SQLException {
+        if (window != null) {
+            return window.getDouble(findColumn(columnLabel));
+        }
         return actualResultSet.getDouble(columnLabel);
     }
     
     @Override
     public BigDecimal getBigDecimal(String columnLabel, int scale) throws SQLException {
+        if (window != null) {
+            return window.getBigDecimal(findColumn(columnLabel), scale);
+        }
         return actualResultSet.getBigDecimal(columnLabel, scale);
     }
     
     @Override
     public byte[] getBytes(String columnLabel) throws SQLException {
+        if (window != null) {
+            return window.getBytes(findColumn(columnLabel));
+        }
         return actualResultSet.getBytes(columnLabel);
     }
     
     @Override
     public Date getDate(String columnLabel) throws SQLException {
+        if (window != null) {
+            return window.getDate(findColumn(columnLabel), null);
+        }
         return actualResultSet.getDate(columnLabel);
     }
     
     @Override
     public Time getTime(String columnLabel) throws SQLException {
+        if (window != null) {
+            return window.getTime(findColumn(columnLabel), null);
+        }
         return actualResultSet.getTime(columnLabel);
     }
     
     @Override
     public Timestamp getTimestamp(String columnLabel) throws SQLException {
+        if (window != null) {
+            return window.getTimestamp(findColumn(columnLabel), null);
+        }
         return actualResultSet.getTimestamp(columnLabel);
     }
     
     @Override
     public InputStream getAsciiStream(String columnLabel) throws SQLException {
-        return actualResultSet.getAsciiStream(columnLabel);
+        if (window != null) {
+            return window.getAsciiStream(findColumn(columnLabel));
+        }
+        return getAsciiStream(findColumn(columnLabel));
     }
     
     @Override
     @Deprecated
     public InputStream getUnicodeStream(String columnLabel) throws SQLException {
+        if (window != null) {
+            return window.getUnicodeStream(findColumn(columnLabel));
+        }
         return actualResultSet.getUnicodeStream(columnLabel);
     }
     
     @Override
     public InputStream getBinaryStream(String columnLabel) throws SQLException {
+        if (window != null) {
+            return window.getBinaryStream(findColumn(columnLabel));
+        }
         return actualResultSet.getBinaryStream(columnLabel);
     }
     
     @Override
     public Object getObject(int columnIndex) throws SQLException {
+        if (window != null) {
+            trace.cell();
+            return window.getObject(columnIndex);
+        }
         Object value = actualResultSet.getObject(columnIndex);
-        log.debug("🔍 getObject(int) 호출: columnIndex={}, type={}", columnIndex, 
-                  value != null ? value.getClass().getSimpleName() : "null");
         
         // String 타입인 경우 복호화 처리
         if (value instanceof String) {
             return decryptIfNeeded(columnIndex, (String) value);
         }
+        // CLOB 컬럼 (드라이버가 Clob으로 반환하는 경우)
+        if (value instanceof Clob && protectedPolicy(columnIndex) != null) {
+            return decryptClob(columnIndex, (Clob) value);
+        }
         return value;
     }
     
     @Override
     public Object getObject(String columnLabel) throws SQLException {
+        if (window != null) {
+            return getObject(findColumn(columnLabel));
+        }
         Object value = actualResultSet.getObject(columnLabel);
-        log.debug("🔍 getObject(String) 호출: columnLabel={}, type={}", columnLabel,
-                  value != null ? value.getClass().getSimpleName() : "null");
         
         // String 타입인 경우 복호화 처리
         if (value instanceof String) {
             return decryptStringByLabel(columnLabel, (String) value);
         }
+        if (value instanceof Clob) {
+            int columnIndex = findColumn(columnLabel);
+            if (protectedPolicy(columnIndex) != null) {
+                return decryptClob(columnIndex, (Clob) value);
+            }
+        }
         return value;
     }
     
@@ -402,33 +517,135 @@ public class DadpProxyResultSet implements ResultSet {
      * 컬럼 인덱스로 복호화 처리
      */
     private String decryptIfNeeded(int columnIndex, String value) throws SQLException {
-        log.debug("🔓 decryptIfNeeded 호출: columnIndex={}, valueLength={}", 
-                  columnIndex, value != null ? value.length() : 0);
-        
-        if (value == null || sqlParseResult == null) {
-            log.debug("🔓 decryptIfNeeded 스킵: value={}, sqlParseResult={}", 
-                      value == null ? "null" : "exists", sqlParseResult == null ? "null" : "exists");
+        trace.cell();
+        if (value == null) {
+            return value;
+        }
+        if (sqlParseResult == null) {
+            if (trace.firstWarning(StatementTrace.WARN_NO_PARSE_RESULT)) {
+                log.warn("⚠️ SQL 파싱 결과 없음: 복호화 대상 확인 불가, columnIndex={}", columnIndex);
+            }
             return value;
         }
         
         try {
-            ResultSetMetaData metaData = actualResultSet.getMetaData();
-            String columnName = metaData.getColumnName(columnIndex);
-            String tableName = sqlParseResult.getTableName();
-            
-            log.debug("🔓 decryptIfNeeded: tableName={}, columnName={}", tableName, columnName);
-            return decryptValue(tableName, columnName, value);
+            // 메타데이터로 구성한 컬럼명 조회 (ResultSet당 한 번)
+            String[] names = columnNames();
+            String columnName = columnIndex > 0 && columnIndex < names.length ? names[columnIndex] : null;
+            return decryptValue(sqlParseResult.getTableName(), columnName, value, columnIndex, null);
         } catch (SQLException e) {
-            log.warn("⚠️ 컬럼 메타데이터 조회 실패, 원본 데이터 반환: {}", e.getMessage());
+            if (trace.firstWarning(StatementTrace.WARN_METADATA)) {
+                log.warn("⚠️ 컬럼 메타데이터 조회 실패, 원본 데이터 반환: {}", e.getMessage());
+            }
             return value;
         }
     }
     
+    /**
+     * 컬럼별 정책 조회용 컬럼명 (첫 호출 시 메타데이터로 구성 후 재사용)
+     */
+    private String[] columnNames() throws SQLException {
+        String[] names = columnNames;
+        if (names == null) {
+            ResultSetMetaData metaData = actualResultSet.getMetaData();
+            names = new String[metaData.getColumnCount() + 1];
+            for (int i = 1; i < names.length; i++) {
+                names[i] = resolveColumnName(metaData, i);
+            }
+            columnNames = names;
+        }
+        return names;
+    }
+    
+    /**
+     * 보호 컬럼 여부 확인 (스트림/Clob을 읽기 전에 판단하여 보호 컬럼이 아니면 그대로 위임)
+     * 
+     * @return 보호 컬럼이면 정책명, 아니거나 확인할 수 없으면 null
+     */
+    private String protectedPolicy(int columnIndex) {
+        if (sqlParseResult == null || sqlParseResult.getTableName() == null) {
+            return null;
+        }
+        try {
+            String[] names = columnNames();
+            if (columnIndex < 1 || columnIndex >= names.length || names[columnIndex] == null) {
+                return null;
+            }
+            return proxyConnection.getPolicyResolver().resolvePolicy(sqlParseResult.getTableName(), names[columnIndex]);
+        } catch (SQLException e) {
+            if (trace.firstWarning(StatementTrace.WARN_METADATA)) {
+                log.warn("⚠️ 컬럼 메타데이터 조회 실패, 원본 데이터 반환: {}", e.getMessage());
+            }
+            return null;
+        }
+    }
+    
+    /**
+     * 보호 컬럼의 문자 스트림 복호화 (암호문 전체가 필요하므로 한 번 읽은 뒤 평문 Reader 반환)
+     */
+    private Reader decryptReader(int columnIndex, Reader reader) throws SQLException {
+        if (reader == null) {
+            trace.cell();
+            return null;
+        }
+        return new StringReader(decryptIfNeeded(columnIndex, CharacterStreams.read(reader, -1)));
+    }
+    
+    /**
+     * 보호 컬럼의 Clob 복호화 (평문을 담은 읽기 전용 Clob 반환, DecryptedClob 참고)
+     */
+    private DecryptedClob decryptClob(int columnIndex, Clob clob) throws SQLException {
+        if (clob == null) {
+            trace.cell();
+            return null;
+        }
+        long length = clob.length();
+        if (length > Integer.MAX_VALUE) {
+            throw new SQLException("Clob이 너무 커서 복호화할 수 없습니다: " + length + "자 (컬럼 " + columnIndex + ")");
+        }
+        return new DecryptedClob(decryptIfNeeded(columnIndex, clob.getSubString(1, (int) length)));
+    }
+    
+    /**
+     * 메타데이터 컬럼명을 정책 조회용 원본 컬럼명으로 변환 (테이블 별칭, Hibernate alias 제거)
+     */
+    private String resolveColumnName(ResultSetMetaData metaData, int columnIndex) throws SQLException {
+        String columnName = metaData.getColumnName(columnIndex);
+        String columnLabel = metaData.getColumnLabel(columnIndex);
+        if (columnName == null) {
+            return null;
+        }
+        
+        // 컬럼명에서 테이블 별칭 제거 (u1_0.email -> email)
+        if (columnName.contains(".")) {
+            columnName = columnName.substring(columnName.lastIndexOf('.') + 1);
+        }
+        
+        // Hibernate alias 매핑 확인 (email3_0_ → email)
+        // columnLabel이 alias인 경우 원본 컬럼명으로 변환
+        String originalColumnName = sqlParseResult.getOriginalColumnName(columnLabel);
+        if (!originalColumnName.equals(columnLabel)) {
+            columnName = originalColumnName;
+        } else if (!columnName.equalsIgnoreCase(columnLabel)) {
+            // columnName과 columnLabel이 다르면 alias일 수 있음
+            // 추가로 columnName 기반으로도 매핑 시도
+            columnName = sqlParseResult.getOriginalColumnName(columnName);
+        }
+        return columnName;
+    }
+    
     /**
      * 컬럼 레이블로 복호화 처리
      */
     private String decryptStringByLabel(String columnLabel, String value) {
-        if (value == null || sqlParseResult == null) {
+        trace.cell();
+        if (value == null) {
+            return value;
+        }
+        if (sqlParseResult == null) {
+            if (trace.firstWarning(StatementTrace.WARN_NO_PARSE_RESULT)) {
+                log.warn("⚠️ SQL 파싱 결과 없음: 복호화 대상 확인 불가, columnLabel={}", columnLabel);
+            }
             return value;
         }
         
@@ -439,19 +656,21 @@ public class DadpProxyResultSet implements ResultSet {
         String columnName = (originalColumnName != null && !originalColumnName.equals(columnLabel)) 
             ? originalColumnName : columnLabel;
         
-        if (!columnName.equals(columnLabel)) {
-            log.debug("🔓 alias 변환 (byLabel): {} → {}", columnLabel, columnName);
-        }
-        
-        return decryptValue(tableName, columnName, value);
+        return decryptValue(tableName, columnName, value, 0, columnLabel);
     }
     
     /**
      * 실제 복호화 수행
+     * 
+     * 셀 단위 로그는 남기지 않으며 (평문 노출 방지), 결과는 StatementTrace 카운터로 집계합니다.
+     * 
+     * @param columnIndex 메모 슬롯 (모르면 0, 이 경우 columnLabel로 조회)
      */
-    private String decryptValue(String tableName, String columnName, String value) {
+    private String decryptValue(String tableName, String columnName, String value, int columnIndex, String columnLabel) {
         if (tableName == null || columnName == null) {
-            log.debug("🔓 복호화 스킵: tableName={}, columnName={} (null 값)", tableName, columnName);
+            if (trace.firstWarning(StatementTrace.WARN_NO_TABLE)) {
+                log.warn("⚠️ 테이블명 또는 컬럼명 없음: 복호화 대상 확인 불가, tableName={}, columnName={}", tableName, columnName);
+            }
             return value;
         }
         
@@ -460,32 +679,69 @@ public class DadpProxyResultSet implements ResultSet {
             columnName = columnName.substring(columnName.lastIndexOf('.') + 1);
         }
         
-        // PolicyResolver에서 정책 확인
+        // PolicyResolver에서 정책 확인 (메모리 캐시에서 조회)
         PolicyResolver policyResolver = proxyConnection.getPolicyResolver();
-        log.debug("🔍 복호화 정책 조회: {}.{}", tableName, columnName);
         String policyName = policyResolver.resolvePolicy(tableName, columnName);
+        if (policyName == null) {
+            trace.notMapped();
+            return value;
+        }
         
-        if (policyName != null) {
-            log.debug("🔓 복호화 대상: {}.{}, 정책={}", tableName, columnName, policyName);
-            HubCryptoAdapter adapter = proxyConnection.getHubCryptoAdapter();
-            if (adapter != null) {
-                String decrypted = adapter.decrypt(value);
-                if (decrypted != null) {
-                    log.info("🔓 복호화 완료: {}.{} → {} (정책: {})", tableName, columnName, 
-                             decrypted.length() > 20 ? decrypted.substring(0, 20) + "..." : decrypted, 
-                             policyName);
-                    return decrypted;
-                } else {
-                    log.debug("🔓 복호화 결과 null (암호화되지 않은 데이터일 수 있음): {}.{}", tableName, columnName);
-                }
-            } else {
-                log.warn("⚠️ Hub 어댑터가 초기화되지 않았습니다: {}.{}", tableName, columnName);
+        // 복호화 대상: Hub를 통해 복호화
+        HubCryptoAdapter adapter = proxyConnection.getHubCryptoAdapter();
+        if (adapter == null) {
+            trace.unavailable();
+            if (trace.firstWarning(StatementTrace.WARN_NO_ADAPTER)) {
+                log.warn("⚠️ Hub 어댑터가 초기화되지 않았습니다: {}.{} (정책: {}), 원본 데이터 반환", 
+                        tableName, columnName, policyName);
             }
-        } else {
-            log.debug("🔓 복호화 정책 없음: {}.{} (정책 매핑에 등록되지 않음)", tableName, columnName);
+            return value;
         }
         
-        return value;
+        // 같은 행에서 이미 복호화한 값이면 재사용
+        int slot = memoSlot(columnIndex, columnLabel);
+        if (slot > 0 && memoStamps[slot] == rowStamp && value.equals(memoCiphertexts[slot])) {
+            trace.memoized();
+            return memoPlaintexts[slot];
+        }
+        
+        // HubCryptoAdapter에서 에러 처리 및 로그 출력 담당
+        String decrypted = adapter.decrypt(value, policyName);
+        if (trace.isSampled()) {
+            trace.traceCell(log, columnName, policyName, value.length());
+        }
+        String result = decrypted != null ? decrypted : value;
+        if (slot > 0) {
+            memoStamps[slot] = rowStamp;
+            memoCiphertexts[slot] = value;
+            memoPlaintexts[slot] = result;
+        }
+        if (decrypted != null) {
+            trace.decrypted();
+        }
+        return result;
+    }
+    
+    /**
+     * 메모 슬롯 조회 (첫 호출 시 컬럼 수만큼 슬롯 배열 할당)
+     * 
+     * @return 슬롯 (컬럼 인덱스), 확인할 수 없으면 -1
+     */
+    private int memoSlot(int columnIndex, String columnLabel) {
+        try {
+            if (memoStamps == null) {
+                int slots = columnNames().length;
+                memoStamps = new long[slots];
+                memoCiphertexts = new String[slots];
+                memoPlaintexts = new String[slots];
+            }
+            if (columnIndex <= 0) {
+                columnIndex = actualResultSet.findColumn(columnLabel);
+            }
+        } catch (SQLException e) {
+            return -1;
+        }
+        return columnIndex < memoStamps.length ? columnIndex : -1;
     }
     
     @Override
@@ -495,81 +751,123 @@ public class DadpProxyResultSet implements ResultSet {
     
     @Override
     public Reader getCharacterStream(int columnIndex) throws SQLException {
+        if (window != null) {
+            return window.getCharacterStream(columnIndex);
+        }
+        if (protectedPolicy(columnIndex) != null) {
+            return decryptReader(columnIndex, actualResultSet.getCharacterStream(columnIndex));
+        }
         return actualResultSet.getCharacterStream(columnIndex);
     }
     
     @Override
     public Reader getCharacterStream(String columnLabel) throws SQLException {
-        return actualResultSet.getCharacterStream(columnLabel);
+        if (window != null) {
+            return window.getCharacterStream(findColumn(columnLabel));
+        }
+        return getCharacterStream(findColumn(columnLabel));
     }
     
     @Override
     public BigDecimal getBigDecimal(int columnIndex) throws SQLException {
+        if (window != null) {
+            return window.getBigDecimal(columnIndex);
+        }
         return actualResultSet.getBigDecimal(columnIndex);
     }
     
     @Override
     public BigDecimal getBigDecimal(String columnLabel) throws SQLException {
+        if (window != null) {
+            return window.getBigDecimal(findColumn(columnLabel));
+        }
         return actualResultSet.getBigDecimal(columnLabel);
     }
     
     @Override
     public boolean isBeforeFirst() throws SQLException {
+        if (window != null) {
+            // 원본 커서는 윈도우 끝에 있으므로 버퍼 기준 위치 반환
+            return window.isBeforeFirst();
+        }
         return actualResultSet.isBeforeFirst();
     }
     
     @Override
     public boolean isAfterLast() throws SQLException {
+        if (window != null) {
+            // 원본 커서는 윈도우 끝에 있으므로 버퍼 기준 위치 반환
+            return window.isAfterLast();
+        }
         return actualResultSet.isAfterLast();
     }
     
     @Override
     public boolean isFirst() throws SQLException {
+        if (window != null) {
+            // 원본 커서는 윈도우 끝에 있으므로 버퍼 기준 위치 반환
+            return window.isFirst();
+        }
         return actualResultSet.isFirst();
     }
     
     @Override
     public boolean isLast() throws SQLException {
+        if (window != null) {
+            // 원본 커서는 윈도우 끝에 있으므로 버퍼 기준 위치 반환
+            return window.isLast();
+        }
         return actualResultSet.isLast();
     }
     
     @Override
     public void beforeFirst() throws SQLException {
+        rowStamp++;
         actualResultSet.beforeFirst();
     }
     
     @Override
     public void afterLast() throws SQLException {
+        rowStamp++;
         actualResultSet.afterLast();
     }
     
     @Override
     public boolean first() throws SQLException {
+        rowStamp++;
         return actualResultSet.first();
     }
     
     @Override
     public boolean last() throws SQLException {
+        rowStamp++;
         return actualResultSet.last();
     }
     
     @Override
     public int getRow() throws SQLException {
+        if (window != null) {
+            // 원본 커서는 윈도우 끝에 있으므로 버퍼 기준 위치 반환
+            return window.getRow();
+        }
         return actualResultSet.getRow();
     }
     
     @Override
     public boolean absolute(int row) throws SQLException {
+        rowStamp++;
         return actualResultSet.absolute(row);
     }
     
     @Override
     public boolean relative(int rows) throws SQLException {
+        rowStamp++;
         return actualResultSet.relative(rows);
     }
     
     @Override
     public boolean previous() throws SQLException {
+        rowStamp++;
         return actualResultSet.previous();
     }
     
@@ -832,6 +1130,7 @@ public class DadpProxyResultSet implements ResultSet {
     
     @Override
     public void refreshRow() throws SQLException {
+        rowStamp++;
         actualResultSet.refreshRow();
     }
     
@@ -842,11 +1141,13 @@ public class DadpProxyResultSet implements ResultSet {
     
     @Override
     public void moveToInsertRow() throws SQLException {
+        rowStamp++;
         actualResultSet.moveToInsertRow();
     }
     
     @Override
     public void moveToCurrentRow() throws SQLException {
+        rowStamp++;
         actualResultSet.moveToCurrentRow();
     }
     
@@ -857,91 +1158,155 @@ public class DadpProxyResultSet implements ResultSet {
     
     @Override
     public Object getObject(int columnIndex, Map<String, Class<?>> map) throws SQLException {
-        return actualResultSet.getObject(columnIndex, map);
+        if (window != null) {
+            return window.getObject(columnIndex);
+        }
+        Object value = actualResultSet.getObject(columnIndex, map);
+        if (value instanceof String) {
+            return decryptIfNeeded(columnIndex, (String) value);
+        }
+        if (value instanceof Clob && protectedPolicy(columnIndex) != null) {
+            return decryptClob(columnIndex, (Clob) value);
+        }
+        return value;
     }
     
     @Override
     public Ref getRef(int columnIndex) throws SQLException {
+        if (window != null) {
+            return window.getObject(columnIndex, Ref.class);
+        }
         return actualResultSet.getRef(columnIndex);
     }
     
     @Override
     public Blob getBlob(int columnIndex) throws SQLException {
+        if (window != null) {
+            return window.getObject(columnIndex, Blob.class);
+        }
         return actualResultSet.getBlob(columnIndex);
     }
     
     @Override
     public Clob getClob(int columnIndex) throws SQLException {
+        if (window != null) {
+            return window.getObject(columnIndex, Clob.class);
+        }
+        if (protectedPolicy(columnIndex) != null) {
+            return decryptClob(columnIndex, actualResultSet.getClob(columnIndex));
+        }
         return actualResultSet.getClob(columnIndex);
     }
     
     @Override
     public Array getArray(int columnIndex) throws SQLException {
+        if (window != null) {
+            return window.getObject(columnIndex, Array.class);
+        }
         return actualResultSet.getArray(columnIndex);
     }
     
     @Override
     public Object getObject(String columnLabel, Map<String, Class<?>> map) throws SQLException {
-        return actualResultSet.getObject(columnLabel, map);
+        if (window != null) {
+            return window.getObject(findColumn(columnLabel));
+        }
+        return getObject(findColumn(columnLabel), map);
     }
     
     @Override
     public Ref getRef(String columnLabel) throws SQLException {
+        if (window != null) {
+            return window.getObject(findColumn(columnLabel), Ref.class);
+        }
         return actualResultSet.getRef(columnLabel);
     }
     
     @Override
     public Blob getBlob(String columnLabel) throws SQLException {
+        if (window != null) {
+            return window.getObject(findColumn(columnLabel), Blob.class);
+        }
         return actualResultSet.getBlob(columnLabel);
     }
     
     @Override
     public Clob getClob(String columnLabel) throws SQLException {
-        return actualResultSet.getClob(columnLabel);
+        if (window != null) {
+            return window.getObject(findColumn(columnLabel), Clob.class);
+        }
+        return getClob(findColumn(columnLabel));
     }
     
     @Override
     public Array getArray(String columnLabel) throws SQLException {
+        if (window != null) {
+            return window.getObject(findColumn(columnLabel), Array.class);
+        }
         return actualResultSet.getArray(columnLabel);
     }
     
     @Override
     public Date getDate(int columnIndex, Calendar cal) throws SQLException {
+        if (window != null) {
+            return window.getDate(columnIndex, cal);
+        }
         return actualResultSet.getDate(columnIndex, cal);
     }
     
     @Override
     public Date getDate(String columnLabel, Calendar cal) throws SQLException {
+        if (window != null) {
+            return window.getDate(findColumn(columnLabel), cal);
+        }
         return actualResultSet.getDate(columnLabel, cal);
     }
     
     @Override
     public Time getTime(int columnIndex, Calendar cal) throws SQLException {
+        if (window != null) {
+            return window.getTime(columnIndex, cal);
+        }
         return actualResultSet.getTime(columnIndex, cal);
     }
     
     @Override
     public Time getTime(String columnLabel, Calendar cal) throws SQLException {
+        if (window != null) {
+            return window.getTime(findColumn(columnLabel), cal);
+        }
         return actualResultSet.getTime(columnLabel, cal);
     }
     
     @Override
     public Timestamp getTimestamp(int columnIndex, Calendar cal) throws SQLException {
+        if (window != null) {
+            return window.getTimestamp(columnIndex, cal);
+        }
         return actualResultSet.getTimestamp(columnIndex, cal);
     }
     
     @Override
     public Timestamp getTimestamp(String columnLabel, Calendar cal) throws SQLException {
+        if (window != null) {
+            return window.getTimestamp(findColumn(columnLabel), cal);
+        }
         return actualResultSet.getTimestamp(columnLabel, cal);
     }
     
     @Override
     public URL getURL(int columnIndex) throws SQLException {
+        if (window != null) {
+            return window.getURL(columnIndex);
+        }
         return actualResultSet.getURL(columnIndex);
     }
     
     @Override
     public URL getURL(String columnLabel) throws SQLException {
+        if (window != null) {
+            return window.getURL(findColumn(columnLabel));
+        }
         return actualResultSet.getURL(columnLabel);
     }
     
@@ -987,11 +1352,17 @@ public class DadpProxyResultSet implements ResultSet {
     
     @Override
     public RowId getRowId(int columnIndex) throws SQLException {
+        if (window != null) {
+            return window.getObject(columnIndex, RowId.class);
+        }
         return actualResultSet.getRowId(columnIndex);
     }
     
     @Override
     public RowId getRowId(String columnLabel) throws SQLException {
+        if (window != null) {
+            return window.getObject(findColumn(columnLabel), RowId.class);
+        }
         return actualResultSet.getRowId(columnLabel);
     }
     
@@ -1032,21 +1403,36 @@ public class DadpProxyResultSet implements ResultSet {
     
     @Override
     public NClob getNClob(int columnIndex) throws SQLException {
+        if (window != null) {
+            return window.getObject(columnIndex, NClob.class);
+        }
+        if (protectedPolicy(columnIndex) != null) {
+            return decryptClob(columnIndex, actualResultSet.getNClob(columnIndex));
+        }
         return actualResultSet.getNClob(columnIndex);
     }
     
     @Override
     public NClob getNClob(String columnLabel) throws SQLException {
-        return actualResultSet.getNClob(columnLabel);
+        if (window != null) {
+            return window.getObject(findColumn(columnLabel), NClob.class);
+        }
+        return getNClob(findColumn(columnLabel));
     }
     
     @Override
     public SQLXML getSQLXML(int columnIndex) throws SQLException {
+        if (window != null) {
+            return window.getObject(columnIndex, SQLXML.class);
+        }
         return actualResultSet.getSQLXML(columnIndex);
     }
     
     @Override
     public SQLXML getSQLXML(String columnLabel) throws SQLException {
+        if (window != null) {
+            return window.getObject(findColumn(columnLabel), SQLXML.class);
+        }
         return actualResultSet.getSQLXML(columnLabel);
     }
     
@@ -1062,26 +1448,45 @@ public class DadpProxyResultSet implements ResultSet {
     
     @Override
     public String getNString(int columnIndex) throws SQLException {
-        String value = actualResultSet.getNString(columnIndex);
-        // TODO: 복호화 처리 (getString과 동일)
-        return value;
+        if (window != null) {
+            return getString(columnIndex);
+        }
+        return decryptIfNeeded(columnIndex, actualResultSet.getNString(columnIndex));
     }
     
     @Override
     public String getNString(String columnLabel) throws SQLException {
+        if (window != null) {
+            return getString(findColumn(columnLabel));
+        }
         String value = actualResultSet.getNString(columnLabel);
-        // TODO: 복호화 처리 (getString과 동일)
-        return value;
+        try {
+            return decryptStringByLabel(columnLabel, value);
+        } catch (Exception e) {
+            // 복호화 처리 중 오류 발생 시 경고 레벨로 간략하게 출력하고 평문 반환
+            String errorMsg = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            log.warn("⚠️ 복호화 처리 중 오류, 평문 반환: {}", errorMsg);
+            return value;
+        }
     }
     
     @Override
     public Reader getNCharacterStream(int columnIndex) throws SQLException {
+        if (window != null) {
+            return window.getCharacterStream(columnIndex);
+        }
+        if (protectedPolicy(columnIndex) != null) {
+            return decryptReader(columnIndex, actualResultSet.getNCharacterStream(columnIndex));
+        }
         return actualResultSet.getNCharacterStream(columnIndex);
     }
     
     @Override
     public Reader getNCharacterStream(String columnLabel) throws SQLException {
-        return actualResultSet.getNCharacterStream(columnLabel);
+        if (window != null) {
+            return window.getCharacterStream(findColumn(columnLabel));
+        }
+        return getNCharacterStream(findColumn(columnLabel));
     }
     
     @Override
@@ -1227,24 +1632,42 @@ public class DadpProxyResultSet implements ResultSet {
     @Override
     @SuppressWarnings("unchecked")
     public <T> T getObject(int columnIndex, Class<T> type) throws SQLException {
-        log.info("🔓 getObject(int, Class) 호출: columnIndex={}, type={}", columnIndex, type.getSimpleName());
+        if (window != null) {
+            trace.cell();
+            return window.getObject(columnIndex, type);
+        }
         // String 타입인 경우 복호화 처리
         if (type == String.class) {
             String value = actualResultSet.getString(columnIndex);
             return (T) decryptIfNeeded(columnIndex, value);
         }
+        // 문자 LOB/스트림 타입은 해당 접근자로 복호화
+        if (type == Clob.class) {
+            return (T) getClob(columnIndex);
+        }
+        if (type == NClob.class) {
+            return (T) getNClob(columnIndex);
+        }
+        if (type == Reader.class) {
+            return (T) getCharacterStream(columnIndex);
+        }
         return actualResultSet.getObject(columnIndex, type);
     }
     
     @Override
     @SuppressWarnings("unchecked")
     public <T> T getObject(String columnLabel, Class<T> type) throws SQLException {
-        log.info("🔓 getObject(String, Class) 호출: columnLabel={}, type={}", columnLabel, type.getSimpleName());
+        if (window != null) {
+            return getObject(findColumn(columnLabel), type);
+        }
         // String 타입인 경우 복호화 처리
         if (type == String.class) {
             String value = actualResultSet.getString(columnLabel);
             return (T) decryptStringByLabel(columnLabel, value);
         }
+        if (type == Clob.class || type == NClob.class || type == Reader.class) {
+            return getObject(findColumn(columnLabel), type);
+        }
         return actualResultSet.getObject(columnLabel, type);
     }
     
@@ -0,0 +1,172 @@
+package com.dadp.jdbc;
+
+import com.dadp.jdbc.config.ProxyConfig;
+import com.dadp.jdbc.crypto.BlindIndex;
+import com.dadp.jdbc.crypto.CiphertextSizeModel;
+import com.dadp.jdbc.crypto.HubCryptoAdapter;
+import com.dadp.jdbc.mapping.MappingSyncService;
+import com.dadp.jdbc.metrics.DadpMetrics;
+import com.dadp.jdbc.notification.HubNotificationService;
+import com.dadp.jdbc.policy.PolicyResolver;
+import com.dadp.jdbc.schema.ColumnSizeRegistry;
+import com.dadp.jdbc.schema.SchemaSyncService;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * DADP Proxy 공유 런타임
+ * 
+ * Proxy 설정과 Hub 연동 서비스(암복호화 어댑터, 알림, 스키마/매핑 동기화, PolicyResolver, 지표)를 묶은 객체입니다.
+ * 설정 파싱과 서비스 생성을 한 번만 수행하고 여러 DadpProxyConnection이 공유하므로,
+ * DadpDataSource처럼 Connection을 자주 만드는 진입점에서 Connection 생성 비용을 줄입니다.
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+public final class DadpProxyRuntime {
+    
+    private static final Logger log = LoggerFactory.getLogger(DadpProxyRuntime.class);
+    
+    // Hub URL + Proxy Instance별 PolicyResolver (매핑 로드/폴링이 같은 키로 한 번만 실행되므로 런타임 간 공유)
+    private static final ConcurrentHashMap<String, PolicyResolver> policyResolvers = new ConcurrentHashMap<>();
+    
+    private final ProxyConfig config;
+    private final String mappingKey;
+    private final DadpMetrics metrics;
+    private final HubNotificationService notificationService;
+    private final SchemaSyncService schemaSyncService;
+    private final PolicyResolver policyResolver;
+    private final MappingSyncService mappingSyncService;
+    private final ColumnSizeRegistry columnSizes;
+    private final CiphertextSizeModel ciphertextSizes;
+    private final StatementPlanCache statementPlans;
+    private final BlindIndex blindIndex;
+    private volatile HubCryptoAdapter hubCryptoAdapter;
+    
+    /**
+     * @param urlParams Proxy 설정 파라미터 (hubUrl, instanceId 등, null이면 싱글톤 설정 사용)
+     * @throws RuntimeException Fail-closed 모드에서 Hub 암복호화 어댑터 초기화 실패
+     */
+    public DadpProxyRuntime(Map<String, String> urlParams) {
+        // JDBC URL 파라미터가 있으면 사용, 없으면 싱글톤 인스턴스 사용
+        this(urlParams != null ? new ProxyConfig(urlParams) : ProxyConfig.getInstance());
+    }
+    
+    public DadpProxyRuntime(ProxyConfig config) {
+        this.config = config;
+        
+        // instanceId별 지표 (JMX 등록)
+        this.metrics = DadpMetrics.forInstance(config.getInstanceId());
+        
+        // Hub 알림 서비스 초기화 (HttpClientAdapter 기반, Hub URL별 전송기 공유)
+        this.notificationService = new HubNotificationService(config.getHubUrl(), config.getInstanceId());
+        
+        // Hub 암복호화 어댑터 초기화 (지연 초기화 또는 Fail-open 모드)
+        try {
+            this.hubCryptoAdapter = createHubCryptoAdapter();
+            log.info("✅ Hub 암복호화 어댑터 초기화 완료: hubUrl={}, failOpen={}", config.getHubUrl(), config.isFailOpen());
+        } catch (Exception e) {
+            log.error("❌ Hub 암복호화 어댑터 초기화 실패: {}", e.getMessage());
+            if (config.isFailOpen()) {
+                // Fail-open 모드: 어댑터를 null로 두고 나중에 재시도
+                log.warn("⚠️ Fail-open 모드: Hub 연결 실패해도 계속 진행. 암복호화는 나중에 재시도됩니다.");
+                this.hubCryptoAdapter = null;
+            } else {
+                // Fail-closed 모드: 예외 발생
+                throw new RuntimeException("Hub 연결 실패 (Fail-closed 모드)", e);
+            }
+        }
+        
+        // 스키마 동기화 서비스 초기화
+        this.schemaSyncService = new SchemaSyncService(config.getHubUrl(), config.getInstanceId());
+        
+        // PolicyResolver 조회 (Hub URL + instanceId별 공유: 첫 Connection이 시작한 매핑 로드/폴링 결과를 모든 Connection이 사용,
+        // instanceId가 같아도 Hub가 다르면 다른 Hub의 매핑과 섞이지 않도록 분리)
+        this.mappingKey = config.getHubUrl() + "|" + config.getInstanceId();
+        this.policyResolver = policyResolvers.computeIfAbsent(mappingKey, key -> new PolicyResolver(metrics));
+        
+        // 매핑 동기화 서비스 초기화
+        this.mappingSyncService = new MappingSyncService(config.getHubUrl(), config.getInstanceId(), policyResolver);
+        
+        // 암호문 크기 사전 검사용 (컬럼 크기는 스키마 동기화 시 수집)
+        this.columnSizes = ColumnSizeRegistry.forInstance(config.getInstanceId());
+        this.ciphertextSizes = CiphertextSizeModel.forInstance(config.getInstanceId());
+        
+        // 암호화 컬럼 동등 검색용 블라인드 인덱스 (설정한 경우에만)
+        this.blindIndex = BlindIndex.create(config);
+        
+        // SQL별 실행 계획 (재작성 결과가 들어 있으므로 매핑 공유 키와 블라인드 인덱스 설정별 공유)
+        this.statementPlans = StatementPlanCache.forRuntime(mappingKey, blindIndex);
+    }
+    
+    private HubCryptoAdapter createHubCryptoAdapter() {
+        return new HubCryptoAdapter(config.getHubUrl(), config.isFailOpen(), notificationService,
+                config.getCryptoTransport(), metrics);
+    }
+    
+    public HubCryptoAdapter getHubCryptoAdapter() {
+        // 지연 초기화: 아직 초기화되지 않았으면 재시도
+        if (hubCryptoAdapter == null && config.isFailOpen()) {
+            try {
+                this.hubCryptoAdapter = createHubCryptoAdapter();
+                log.info("✅ Hub 암복호화 어댑터 지연 초기화 완료: hubUrl={}", config.getHubUrl());
+            } catch (Exception e) {
+                log.warn("⚠️ Hub 암복호화 어댑터 지연 초기화 실패 (무시): {}", e.getMessage());
+            }
+        }
+        return hubCryptoAdapter;
+    }
+    
+    public ProxyConfig getConfig() {
+        return config;
+    }
+    
+    /**
+     * 매핑 공유 키 (Hub URL|instanceId, PolicyResolver 공유와 매핑 로드/폴링 중복 방지 기준)
+     */
+    public String getMappingKey() {
+        return mappingKey;
+    }
+    
+    public DadpMetrics getMetrics() {
+        return metrics;
+    }
+    
+    public HubNotificationService getNotificationService() {
+        return notificationService;
+    }
+    
+    public SchemaSyncService getSchemaSyncService() {
+        return schemaSyncService;
+    }
+    
+    public PolicyResolver getPolicyResolver() {
+        return policyResolver;
+    }
+    
+    public MappingSyncService getMappingSyncService() {
+        return mappingSyncService;
+    }
+    
+    public ColumnSizeRegistry getColumnSizes() {
+        return columnSizes;
+    }
+    
+    public CiphertextSizeModel getCiphertextSizes() {
+        return ciphertextSizes;
+    }
+    
+    StatementPlanCache getStatementPlans() {
+        return statementPlans;
+    }
+    
+    /**
+     * 블라인드 인덱스 (설정하지 않았으면 null)
+     */
+    public BlindIndex getBlindIndex() {
+        return blindIndex;
+    }
+}
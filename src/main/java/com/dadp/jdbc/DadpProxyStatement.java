@@ -23,6 +23,7 @@ public class DadpProxyStatement implements Statement {
     public DadpProxyStatement(Statement actualStatement, DadpProxyConnection proxyConnection) {
         this.actualStatement = actualStatement;
         this.proxyConnection = proxyConnection;
+        proxyConnection.getMetrics().recordWrappedStatement();
         log.trace("🔍 DADP Proxy Statement 생성");
     }
     
@@ -0,0 +1,133 @@
+package com.dadp.jdbc;
+
+import java.io.PrintWriter;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.logging.Logger;
+import javax.sql.CommonDataSource;
+import javax.sql.ConnectionPoolDataSource;
+import javax.sql.PooledConnection;
+import javax.sql.XAConnection;
+import javax.sql.XADataSource;
+
+/**
+ * DADP ConnectionPoolDataSource / XADataSource
+ * 
+ * 애플리케이션 서버나 트랜잭션 관리자(Atomikos, Narayana 등)가 물리 커넥션을 직접 관리하는 환경용입니다.
+ * 위임 ConnectionPoolDataSource 또는 XADataSource(예: MysqlXADataSource, PGXADataSource)의
+ * PooledConnection/XAConnection을 감싸서, 논리 Connection을 DadpProxyConnection으로 제공합니다.
+ * 설정 프로퍼티와 공유 런타임은 DadpDataSource와 같습니다 (AbstractDadpDataSource 참고).
+ * 
+ * - getXAConnection: 위임 객체가 XADataSource여야 합니다.
+ * - getPooledConnection: 위임 객체가 ConnectionPoolDataSource이면 그대로, XADataSource이면 XAConnection을 사용합니다.
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+public class DadpXADataSource extends AbstractDadpDataSource implements ConnectionPoolDataSource, XADataSource {
+    
+    private volatile CommonDataSource dataSource;
+    
+    public DadpXADataSource() {
+    }
+    
+    /**
+     * @param dataSource 위임 ConnectionPoolDataSource 또는 XADataSource
+     */
+    public DadpXADataSource(CommonDataSource dataSource) {
+        setDataSource(dataSource);
+    }
+    
+    public CommonDataSource getDataSource() {
+        return dataSource;
+    }
+    
+    public void setDataSource(CommonDataSource dataSource) {
+        if (dataSource != null && !(dataSource instanceof ConnectionPoolDataSource)
+                && !(dataSource instanceof XADataSource)) {
+            throw new IllegalArgumentException("ConnectionPoolDataSource 또는 XADataSource가 필요합니다: "
+                    + dataSource.getClass().getName());
+        }
+        this.dataSource = dataSource;
+    }
+    
+    private CommonDataSource delegate() throws SQLException {
+        CommonDataSource current = dataSource;
+        if (current == null) {
+            throw new SQLException("위임 DataSource가 설정되지 않았습니다 (setDataSource 필요)");
+        }
+        return current;
+    }
+    
+    @Override
+    public XAConnection getXAConnection() throws SQLException {
+        CommonDataSource delegate = delegate();
+        if (!(delegate instanceof XADataSource)) {
+            throw new SQLFeatureNotSupportedException("위임 DataSource가 XADataSource가 아닙니다: "
+                    + delegate.getClass().getName());
+        }
+        return wrap(((XADataSource) delegate).getXAConnection(), delegate);
+    }
+    
+    @Override
+    public XAConnection getXAConnection(String user, String password) throws SQLException {
+        CommonDataSource delegate = delegate();
+        if (!(delegate instanceof XADataSource)) {
+            throw new SQLFeatureNotSupportedException("위임 DataSource가 XADataSource가 아닙니다: "
+                    + delegate.getClass().getName());
+        }
+        return wrap(((XADataSource) delegate).getXAConnection(user, password), delegate);
+    }
+    
+    @Override
+    public PooledConnection getPooledConnection() throws SQLException {
+        CommonDataSource delegate = delegate();
+        if (delegate instanceof ConnectionPoolDataSource) {
+            return wrap(((ConnectionPoolDataSource) delegate).getPooledConnection(), delegate);
+        }
+        return wrap(((XADataSource) delegate).getXAConnection(), delegate);
+    }
+    
+    @Override
+    public PooledConnection getPooledConnection(String user, String password) throws SQLException {
+        CommonDataSource delegate = delegate();
+        if (delegate instanceof ConnectionPoolDataSource) {
+            return wrap(((ConnectionPoolDataSource) delegate).getPooledConnection(user, password), delegate);
+        }
+        return wrap(((XADataSource) delegate).getXAConnection(user, password), delegate);
+    }
+    
+    private DadpPooledConnection wrap(PooledConnection pooledConnection, CommonDataSource delegate) {
+        return new DadpPooledConnection(pooledConnection, describe(delegate), getRuntime());
+    }
+    
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return delegate().getLogWriter();
+    }
+    
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        delegate().setLogWriter(out);
+    }
+    
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        delegate().setLoginTimeout(seconds);
+    }
+    
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return delegate().getLoginTimeout();
+    }
+    
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        CommonDataSource current = dataSource;
+        if (current == null) {
+            throw new SQLFeatureNotSupportedException("getParentLogger not supported");
+        }
+        return current.getParentLogger();
+    }
+}
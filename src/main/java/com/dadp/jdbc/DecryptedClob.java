@@ -0,0 +1,118 @@
+package com.dadp.jdbc;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Clob;
+import java.sql.NClob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+
+/**
+ * 복호화된 Clob/NClob
+ * 
+ * 보호 컬럼의 CLOB 값을 복호화한 평문을 메모리에 보관하는 읽기 전용 Clob입니다 (DadpProxyResultSet 참고).
+ * 드라이버의 LOB 위치자와 달리 DB 값과 연결되어 있지 않으므로 수정 메서드는 지원하지 않습니다
+ * (평문이 그대로 DB에 기록되는 것을 방지).
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+final class DecryptedClob implements NClob {
+    
+    private String value;
+    
+    DecryptedClob(String value) {
+        this.value = value;
+    }
+    
+    private String value() throws SQLException {
+        String current = value;
+        if (current == null) {
+            throw new SQLException("이미 해제된 Clob입니다 (free() 호출 후 사용)");
+        }
+        return current;
+    }
+    
+    @Override
+    public long length() throws SQLException {
+        return value().length();
+    }
+    
+    @Override
+    public String getSubString(long pos, int length) throws SQLException {
+        String current = value();
+        if (pos < 1 || pos > current.length() + 1L || length < 0) {
+            throw new SQLException("Clob 범위 오류: pos=" + pos + ", length=" + length);
+        }
+        int start = (int) pos - 1;
+        return current.substring(start, Math.min(current.length(), start + length));
+    }
+    
+    @Override
+    public Reader getCharacterStream() throws SQLException {
+        return new StringReader(value());
+    }
+    
+    @Override
+    public Reader getCharacterStream(long pos, long length) throws SQLException {
+        if (length > Integer.MAX_VALUE) {
+            throw new SQLException("Clob 범위 오류: length=" + length);
+        }
+        return new StringReader(getSubString(pos, (int) length));
+    }
+    
+    @Override
+    public InputStream getAsciiStream() throws SQLException {
+        return new ByteArrayInputStream(value().getBytes(StandardCharsets.US_ASCII));
+    }
+    
+    @Override
+    public long position(String searchstr, long start) throws SQLException {
+        if (start < 1) {
+            throw new SQLException("Clob 범위 오류: start=" + start);
+        }
+        int index = value().indexOf(searchstr, (int) Math.min(start - 1, Integer.MAX_VALUE));
+        return index < 0 ? -1 : index + 1;
+    }
+    
+    @Override
+    public long position(Clob searchstr, long start) throws SQLException {
+        return position(searchstr.getSubString(1, (int) searchstr.length()), start);
+    }
+    
+    @Override
+    public int setString(long pos, String str) throws SQLException {
+        throw new SQLFeatureNotSupportedException("복호화된 Clob은 수정할 수 없습니다");
+    }
+    
+    @Override
+    public int setString(long pos, String str, int offset, int len) throws SQLException {
+        throw new SQLFeatureNotSupportedException("복호화된 Clob은 수정할 수 없습니다");
+    }
+    
+    @Override
+    public OutputStream setAsciiStream(long pos) throws SQLException {
+        throw new SQLFeatureNotSupportedException("복호화된 Clob은 수정할 수 없습니다");
+    }
+    
+    @Override
+    public Writer setCharacterStream(long pos) throws SQLException {
+        throw new SQLFeatureNotSupportedException("복호화된 Clob은 수정할 수 없습니다");
+    }
+    
+    @Override
+    public void truncate(long len) throws SQLException {
+        throw new SQLFeatureNotSupportedException("복호화된 Clob은 수정할 수 없습니다");
+    }
+    
+    @Override
+    public void free() {
+        value = null;
+    }
+}
@@ -0,0 +1,586 @@
+package com.dadp.jdbc;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.Calendar;
+
+/**
+ * ResultSet 복호화 윈도우
+ * 
+ * 원본 ResultSet에서 여러 행을 미리 읽어 두고, 보호 컬럼 값을 한 번에 복호화할 수 있도록
+ * 행 버퍼를 제공합니다 (DadpProxyResultSet이 dadp.proxy.decrypt-window-rows 설정 시 사용).
+ * 원본 커서는 윈도우 끝까지 이동해 있으므로 값 조회는 모두 버퍼에서 처리하며,
+ * 타입 변환은 버퍼에 담긴 Java 객체 기준으로 수행합니다.
+ * 문자 타입이 아닌 컬럼(TIMESTAMP, DECIMAL, BINARY 등)은 getString 결과가 Driver마다 다르므로
+ * 읽을 때 Driver의 getString 결과도 함께 저장해 두고 그대로 반환합니다.
+ * 
+ * LOB/ARRAY/REF 등 커서 이동 후 유효하지 않을 수 있는 타입이 있으면 윈도우를 만들지 않습니다 (create 참고).
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+final class ResultSetWindow {
+    
+    private final ResultSet rs;
+    private final int[] columnTypes;   // 0번 미사용 (JDBC 컬럼 인덱스는 1부터)
+    private final String[] policyNames; // 컬럼별 정책명 (보호 컬럼이 아니면 null)
+    private final Object[][] rows;
+    private final String[][] texts;     // 문자 타입이 아닌 컬럼의 Driver getString 결과 (문자 컬럼은 null)
+    
+    private int count;          // 버퍼에 있는 행 수
+    private int position = -1;  // 현재 행 (버퍼 기준)
+    private long rowsBefore;    // 이전 윈도우까지 읽은 행 수
+    private boolean exhausted;  // 원본 ResultSet 끝 도달
+    private boolean wasNull;
+    
+    private ResultSetWindow(ResultSet rs, int[] columnTypes, String[] policyNames, int windowRows) {
+        this.rs = rs;
+        this.columnTypes = columnTypes;
+        this.policyNames = policyNames;
+        this.rows = new Object[windowRows][];
+        this.texts = new String[windowRows][];
+    }
+    
+    /**
+     * 복호화 윈도우 생성
+     * 
+     * @param policyNames 컬럼별 정책명 (인덱스 1부터, 보호 컬럼이 아니면 null)
+     * @return 윈도우 (버퍼링할 수 없는 컬럼 타입이 있으면 null)
+     */
+    static ResultSetWindow create(ResultSet rs, ResultSetMetaData metaData, String[] policyNames, int windowRows)
+            throws SQLException {
+        int columnCount = metaData.getColumnCount();
+        int[] columnTypes = new int[columnCount + 1];
+        for (int i = 1; i <= columnCount; i++) {
+            int type = metaData.getColumnType(i);
+            switch (type) {
+                case Types.BLOB:
+                case Types.CLOB:
+                case Types.NCLOB:
+                case Types.LONGVARBINARY:
+                case Types.ARRAY:
+                case Types.REF:
+                case Types.SQLXML:
+                case Types.STRUCT:
+                case Types.JAVA_OBJECT:
+                case Types.DATALINK:
+                    return null;
+                default:
+                    columnTypes[i] = type;
+            }
+        }
+        return new ResultSetWindow(rs, columnTypes, policyNames, windowRows);
+    }
+    
+    /**
+     * 버퍼의 다음 행으로 이동
+     * 
+     * @return 버퍼에 다음 행이 있으면 true (false이면 fill() 필요)
+     */
+    boolean advance() {
+        if (position + 1 < count) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+    
+    /**
+     * 원본 ResultSet에서 다음 윈도우를 읽음 (현재 행은 첫 행)
+     * 
+     * @return 읽은 행이 있으면 true
+     */
+    boolean fill() throws SQLException {
+        rowsBefore += count;
+        for (int r = 0; r < count; r++) {
+            rows[r] = null;
+            texts[r] = null;
+        }
+        count = 0;
+        position = -1;
+        if (exhausted) {
+            return false;
+        }
+        while (count < rows.length) {
+            if (!rs.next()) {
+                exhausted = true;
+                break;
+            }
+            Object[] row = new Object[columnTypes.length];
+            String[] text = new String[columnTypes.length];
+            for (int i = 1; i < columnTypes.length; i++) {
+                if (!isCharacter(columnTypes[i])) {
+                    text[i] = rs.getString(i);
+                }
+                row[i] = read(i);
+            }
+            texts[count] = text;
+            rows[count++] = row;
+        }
+        if (count == 0) {
+            return false;
+        }
+        position = 0;
+        return true;
+    }
+    
+    /**
+     * 현재 윈도우의 보호 컬럼 값 수집 (DadpProxyResultSet이 병렬 복호화 후 store로 되돌림)
+     * 
+     * @return 수집한 값 수 (values/policies 앞에서부터 채움, 순서는 행 → 컬럼)
+     */
+    int collectProtected(String[] values, String[] policies) {
+        int n = 0;
+        for (int r = 0; r < count; r++) {
+            for (int i = 1; i < columnTypes.length; i++) {
+                if (policyNames[i] != null) {
+                    Object value = rows[r][i];
+                    values[n] = value instanceof String ? (String) value : null;
+                    policies[n] = policyNames[i];
+                    n++;
+                }
+            }
+        }
+        return n;
+    }
+    
+    /**
+     * 복호화한 값을 버퍼에 반영 (collectProtected와 같은 순서)
+     */
+    void storeProtected(String[] values) {
+        int n = 0;
+        for (int r = 0; r < count; r++) {
+            for (int i = 1; i < columnTypes.length; i++) {
+                if (policyNames[i] != null) {
+                    if (values[n] != null) {
+                        rows[r][i] = values[n];
+                    }
+                    n++;
+                }
+            }
+        }
+    }
+    
+    /**
+     * 윈도우 하나의 최대 보호 값 수 (collectProtected 배열 크기)
+     */
+    int protectedCapacity() {
+        int protectedColumns = 0;
+        for (int i = 1; i < policyNames.length; i++) {
+            if (policyNames[i] != null) {
+                protectedColumns++;
+            }
+        }
+        return protectedColumns * rows.length;
+    }
+    
+    boolean isProtected(int columnIndex) {
+        return columnIndex > 0 && columnIndex < policyNames.length && policyNames[columnIndex] != null;
+    }
+    
+    // ===== 커서 위치 =====
+    
+    int getRow() {
+        return position < 0 ? 0 : (int) (rowsBefore + position + 1);
+    }
+    
+    boolean isBeforeFirst() {
+        return rowsBefore == 0 && position < 0 && !exhausted;
+    }
+    
+    boolean isAfterLast() {
+        return exhausted && position < 0 && rowsBefore > 0;
+    }
+    
+    boolean isFirst() {
+        return rowsBefore == 0 && position == 0;
+    }
+    
+    boolean isLast() {
+        return exhausted && position >= 0 && position == count - 1;
+    }
+    
+    void clear() {
+        for (int r = 0; r < rows.length; r++) {
+            rows[r] = null;
+            texts[r] = null;
+        }
+        count = 0;
+        position = -1;
+    }
+    
+    // ===== 값 조회 =====
+    
+    boolean wasNull() {
+        return wasNull;
+    }
+    
+    Object getObject(int columnIndex) throws SQLException {
+        if (position < 0) {
+            throw new SQLException("현재 행이 없습니다 (next() 호출 필요)");
+        }
+        if (columnIndex < 1 || columnIndex >= columnTypes.length) {
+            throw new SQLException("컬럼 인덱스 범위 오류: " + columnIndex);
+        }
+        Object value = rows[position][columnIndex];
+        wasNull = value == null;
+        return value;
+    }
+    
+    String getString(int columnIndex) throws SQLException {
+        Object value = getObject(columnIndex);
+        if (value == null) {
+            return null;
+        }
+        String text = texts[position][columnIndex];
+        return text != null ? text : value.toString();
+    }
+    
+    boolean getBoolean(int columnIndex) throws SQLException {
+        Object value = getObject(columnIndex);
+        if (value == null) {
+            return false;
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).intValue() != 0;
+        }
+        String s = value.toString().trim();
+        return "1".equals(s) || "true".equalsIgnoreCase(s);
+    }
+    
+    long getLong(int columnIndex) throws SQLException {
+        return getIntegral(columnIndex, Long.MIN_VALUE, Long.MAX_VALUE, "long");
+    }
+    
+    int getInt(int columnIndex) throws SQLException {
+        return (int) getIntegral(columnIndex, Integer.MIN_VALUE, Integer.MAX_VALUE, "int");
+    }
+    
+    short getShort(int columnIndex) throws SQLException {
+        return (short) getIntegral(columnIndex, Short.MIN_VALUE, Short.MAX_VALUE, "short");
+    }
+    
+    byte getByte(int columnIndex) throws SQLException {
+        return (byte) getIntegral(columnIndex, Byte.MIN_VALUE, Byte.MAX_VALUE, "byte");
+    }
+    
+    double getDouble(int columnIndex) throws SQLException {
+        Number number = getNumber(columnIndex);
+        return number != null ? number.doubleValue() : 0d;
+    }
+    
+    BigDecimal getBigDecimal(int columnIndex) throws SQLException {
+        Object value = getObject(columnIndex);
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? BigDecimal.ONE : BigDecimal.ZERO;
+        }
+        try {
+            return new BigDecimal(value.toString().trim());
+        } catch (NumberFormatException e) {
+            throw new SQLException("숫자로 변환할 수 없는 값입니다: 컬럼 " + columnIndex, "22018", e);
+        }
+    }
+    
+    BigDecimal getBigDecimal(int columnIndex, int scale) throws SQLException {
+        BigDecimal value = getBigDecimal(columnIndex);
+        return value != null ? value.setScale(scale, RoundingMode.HALF_UP) : null;
+    }
+    
+    byte[] getBytes(int columnIndex) throws SQLException {
+        Object value = getObject(columnIndex);
+        if (value == null || value instanceof byte[]) {
+            return (byte[]) value;
+        }
+        return getString(columnIndex).getBytes(StandardCharsets.UTF_8);
+    }
+    
+    Timestamp getTimestamp(int columnIndex, Calendar calendar) throws SQLException {
+        Object value = getObject(columnIndex);
+        if (value == null) {
+            return null;
+        }
+        LocalDateTime local;
+        if (value instanceof Timestamp) {
+            local = ((Timestamp) value).toLocalDateTime();
+        } else if (value instanceof Date) {
+            local = ((Date) value).toLocalDate().atStartOfDay();
+        } else if (value instanceof Time) {
+            local = ((Time) value).toLocalTime().atDate(LocalDate.of(1970, 1, 1));
+        } else if (value instanceof java.util.Date) {
+            local = new Timestamp(((java.util.Date) value).getTime()).toLocalDateTime();
+        } else if (value instanceof LocalDateTime) {
+            local = (LocalDateTime) value;
+        } else if (value instanceof LocalDate) {
+            local = ((LocalDate) value).atStartOfDay();
+        } else if (value instanceof OffsetDateTime) {
+            return Timestamp.from(((OffsetDateTime) value).toInstant());
+        } else if (value instanceof ZonedDateTime) {
+            return Timestamp.from(((ZonedDateTime) value).toInstant());
+        } else {
+            try {
+                local = Timestamp.valueOf(value.toString().trim()).toLocalDateTime();
+            } catch (IllegalArgumentException e) {
+                throw new SQLException("날짜/시간으로 변환할 수 없는 값입니다: 컬럼 " + columnIndex, "22007", e);
+            }
+        }
+        if (calendar == null) {
+            return Timestamp.valueOf(local);
+        }
+        // 지정한 Calendar의 시간대로 해석 (JDBC getTimestamp(int, Calendar)와 동일)
+        return Timestamp.from(local.atZone(calendar.getTimeZone().toZoneId()).toInstant());
+    }
+    
+    Date getDate(int columnIndex, Calendar calendar) throws SQLException {
+        Timestamp timestamp = getTimestamp(columnIndex, calendar);
+        if (timestamp == null) {
+            return null;
+        }
+        return calendar == null ? Date.valueOf(timestamp.toLocalDateTime().toLocalDate()) : new Date(timestamp.getTime());
+    }
+    
+    Time getTime(int columnIndex, Calendar calendar) throws SQLException {
+        Object value = getObject(columnIndex);
+        if (value instanceof Time && calendar == null) {
+            return (Time) value;
+        }
+        if (value instanceof LocalTime && calendar == null) {
+            return Time.valueOf((LocalTime) value);
+        }
+        Timestamp timestamp = value instanceof LocalTime
+                ? Timestamp.valueOf(((LocalTime) value).atDate(LocalDate.of(1970, 1, 1)))
+                : getTimestamp(columnIndex, calendar);
+        if (timestamp == null) {
+            return null;
+        }
+        return calendar == null ? Time.valueOf(timestamp.toLocalDateTime().toLocalTime()) : new Time(timestamp.getTime());
+    }
+    
+    InputStream getAsciiStream(int columnIndex) throws SQLException {
+        String value = getString(columnIndex);
+        return value != null ? new ByteArrayInputStream(value.getBytes(StandardCharsets.US_ASCII)) : null;
+    }
+    
+    InputStream getUnicodeStream(int columnIndex) throws SQLException {
+        String value = getString(columnIndex);
+        return value != null ? new ByteArrayInputStream(value.getBytes(StandardCharsets.UTF_16BE)) : null;
+    }
+    
+    InputStream getBinaryStream(int columnIndex) throws SQLException {
+        byte[] value = getBytes(columnIndex);
+        return value != null ? new ByteArrayInputStream(value) : null;
+    }
+    
+    Reader getCharacterStream(int columnIndex) throws SQLException {
+        String value = getString(columnIndex);
+        return value != null ? new StringReader(value) : null;
+    }
+    
+    URL getURL(int columnIndex) throws SQLException {
+        Object value = getObject(columnIndex);
+        if (value == null || value instanceof URL) {
+            return (URL) value;
+        }
+        try {
+            return new URL(value.toString());
+        } catch (MalformedURLException e) {
+            throw new SQLException("URL로 변환할 수 없는 값입니다: 컬럼 " + columnIndex, e);
+        }
+    }
+    
+    /**
+     * 지정한 타입으로 조회 (getObject(int, Class) 및 getBlob/getRef 등 특수 타입)
+     */
+    @SuppressWarnings("unchecked")
+    <T> T getObject(int columnIndex, Class<T> type) throws SQLException {
+        Object value = getObject(columnIndex);
+        if (value == null) {
+            return null;
+        }
+        if (type.isInstance(value)) {
+            return (T) value;
+        }
+        if (type == String.class) {
+            return (T) getString(columnIndex);
+        }
+        if (type == Integer.class) {
+            return (T) Integer.valueOf(getInt(columnIndex));
+        }
+        if (type == Long.class) {
+            return (T) Long.valueOf(getLong(columnIndex));
+        }
+        if (type == Short.class) {
+            return (T) Short.valueOf(getShort(columnIndex));
+        }
+        if (type == Byte.class) {
+            return (T) Byte.valueOf(getByte(columnIndex));
+        }
+        if (type == Double.class) {
+            return (T) Double.valueOf(getDouble(columnIndex));
+        }
+        if (type == Float.class) {
+            return (T) Float.valueOf((float) getDouble(columnIndex));
+        }
+        if (type == Boolean.class) {
+            return (T) Boolean.valueOf(getBoolean(columnIndex));
+        }
+        if (type == BigDecimal.class) {
+            return (T) getBigDecimal(columnIndex);
+        }
+        if (type == byte[].class) {
+            return (T) getBytes(columnIndex);
+        }
+        // 윈도우는 LOB 컬럼이 없을 때만 사용하므로 문자 LOB/스트림은 버퍼의 문자열로 제공 (행 단위 모드와 동일하게 복호화된 값)
+        if (type == Clob.class || type == NClob.class) {
+            return (T) new DecryptedClob(getString(columnIndex));
+        }
+        if (type == Reader.class) {
+            return (T) getCharacterStream(columnIndex);
+        }
+        if (type == Timestamp.class) {
+            return (T) getTimestamp(columnIndex, null);
+        }
+        if (type == Date.class) {
+            return (T) getDate(columnIndex, null);
+        }
+        if (type == Time.class) {
+            return (T) getTime(columnIndex, null);
+        }
+        if (type == LocalDateTime.class) {
+            return (T) converted(getTimestamp(columnIndex, null), value, type, columnIndex).toLocalDateTime();
+        }
+        if (type == LocalDate.class) {
+            return (T) converted(getDate(columnIndex, null), value, type, columnIndex).toLocalDate();
+        }
+        if (type == LocalTime.class) {
+            return (T) converted(getTime(columnIndex, null), value, type, columnIndex).toLocalTime();
+        }
+        throw new SQLException("복호화 윈도우에서 지원하지 않는 변환입니다: " + value.getClass().getName()
+                + " → " + type.getName() + " (컬럼 " + columnIndex + ")");
+    }
+    
+    /**
+     * 값이 있는데 변환 결과가 null이면 NPE 대신 SQLException
+     */
+    private static <V> V converted(V result, Object value, Class<?> type, int columnIndex) throws SQLException {
+        if (result == null) {
+            throw new SQLException("복호화 윈도우에서 변환할 수 없는 값입니다: " + value.getClass().getName()
+                    + " → " + type.getName() + " (컬럼 " + columnIndex + ")", "22007");
+        }
+        return result;
+    }
+    
+    /**
+     * 정수 타입으로 조회 (소수부는 버림, 범위를 벗어나면 잘라내지 않고 SQLException)
+     */
+    private long getIntegral(int columnIndex, long min, long max, String typeName) throws SQLException {
+        Number number = getNumber(columnIndex);
+        if (number == null) {
+            return 0L;
+        }
+        if (number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte) {
+            long value = number.longValue();
+            if (value < min || value > max) {
+                throw outOfRange(columnIndex, typeName);
+            }
+            return value;
+        }
+        BigInteger whole;
+        try {
+            whole = (number instanceof BigDecimal ? (BigDecimal) number : new BigDecimal(number.toString())).toBigInteger();
+        } catch (NumberFormatException e) {
+            // NaN, Infinity
+            throw outOfRange(columnIndex, typeName);
+        }
+        if (whole.compareTo(BigInteger.valueOf(min)) < 0 || whole.compareTo(BigInteger.valueOf(max)) > 0) {
+            throw outOfRange(columnIndex, typeName);
+        }
+        return whole.longValue();
+    }
+    
+    private static SQLException outOfRange(int columnIndex, String typeName) {
+        return new SQLException(typeName + " 범위를 벗어난 값입니다: 컬럼 " + columnIndex, "22003");
+    }
+    
+    private Number getNumber(int columnIndex) throws SQLException {
+        Object value = getObject(columnIndex);
+        if (value == null || value instanceof Number) {
+            return (Number) value;
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? 1 : 0;
+        }
+        try {
+            return new BigDecimal(value.toString().trim());
+        } catch (NumberFormatException e) {
+            throw new SQLException("숫자로 변환할 수 없는 값입니다: 컬럼 " + columnIndex, "22018", e);
+        }
+    }
+    
+    private static boolean isCharacter(int type) {
+        switch (type) {
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    /**
+     * 원본 ResultSet 현재 행의 값을 타입에 맞게 읽음
+     */
+    private Object read(int columnIndex) throws SQLException {
+        if (isCharacter(columnTypes[columnIndex])) {
+            return rs.getString(columnIndex);
+        }
+        switch (columnTypes[columnIndex]) {
+            case Types.DATE:
+                return rs.getDate(columnIndex);
+            case Types.TIME:
+                return rs.getTime(columnIndex);
+            case Types.TIMESTAMP:
+                return rs.getTimestamp(columnIndex);
+            case Types.BINARY:
+            case Types.VARBINARY:
+                return rs.getBytes(columnIndex);
+            default:
+                return rs.getObject(columnIndex);
+        }
+    }
+}
@@ -0,0 +1,578 @@
+package com.dadp.jdbc;
+
+import com.dadp.jdbc.crypto.BlindIndex;
+import com.dadp.jdbc.policy.PolicyResolver;
+import com.dadp.jdbc.policy.SqlParser;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Statement 실행 계획
+ * 
+ * SQL 파싱 결과와 파라미터 위치 → 컬럼명 배열, 파라미터별 정책명을 보관합니다.
+ * SQL별로 한 번 만들어 StatementPlanCache로 Connection 간에 공유하므로 생성 후에는 변경하지 않으며,
+ * 정책명만 PolicyResolver 매핑 버전이 바뀌면 다시 조회합니다.
+ * 
+ * 블라인드 인덱스(BlindIndex)를 사용하면 실행 SQL을 다음과 같이 재작성합니다.
+ * - INSERT (단일 행, VALUES가 모두 ?): 대상 컬럼마다 컬럼 목록과 VALUES 끝에 "컬럼_bidx", "?" 추가
+ * - UPDATE (SET이 모두 "컬럼 = ?"): SET 절 끝에 "컬럼_bidx = ?" 추가
+ * - SELECT: WHERE 절의 "컬럼 = ?"를 "컬럼_bidx = ?"로 변경 (파라미터에는 블라인드 인덱스 값 바인딩)
+ * 접두사 인덱스 컬럼은 같은 방식으로 "컬럼_pidx" 동반 컬럼을 추가하고, WHERE 절의 "컬럼 LIKE ?"를 "컬럼_pidx LIKE ?"로 변경합니다.
+ * 추가한 파라미터 때문에 뒤쪽 파라미터 위치가 밀리므로, 사용자 파라미터 인덱스 → 실제 인덱스 배열을 함께 보관합니다.
+ * 위 형식이 아니면 재작성하지 않습니다 (기존과 동일하게 동작).
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+final class StatementPlan {
+    
+    // WHERE 절 파라미터 패턴: table.col like ?, table.col = ?, table.col > ? 등 (그룹 1: 한정자, 2: 컬럼, 3: 연산자)
+    private static final Pattern WHERE_PARAMETER_PATTERN = Pattern.compile(
+        "(?:(\\w+)\\.)?(\\w+)\\s*(like|=|!=|<>|>|<|>=|<=|in|not\\s+in)\\s*\\?",
+        Pattern.CASE_INSENSITIVE
+    );
+    
+    // 테이블 별칭으로 오인하면 안 되는 키워드 (FROM users WHERE ..., FROM users JOIN ...)
+    private static final Set<String> NON_ALIAS_KEYWORDS = new HashSet<>(Arrays.asList(
+        "where", "join", "inner", "left", "right", "full", "outer", "cross", "natural", "on", "using", "set",
+        "order", "group", "having", "limit", "offset", "union", "for", "with"
+    ));
+    
+    // 블라인드 인덱스 재작성용 (SqlParser의 INSERT/UPDATE 패턴과 같은 범위를 매칭)
+    private static final Pattern INSERT_COLUMNS_PATTERN = Pattern.compile(
+        "INSERT\\s+INTO\\s+(\\w+)\\s*\\(([^)]+)\\)",
+        Pattern.CASE_INSENSITIVE
+    );
+    private static final Pattern VALUES_PATTERN = Pattern.compile("\\s*VALUES\\s*\\(", Pattern.CASE_INSENSITIVE);
+    private static final Pattern UPDATE_SET_PATTERN = Pattern.compile(
+        "UPDATE\\s+(\\w+)\\s+SET\\s+(.+?)(?:\\s+WHERE|$)",
+        Pattern.CASE_INSENSITIVE | Pattern.DOTALL
+    );
+    
+    private static final String[] NO_COLUMNS = new String[0];
+    
+    private final SqlParser.SqlParseResult parseResult;
+    private final String[] parameterColumns; // 파라미터 인덱스(1부터) → 컬럼명, 매핑이 없으면 null
+    private final int mappedParameterCount;
+    
+    // 블라인드 인덱스 재작성 결과 (재작성하지 않으면 executableSql은 원본, 배열은 null)
+    private final String executableSql;
+    private final int[] actualIndexes;     // 사용자 파라미터 인덱스 → 실행 SQL의 파라미터 인덱스
+    private final int[] companionIndexes;  // 사용자 파라미터 인덱스 → 블라인드 인덱스 동반 파라미터 인덱스 (없으면 0)
+    private final int[] prefixCompanionIndexes; // 사용자 파라미터 인덱스 → 접두사 인덱스 동반 파라미터 인덱스 (없으면 0)
+    private final String[] blindColumns;   // 사용자 파라미터 인덱스 → 블라인드 인덱스 컬럼명 (동반 파라미터 또는 검색)
+    private final boolean[] blindSearches; // 사용자 파라미터 인덱스 → 블라인드 인덱스 값으로 검색 (SELECT =)
+    private final boolean[] prefixSearches; // 사용자 파라미터 인덱스 → 접두사 인덱스 패턴으로 검색 (SELECT LIKE)
+    
+    // 파라미터별 정책명 (매핑 버전이 바뀌면 통째로 교체)
+    private volatile PolicySnapshot policies;
+    
+    /**
+     * @param blindIndex 블라인드 인덱스 (사용하지 않으면 null)
+     */
+    StatementPlan(String sql, SqlParser.SqlParseResult parseResult, BlindIndex blindIndex) {
+        this.parseResult = parseResult;
+        List<Insertion> insertions = new ArrayList<>();
+        this.parameterColumns = buildParameterColumns(sql, parseResult, blindIndex, insertions);
+        int mapped = 0;
+        for (String column : parameterColumns) {
+            if (column != null) {
+                mapped++;
+            }
+        }
+        this.mappedParameterCount = mapped;
+        
+        if (insertions.isEmpty()) {
+            this.executableSql = sql;
+            this.actualIndexes = null;
+            this.companionIndexes = null;
+            this.prefixCompanionIndexes = null;
+            this.blindColumns = null;
+            this.blindSearches = null;
+            this.prefixSearches = null;
+            return;
+        }
+        // 삽입 위치 순으로 실행 SQL을 만들면서 원본/추가 파라미터의 실제 인덱스 계산
+        insertions.sort(Comparator.comparingInt(insertion -> insertion.position));
+        int parameterCount = countParameters(sql, 0, sql.length());
+        int[] actual = new int[parameterCount + 1];
+        int[] companions = new int[parameterCount + 1];
+        int[] prefixCompanions = new int[parameterCount + 1];
+        String[] columns = new String[parameterCount + 1];
+        boolean[] searches = new boolean[parameterCount + 1];
+        boolean[] prefixSearchFlags = new boolean[parameterCount + 1];
+        StringBuilder rewritten = new StringBuilder(sql.length() + 16 * insertions.size());
+        int original = 0;
+        int added = 0;
+        int next = 0;
+        for (int i = 0; i <= sql.length(); i++) {
+            while (next < insertions.size() && insertions.get(next).position == i) {
+                Insertion insertion = insertions.get(next++);
+                rewritten.append(insertion.text);
+                if (insertion.kind == Insertion.COLUMN_LIST) {
+                    continue; // 파라미터와 무관한 변경
+                }
+                columns[insertion.parameterIndex] = insertion.column;
+                switch (insertion.kind) {
+                    case Insertion.BLIND_COMPANION:
+                        companions[insertion.parameterIndex] = original + ++added;
+                        break;
+                    case Insertion.PREFIX_COMPANION:
+                        prefixCompanions[insertion.parameterIndex] = original + ++added;
+                        break;
+                    case Insertion.BLIND_SEARCH:
+                        searches[insertion.parameterIndex] = true;
+                        break;
+                    default:
+                        prefixSearchFlags[insertion.parameterIndex] = true;
+                        break;
+                }
+            }
+            if (i < sql.length()) {
+                char c = sql.charAt(i);
+                rewritten.append(c);
+                if (c == '?') {
+                    original++;
+                    actual[original] = original + added;
+                }
+            }
+        }
+        this.executableSql = rewritten.toString();
+        this.actualIndexes = actual;
+        this.companionIndexes = companions;
+        this.prefixCompanionIndexes = prefixCompanions;
+        this.blindColumns = columns;
+        this.blindSearches = searches;
+        this.prefixSearches = prefixSearchFlags;
+    }
+    
+    SqlParser.SqlParseResult getParseResult() {
+        return parseResult;
+    }
+    
+    /**
+     * 실제로 실행할 SQL (블라인드 인덱스 재작성 결과, 재작성하지 않았으면 원본)
+     */
+    String getExecutableSql() {
+        return executableSql;
+    }
+    
+    boolean isRewritten() {
+        return actualIndexes != null;
+    }
+    
+    /**
+     * 사용자 파라미터 인덱스의 실행 SQL 파라미터 인덱스
+     */
+    int getActualIndex(int parameterIndex) {
+        int[] indexes = actualIndexes;
+        return indexes != null && parameterIndex > 0 && parameterIndex < indexes.length
+                ? indexes[parameterIndex] : parameterIndex;
+    }
+    
+    /**
+     * 블라인드 인덱스 동반 파라미터의 실행 SQL 파라미터 인덱스 (없으면 0)
+     */
+    int getCompanionIndex(int parameterIndex) {
+        int[] indexes = companionIndexes;
+        return indexes != null && parameterIndex > 0 && parameterIndex < indexes.length ? indexes[parameterIndex] : 0;
+    }
+    
+    /**
+     * 접두사 인덱스 동반 파라미터의 실행 SQL 파라미터 인덱스 (없으면 0)
+     */
+    int getPrefixCompanionIndex(int parameterIndex) {
+        int[] indexes = prefixCompanionIndexes;
+        return indexes != null && parameterIndex > 0 && parameterIndex < indexes.length ? indexes[parameterIndex] : 0;
+    }
+    
+    /**
+     * 동반 파라미터(블라인드 인덱스 또는 접두사 인덱스)가 있는지
+     */
+    boolean hasCompanion(int parameterIndex) {
+        return getCompanionIndex(parameterIndex) > 0 || getPrefixCompanionIndex(parameterIndex) > 0;
+    }
+    
+    /**
+     * 블라인드 인덱스 값으로 검색하는 파라미터 여부 (SELECT WHERE "컬럼 = ?")
+     */
+    boolean isBlindSearch(int parameterIndex) {
+        boolean[] searches = blindSearches;
+        return searches != null && parameterIndex > 0 && parameterIndex < searches.length && searches[parameterIndex];
+    }
+    
+    /**
+     * 접두사 인덱스 패턴으로 검색하는 파라미터 여부 (SELECT WHERE "컬럼 LIKE ?")
+     */
+    boolean isPrefixSearch(int parameterIndex) {
+        boolean[] searches = prefixSearches;
+        return searches != null && parameterIndex > 0 && parameterIndex < searches.length && searches[parameterIndex];
+    }
+    
+    /**
+     * 파라미터의 블라인드 인덱스 컬럼명 (동반 파라미터나 검색 파라미터가 아니면 null)
+     */
+    String getBlindIndexColumn(int parameterIndex) {
+        String[] columns = blindColumns;
+        return columns != null && parameterIndex > 0 && parameterIndex < columns.length ? columns[parameterIndex] : null;
+    }
+    
+    int getMappedParameterCount() {
+        return mappedParameterCount;
+    }
+    
+    /**
+     * 파라미터 인덱스의 컬럼명 (매핑이 없으면 null)
+     */
+    String getParameterColumn(int parameterIndex) {
+        return parameterIndex > 0 && parameterIndex < parameterColumns.length ? parameterColumns[parameterIndex] : null;
+    }
+    
+    /**
+     * 파라미터 인덱스의 정책명 (암호화 대상이 아니면 null)
+     * 
+     * 매핑 버전이 같으면 PolicyResolver를 다시 조회하지 않습니다.
+     */
+    String getParameterPolicy(int parameterIndex, PolicyResolver policyResolver) {
+        if (getParameterColumn(parameterIndex) == null || parseResult.getTableName() == null) {
+            return null;
+        }
+        PolicySnapshot snapshot = policies;
+        long version = policyResolver.getVersion();
+        if (snapshot == null || snapshot.resolver != policyResolver || snapshot.version != version) {
+            String[] names = new String[parameterColumns.length];
+            for (int i = 1; i < parameterColumns.length; i++) {
+                if (parameterColumns[i] != null) {
+                    names[i] = policyResolver.resolvePolicy(parseResult.getTableName(), parameterColumns[i]);
+                }
+            }
+            // 조회 전에 읽은 버전으로 저장 (조회 중 매핑이 바뀌면 다음 호출에서 다시 조회)
+            snapshot = new PolicySnapshot(policyResolver, version, names);
+            policies = snapshot;
+        }
+        return snapshot.policyNames[parameterIndex];
+    }
+    
+    /**
+     * SQL 파싱 결과로부터 파라미터 인덱스와 컬럼명 매핑 생성
+     * INSERT/UPDATE: SET 절의 컬럼만 매핑
+     * SELECT: WHERE 절의 파라미터도 매핑
+     */
+    private static String[] buildParameterColumns(String sql, SqlParser.SqlParseResult parseResult,
+                                                  BlindIndex blindIndex, List<Insertion> insertions) {
+        if (parseResult == null) {
+            return NO_COLUMNS;
+        }
+        
+        // INSERT/UPDATE: SET 절 또는 VALUES 절의 컬럼 매핑
+        if ("INSERT".equals(parseResult.getSqlType()) || "UPDATE".equals(parseResult.getSqlType())) {
+            String[] columns = parseResult.getColumns();
+            if (columns == null) {
+                return NO_COLUMNS;
+            }
+            String[] mapping = new String[columns.length + 1];
+            for (int i = 0; i < columns.length; i++) {
+                // null이 아닌 컬럼명만 매핑 (파라미터 인덱스는 1부터 시작)
+                if (columns[i] != null && !columns[i].trim().isEmpty()) {
+                    mapping[i + 1] = columns[i].trim();
+                }
+            }
+            if (blindIndex != null) {
+                if ("INSERT".equals(parseResult.getSqlType())) {
+                    planInsertRewrite(sql, parseResult.getTableName(), mapping, blindIndex, insertions);
+                } else {
+                    planUpdateRewrite(sql, parseResult.getTableName(), mapping, blindIndex, insertions);
+                }
+            }
+            return mapping;
+        }
+        // SELECT: WHERE 절의 파라미터 매핑
+        if ("SELECT".equals(parseResult.getSqlType())) {
+            return parseWhereClauseParameters(sql, parseResult.getTableName(), blindIndex, insertions);
+        }
+        return NO_COLUMNS;
+    }
+    
+    /**
+     * WHERE 절에서 파라미터와 컬럼명 매핑 추출
+     * 예: WHERE u1_0.phone like ? -> parameterIndex 1 -> phone
+     * 
+     * 매칭 순서대로 이전 매칭 이후의 ?만 세어 SQL을 한 번만 훑습니다.
+     */
+    private static String[] parseWhereClauseParameters(String sql, String tableName,
+                                                       BlindIndex blindIndex, List<Insertion> insertions) {
+        if (sql == null || tableName == null) {
+            return NO_COLUMNS;
+        }
+        
+        // WHERE 절 찾기
+        int whereIndex = sql.toUpperCase().indexOf(" WHERE ");
+        if (whereIndex < 0) {
+            return NO_COLUMNS;
+        }
+        
+        // WHERE 절 이전의 ? 개수 (서브쿼리/조인 등의 파라미터)
+        int paramIndex = countParameters(sql, 0, whereIndex);
+        String[] mapping = new String[paramIndex + countParameters(sql, whereIndex, sql.length()) + 1];
+        
+        // 블라인드/접두사 인덱스 재작성은 주 테이블 컬럼에만 적용 (조인한 다른 테이블의 o.email = ?는 제외)
+        String alias = blindIndex != null ? tableAlias(sql.substring(0, whereIndex), tableName) : null;
+        
+        Matcher matcher = WHERE_PARAMETER_PATTERN.matcher(sql);
+        matcher.region(whereIndex + 7, sql.length()); // " WHERE " 길이
+        int scanned = whereIndex;
+        while (matcher.find()) {
+            int questionMarkIndex = matcher.end() - 1; // ? 위치
+            // 이전 매칭 이후 이 ? 이전까지의 ? 개수를 더해 전체 파라미터 인덱스 계산 (1부터)
+            paramIndex += countParameters(sql, scanned, questionMarkIndex) + 1;
+            scanned = questionMarkIndex + 1;
+            if (mapping[paramIndex] == null) {
+                mapping[paramIndex] = matcher.group(2);
+            }
+            // 블라인드 인덱스 컬럼의 동등 조건, 접두사 인덱스 컬럼의 LIKE 조건은 동반 컬럼 조건으로 변경
+            String qualifier = matcher.group(1);
+            if (blindIndex == null || (qualifier != null && !qualifier.equalsIgnoreCase(tableName)
+                    && !qualifier.equalsIgnoreCase(alias))) {
+                continue;
+            }
+            String column = matcher.group(2);
+            String operator = matcher.group(3);
+            if ("=".equals(operator) && blindIndex.isIndexed(tableName, column)) {
+                insertions.add(new Insertion(matcher.end(2), BlindIndex.COLUMN_SUFFIX, paramIndex, column,
+                        Insertion.BLIND_SEARCH));
+            } else if ("like".equalsIgnoreCase(operator) && blindIndex.isPrefixIndexed(tableName, column)) {
+                insertions.add(new Insertion(matcher.end(2), BlindIndex.PREFIX_COLUMN_SUFFIX, paramIndex, column,
+                        Insertion.PREFIX_SEARCH));
+            }
+        }
+        return mapping;
+    }
+    
+    /**
+     * 주 테이블 별칭 조회 (FROM/JOIN/UPDATE 뒤의 "테이블 [AS] 별칭", 없으면 null)
+     */
+    private static String tableAlias(String sql, String tableName) {
+        Matcher matcher = Pattern.compile("\\b(?:FROM|JOIN|UPDATE)\\s+(?:\\w+\\.)?" + Pattern.quote(tableName)
+                + "\\b(?:\\s+(?:AS\\s+)?(\\w+))?", Pattern.CASE_INSENSITIVE).matcher(sql);
+        while (matcher.find()) {
+            String alias = matcher.group(1);
+            if (alias != null && !NON_ALIAS_KEYWORDS.contains(alias.toLowerCase(Locale.ROOT))) {
+                return alias;
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * INSERT 블라인드/접두사 인덱스 재작성 계획 (단일 행 VALUES의 값이 모두 ?인 경우만)
+     */
+    private static void planInsertRewrite(String sql, String tableName, String[] mapping, BlindIndex blindIndex,
+                                          List<Insertion> insertions) {
+        Matcher columnsMatcher = INSERT_COLUMNS_PATTERN.matcher(sql);
+        if (!columnsMatcher.find()) {
+            return;
+        }
+        Matcher valuesMatcher = VALUES_PATTERN.matcher(sql);
+        valuesMatcher.region(columnsMatcher.end(), sql.length());
+        if (!valuesMatcher.lookingAt()) {
+            return;
+        }
+        int valuesStart = valuesMatcher.end();
+        int valuesEnd = closingParenthesis(sql, valuesStart);
+        if (valuesEnd < 0 || sql.substring(valuesEnd + 1).trim().startsWith(",")) {
+            return; // 괄호 불일치 또는 다중 행 VALUES
+        }
+        List<String> values = splitTopLevel(sql.substring(valuesStart, valuesEnd));
+        if (values.size() != mapping.length - 1 || !allPlaceholders(values)) {
+            return;
+        }
+        for (int i = 1; i < mapping.length; i++) {
+            String column = unquote(mapping[i]);
+            if (column == null) {
+                continue;
+            }
+            if (blindIndex.isIndexed(tableName, column)) {
+                insertions.add(new Insertion(columnsMatcher.end(2),
+                        ", " + companionColumn(mapping[i], BlindIndex.COLUMN_SUFFIX), 0, column, Insertion.COLUMN_LIST));
+                insertions.add(new Insertion(valuesEnd, ", ?", i, column, Insertion.BLIND_COMPANION));
+            }
+            if (blindIndex.isPrefixIndexed(tableName, column)) {
+                insertions.add(new Insertion(columnsMatcher.end(2),
+                        ", " + companionColumn(mapping[i], BlindIndex.PREFIX_COLUMN_SUFFIX), 0, column, Insertion.COLUMN_LIST));
+                insertions.add(new Insertion(valuesEnd, ", ?", i, column, Insertion.PREFIX_COMPANION));
+            }
+        }
+    }
+    
+    /**
+     * UPDATE 블라인드/접두사 인덱스 재작성 계획 (SET 절이 모두 "컬럼 = ?"인 경우만)
+     */
+    private static void planUpdateRewrite(String sql, String tableName, String[] mapping, BlindIndex blindIndex,
+                                          List<Insertion> insertions) {
+        Matcher matcher = UPDATE_SET_PATTERN.matcher(sql);
+        if (!matcher.find()) {
+            return;
+        }
+        List<String> assignments = splitTopLevel(matcher.group(2));
+        if (assignments.size() != mapping.length - 1) {
+            return;
+        }
+        List<String> values = new ArrayList<>(assignments.size());
+        for (String assignment : assignments) {
+            int equalsIndex = assignment.indexOf('=');
+            values.add(equalsIndex > 0 ? assignment.substring(equalsIndex + 1) : assignment);
+        }
+        if (!allPlaceholders(values)) {
+            return;
+        }
+        for (int i = 1; i < mapping.length; i++) {
+            String column = unquote(mapping[i]);
+            if (column == null) {
+                continue;
+            }
+            if (blindIndex.isIndexed(tableName, column)) {
+                insertions.add(new Insertion(matcher.end(2),
+                        ", " + companionColumn(mapping[i], BlindIndex.COLUMN_SUFFIX) + " = ?", i, column,
+                        Insertion.BLIND_COMPANION));
+            }
+            if (blindIndex.isPrefixIndexed(tableName, column)) {
+                insertions.add(new Insertion(matcher.end(2),
+                        ", " + companionColumn(mapping[i], BlindIndex.PREFIX_COLUMN_SUFFIX) + " = ?", i, column,
+                        Insertion.PREFIX_COMPANION));
+            }
+        }
+    }
+    
+    /**
+     * 여는 괄호 다음 위치부터 짝이 맞는 닫는 괄호 위치 검색 (문자열 리터럴 안의 괄호는 무시)
+     */
+    private static int closingParenthesis(String sql, int from) {
+        int depth = 1;
+        boolean quoted = false;
+        for (int i = from; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+            } else if (!quoted && c == '(') {
+                depth++;
+            } else if (!quoted && c == ')' && --depth == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    /**
+     * 괄호 밖의 콤마로 분리
+     */
+    private static List<String> splitTopLevel(String text) {
+        List<String> parts = new ArrayList<>();
+        int depth = 0;
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (c == ',' && depth == 0) {
+                parts.add(text.substring(start, i));
+                start = i + 1;
+            }
+        }
+        parts.add(text.substring(start));
+        return parts;
+    }
+    
+    private static boolean allPlaceholders(List<String> values) {
+        for (String value : values) {
+            if (!"?".equals(value.trim())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * 따옴표/백틱/대괄호로 감싼 컬럼명에서 감싼 문자 제거 (테이블 별칭도 제거)
+     */
+    private static String unquote(String column) {
+        if (column == null) {
+            return null;
+        }
+        String name = column.substring(column.lastIndexOf('.') + 1).trim();
+        if (name.length() >= 2 && "\"`[".indexOf(name.charAt(0)) >= 0) {
+            name = name.substring(1, name.length() - 1);
+        }
+        return name;
+    }
+    
+    /**
+     * 동반 컬럼명 (감싼 문자가 있으면 유지)
+     */
+    private static String companionColumn(String column, String suffix) {
+        String name = column.substring(column.lastIndexOf('.') + 1).trim();
+        if (name.length() >= 2 && "\"`[".indexOf(name.charAt(0)) >= 0) {
+            return name.substring(0, name.length() - 1) + suffix + name.charAt(name.length() - 1);
+        }
+        return name + suffix;
+    }
+    
+    /**
+     * SQL 문자열 구간 [from, to)의 ? 파라미터 개수 계산
+     */
+    private static int countParameters(String sql, int from, int to) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (sql.charAt(i) == '?') {
+                count++;
+            }
+        }
+        return count;
+    }
+    
+    /**
+     * 실행 SQL 재작성 단위 (원본 SQL의 position 앞에 text 삽입)
+     */
+    private static final class Insertion {
+        final int position;
+        final String text;
+        final int parameterIndex; // 관련 사용자 파라미터 인덱스 (COLUMN_LIST는 0)
+        final String column;      // 블라인드/접두사 인덱스 컬럼명
+        final int kind;
+        
+        static final int COLUMN_LIST = 0;      // INSERT 컬럼 목록에 동반 컬럼 추가 (파라미터 없음)
+        static final int BLIND_COMPANION = 1;  // 블라인드 인덱스 동반 파라미터(?) 추가
+        static final int PREFIX_COMPANION = 2; // 접두사 인덱스 동반 파라미터(?) 추가
+        static final int BLIND_SEARCH = 3;     // "컬럼 = ?" → "컬럼_bidx = ?"
+        static final int PREFIX_SEARCH = 4;    // "컬럼 LIKE ?" → "컬럼_pidx LIKE ?"
+        
+        Insertion(int position, String text, int parameterIndex, String column, int kind) {
+            this.position = position;
+            this.text = text;
+            this.parameterIndex = parameterIndex;
+            this.column = column;
+            this.kind = kind;
+        }
+    }
+    
+    private static final class PolicySnapshot {
+        final PolicyResolver resolver;
+        final long version;
+        final String[] policyNames;
+        
+        PolicySnapshot(PolicyResolver resolver, long version, String[] policyNames) {
+            this.resolver = resolver;
+            this.version = version;
+            this.policyNames = policyNames;
+        }
+    }
+}
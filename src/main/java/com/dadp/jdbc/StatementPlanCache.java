@@ -0,0 +1,97 @@
+package com.dadp.jdbc;
+
+import com.dadp.jdbc.config.ProxyConfig;
+import com.dadp.jdbc.crypto.BlindIndex;
+import com.dadp.jdbc.jfr.DadpEventSink;
+import com.dadp.jdbc.metrics.DadpMetrics;
+import com.dadp.jdbc.policy.SqlParser;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Statement 실행 계획 캐시
+ * 
+ * SQL 문자열별 StatementPlan을 공유하여,
+ * 같은 SQL로 PreparedStatement/ResultSet을 만들 때마다 SQL 파싱과 파라미터 매핑을 반복하지 않도록 합니다.
+ * 실행 계획에는 블라인드 인덱스 재작성 결과가 들어 있으므로, 캐시는 매핑 공유 키(Hub URL|instanceId)와
+ * 블라인드 인덱스 재작성 설정별로 나뉩니다 (instanceId가 같아도 blindIndex/prefixIndex 설정이 다르면 별도 캐시).
+ * 한도(dadp.proxy.statement-plan-cache-size, 기본값: 1024, 0이면 사용 안 함)에 도달하면
+ * 새 SQL은 캐시하지 않고 매번 계획을 만듭니다 (리터럴이 포함된 동적 SQL로 캐시가 무한히 커지지 않도록).
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+final class StatementPlanCache {
+    
+    private static final Logger log = LoggerFactory.getLogger(StatementPlanCache.class);
+    private static final DadpEventSink EVENTS = DadpEventSink.Factory.get(); // JFR 이벤트 (Java 11+)
+    
+    private static final int DEFAULT_MAX_PLANS = 1024;
+    private static final int MAX_PLANS = ProxyConfig.intProperty("dadp.proxy.statement-plan-cache-size", DEFAULT_MAX_PLANS, 0);
+    
+    // 매핑 공유 키 + 블라인드 인덱스 재작성 설정별 캐시
+    private static final ConcurrentHashMap<String, StatementPlanCache> instances = new ConcurrentHashMap<>();
+    
+    private final ConcurrentHashMap<String, StatementPlan> plans = new ConcurrentHashMap<>();
+    private volatile boolean fullLogged;
+    
+    private StatementPlanCache() {
+    }
+    
+    /**
+     * @param mappingKey 매핑 공유 키 (DadpProxyRuntime.getMappingKey)
+     * @param blindIndex 블라인드 인덱스 (사용하지 않으면 null)
+     */
+    static StatementPlanCache forRuntime(String mappingKey, BlindIndex blindIndex) {
+        String key = mappingKey + "|" + (blindIndex != null ? blindIndex.getRewriteKey() : "-");
+        return instances.computeIfAbsent(key, k -> new StatementPlanCache());
+    }
+    
+    /**
+     * SQL의 실행 계획 조회 (없으면 파싱 후 캐시)
+     * 
+     * SQL 분석 JFR 이벤트와 파싱 캐시 적중 지표를 함께 기록합니다.
+     * 
+     * @param blindIndex 블라인드 인덱스 (사용하지 않으면 null, forRuntime에 전달한 것과 같은 재작성 설정)
+     */
+    StatementPlan getPlan(String sql, DadpMetrics metrics, BlindIndex blindIndex) {
+        StatementPlan plan = sql != null ? plans.get(sql) : null;
+        if (plan != null) {
+            Object parseEvent = EVENTS.beginSqlAnalysis();
+            SqlParser.SqlParseResult parseResult = plan.getParseResult();
+            EVENTS.endSqlAnalysis(parseEvent, parseResult != null ? parseResult.getSqlType() : null,
+                    parseResult != null ? parseResult.getTableName() : null, true);
+            metrics.recordSqlParse(true);
+            return plan;
+        }
+        
+        // SQL 파싱
+        Object parseEvent = EVENTS.beginSqlAnalysis();
+        SqlParser.SqlParseResult parseResult = new SqlParser().parse(sql);
+        EVENTS.endSqlAnalysis(parseEvent, parseResult != null ? parseResult.getSqlType() : null,
+                parseResult != null ? parseResult.getTableName() : null, false);
+        metrics.recordSqlParse(false);
+        
+        // 파라미터 인덱스와 컬럼명 매핑 생성
+        Object planEvent = EVENTS.beginColumnPlan();
+        plan = new StatementPlan(sql, parseResult, blindIndex);
+        EVENTS.endColumnPlan(planEvent, parseResult != null ? parseResult.getTableName() : null,
+                plan.getMappedParameterCount());
+        
+        if (sql == null || MAX_PLANS <= 0) {
+            return plan;
+        }
+        if (plans.size() >= MAX_PLANS) {
+            if (!fullLogged) {
+                fullLogged = true;
+                log.debug("Statement 실행 계획 캐시 한도 초과, 새 SQL은 캐시하지 않음: {}", MAX_PLANS);
+            }
+            return plan;
+        }
+        StatementPlan existing = plans.putIfAbsent(sql, plan);
+        return existing != null ? existing : plan;
+    }
+    
+}
@@ -3,17 +3,27 @@ package com.dadp.jdbc.config;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Proxy 설정 관리
  * 
  * 설정 우선순위:
- * 1. JDBC URL 쿼리 파라미터 (hubUrl, instanceId, failOpen)
- * 2. 시스템 프로퍼티 (dadp.proxy.hub-url, dadp.proxy.instance-id, dadp.proxy.fail-open)
- * 3. 환경 변수 (DADP_PROXY_HUB_URL, DADP_PROXY_INSTANCE_ID, DADP_PROXY_FAIL_OPEN)
+ * 1. JDBC URL 쿼리 파라미터 (hubUrl, instanceId, failOpen, cryptoTransport, blindIndex, prefixIndex)
+ * 2. 시스템 프로퍼티 (dadp.proxy.hub-url, dadp.proxy.instance-id, dadp.proxy.fail-open, dadp.proxy.crypto-transport,
+ *    dadp.proxy.blind-index, dadp.proxy.prefix-index)
+ * 3. 환경 변수 (DADP_PROXY_HUB_URL, DADP_PROXY_INSTANCE_ID, DADP_PROXY_FAIL_OPEN, DADP_PROXY_CRYPTO_TRANSPORT,
+ *    DADP_PROXY_BLIND_INDEX, DADP_PROXY_PREFIX_INDEX)
  * 4. 기본값
  * 
+ * 블라인드 인덱스 키(dadp.proxy.blind-index-key / DADP_PROXY_BLIND_INDEX_KEY, 접두사 인덱스와 공용)는 URL에 노출되지 않도록
+ * 시스템 프로퍼티와 환경 변수에서만 읽으며 로그에 남기지 않습니다.
+ * 
  * @author DADP Development Team
  * @version 3.0.0
  * @since 2025-11-07
@@ -22,13 +32,27 @@ public class ProxyConfig {
     
     private static final Logger log = LoggerFactory.getLogger(ProxyConfig.class);
     
+    /**
+     * JDBC URL 쿼리 파라미터로 지정할 수 있는 설정 이름 (실제 Driver에는 전달하지 않음)
+     */
+    public static final Set<String> URL_PARAM_NAMES = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(
+            "hubUrl", "instanceId", "failOpen", "cryptoTransport", "blindIndex",
+            "prefixIndex", "prefixIndexLength")));
+    
     private static final String DEFAULT_HUB_URL = "http://localhost:9004";
     private static final String DEFAULT_INSTANCE_ID = "proxy-1";
+    private static final String DEFAULT_CRYPTO_TRANSPORT = "rest";
+    private static final int DEFAULT_PREFIX_INDEX_LENGTH = 8;
     
     private static volatile ProxyConfig instance;
     private final String hubUrl;
     private final String instanceId;
     private final boolean failOpen;
+    private final String cryptoTransport;
+    private final Set<String> blindIndexColumns;
+    private final String blindIndexKey;
+    private final Set<String> prefixIndexColumns;
+    private final int prefixIndexLength;
     
     /**
      * JDBC URL 쿼리 파라미터에서 Proxy 설정을 읽어서 생성
@@ -71,10 +95,126 @@ public class ProxyConfig {
         this.failOpen = failOpenProp == null || failOpenProp.trim().isEmpty() || 
                        Boolean.parseBoolean(failOpenProp);
         
+        // 암복호화 전송 방식 읽기 (rest: HubCryptoService, Factory.register로 등록한 사용자 정의 방식)
+        this.cryptoTransport = readSetting(urlParams, "cryptoTransport", "dadp.proxy.crypto-transport",
+                "DADP_PROXY_CRYPTO_TRANSPORT", DEFAULT_CRYPTO_TRANSPORT);
+        
+        // 블라인드 인덱스 대상 컬럼 읽기 (table.column 콤마 구분, 기본값: 사용 안 함)
+        this.blindIndexColumns = parseColumns(readSetting(urlParams, "blindIndex", "dadp.proxy.blind-index",
+                "DADP_PROXY_BLIND_INDEX", null));
+        this.blindIndexKey = readSetting(null, null, "dadp.proxy.blind-index-key", "DADP_PROXY_BLIND_INDEX_KEY", null);
+        
+        // 접두사 인덱스 대상 컬럼과 인덱싱할 최대 접두사 길이 읽기 (LIKE 'abc%' 검색용)
+        this.prefixIndexColumns = parseColumns(readSetting(urlParams, "prefixIndex", "dadp.proxy.prefix-index",
+                "DADP_PROXY_PREFIX_INDEX", null));
+        String prefixLengthProp = readSetting(urlParams, "prefixIndexLength", "dadp.proxy.prefix-index-length",
+                "DADP_PROXY_PREFIX_INDEX_LENGTH", null);
+        int prefixLength = DEFAULT_PREFIX_INDEX_LENGTH;
+        if (prefixLengthProp != null) {
+            try {
+                prefixLength = Integer.parseInt(prefixLengthProp);
+            } catch (NumberFormatException e) {
+                log.warn("⚠️ 잘못된 접두사 인덱스 길이: {}, 기본값 사용: {}", prefixLengthProp, DEFAULT_PREFIX_INDEX_LENGTH);
+            }
+            if (prefixLength <= 0) {
+                log.warn("⚠️ 잘못된 접두사 인덱스 길이: {}, 기본값 사용: {}", prefixLengthProp, DEFAULT_PREFIX_INDEX_LENGTH);
+                prefixLength = DEFAULT_PREFIX_INDEX_LENGTH;
+            }
+        }
+        this.prefixIndexLength = prefixLength;
+        
         log.info("✅ Proxy 설정 로드 완료:");
         log.info("   - Hub URL: {}", this.hubUrl);
         log.info("   - Instance ID: {}", this.instanceId);
         log.info("   - Fail-open: {}", this.failOpen);
+        log.info("   - Crypto transport: {}", this.cryptoTransport);
+        if (!blindIndexColumns.isEmpty()) {
+            log.info("   - Blind index: {}", this.blindIndexColumns);
+        }
+        if (!prefixIndexColumns.isEmpty()) {
+            log.info("   - Prefix index: {} (최대 {}자)", this.prefixIndexColumns, this.prefixIndexLength);
+        }
+    }
+    
+    /**
+     * table.column 목록 파싱 (소문자, 스키마 접두사 제거)
+     */
+    private static Set<String> parseColumns(String value) {
+        if (value == null) {
+            return Collections.emptySet();
+        }
+        Set<String> columns = new LinkedHashSet<>();
+        for (String entry : value.split(",")) {
+            String column = entry.trim().toLowerCase(Locale.ROOT);
+            int dot = column.lastIndexOf('.');
+            if (dot <= 0 || dot == column.length() - 1) {
+                if (!column.isEmpty()) {
+                    log.warn("⚠️ 잘못된 인덱스 대상 컬럼 (table.column 형식 필요): {}", entry.trim());
+                }
+                continue;
+            }
+            int schemaDot = column.lastIndexOf('.', dot - 1);
+            columns.add(schemaDot >= 0 ? column.substring(schemaDot + 1) : column);
+        }
+        return Collections.unmodifiableSet(columns);
+    }
+    
+    /**
+     * 설정값 읽기 (우선순위: URL 파라미터 > 시스템 프로퍼티 > 환경 변수 > 기본값)
+     */
+    private static String readSetting(Map<String, String> urlParams, String paramName,
+                                      String propertyName, String envName, String defaultValue) {
+        String value = urlParams != null ? urlParams.get(paramName) : null;
+        if (value == null || value.trim().isEmpty()) {
+            value = System.getProperty(propertyName);
+        }
+        if (value == null || value.trim().isEmpty()) {
+            value = System.getenv(envName);
+        }
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        return value.trim();
+    }
+    
+    /**
+     * 정수 시스템 프로퍼티 읽기 (성능/튜닝 설정용)
+     * 
+     * @param name 시스템 프로퍼티 이름
+     * @param defaultValue 값이 없거나 잘못된 경우 사용할 기본값
+     * @param minValue 허용하는 최솟값 (이보다 작으면 기본값 사용)
+     */
+    public static int intProperty(String name, int defaultValue, int minValue) {
+        long value = longProperty(name, defaultValue, minValue);
+        if (value > Integer.MAX_VALUE) {
+            log.warn("⚠️ 잘못된 {} 값: {} (int 범위 초과), 기본값 사용: {}", name, value, defaultValue);
+            return defaultValue;
+        }
+        return (int) value;
+    }
+    
+    /**
+     * long 시스템 프로퍼티 읽기 (성능/튜닝 설정용)
+     * 
+     * @param name 시스템 프로퍼티 이름
+     * @param defaultValue 값이 없거나 잘못된 경우 사용할 기본값
+     * @param minValue 허용하는 최솟값 (이보다 작으면 기본값 사용)
+     */
+    public static long longProperty(String name, long defaultValue, long minValue) {
+        String value = System.getProperty(name);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            long parsed = Long.parseLong(value.trim());
+            if (parsed >= minValue) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // 아래에서 기본값 사용
+        }
+        log.warn("⚠️ 잘못된 {} 값: {} ({} 이상의 정수 필요), 기본값 사용: {}", name, value, minValue, defaultValue);
+        return defaultValue;
     }
     
     /**
@@ -109,5 +249,37 @@ public class ProxyConfig {
     public boolean isFailOpen() {
         return failOpen;
     }
+    
+    public String getCryptoTransport() {
+        return cryptoTransport;
+    }
+    
+    /**
+     * 블라인드 인덱스 대상 컬럼 (소문자 table.column, 없으면 빈 집합)
+     */
+    public Set<String> getBlindIndexColumns() {
+        return blindIndexColumns;
+    }
+    
+    /**
+     * 블라인드 인덱스 HMAC 마스터 키 (Base64, 설정되지 않았으면 null)
+     */
+    public String getBlindIndexKey() {
+        return blindIndexKey;
+    }
+    
+    /**
+     * 접두사 인덱스 대상 컬럼 (소문자 table.column, 없으면 빈 집합)
+     */
+    public Set<String> getPrefixIndexColumns() {
+        return prefixIndexColumns;
+    }
+    
+    /**
+     * 접두사 인덱스로 검색할 수 있는 최대 접두사 길이 (문자 수)
+     */
+    public int getPrefixIndexLength() {
+        return prefixIndexLength;
+    }
 }
 
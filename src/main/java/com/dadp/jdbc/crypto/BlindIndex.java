@@ -0,0 +1,206 @@
+package com.dadp.jdbc.crypto;
+
+import com.dadp.jdbc.config.ProxyConfig;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 블라인드 인덱스
+ * 
+ * 암호화 컬럼의 평문에 대한 결정적 키 기반 HMAC(HMAC-SHA256, Base64 44자)을 계산합니다.
+ * 암호문은 값마다 달라 DB 인덱스로 동등 검색을 할 수 없으므로, 대상 컬럼(blindIndex 설정)마다
+ * 동반 컬럼(컬럼명 + "_bidx")에 HMAC을 함께 저장하고 SELECT의 "컬럼 = ?" 조건을 동반 컬럼 조건으로 바꿔
+ * 인덱스 검색이 가능하게 합니다 (StatementPlan 참고).
+ * 
+ * 컬럼마다 마스터 키에서 유도한 별도 키를 사용하므로 같은 평문이라도 컬럼이 다르면 HMAC이 다릅니다.
+ * 동등 검색만 지원하며, 같은 평문은 같은 HMAC이 되므로 값의 빈도는 노출됩니다.
+ * 
+ * 접두사 인덱스(prefixIndex 설정)는 LIKE 'abc%' 검색용으로, 평문(소문자)의 길이 1..N 접두사마다 HMAC을 12자 16진수로 잘라
+ * 순서대로 이어 붙인 값을 동반 컬럼(컬럼명 + "_pidx")에 저장합니다.
+ * 접두사 "abc"의 토큰열은 "abcd..."의 토큰열의 앞부분이므로, LIKE 'abc%'는 "토큰열%" 형태의 앞부분 일치 LIKE로 바뀌어
+ * 동반 컬럼의 B-tree 인덱스 범위 검색으로 처리됩니다.
+ * 최대 접두사 길이(N)보다 긴 패턴이나 앞부분 일치가 아닌 패턴('%abc', 'a_c%' 등)은 검색할 수 없습니다.
+ * 접두사 인덱스는 같은 접두사를 가진 값들을 드러내므로 동등 검색 인덱스보다 많은 정보를 노출합니다.
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+public final class BlindIndex {
+    
+    private static final Logger log = LoggerFactory.getLogger(BlindIndex.class);
+    
+    public static final String COLUMN_SUFFIX = "_bidx";
+    public static final String PREFIX_COLUMN_SUFFIX = "_pidx";
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String KEY_CONTEXT = "dadp-blind-index:";
+    private static final String PREFIX_KEY_CONTEXT = "dadp-prefix-index:";
+    private static final int PREFIX_TOKEN_BYTES = 6; // 토큰 1개 = 16진수 12자 (대소문자를 구분하지 않는 collation에서도 동일하게 비교)
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    
+    private final Set<String> columns; // 소문자 table.column
+    private final Set<String> prefixColumns; // 소문자 table.column
+    private final int prefixLength;
+    private final byte[] masterKey;
+    private final String rewriteKey; // SQL 재작성에 영향을 주는 설정 (대상 컬럼, 접두사 길이)
+    private final ConcurrentHashMap<String, SecretKeySpec> columnKeys = new ConcurrentHashMap<>();
+    
+    private BlindIndex(Set<String> columns, Set<String> prefixColumns, int prefixLength, byte[] masterKey) {
+        this.columns = columns;
+        this.prefixColumns = prefixColumns;
+        this.prefixLength = prefixLength;
+        this.masterKey = masterKey;
+        this.rewriteKey = "bidx=" + new TreeSet<>(columns) + ";pidx=" + new TreeSet<>(prefixColumns) + ";len=" + prefixLength;
+    }
+    
+    /**
+     * 설정으로 블라인드 인덱스 생성
+     * 
+     * @return 대상 컬럼이 없거나 키가 없거나 잘못되었으면 null (블라인드 인덱스 사용 안 함)
+     */
+    public static BlindIndex create(ProxyConfig config) {
+        Set<String> columns = config.getBlindIndexColumns();
+        Set<String> prefixColumns = config.getPrefixIndexColumns();
+        if (columns.isEmpty() && prefixColumns.isEmpty()) {
+            return null;
+        }
+        String key = config.getBlindIndexKey();
+        if (key == null) {
+            log.warn("⚠️ 블라인드 인덱스 키가 설정되지 않아 블라인드 인덱스를 사용하지 않습니다 (dadp.proxy.blind-index-key)");
+            return null;
+        }
+        byte[] masterKey;
+        try {
+            masterKey = Base64.getDecoder().decode(key);
+        } catch (IllegalArgumentException e) {
+            log.warn("⚠️ 블라인드 인덱스 키가 Base64 형식이 아니어서 블라인드 인덱스를 사용하지 않습니다");
+            return null;
+        }
+        if (masterKey.length < 16) {
+            log.warn("⚠️ 블라인드 인덱스 키가 너무 짧아 블라인드 인덱스를 사용하지 않습니다 (16바이트 이상 필요)");
+            return null;
+        }
+        return new BlindIndex(columns, prefixColumns, config.getPrefixIndexLength(), masterKey);
+    }
+    
+    /**
+     * SQL 재작성 설정 키 (대상 컬럼과 접두사 길이가 같으면 같은 값, 키는 포함하지 않음)
+     * 
+     * 재작성된 실행 계획을 공유할 수 있는 범위를 구분하는 데 사용합니다 (StatementPlanCache 참고).
+     */
+    public String getRewriteKey() {
+        return rewriteKey;
+    }
+    
+    /**
+     * 블라인드 인덱스 대상 컬럼 여부
+     * 
+     * @param tableName 테이블명 (스키마 접두사 허용)
+     */
+    public boolean isIndexed(String tableName, String columnName) {
+        return tableName != null && columnName != null && columns.contains(key(tableName, columnName));
+    }
+    
+    /**
+     * 접두사 인덱스 대상 컬럼 여부
+     * 
+     * @param tableName 테이블명 (스키마 접두사 허용)
+     */
+    public boolean isPrefixIndexed(String tableName, String columnName) {
+        return tableName != null && columnName != null && prefixColumns.contains(key(tableName, columnName));
+    }
+    
+    /**
+     * 평문의 블라인드 인덱스 값 계산
+     */
+    public String compute(String tableName, String columnName, String plaintext) {
+        SecretKeySpec columnKey = columnKey(KEY_CONTEXT, key(tableName, columnName));
+        return Base64.getEncoder().encodeToString(hmac(columnKey, plaintext));
+    }
+    
+    /**
+     * 평문의 접두사 인덱스 값 계산 (길이 1..최대 접두사 길이의 접두사 토큰을 순서대로 이어 붙임)
+     */
+    public String computePrefixes(String tableName, String columnName, String plaintext) {
+        return prefixTokens(tableName, columnName, plaintext.toLowerCase(Locale.ROOT));
+    }
+    
+    /**
+     * LIKE 패턴을 접두사 인덱스 검색 패턴으로 변환
+     * 
+     * @param pattern 'abc%' 형태의 앞부분 일치 패턴 (대소문자 구분 없음)
+     * @return 동반 컬럼용 LIKE 패턴 ("토큰열%"), 앞부분 일치 패턴이 아니거나 최대 접두사 길이를 넘으면 null
+     */
+    public String prefixPattern(String tableName, String columnName, String pattern) {
+        if (pattern == null || pattern.length() < 2 || pattern.charAt(pattern.length() - 1) != '%') {
+            return null;
+        }
+        String prefix = pattern.substring(0, pattern.length() - 1);
+        // 와일드카드나 이스케이프 문자가 있으면 토큰으로 표현할 수 없음
+        if (prefix.indexOf('%') >= 0 || prefix.indexOf('_') >= 0 || prefix.indexOf('\\') >= 0
+                || prefix.codePointCount(0, prefix.length()) > prefixLength) {
+            return null;
+        }
+        return prefixTokens(tableName, columnName, prefix.toLowerCase(Locale.ROOT)) + "%";
+    }
+    
+    private String prefixTokens(String tableName, String columnName, String value) {
+        SecretKeySpec columnKey = columnKey(PREFIX_KEY_CONTEXT, key(tableName, columnName));
+        Mac mac = newMac(columnKey);
+        int count = Math.min(value.codePointCount(0, value.length()), prefixLength);
+        StringBuilder tokens = new StringBuilder(count * PREFIX_TOKEN_BYTES * 2);
+        int end = 0;
+        for (int i = 0; i < count; i++) {
+            end = value.offsetByCodePoints(end, 1);
+            byte[] digest = mac.doFinal(value.substring(0, end).getBytes(StandardCharsets.UTF_8));
+            for (int b = 0; b < PREFIX_TOKEN_BYTES; b++) {
+                tokens.append(HEX[(digest[b] >> 4) & 0x0f]).append(HEX[digest[b] & 0x0f]);
+            }
+        }
+        return tokens.toString();
+    }
+    
+    /**
+     * 컬럼별 파생 키 (용도별 context로 블라인드 인덱스와 접두사 인덱스 키를 분리)
+     */
+    private SecretKeySpec columnKey(String context, String key) {
+        String cacheKey = context + key;
+        SecretKeySpec columnKey = columnKeys.get(cacheKey);
+        if (columnKey == null) {
+            columnKey = columnKeys.computeIfAbsent(cacheKey, k -> new SecretKeySpec(
+                    hmac(new SecretKeySpec(masterKey, ALGORITHM), k), ALGORITHM));
+        }
+        return columnKey;
+    }
+    
+    private static byte[] hmac(SecretKeySpec key, String value) {
+        return newMac(key).doFinal(value.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private static Mac newMac(SecretKeySpec key) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("블라인드 인덱스 계산 실패: " + e.getMessage(), e);
+        }
+    }
+    
+    private static String key(String tableName, String columnName) {
+        int dot = tableName.lastIndexOf('.');
+        if (dot >= 0) {
+            tableName = tableName.substring(dot + 1);
+        }
+        return tableName.toLowerCase(Locale.ROOT) + "." + columnName.toLowerCase(Locale.ROOT);
+    }
+}
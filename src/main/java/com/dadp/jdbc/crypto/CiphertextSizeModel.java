@@ -0,0 +1,70 @@
+package com.dadp.jdbc.crypto;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 정책별 암호문 크기 모델
+ * 
+ * 실제 암호화 결과에서 정책별 "암호문 길이 - 평문 길이"의 최솟값을 학습하여,
+ * 암호화하기 전에 암호문 길이의 하한을 예측합니다.
+ * 하한이 컬럼 크기를 넘으면 암호문이 컬럼에 들어갈 수 없으므로 Hub 호출 없이 크기 초과로 처리할 수 있습니다.
+ * 
+ * Base64 기반 암호문은 평문이 길수록 증가분이 커지고, 형식 보존 암호화는 증가분이 일정하므로
+ * 관찰한 최소 증가분은 두 경우 모두 하한으로 사용할 수 있습니다.
+ * 샘플이 MIN_SAMPLES개 미만이면 예측하지 않으며, 키 교체(keyId 길이 변경) 등에 대비해 MARGIN만큼 낮게 예측합니다.
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+public final class CiphertextSizeModel {
+    
+    private static final int MIN_SAMPLES = 8;
+    private static final int MARGIN = 16; // 키 교체 등으로 증가분이 줄어드는 경우 대비
+    
+    // instanceId별 모델 (정책명은 Hub 인스턴스 범위)
+    private static final ConcurrentHashMap<String, CiphertextSizeModel> instances = new ConcurrentHashMap<>();
+    
+    private final ConcurrentHashMap<String, PolicySize> policies = new ConcurrentHashMap<>();
+    
+    private CiphertextSizeModel() {
+    }
+    
+    public static CiphertextSizeModel forInstance(String instanceId) {
+        return instances.computeIfAbsent(instanceId, id -> new CiphertextSizeModel());
+    }
+    
+    /**
+     * 암호화 결과 기록
+     */
+    public void record(String policyName, int plainLength, int cipherLength) {
+        PolicySize size = policies.get(policyName);
+        if (size == null) {
+            size = policies.computeIfAbsent(policyName, p -> new PolicySize());
+        }
+        int overhead = cipherLength - plainLength;
+        size.minOverhead.accumulateAndGet(overhead, Math::min);
+        if (size.samples.get() < MIN_SAMPLES) {
+            size.samples.incrementAndGet();
+        }
+    }
+    
+    /**
+     * 암호문 길이 하한 예측
+     * 
+     * @return 하한 (샘플이 부족하면 -1)
+     */
+    public int minCipherLength(String policyName, int plainLength) {
+        PolicySize size = policies.get(policyName);
+        if (size == null || size.samples.get() < MIN_SAMPLES) {
+            return -1;
+        }
+        return plainLength + size.minOverhead.get() - MARGIN;
+    }
+    
+    private static final class PolicySize {
+        final AtomicInteger samples = new AtomicInteger();
+        final AtomicInteger minOverhead = new AtomicInteger(Integer.MAX_VALUE);
+    }
+}
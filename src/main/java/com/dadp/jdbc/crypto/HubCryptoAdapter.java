@@ -1,7 +1,9 @@
 package com.dadp.jdbc.crypto;
 
-import com.dadp.hub.crypto.HubCryptoService;
+import com.dadp.jdbc.jfr.DadpEventSink;
+import com.dadp.jdbc.metrics.DadpMetrics;
 import com.dadp.jdbc.notification.HubNotificationService;
+import java.util.Base64;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -10,6 +12,7 @@ import org.slf4j.LoggerFactory;
  * 
  * dadp-hub-crypto-lib의 HubCryptoService를 래핑하여 사용합니다.
  * Fail-open/Fail-closed 모드를 지원합니다.
+ * Hub 통신 방식은 HubCryptoTransport로 분리되어 있습니다 (rest: 기본값).
  * 
  * @author DADP Development Team
  * @version 3.0.0
@@ -18,23 +21,49 @@ import org.slf4j.LoggerFactory;
 public class HubCryptoAdapter {
     
     private static final Logger log = LoggerFactory.getLogger(HubCryptoAdapter.class);
+    private static final DadpEventSink EVENTS = DadpEventSink.Factory.get(); // JFR 이벤트 (Java 11+)
+    private static final String ENC_MARKER = "::ENC::"; // 정책명::ENC::Base64
     
-    private final HubCryptoService hubCryptoService;
+    private final HubCryptoTransport transport;
     private final boolean failOpen;
     private volatile boolean hubAvailable = true; // Hub 연결 가능 여부
     private HubNotificationService notificationService; // 알림 서비스 (선택적)
+    private final DadpMetrics metrics; // 지표 (선택적)
     
     public HubCryptoAdapter(String hubUrl, boolean failOpen) {
         this(hubUrl, failOpen, null);
     }
     
     public HubCryptoAdapter(String hubUrl, boolean failOpen, HubNotificationService notificationService) {
+        this(hubUrl, failOpen, notificationService, HubCryptoTransport.TYPE_REST);
+    }
+    
+    /**
+     * @param hubUrl Hub URL
+     * @param failOpen Fail-open 모드 여부
+     * @param notificationService 알림 서비스 (null 가능)
+     * @param transportType Hub 통신 방식 (rest 또는 등록한 사용자 정의 방식)
+     */
+    public HubCryptoAdapter(String hubUrl, boolean failOpen, HubNotificationService notificationService,
+                            String transportType) {
+        this(hubUrl, failOpen, notificationService, transportType, null);
+    }
+    
+    /**
+     * @param hubUrl Hub URL
+     * @param failOpen Fail-open 모드 여부
+     * @param notificationService 알림 서비스 (null 가능)
+     * @param transportType Hub 통신 방식 (rest 또는 등록한 사용자 정의 방식)
+     * @param metrics 지표 (null 가능)
+     */
+    public HubCryptoAdapter(String hubUrl, boolean failOpen, HubNotificationService notificationService,
+                            String transportType, DadpMetrics metrics) {
         this.failOpen = failOpen;
         this.notificationService = notificationService;
-        // HubCryptoService는 Spring Bean이 아니므로 createInstance 사용
+        this.metrics = metrics;
         // 초기화 시에는 연결 테스트를 하지 않음 (지연 초기화)
-        this.hubCryptoService = HubCryptoService.createInstance(hubUrl, 5000, true);
-        log.info("✅ Hub 암복호화 어댑터 생성: hubUrl={}, failOpen={}", hubUrl, failOpen);
+        this.transport = HubCryptoTransport.Factory.create(hubUrl, transportType);
+        log.info("✅ Hub 암복호화 어댑터 생성: hubUrl={}, failOpen={}, transport={}", hubUrl, failOpen, transportType);
     }
     
     /**
@@ -58,16 +87,27 @@ public class HubCryptoAdapter {
             return null;
         }
         
+        long startNanos = System.nanoTime();
+        Object event = EVENTS.beginHubCrypto();
         try {
-            log.debug("🔐 암호화 요청: policy={}, dataLength={}", policyName, data != null ? data.length() : 0);
-            String encrypted = hubCryptoService.encrypt(data, policyName);
+            log.debug("🔐 암호화 요청: policy={}, dataLength={}", policyName, data.length());
+            String encrypted = transport.encrypt(data, policyName);
+            if (metrics != null) {
+                metrics.recordEncrypt(policyName, System.nanoTime() - startNanos);
+            }
+            EVENTS.endHubCrypto(event, "encrypt", policyName, 1, DadpEventSink.OUTCOME_SUCCESS);
             log.debug("✅ 암호화 완료");
             hubAvailable = true; // 성공 시 연결 가능으로 표시
             return encrypted;
         } catch (Exception e) {
+            EVENTS.endHubCrypto(event, "encrypt", policyName, 1,
+                    failOpen ? DadpEventSink.OUTCOME_FAIL_OPEN : DadpEventSink.OUTCOME_FAILURE);
             // 실패 처리: 경고 레벨로 간략하게 출력
             String errorMsg = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
             log.warn("⚠️ 암호화 실패 (정책: {}): {}", policyName, errorMsg);
+            if (metrics != null) {
+                metrics.recordHubError();
+            }
             // 주의: hubAvailable을 false로 설정하기 전에 이전 상태 확인
             boolean wasAvailable = hubAvailable;
             hubAvailable = false; // 실패 시 연결 불가로 표시
@@ -75,7 +115,7 @@ public class HubCryptoAdapter {
             // Hub에 알림 전송 (알림 서비스가 설정되고 이전에 Hub 연결이 확인된 경우에만)
             // 암호화 실패 시점에는 이미 hubAvailable이 false이므로, 이전 상태를 확인해야 함
             if (notificationService != null && wasAvailable) {
-                // 테이블명과 컬럼명은 알 수 없으므로 null로 전달
+                // 테이블명과 컬럼명은 알 수 없으므로 정책명으로 구분
                 notificationService.notifyEncryptionError(null, null, policyName, errorMsg);
             } else if (notificationService != null && !wasAvailable) {
                 log.debug("Hub 연결이 확인되지 않아 알림 전송 건너뜀");
@@ -84,6 +124,9 @@ public class HubCryptoAdapter {
             if (failOpen) {
                 // Fail-open 모드: 원본 데이터 반환 (평문으로 저장)
                 log.debug("Fail-open 모드: 평문으로 저장");
+                if (metrics != null) {
+                    metrics.recordFailOpenFallback();
+                }
                 return data;
             } else {
                 // Fail-closed 모드: 예외 발생
@@ -103,14 +146,32 @@ public class HubCryptoAdapter {
      * @return 복호화된 데이터 (실패 시 failOpen 모드에 따라 원본 반환 또는 예외)
      */
     public String decrypt(String encryptedData) {
+        return decrypt(encryptedData, null);
+    }
+    
+    /**
+     * 복호화 (정책명은 지표 집계와 오류 알림 구분용)
+     * 
+     * @param encryptedData 암호화된 데이터 (또는 일반 텍스트)
+     * @param policyName 매핑된 정책명 (지표 집계와 오류 알림 구분용, null 가능)
+     * @return 복호화된 데이터 (실패 시 failOpen 모드에 따라 원본 반환 또는 예외)
+     */
+    public String decrypt(String encryptedData, String policyName) {
         if (encryptedData == null) {
             return null;
         }
         
+        long startNanos = System.nanoTime();
+        Object event = EVENTS.beginHubCrypto();
         try {
-            log.debug("🔓 복호화 요청: dataLength={}", encryptedData != null ? encryptedData.length() : 0);
+            log.debug("🔓 복호화 요청: dataLength={}", encryptedData.length());
             // Hub/Engine에서 암호화 여부 판단 및 처리
-            String decrypted = hubCryptoService.decrypt(encryptedData);
+            String decrypted = transport.decrypt(encryptedData);
+            if (metrics != null) {
+                metrics.recordDecrypt(policyName, System.nanoTime() - startNanos);
+            }
+            EVENTS.endHubCrypto(event, "decrypt", policyName, 1,
+                    decrypted != null ? DadpEventSink.OUTCOME_SUCCESS : DadpEventSink.OUTCOME_NOT_ENCRYPTED);
             
             // null 반환 시 "데이터가 암호화되지 않았습니다" 의미 (원본 데이터 반환)
             if (decrypted == null) {
@@ -122,9 +183,14 @@ public class HubCryptoAdapter {
             hubAvailable = true; // 성공 시 연결 가능으로 표시
             return decrypted;
         } catch (Exception e) {
+            EVENTS.endHubCrypto(event, "decrypt", policyName, 1,
+                    failOpen ? DadpEventSink.OUTCOME_FAIL_OPEN : DadpEventSink.OUTCOME_FAILURE);
             // 실제 에러만 처리 (HubCryptoService에서 "데이터가 암호화되지 않았습니다"는 null 반환하므로 여기까지 오지 않음)
             String errorMessage = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
             log.warn("⚠️ 복호화 실패: {}", errorMessage);
+            if (metrics != null) {
+                metrics.recordHubError();
+            }
             // 주의: hubAvailable을 false로 설정하기 전에 이전 상태 확인
             boolean wasAvailable = hubAvailable;
             hubAvailable = false; // 실패 시 연결 불가로 표시
@@ -132,8 +198,8 @@ public class HubCryptoAdapter {
             // Hub에 알림 전송 (알림 서비스가 설정되고 이전에 Hub 연결이 확인된 경우에만)
             // 복호화 실패 시점에는 이미 hubAvailable이 false이므로, 이전 상태를 확인해야 함
             if (notificationService != null && wasAvailable) {
-                // 테이블명과 컬럼명은 알 수 없으므로 null로 전달
-                notificationService.notifyDecryptionError(null, null, errorMessage);
+                // 테이블명과 컬럼명은 알 수 없으므로 정책명으로 구분
+                notificationService.notifyDecryptionError(null, null, policyName, errorMessage);
             } else if (notificationService != null && !wasAvailable) {
                 log.debug("Hub 연결이 확인되지 않아 알림 전송 건너뜀");
             }
@@ -141,6 +207,9 @@ public class HubCryptoAdapter {
             if (failOpen) {
                 // Fail-open 모드: 원본 데이터 반환 (평문으로 저장)
                 log.debug("Fail-open 모드: 평문으로 저장");
+                if (metrics != null) {
+                    metrics.recordFailOpenFallback();
+                }
                 return encryptedData;
             } else {
                 // Fail-closed 모드: 예외 발생
@@ -156,7 +225,42 @@ public class HubCryptoAdapter {
      * @return 암호화된 데이터인지 여부
      */
     public boolean isEncryptedData(String data) {
-        return hubCryptoService.isEncryptedData(data);
+        return transport.isEncryptedData(data);
+    }
+    
+    /**
+     * 컬럼 정책의 암호문인지 확인
+     * 
+     * Hub 라이브러리 형식 검사에 더해, 값이 "정책명::ENC::Base64" 형식이고 정책명이 컬럼에 매핑된 정책과 같으며
+     * Base64 부분이 디코딩되는 경우에도 암호문으로 판단합니다.
+     * 평문 접두사 뒤에 "::ENC::"가 있는 부분 암호화 값이나 표시만 포함된 평문은 암호문으로 보지 않습니다.
+     * 
+     * @param data 확인할 데이터
+     * @param policyName 컬럼에 매핑된 정책명 (PolicyResolver)
+     * @return 암호화된 데이터인지 여부
+     */
+    public boolean isEncryptedData(String data, String policyName) {
+        if (data == null) {
+            return false;
+        }
+        return transport.isEncryptedData(data) || isEnvelope(data, policyName);
+    }
+    
+    private static boolean isEnvelope(String data, String policyName) {
+        if (policyName == null || policyName.isEmpty() || !data.startsWith(policyName)
+                || !data.startsWith(ENC_MARKER, policyName.length())) {
+            return false;
+        }
+        String payload = data.substring(policyName.length() + ENC_MARKER.length());
+        if (payload.isEmpty()) {
+            return false;
+        }
+        try {
+            Base64.getDecoder().decode(payload);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
     }
 }
 
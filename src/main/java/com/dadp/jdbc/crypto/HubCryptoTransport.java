@@ -0,0 +1,108 @@
+package com.dadp.jdbc.crypto;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Hub 암복호화 전송 계층
+ * 
+ * HubCryptoAdapter가 Hub와 통신하는 방식을 추상화합니다.
+ * Fail-open/Fail-closed 처리와 알림은 HubCryptoAdapter가 담당하며,
+ * 전송 계층은 요청/응답만 처리하고 실패 시 예외를 던집니다.
+ * 
+ * 지원 방식:
+ * - rest: dadp-hub-crypto-lib의 HubCryptoService (RestTemplate, HTTP/1.1) - 기본값
+ * - http2: 예약됨. Hub 암복호화 요청/응답 형식은 HubCryptoService만 알고 있으므로,
+ *   라이브러리가 형식을 공개하기 전까지는 경고 후 rest 방식으로 대체합니다.
+ * - Factory.register로 등록한 사용자 정의 방식 (벤치마크/부하 테스트용 스텁 등)
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+public interface HubCryptoTransport {
+    
+    String TYPE_REST = "rest";
+    String TYPE_HTTP2 = "http2";
+    
+    /**
+     * 암호화
+     * 
+     * @param data 평문 데이터
+     * @param policyName 정책명
+     * @return 암호화된 데이터
+     * @throws Exception Hub 통신 실패 또는 암호화 실패
+     */
+    String encrypt(String data, String policyName) throws Exception;
+    
+    /**
+     * 복호화
+     * 
+     * @param encryptedData 암호화된 데이터 (또는 일반 텍스트)
+     * @return 복호화된 데이터 (데이터가 암호화되지 않았으면 null)
+     * @throws Exception Hub 통신 실패 또는 복호화 실패
+     */
+    String decrypt(String encryptedData) throws Exception;
+    
+    /**
+     * 데이터가 암호화된 형태인지 확인
+     * 
+     * @param data 확인할 데이터
+     * @return 암호화된 데이터인지 여부
+     */
+    boolean isEncryptedData(String data);
+    
+    /**
+     * 전송 방식에 맞는 HubCryptoTransport 생성
+     */
+    class Factory {
+        private static final Logger log = LoggerFactory.getLogger(HubCryptoTransport.class);
+        
+        private static final int CONNECT_TIMEOUT = 5000;
+        
+        // 사용자 정의 전송 방식 (전송 방식명 → Hub URL을 받아 전송 계층 생성)
+        private static final ConcurrentHashMap<String, Function<String, HubCryptoTransport>> customTransports = new ConcurrentHashMap<>();
+        
+        /**
+         * 사용자 정의 전송 방식 등록
+         * 
+         * 등록 후 crypto-transport 설정에 해당 이름을 지정하면 이 전송 계층을 사용합니다.
+         * 벤치마크나 부하 테스트에서 Hub 없이 스텁 전송을 사용할 때 씁니다.
+         * 
+         * @param transportType 전송 방식명 (rest, http2는 사용 불가)
+         * @param provider Hub URL을 받아 HubCryptoTransport를 생성하는 함수
+         */
+        public static void register(String transportType, Function<String, HubCryptoTransport> provider) {
+            if (TYPE_REST.equalsIgnoreCase(transportType) || TYPE_HTTP2.equalsIgnoreCase(transportType)) {
+                throw new IllegalArgumentException("기본 전송 방식은 대체할 수 없습니다: " + transportType);
+            }
+            customTransports.put(transportType.toLowerCase(), provider);
+            log.info("✅ Hub 암복호화 사용자 정의 전송 등록: {}", transportType);
+        }
+        
+        /**
+         * HubCryptoTransport 생성
+         * 
+         * http2는 아직 지원하지 않으므로 rest 방식으로 대체합니다.
+         * 
+         * @param hubUrl Hub URL
+         * @param transportType 전송 방식 (rest, http2)
+         * @return HubCryptoTransport 인스턴스
+         */
+        public static HubCryptoTransport create(String hubUrl, String transportType) {
+            if (transportType != null && !customTransports.isEmpty()) {
+                Function<String, HubCryptoTransport> provider = customTransports.get(transportType.toLowerCase());
+                if (provider != null) {
+                    return provider.apply(hubUrl);
+                }
+            }
+            if (TYPE_HTTP2.equalsIgnoreCase(transportType)) {
+                log.warn("⚠️ HTTP/2 전송은 Hub 암복호화 API 형식이 확인될 때까지 지원하지 않습니다. rest 방식으로 대체합니다.");
+            }
+            return new RestHubCryptoTransport(hubUrl, CONNECT_TIMEOUT);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.dadp.jdbc.crypto;
+
+import com.dadp.jdbc.config.ProxyConfig;
+import com.dadp.jdbc.http.VirtualThreads;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 병렬 복호화
+ * 
+ * ResultSet 복호화 윈도우(여러 행)의 보호 컬럼 값을 정책별로 묶고 청크로 나누어
+ * 공유 ForkJoinPool에서 동시에 복호화합니다. 결과는 입력 배열의 같은 위치에 저장되므로 행 순서가 유지됩니다.
+ * 
+ * 호출 스레드도 청크를 처리하므로 공유 풀이 포화되어도 진행이 멈추지 않으며,
+ * 쿼리 하나가 동시에 사용하는 스레드 수(호출 스레드 포함)는 decrypt-query-concurrency로 제한됩니다.
+ * Java 21 이상에서는 공유 풀 대신 작업마다 가상 스레드를 사용하며 (VirtualThreads 참고),
+ * 완료 대기에 synchronized/wait 대신 ReentrantLock을 사용해 가상 스레드가 캐리어에 고정되지 않습니다.
+ * 
+ * 설정 (시스템 프로퍼티):
+ * - dadp.proxy.decrypt-window-rows: 복호화 윈도우 행 수 (기본값: 0 = 사용 안 함, 행 단위 복호화)
+ * - dadp.proxy.decrypt-parallelism: 공유 풀 최대 스레드 수 (기본값: CPU 코어 수, 가상 스레드 사용 시 미적용)
+ * - dadp.proxy.decrypt-query-concurrency: 쿼리별 최대 동시 복호화 수 (기본값: 4)
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+public final class ParallelDecryptor {
+    
+    private static final int DEFAULT_QUERY_CONCURRENCY = 4;
+    private static final int MIN_CHUNK_SIZE = 32; // 이보다 작은 청크는 스레드 전환 비용이 더 큼
+    
+    private static final int WINDOW_ROWS = ProxyConfig.intProperty("dadp.proxy.decrypt-window-rows", 0, 0);
+    private static final int QUERY_CONCURRENCY = ProxyConfig.intProperty("dadp.proxy.decrypt-query-concurrency",
+            DEFAULT_QUERY_CONCURRENCY, 1);
+    
+    private ParallelDecryptor() {
+    }
+    
+    /**
+     * 복호화 윈도우 행 수 (0이면 윈도우를 사용하지 않음)
+     */
+    public static int getWindowRows() {
+        return WINDOW_ROWS;
+    }
+    
+    /**
+     * values[i]를 policyNames[i] 정책으로 복호화하여 values[i]에 다시 저장
+     * 
+     * 오류 처리(Fail-open/Fail-closed)는 HubCryptoAdapter를 따르며,
+     * Fail-closed 예외가 발생하면 남은 청크는 처리하지 않으며, 다른 스레드가 처리 중인 청크가
+     * 끝날 때까지 기다린 뒤 호출 스레드로 전달합니다 (반환 후에는 values를 변경하는 작업이 없음).
+     * 
+     * @param adapter Hub 암복호화 어댑터
+     * @param values 암호화된 값 (null 항목은 건너뜀)
+     * @param policyNames 값별 정책명 (values와 같은 길이)
+     * @param count 처리할 항목 수 (앞에서부터)
+     */
+    public static void decryptAll(HubCryptoAdapter adapter, String[] values, String[] policyNames, int count) {
+        // 정책별로 묶은 뒤 청크로 분할 (청크 하나는 항상 같은 정책)
+        Map<String, List<Integer>> byPolicy = new LinkedHashMap<>();
+        int total = 0;
+        for (int i = 0; i < count; i++) {
+            if (values[i] != null) {
+                byPolicy.computeIfAbsent(policyNames[i], p -> new ArrayList<>()).add(i);
+                total++;
+            }
+        }
+        if (total == 0) {
+            return;
+        }
+        
+        int chunkSize = Math.max(MIN_CHUNK_SIZE, (total + QUERY_CONCURRENCY - 1) / QUERY_CONCURRENCY);
+        List<int[]> chunks = new ArrayList<>();
+        for (List<Integer> indexes : byPolicy.values()) {
+            for (int from = 0; from < indexes.size(); from += chunkSize) {
+                int to = Math.min(indexes.size(), from + chunkSize);
+                int[] chunk = new int[to - from];
+                for (int k = from; k < to; k++) {
+                    chunk[k - from] = indexes.get(k);
+                }
+                chunks.add(chunk);
+            }
+        }
+        
+        int workers = Math.min(QUERY_CONCURRENCY, chunks.size());
+        AtomicInteger nextChunk = new AtomicInteger();
+        AtomicInteger completedChunks = new AtomicInteger();
+        AtomicInteger inFlight = new AtomicInteger(); // 청크를 가져가려 하거나 처리 중인 작업 수
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        ReentrantLock lock = new ReentrantLock();
+        Condition done = lock.newCondition();
+        Runnable worker = () -> {
+            while (true) {
+                // 실패 확인 전에 먼저 등록하므로, 호출 스레드가 inFlight == 0을 본 뒤 시작한 작업은 실패를 보고 종료함
+                inFlight.incrementAndGet();
+                try {
+                    int c;
+                    // 풀 작업이 늦게 시작되면 남은 청크가 없어 바로 종료됨
+                    if (failure.get() != null || (c = nextChunk.getAndIncrement()) >= chunks.size()) {
+                        return;
+                    }
+                    try {
+                        for (int i : chunks.get(c)) {
+                            values[i] = adapter.decrypt(values[i], policyNames[i]);
+                        }
+                    } catch (RuntimeException e) {
+                        failure.compareAndSet(null, e);
+                    }
+                    completedChunks.incrementAndGet();
+                } finally {
+                    if (inFlight.decrementAndGet() == 0) {
+                        lock.lock();
+                        try {
+                            done.signalAll();
+                        } finally {
+                            lock.unlock();
+                        }
+                    }
+                }
+            }
+        };
+        
+        for (int w = 1; w < workers; w++) {
+            try {
+                Holder.EXECUTOR.execute(worker);
+            } catch (RejectedExecutionException e) {
+                break; // 남은 청크는 호출 스레드가 처리
+            }
+        }
+        worker.run();
+        
+        // 다른 스레드가 가져간 청크가 모두 끝날 때까지 대기 (실패한 경우에도 처리 중인 청크가 values에 쓰기를 마칠 때까지)
+        // 아직 시작하지 않은 풀 작업은 기다리지 않음
+        boolean interrupted = false;
+        lock.lock();
+        try {
+            while (inFlight.get() > 0 || (completedChunks.get() < chunks.size() && failure.get() == null)) {
+                try {
+                    done.await();
+                } catch (InterruptedException e) {
+                    // 남은 청크는 가져가지 않도록 실패로 표시하고, 처리 중인 청크는 계속 대기
+                    interrupted = true;
+                    failure.compareAndSet(null, new IllegalStateException("복호화 대기 중 인터럽트", e));
+                }
+            }
+        } finally {
+            lock.unlock();
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+    }
+    
+    private static final class Holder {
+        private static final Executor EXECUTOR = create();
+        
+        private static Executor create() {
+            ExecutorService virtual = VirtualThreads.newThreadPerTaskExecutor("dadp-decrypt-");
+            if (virtual != null) {
+                return virtual;
+            }
+            int parallelism = ProxyConfig.intProperty("dadp.proxy.decrypt-parallelism",
+                    Runtime.getRuntime().availableProcessors(), 1);
+            AtomicInteger counter = new AtomicInteger();
+            return new ForkJoinPool(parallelism, pool -> {
+                ForkJoinWorkerThread t = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                t.setName("dadp-decrypt-" + counter.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            }, null, false);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.dadp.jdbc.crypto;
+
+import com.dadp.hub.crypto.HubCryptoService;
+
+/**
+ * HubCryptoService 기반 전송 (기본값)
+ * 
+ * dadp-hub-crypto-lib의 HubCryptoService(RestTemplate, HTTP/1.1)를 그대로 사용합니다.
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+class RestHubCryptoTransport implements HubCryptoTransport {
+    
+    private final HubCryptoService hubCryptoService;
+    
+    RestHubCryptoTransport(String hubUrl, int timeout) {
+        // HubCryptoService는 Spring Bean이 아니므로 createInstance 사용
+        // 초기화 시에는 연결 테스트를 하지 않음 (지연 초기화)
+        this.hubCryptoService = HubCryptoService.createInstance(hubUrl, timeout, true);
+    }
+    
+    @Override
+    public String encrypt(String data, String policyName) throws Exception {
+        return hubCryptoService.encrypt(data, policyName);
+    }
+    
+    @Override
+    public String decrypt(String encryptedData) throws Exception {
+        return hubCryptoService.decrypt(encryptedData);
+    }
+    
+    @Override
+    public boolean isEncryptedData(String data) {
+        return hubCryptoService.isEncryptedData(data);
+    }
+}
@@ -0,0 +1,59 @@
+package com.dadp.jdbc.diagnostics;
+
+import com.dadp.jdbc.config.ProxyConfig;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DADP 진단(diagnostics) 설정
+ * 
+ * 셀 단위 로그 대신 Statement/ResultSet 단위 요약 이벤트를 사용하며,
+ * 필요 시 N개 중 1개의 Statement만 상세 추적(sampled trace)합니다.
+ * 상세 추적에서도 평문/암호문 값은 기록하지 않고 길이만 기록합니다.
+ * 
+ * 설정 (시스템 프로퍼티, 실행 중 {@link #setTraceSampleRate(int)}로 변경 가능):
+ * - dadp.proxy.trace-sample-rate: N (N개 Statement 중 1개 상세 추적, 0이면 비활성화, 기본값: 0)
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+public final class DadpDiagnostics {
+    
+    private static volatile int traceSampleRate = ProxyConfig.intProperty("dadp.proxy.trace-sample-rate", 0, 0);
+    private static final AtomicLong statementSequence = new AtomicLong();
+    
+    private DadpDiagnostics() {
+    }
+    
+    /**
+     * 상세 추적 샘플링 비율 (N개 중 1개, 0이면 비활성화)
+     */
+    public static int getTraceSampleRate() {
+        return traceSampleRate;
+    }
+    
+    /**
+     * 상세 추적 샘플링 비율 변경 (실행 중 변경 가능)
+     * 
+     * @param sampleRate N개 Statement 중 1개 상세 추적 (0 이하이면 비활성화)
+     */
+    public static void setTraceSampleRate(int sampleRate) {
+        traceSampleRate = Math.max(0, sampleRate);
+    }
+    
+    /**
+     * Statement/ResultSet 추적 시작
+     * 
+     * @param tableName 대상 테이블명 (없으면 null)
+     * @return 추적 객체 (단일 스레드에서만 사용)
+     */
+    public static StatementTrace begin(String tableName) {
+        int rate = traceSampleRate;
+        if (rate <= 0) {
+            return new StatementTrace(0L, tableName, false);
+        }
+        long id = statementSequence.incrementAndGet();
+        return new StatementTrace(id, tableName, id % rate == 0);
+    }
+    
+}
@@ -0,0 +1,118 @@
+package com.dadp.jdbc.diagnostics;
+
+import org.slf4j.Logger;
+
+/**
+ * Statement/ResultSet 단위 진단 정보
+ * 
+ * 셀 접근 시에는 카운터만 증가시키고, 종료 시 요약 이벤트를 한 번만 기록합니다.
+ * 하나의 ResultSet/Statement 안에서만 사용되므로 동기화하지 않습니다.
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+public final class StatementTrace {
+    
+    // ResultSet당 한 번만 기록하는 경고 종류
+    public static final int WARN_NO_PARSE_RESULT = 1;
+    public static final int WARN_NO_TABLE = 1 << 1;
+    public static final int WARN_NO_ADAPTER = 1 << 2;
+    public static final int WARN_METADATA = 1 << 3;
+    
+    private final long id;
+    private final String tableName;
+    private final boolean sampled;
+    
+    private long rows;
+    private long cells;
+    private long decrypted;
+    private long memoized;
+    private long notMapped;
+    private long unavailable;
+    private int warned;
+    private boolean closed;
+    
+    StatementTrace(long id, String tableName, boolean sampled) {
+        this.id = id;
+        this.tableName = tableName;
+        this.sampled = sampled;
+    }
+    
+    /**
+     * 상세 추적 대상 여부 (샘플링된 Statement만 true)
+     */
+    public boolean isSampled() {
+        return sampled;
+    }
+    
+    public void row() {
+        rows++;
+    }
+    
+    public void cell() {
+        cells++;
+    }
+    
+    public void decrypted() {
+        decrypted++;
+    }
+    
+    /**
+     * 같은 행에서 이미 복호화한 값을 재사용한 경우 (Hub 호출 없음)
+     */
+    public void memoized() {
+        memoized++;
+    }
+    
+    public void notMapped() {
+        notMapped++;
+    }
+    
+    /**
+     * 복호화 대상이지만 Hub 어댑터가 없어 원본을 반환한 경우
+     */
+    public void unavailable() {
+        unavailable++;
+    }
+    
+    /**
+     * 같은 경고를 ResultSet당 한 번만 기록하기 위한 확인
+     * 
+     * @param kind 경고 종류 (WARN_*)
+     * @return 해당 경고가 처음인 경우 true
+     */
+    public boolean firstWarning(int kind) {
+        if ((warned & kind) != 0) {
+            return false;
+        }
+        warned |= kind;
+        return true;
+    }
+    
+    /**
+     * 샘플링된 Statement의 셀 단위 상세 추적 (값은 기록하지 않고 길이만 기록)
+     */
+    public void traceCell(Logger log, String columnName, String policyName, int valueLength) {
+        log.info("🔎 [trace#{}] {}.{} 정책={} 길이={}", id, tableName, columnName, policyName, valueLength);
+    }
+    
+    /**
+     * 요약 이벤트 기록 (한 번만 기록)
+     * 
+     * 샘플링된 Statement는 INFO, 그 외에는 DEBUG 레벨로 기록합니다.
+     */
+    public void close(Logger log) {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (sampled) {
+            log.info("📊 [trace#{}] ResultSet 요약: table={}, rows={}, cells={}, decrypted={}, memoized={}, notMapped={}, unavailable={}",
+                    id, tableName, rows, cells, decrypted, memoized, notMapped, unavailable);
+        } else if (log.isDebugEnabled()) {
+            log.debug("📊 ResultSet 요약: table={}, rows={}, cells={}, decrypted={}, memoized={}, notMapped={}, unavailable={}",
+                    tableName, rows, cells, decrypted, memoized, notMapped, unavailable);
+        }
+    }
+}
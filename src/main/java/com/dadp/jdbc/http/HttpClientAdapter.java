@@ -1,12 +1,17 @@
 package com.dadp.jdbc.http;
 
+import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * HTTP 클라이언트 어댑터 인터페이스
  * 
  * Java 버전에 따라 적절한 HTTP 클라이언트 구현을 사용합니다.
+ * 동기(get/post)와 비동기(getAsync/postAsync) API를 모두 제공합니다.
+ * 큰 응답은 본문을 String으로 만들지 않고 스트림으로 읽을 수 있습니다 (getStream/getStreamAsync).
  * 
  * @author DADP Development Team
  * @version 3.0.5
@@ -32,6 +37,50 @@ public interface HttpClientAdapter {
      */
     HttpResponse post(URI uri, String body) throws IOException;
     
+    /**
+     * HTTP GET 요청 (비동기)
+     * 
+     * 호출 스레드를 블로킹하지 않습니다. IO 오류는 반환된 Future의 예외로 전달됩니다.
+     * 
+     * @param uri 요청 URI
+     * @return HTTP 응답 Future
+     */
+    CompletableFuture<HttpResponse> getAsync(URI uri);
+    
+    /**
+     * HTTP POST 요청 (비동기)
+     * 
+     * 호출 스레드를 블로킹하지 않습니다. IO 오류는 반환된 Future의 예외로 전달됩니다.
+     * 
+     * @param uri 요청 URI
+     * @param body 요청 본문
+     * @return HTTP 응답 Future
+     */
+    CompletableFuture<HttpResponse> postAsync(URI uri, String body);
+    
+    /**
+     * HTTP GET 요청 (응답 본문 스트리밍)
+     * 
+     * 응답 본문을 메모리에 모두 읽지 않고 InputStream으로 반환합니다.
+     * 호출자는 반드시 반환된 응답을 닫아야 합니다.
+     * 
+     * @param uri 요청 URI
+     * @return 스트리밍 HTTP 응답
+     * @throws IOException IO 오류
+     */
+    StreamResponse getStream(URI uri) throws IOException;
+    
+    /**
+     * HTTP GET 요청 (비동기, 응답 본문 스트리밍)
+     * 
+     * 응답 헤더를 받으면 완료되며, 본문은 반환된 응답의 InputStream으로 읽습니다.
+     * 호출자는 반드시 반환된 응답을 닫아야 합니다.
+     * 
+     * @param uri 요청 URI
+     * @return 스트리밍 HTTP 응답 Future
+     */
+    CompletableFuture<StreamResponse> getStreamAsync(URI uri);
+    
     /**
      * HTTP 응답 인터페이스
      */
@@ -51,6 +100,27 @@ public interface HttpClientAdapter {
         String getBody();
     }
     
+    /**
+     * 스트리밍 HTTP 응답 인터페이스
+     * 
+     * 닫으면 응답 본문 스트림과 연결 자원이 해제됩니다.
+     */
+    interface StreamResponse extends Closeable {
+        /**
+         * HTTP 상태 코드
+         * 
+         * @return 상태 코드
+         */
+        int getStatusCode();
+        
+        /**
+         * 응답 본문 스트림
+         * 
+         * @return 응답 본문 스트림 (본문이 없으면 null)
+         */
+        InputStream getBody();
+    }
+    
     /**
      * HttpClientAdapter 팩토리
      * Java 버전에 따라 적절한 구현을 반환합니다.
@@ -108,4 +178,3 @@ public interface HttpClientAdapter {
         }
     }
 }
-
@@ -0,0 +1,117 @@
+package com.dadp.jdbc.http;
+
+import com.dadp.jdbc.config.ProxyConfig;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hub I/O 전용 공유 Executor
+ * 
+ * Hub 비동기 요청(매핑 조회, 스키마 동기화, 알림 전송 등)을 처리하는 크기 제한 스레드 풀입니다.
+ * 스레드 수와 대기 큐 크기가 모두 제한되어 있어 Hub 장애 시에도 스레드가 무한히 늘어나지 않으며,
+ * 큐가 가득 차면 작업이 거부됩니다 (호출자 스레드에서 실행하지 않음).
+ * 
+ * Java 21 이상에서는 작업마다 가상 스레드를 사용합니다 (VirtualThreads 참고).
+ * 이때도 동시 실행 수(hub-io-threads)와 대기 작업 수(hub-io-queue) 제한은 동일하게 적용되며,
+ * 대기 작업은 OS 스레드 대신 가상 스레드로 대기합니다.
+ * 
+ * 설정 (시스템 프로퍼티):
+ * - dadp.proxy.hub-io-threads: 최대 스레드 수 (기본값: 4)
+ * - dadp.proxy.hub-io-queue: 대기 큐 크기 (기본값: 1024)
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+public final class HubIoExecutor {
+    
+    private static final int DEFAULT_THREADS = 4;
+    private static final int DEFAULT_QUEUE_SIZE = 1024;
+    
+    private HubIoExecutor() {
+    }
+    
+    /**
+     * 공유 Executor 반환 (최초 호출 시 생성)
+     * 
+     * @return Hub I/O Executor
+     */
+    public static Executor get() {
+        return Holder.EXECUTOR;
+    }
+    
+    private static final class Holder {
+        private static final Executor EXECUTOR = create();
+        
+        private static Executor create() {
+            int threads = ProxyConfig.intProperty("dadp.proxy.hub-io-threads", DEFAULT_THREADS, 1);
+            int queueSize = ProxyConfig.intProperty("dadp.proxy.hub-io-queue", DEFAULT_QUEUE_SIZE, 1);
+            
+            ExecutorService virtual = VirtualThreads.newThreadPerTaskExecutor("dadp-hub-io-");
+            if (virtual != null) {
+                return new BoundedVirtualExecutor(virtual, threads, queueSize);
+            }
+            
+            AtomicInteger counter = new AtomicInteger();
+            ThreadFactory threadFactory = r -> {
+                Thread t = new Thread(r, "dadp-hub-io-" + counter.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            };
+            
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                    threads, threads, 60L, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(queueSize), threadFactory,
+                    new ThreadPoolExecutor.AbortPolicy());
+            // 유휴 상태에서는 스레드를 유지하지 않음
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
+    
+    /**
+     * 가상 스레드 Executor (동시 실행 수/대기 수 제한)
+     */
+    private static final class BoundedVirtualExecutor implements Executor {
+        private final ExecutorService delegate;
+        private final Semaphore running;   // 동시 실행 제한
+        private final Semaphore admitted;  // 실행 + 대기 제한 (초과 시 거부)
+        
+        BoundedVirtualExecutor(ExecutorService delegate, int threads, int queueSize) {
+            this.delegate = delegate;
+            this.running = new Semaphore(threads);
+            this.admitted = new Semaphore(threads + queueSize);
+        }
+        
+        @Override
+        public void execute(Runnable command) {
+            if (!admitted.tryAcquire()) {
+                throw new RejectedExecutionException("Hub I/O 대기 작업 수 초과");
+            }
+            try {
+                delegate.execute(() -> {
+                    try {
+                        running.acquireUninterruptibly();
+                        try {
+                            command.run();
+                        } finally {
+                            running.release();
+                        }
+                    } finally {
+                        admitted.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                admitted.release();
+                throw e;
+            }
+        }
+    }
+}
@@ -2,15 +2,22 @@ package com.dadp.jdbc.http;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.net.HttpURLConnection;
 import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Java 8용 HTTP 클라이언트 어댑터
  * HttpURLConnection을 사용합니다.
  * 
+ * HttpURLConnection은 비동기 API가 없으므로, 비동기 요청은 크기가 제한된
+ * {@link HubIoExecutor} 스레드 풀에서 블로킹 요청을 실행하는 방식으로 처리합니다.
+ * 
  * @author DADP Development Team
  * @version 3.0.5
  */
@@ -53,6 +60,78 @@ class Java8HttpClientAdapter implements HttpClientAdapter {
         return readResponse(conn);
     }
     
+    @Override
+    public StreamResponse getStream(URI uri) throws IOException {
+        HttpURLConnection conn = (HttpURLConnection) uri.toURL().openConnection();
+        conn.setRequestMethod("GET");
+        conn.setRequestProperty("Content-Type", "application/json");
+        conn.setConnectTimeout(connectTimeout);
+        conn.setReadTimeout(readTimeout);
+        
+        final int statusCode = conn.getResponseCode();
+        final InputStream body = statusCode >= 200 && statusCode < 300 ? conn.getInputStream() : conn.getErrorStream();
+        
+        return new StreamResponse() {
+            @Override
+            public int getStatusCode() {
+                return statusCode;
+            }
+            
+            @Override
+            public InputStream getBody() {
+                return body;
+            }
+            
+            @Override
+            public void close() throws IOException {
+                // 스트림만 닫아 Keep-Alive 연결을 재사용할 수 있도록 함
+                if (body != null) {
+                    body.close();
+                }
+            }
+        };
+    }
+    
+    @Override
+    public CompletableFuture<HttpResponse> getAsync(URI uri) {
+        return submit(() -> get(uri));
+    }
+    
+    @Override
+    public CompletableFuture<HttpResponse> postAsync(URI uri, String body) {
+        return submit(() -> post(uri, body));
+    }
+    
+    @Override
+    public CompletableFuture<StreamResponse> getStreamAsync(URI uri) {
+        return submit(() -> getStream(uri));
+    }
+    
+    /**
+     * 블로킹 요청을 Hub I/O 스레드 풀에서 실행
+     * 풀과 큐가 가득 찬 경우 실패한 Future를 반환합니다 (호출자 스레드에서 실행하지 않음).
+     */
+    private <T> CompletableFuture<T> submit(BlockingCall<T> call) {
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return call.execute();
+                } catch (IOException e) {
+                    throw new CompletionException(e);
+                }
+            }, HubIoExecutor.get());
+        } catch (RejectedExecutionException e) {
+            CompletableFuture<T> failed = new CompletableFuture<>();
+            failed.completeExceptionally(new IOException("Hub I/O queue is full", e));
+            return failed;
+        }
+    }
+    
+    @FunctionalInterface
+    private interface BlockingCall<T> {
+        T execute() throws IOException;
+    }
+    
     private HttpResponse readResponse(HttpURLConnection conn) throws IOException {
         int statusCode = conn.getResponseCode();
         String responseBody = null;
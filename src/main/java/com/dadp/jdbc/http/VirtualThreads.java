@@ -0,0 +1,123 @@
+package com.dadp.jdbc.http;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 가상 스레드(Java 21+) 지원
+ * 
+ * Java 21 이상에서는 Hub I/O 작업(HubIoExecutor, Java 11 HttpClient, 병렬 복호화, 백그라운드 스케줄러)을
+ * 가상 스레드에서 실행하여 동시 요청 수만큼 OS 스레드를 만들지 않도록 합니다.
+ * Java 8 바이트코드로 빌드되므로 Thread.ofVirtual() 등은 리플렉션으로 호출하며,
+ * Java 21 미만이거나 호출에 실패하면 기존 플랫폼 스레드를 그대로 사용합니다.
+ * 
+ * 가상 스레드가 캐리어 스레드에 고정(pinning)되지 않도록 Hub 호출 경로에서는
+ * synchronized 대신 java.util.concurrent 잠금을 사용합니다.
+ * 
+ * 설정 (시스템 프로퍼티):
+ * - dadp.proxy.virtual-threads: false이면 Java 21+에서도 플랫폼 스레드 사용 (기본값: true)
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+public final class VirtualThreads {
+    
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreads.class);
+    
+    private VirtualThreads() {
+    }
+    
+    /**
+     * 가상 스레드 사용 여부 (Java 21+ 이고 dadp.proxy.virtual-threads=false가 아닌 경우)
+     */
+    public static boolean isEnabled() {
+        return Holder.SUPPORT != null;
+    }
+    
+    /**
+     * 가상 스레드 팩토리 (스레드 이름: prefix + 일련번호)
+     * 
+     * @param prefix 스레드 이름 접두사
+     * @param fallback 가상 스레드를 사용할 수 없을 때 사용할 플랫폼 스레드 팩토리
+     * @return 가상 스레드 팩토리 (사용할 수 없으면 fallback)
+     */
+    public static ThreadFactory threadFactory(String prefix, ThreadFactory fallback) {
+        Support support = Holder.SUPPORT;
+        if (support == null) {
+            return fallback;
+        }
+        try {
+            return support.factory(prefix);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.debug("가상 스레드 팩토리 생성 실패, 플랫폼 스레드 사용: {}", e.getMessage());
+            return fallback;
+        }
+    }
+    
+    /**
+     * 작업마다 새 가상 스레드를 만드는 ExecutorService
+     * 
+     * @param prefix 스레드 이름 접두사
+     * @return ExecutorService (가상 스레드를 사용할 수 없으면 null)
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String prefix) {
+        Support support = Holder.SUPPORT;
+        if (support == null) {
+            return null;
+        }
+        try {
+            return (ExecutorService) support.newThreadPerTaskExecutor.invoke(null, support.factory(prefix));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.debug("가상 스레드 Executor 생성 실패, 플랫폼 스레드 사용: {}", e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * Java 21 API 리플렉션 핸들
+     */
+    private static final class Support {
+        private final Method ofVirtual;                 // Thread.ofVirtual()
+        private final Method name;                      // Thread.Builder.name(String, long)
+        private final Method factory;                   // Thread.Builder.factory()
+        private final Method newThreadPerTaskExecutor;  // Executors.newThreadPerTaskExecutor(ThreadFactory)
+        
+        private Support() throws ReflectiveOperationException {
+            Class<?> builder = Class.forName("java.lang.Thread$Builder");
+            this.ofVirtual = Thread.class.getMethod("ofVirtual");
+            this.name = builder.getMethod("name", String.class, long.class);
+            this.factory = builder.getMethod("factory");
+            this.newThreadPerTaskExecutor = java.util.concurrent.Executors.class
+                    .getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+        }
+        
+        private ThreadFactory factory(String prefix) throws ReflectiveOperationException {
+            Object builder = name.invoke(ofVirtual.invoke(null), prefix, 1L);
+            return (ThreadFactory) factory.invoke(builder);
+        }
+    }
+    
+    private static final class Holder {
+        private static final Support SUPPORT = detect();
+        
+        private static Support detect() {
+            if ("false".equalsIgnoreCase(System.getProperty("dadp.proxy.virtual-threads", "true").trim())) {
+                return null;
+            }
+            try {
+                Support support = new Support();
+                // Java 19/20 preview API는 --enable-preview 없이 호출하면 UnsupportedOperationException
+                support.factory("dadp-probe-").newThread(() -> { });
+                log.info("✅ Hub I/O 가상 스레드 사용");
+                return support;
+            } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.dadp.jdbc.jfr;
+
+/**
+ * DADP Wrapper JFR 이벤트 기록 인터페이스
+ * 
+ * Java Flight Recorder(JMC)에서 Wrapper 구간(Hub 암복호화, SQL 분석, 컬럼 매핑 구성, 정책 매핑 갱신)의
+ * 지연 시간을 구분해 볼 수 있도록 커스텀 이벤트를 기록합니다.
+ * 
+ * 실제 구현(JfrEventSink)은 Multi-Release JAR의 META-INF/versions/11 영역에 있으며,
+ * Java 8이거나 jdk.jfr 모듈이 없으면 아무것도 하지 않는 NOOP 구현을 사용합니다.
+ * begin*()은 해당 이벤트가 비활성화되어 있으면 null을 반환하고, end*()는 null을 무시하므로
+ * 녹화 중이 아닐 때는 객체 생성 외 비용이 거의 없습니다.
+ * 
+ * <pre>
+ * Object event = DadpEventSink.Factory.get().beginHubCrypto();
+ * ... Hub 호출 ...
+ * DadpEventSink.Factory.get().endHubCrypto(event, "encrypt", policyName, 1, OUTCOME_SUCCESS);
+ * </pre>
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+public interface DadpEventSink {
+    
+    String OUTCOME_SUCCESS = "success";
+    String OUTCOME_NOT_ENCRYPTED = "not-encrypted";
+    String OUTCOME_FAIL_OPEN = "fail-open";
+    String OUTCOME_FAILURE = "failure";
+    
+    /**
+     * Hub 암복호화 이벤트 시작
+     * 
+     * @return 이벤트 (비활성화 시 null)
+     */
+    Object beginHubCrypto();
+    
+    /**
+     * Hub 암복호화 이벤트 종료
+     * 
+     * @param event beginHubCrypto() 반환값
+     * @param operation encrypt / decrypt
+     * @param policyName 정책명 (null 가능)
+     * @param batchSize 한 번의 호출로 처리한 값 개수
+     * @param outcome OUTCOME_* 상수
+     */
+    void endHubCrypto(Object event, String operation, String policyName, int batchSize, String outcome);
+    
+    /**
+     * SQL 분석 이벤트 시작
+     */
+    Object beginSqlAnalysis();
+    
+    /**
+     * SQL 분석 이벤트 종료
+     * 
+     * @param event beginSqlAnalysis() 반환값
+     * @param sqlType SELECT / INSERT / UPDATE / DELETE (파싱 실패 시 null)
+     * @param tableName 테이블명 (null 가능)
+     * @param cacheHit 파싱 결과 캐시 적중 여부
+     */
+    void endSqlAnalysis(Object event, String sqlType, String tableName, boolean cacheHit);
+    
+    /**
+     * 컬럼 매핑 구성 이벤트 시작 (PreparedStatement 파라미터 → 컬럼/정책)
+     */
+    Object beginColumnPlan();
+    
+    /**
+     * 컬럼 매핑 구성 이벤트 종료
+     * 
+     * @param event beginColumnPlan() 반환값
+     * @param tableName 테이블명 (null 가능)
+     * @param mappedColumns 매핑된 파라미터 수
+     */
+    void endColumnPlan(Object event, String tableName, int mappedColumns);
+    
+    /**
+     * 정책 매핑 갱신 이벤트 시작
+     */
+    Object beginMappingRefresh();
+    
+    /**
+     * 정책 매핑 갱신 이벤트 종료
+     * 
+     * @param event beginMappingRefresh() 반환값
+     * @param instanceId Proxy 인스턴스 ID
+     * @param mappingCount 로드된 매핑 수 (실패 시 0)
+     * @param success 성공 여부
+     */
+    void endMappingRefresh(Object event, String instanceId, int mappingCount, boolean success);
+    
+    /**
+     * 아무것도 기록하지 않는 구현 (Java 8, JFR 미지원 또는 비활성화)
+     */
+    DadpEventSink NOOP = new DadpEventSink() {
+        @Override
+        public Object beginHubCrypto() {
+            return null;
+        }
+        
+        @Override
+        public void endHubCrypto(Object event, String operation, String policyName, int batchSize, String outcome) {
+        }
+        
+        @Override
+        public Object beginSqlAnalysis() {
+            return null;
+        }
+        
+        @Override
+        public void endSqlAnalysis(Object event, String sqlType, String tableName, boolean cacheHit) {
+        }
+        
+        @Override
+        public Object beginColumnPlan() {
+            return null;
+        }
+        
+        @Override
+        public void endColumnPlan(Object event, String tableName, int mappedColumns) {
+        }
+        
+        @Override
+        public Object beginMappingRefresh() {
+            return null;
+        }
+        
+        @Override
+        public void endMappingRefresh(Object event, String instanceId, int mappingCount, boolean success) {
+        }
+    };
+    
+    /**
+     * DadpEventSink 팩토리
+     * Java 11+ 구현을 리플렉션으로 로드하고, 실패하면 NOOP을 사용합니다.
+     * dadp.proxy.jfr-enabled=false로 비활성화할 수 있습니다.
+     */
+    class Factory {
+        private static final DadpEventSink INSTANCE = load();
+        
+        private static DadpEventSink load() {
+            String enabled = System.getProperty("dadp.proxy.jfr-enabled");
+            if (enabled != null && !Boolean.parseBoolean(enabled.trim())) {
+                return NOOP;
+            }
+            try {
+                // META-INF/versions/11 영역의 클래스 (Java 8에서는 보이지 않음)
+                Class<?> clazz = Class.forName("com.dadp.jdbc.jfr.JfrEventSink");
+                return (DadpEventSink) clazz.getConstructor().newInstance();
+            } catch (Exception | LinkageError e) {
+                // Java 8 또는 jdk.jfr 모듈이 없는 런타임
+                return NOOP;
+            }
+        }
+        
+        public static DadpEventSink get() {
+            return INSTANCE;
+        }
+    }
+}
@@ -1,14 +1,20 @@
 package com.dadp.jdbc.mapping;
 
 import com.dadp.jdbc.http.HttpClientAdapter;
+import com.dadp.jdbc.http.HubIoExecutor;
+import com.dadp.jdbc.jfr.DadpEventSink;
+import com.dadp.jdbc.metrics.DadpMetrics;
 import com.dadp.jdbc.policy.PolicyResolver;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -17,6 +23,10 @@ import org.slf4j.LoggerFactory;
  * 
  * Proxy에서 Hub로부터 정책 매핑 정보를 가져와서 PolicyResolver에 저장합니다.
  * Java 버전에 따라 적절한 HTTP 클라이언트를 자동으로 선택합니다.
+ * 폴링/초기 로드는 비동기 API(checkMappingChangeAsync, loadMappingsFromHubAsync)를 사용하여
+ * Hub 응답 대기 중 플랫폼 스레드를 점유하지 않습니다.
+ * 매핑 목록 응답은 JsonParser로 스트리밍 파싱하여, 매핑 개수와 관계없이
+ * 응답 전체를 String/DTO 목록으로 메모리에 올리지 않습니다.
  * 
  * @author DADP Development Team
  * @version 3.0.5
@@ -25,6 +35,7 @@ import org.slf4j.LoggerFactory;
 public class MappingSyncService {
     
     private static final Logger log = LoggerFactory.getLogger(MappingSyncService.class);
+    private static final DadpEventSink EVENTS = DadpEventSink.Factory.get(); // JFR 이벤트 (Java 11+)
     
     private final String hubUrl;
     private final String proxyInstanceId;
@@ -49,126 +60,234 @@ public class MappingSyncService {
      */
     public boolean checkMappingChange() {
         try {
-            String checkUrl = hubUrl + "/hub/api/v1/proxy/mappings/check?proxyInstanceId=" + proxyInstanceId;
-            log.trace("🔗 Hub 매핑 변경 확인 URL: {}", checkUrl);
-            
-            // Java 버전에 따라 적절한 HTTP 클라이언트 사용
-            URI uri = URI.create(checkUrl);
-            HttpClientAdapter.HttpResponse response = httpClient.get(uri);
-            
-            int statusCode = response.getStatusCode();
-            String responseBody = response.getBody();
-            
-            if (statusCode >= 200 && statusCode < 300 && responseBody != null) {
-                // ApiResponse<Boolean> 형태로 파싱
-                CheckMappingChangeResponse checkResponse = objectMapper.readValue(responseBody, CheckMappingChangeResponse.class);
-                if (checkResponse != null && checkResponse.isSuccess() && checkResponse.getData() != null) {
-                    return checkResponse.getData();
-                }
-            }
-            return false;
+            return handleCheckResponse(httpClient.get(checkMappingChangeUri()));
         } catch (IOException e) {
             log.warn("⚠️ 매핑 변경 확인 실패: {}", e.getMessage());
             return false; // 실패 시 false 반환 (다음 확인 시 재시도)
         }
     }
     
+    /**
+     * Hub에서 매핑 변경 여부 확인 (비동기, 경량 요청)
+     * 
+     * Hub 응답을 기다리는 동안 호출 스레드를 점유하지 않습니다.
+     * 실패 시 예외 대신 false로 완료됩니다 (다음 확인 시 재시도).
+     * 
+     * @return 변경사항 여부 Future
+     */
+    public CompletableFuture<Boolean> checkMappingChangeAsync() {
+        return httpClient.getAsync(checkMappingChangeUri())
+                .thenApply(response -> {
+                    try {
+                        return handleCheckResponse(response);
+                    } catch (IOException e) {
+                        throw new CompletionException(e);
+                    }
+                })
+                .exceptionally(e -> {
+                    log.warn("⚠️ 매핑 변경 확인 실패: {}", rootMessage(e));
+                    return false;
+                });
+    }
+    
+    private URI checkMappingChangeUri() {
+        String checkUrl = hubUrl + "/hub/api/v1/proxy/mappings/check?proxyInstanceId=" + proxyInstanceId;
+        log.trace("🔗 Hub 매핑 변경 확인 URL: {}", checkUrl);
+        return URI.create(checkUrl);
+    }
+    
+    private boolean handleCheckResponse(HttpClientAdapter.HttpResponse response) throws IOException {
+        int statusCode = response.getStatusCode();
+        String responseBody = response.getBody();
+        
+        if (statusCode >= 200 && statusCode < 300 && responseBody != null) {
+            // ApiResponse<Boolean> 형태로 파싱
+            CheckMappingChangeResponse checkResponse = objectMapper.readValue(responseBody, CheckMappingChangeResponse.class);
+            if (checkResponse != null && checkResponse.isSuccess() && checkResponse.getData() != null) {
+                return checkResponse.getData();
+            }
+        }
+        return false;
+    }
+    
     /**
      * Hub에서 정책 매핑 정보를 가져와서 PolicyResolver에 저장
      * 
      * @return 로드된 매핑 개수
      */
     public int loadMappingsFromHub() {
+        long startNanos = System.nanoTime();
+        Object event = EVENTS.beginMappingRefresh();
         try {
-            log.trace("🔄 Hub에서 정책 매핑 정보 로드 시작: proxyInstanceId={}", proxyInstanceId);
+            return handleMappingsResponse(httpClient.getStream(mappingsUri()), startNanos, event);
+        } catch (IOException e) {
+            EVENTS.endMappingRefresh(event, proxyInstanceId, 0, false);
+            log.error("❌ Hub에서 정책 매핑 정보 로드 실패: {}", e.getMessage());
+            // 로드 실패해도 계속 진행 (Fail-open)
+            return 0;
+        }
+    }
+    
+    /**
+     * Hub에서 정책 매핑 정보를 가져와서 PolicyResolver에 저장 (비동기)
+     * 
+     * Hub 응답을 기다리는 동안 호출 스레드를 점유하지 않습니다.
+     * 실패 시 예외 대신 0으로 완료됩니다 (Fail-open).
+     * 
+     * @return 로드된 매핑 개수 Future
+     */
+    public CompletableFuture<Integer> loadMappingsFromHubAsync() {
+        // 본문 파싱은 블로킹 읽기이므로 Hub I/O 스레드 풀에서 수행
+        long startNanos = System.nanoTime();
+        Object event = EVENTS.beginMappingRefresh();
+        return httpClient.getStreamAsync(mappingsUri())
+                .thenApplyAsync(response -> {
+                    try {
+                        return handleMappingsResponse(response, startNanos, event);
+                    } catch (IOException e) {
+                        throw new CompletionException(e);
+                    }
+                }, HubIoExecutor.get())
+                .exceptionally(e -> {
+                    EVENTS.endMappingRefresh(event, proxyInstanceId, 0, false);
+                    log.error("❌ Hub에서 정책 매핑 정보 로드 실패: {}", rootMessage(e));
+                    return 0;
+                });
+    }
+    
+    private URI mappingsUri() {
+        log.trace("🔄 Hub에서 정책 매핑 정보 로드 시작: proxyInstanceId={}", proxyInstanceId);
+        String mappingsUrl = hubUrl + "/hub/api/v1/proxy/mappings?proxyInstanceId=" + proxyInstanceId;
+        log.trace("🔗 Hub 매핑 조회 URL: {}", mappingsUrl);
+        return URI.create(mappingsUrl);
+    }
+    
+    private int handleMappingsResponse(HttpClientAdapter.StreamResponse response, long startNanos, Object event)
+            throws IOException {
+        try (HttpClientAdapter.StreamResponse r = response) {
+            int statusCode = r.getStatusCode();
+            InputStream body = r.getBody();
             
-            String mappingsUrl = hubUrl + "/hub/api/v1/proxy/mappings?proxyInstanceId=" + proxyInstanceId;
-            log.trace("🔗 Hub 매핑 조회 URL: {}", mappingsUrl);
+            if (statusCode < 200 || statusCode >= 300 || body == null) {
+                log.warn("⚠️ Hub에서 정책 매핑 정보 로드 실패: HTTP {}", statusCode);
+                EVENTS.endMappingRefresh(event, proxyInstanceId, 0, false);
+                return 0;
+            }
             
-            // Java 버전에 따라 적절한 HTTP 클라이언트 사용
-            URI uri = URI.create(mappingsUrl);
-            HttpClientAdapter.HttpResponse response = httpClient.get(uri);
+            MappingStream result = parseMappings(body);
+            if (!result.success || result.policyMap == null) {
+                log.warn("⚠️ Hub에서 정책 매핑 정보 로드 실패: 응답 없음 또는 실패");
+                EVENTS.endMappingRefresh(event, proxyInstanceId, 0, false);
+                return 0;
+            }
             
-            int statusCode = response.getStatusCode();
-            String responseBody = response.getBody();
+            // PolicyResolver에 반영 (파싱한 맵을 복사 없이 교체)
+            policyResolver.replaceMappings(result.policyMap);
+            DadpMetrics.forInstance(proxyInstanceId).recordMappingRefresh(System.nanoTime() - startNanos, result.policyMap.size());
+            EVENTS.endMappingRefresh(event, proxyInstanceId, result.policyMap.size(), true);
             
-            if (statusCode >= 200 && statusCode < 300 && responseBody != null) {
-                MappingListResponse mappingResponse = objectMapper.readValue(responseBody, MappingListResponse.class);
-                
-                if (mappingResponse != null && mappingResponse.isSuccess() && mappingResponse.getData() != null) {
-                    List<EncryptionMapping> mappings = mappingResponse.getData();
-                    
-                    // PolicyResolver 형식으로 변환 (테이블.컬럼 → 정책명)
-                    Map<String, String> policyMap = new HashMap<>();
-                    for (EncryptionMapping mapping : mappings) {
-                        // enabled가 true인 경우만 추가
-                        if (mapping.isEnabled()) {
-                            String key = mapping.getTableName() + "." + mapping.getColumnName();
-                            policyMap.put(key, mapping.getPolicyName());
-                            log.trace("📋 매핑 로드: {} → {}", key, mapping.getPolicyName());
+            log.trace("✅ Hub에서 정책 매핑 정보 로드 완료: {}개 매핑", result.policyMap.size());
+            return result.policyMap.size();
+        }
+    }
+    
+    /**
+     * 매핑 목록 응답({success, data: [{tableName, columnName, policyName, enabled}, ...]})을 스트리밍 파싱
+     * 
+     * data 배열의 각 항목을 읽는 즉시 PolicyResolver 형식(테이블.컬럼 → 정책명)으로 변환하며,
+     * enabled가 false인 항목은 바로 버립니다.
+     */
+    private MappingStream parseMappings(InputStream body) throws IOException {
+        MappingStream result = new MappingStream();
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("매핑 응답 형식 오류: JSON 객체가 아님");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if ("success".equals(field)) {
+                    result.success = value == JsonToken.VALUE_TRUE;
+                } else if ("data".equals(field) && value == JsonToken.START_ARRAY) {
+                    result.policyMap = new ConcurrentHashMap<>();
+                    // 배열 끝까지 읽음 (null 등 객체가 아닌 항목은 건너뜀, 중간에 끝나면 일부 매핑으로 교체하지 않도록 오류 처리)
+                    JsonToken item;
+                    while ((item = parser.nextToken()) != JsonToken.END_ARRAY) {
+                        if (item == null) {
+                            throw new IOException("매핑 응답 형식 오류: data 배열이 끝나지 않음");
+                        }
+                        if (item == JsonToken.START_OBJECT) {
+                            readMapping(parser, result.policyMap);
+                        } else {
+                            parser.skipChildren();
                         }
                     }
-                    
-                    // PolicyResolver에 반영
-                    policyResolver.refreshMappings(policyMap);
-                    
-                    log.trace("✅ Hub에서 정책 매핑 정보 로드 완료: {}개 매핑", policyMap.size());
-                    return policyMap.size();
                 } else {
-                    log.warn("⚠️ Hub에서 정책 매핑 정보 로드 실패: 응답 없음 또는 실패");
-                    return 0;
+                    parser.skipChildren();
                 }
-            } else {
-                log.warn("⚠️ Hub에서 정책 매핑 정보 로드 실패: HTTP {}", statusCode);
-                return 0;
             }
-            
-        } catch (IOException e) {
-            log.error("❌ Hub에서 정책 매핑 정보 로드 실패: {}", e.getMessage());
-            // 로드 실패해도 계속 진행 (Fail-open)
-            return 0;
         }
+        return result;
     }
     
     /**
-     * 매핑 변경 확인 응답 DTO
+     * 매핑 항목 하나를 읽어 활성화된 경우에만 policyMap에 추가 (START_OBJECT 위치에서 호출)
      */
-    public static class CheckMappingChangeResponse {
-        private boolean success;
-        private Boolean data;
-        private String message;
+    private void readMapping(JsonParser parser, ConcurrentHashMap<String, String> policyMap) throws IOException {
+        String tableName = null;
+        String columnName = null;
+        String policyName = null;
+        boolean enabled = false;
         
-        public boolean isSuccess() {
-            return success;
-        }
-        
-        public void setSuccess(boolean success) {
-            this.success = success;
-        }
-        
-        public Boolean getData() {
-            return data;
-        }
-        
-        public void setData(Boolean data) {
-            this.data = data;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if ("tableName".equals(field)) {
+                tableName = parser.getValueAsString();
+            } else if ("columnName".equals(field)) {
+                columnName = parser.getValueAsString();
+            } else if ("policyName".equals(field)) {
+                policyName = parser.getValueAsString();
+            } else if ("enabled".equals(field)) {
+                enabled = value == JsonToken.VALUE_TRUE;
+            } else {
+                parser.skipChildren();
+            }
         }
         
-        public String getMessage() {
-            return message;
+        // enabled가 true인 경우만 추가
+        if (enabled && policyName != null) {
+            String key = tableName + "." + columnName;
+            policyMap.put(key, policyName);
+            log.trace("📋 매핑 로드: {} → {}", key, policyName);
         }
-        
-        public void setMessage(String message) {
-            this.message = message;
+    }
+    
+    /**
+     * 스트리밍 파싱 결과
+     */
+    private static final class MappingStream {
+        private boolean success;
+        private ConcurrentHashMap<String, String> policyMap;
+    }
+    
+    /**
+     * 비동기 예외에서 원인 메시지 추출 (CompletionException 래핑 제거)
+     */
+    private static String rootMessage(Throwable e) {
+        Throwable cause = e;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
         }
+        return cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
     }
     
     /**
-     * 매핑 목록 응답 DTO
+     * 매핑 변경 확인 응답 DTO
      */
-    public static class MappingListResponse {
+    public static class CheckMappingChangeResponse {
         private boolean success;
-        private List<EncryptionMapping> data;
+        private Boolean data;
         private String message;
         
         public boolean isSuccess() {
@@ -179,11 +298,11 @@ public class MappingSyncService {
             this.success = success;
         }
         
-        public List<EncryptionMapping> getData() {
+        public Boolean getData() {
             return data;
         }
         
-        public void setData(List<EncryptionMapping> data) {
+        public void setData(Boolean data) {
             this.data = data;
         }
         
@@ -195,64 +314,4 @@ public class MappingSyncService {
             this.message = message;
         }
     }
-    
-    /**
-     * 암호화 매핑 DTO
-     */
-    public static class EncryptionMapping {
-        private String proxyInstanceId;
-        private String databaseName;
-        private String tableName;
-        private String columnName;
-        private String policyName;
-        private boolean enabled;
-        
-        public String getProxyInstanceId() {
-            return proxyInstanceId;
-        }
-        
-        public void setProxyInstanceId(String proxyInstanceId) {
-            this.proxyInstanceId = proxyInstanceId;
-        }
-        
-        public String getDatabaseName() {
-            return databaseName;
-        }
-        
-        public void setDatabaseName(String databaseName) {
-            this.databaseName = databaseName;
-        }
-        
-        public String getTableName() {
-            return tableName;
-        }
-        
-        public void setTableName(String tableName) {
-            this.tableName = tableName;
-        }
-        
-        public String getColumnName() {
-            return columnName;
-        }
-        
-        public void setColumnName(String columnName) {
-            this.columnName = columnName;
-        }
-        
-        public String getPolicyName() {
-            return policyName;
-        }
-        
-        public void setPolicyName(String policyName) {
-            this.policyName = policyName;
-        }
-        
-        public boolean isEnabled() {
-            return enabled;
-        }
-        
-        public void setEnabled(boolean enabled) {
-            this.enabled = enabled;
-        }
-    }
 }
@@ -0,0 +1,467 @@
+package com.dadp.jdbc.metrics;
+
+import com.dadp.jdbc.diagnostics.DadpDiagnostics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * DADP Wrapper 지표
+ * 
+ * instanceId별로 하나씩 생성되어 JMX MBean(com.dadp.jdbc:type=DadpMetrics,instanceId=...)으로 등록됩니다.
+ * 모든 카운터는 LongAdder/LatencyHistogram 기반 lock-free 구조이므로 암복호화/쿼리 경로에서 호출해도 부담이 적습니다.
+ * 
+ * 앱 클래스패스에 Micrometer가 있으면 전역 레지스트리(Metrics.globalRegistry)에도 자동으로 등록합니다.
+ * 
+ * 설정 (시스템 프로퍼티):
+ * - dadp.proxy.jmx-enabled: JMX 등록 여부 (기본값: true)
+ * - dadp.proxy.micrometer-enabled: Micrometer 자동 등록 여부 (기본값: true)
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+public final class DadpMetrics implements DadpMetricsMXBean {
+    
+    private static final Logger log = LoggerFactory.getLogger(DadpMetrics.class);
+    
+    private static final String UNKNOWN_POLICY = "unknown";
+    
+    // instanceId별 지표
+    private static final ConcurrentHashMap<String, DadpMetrics> instances = new ConcurrentHashMap<>();
+    
+    private final String instanceId;
+    
+    private final LatencyHistogram encryptLatency = new LatencyHistogram();
+    private final LatencyHistogram decryptLatency = new LatencyHistogram();
+    private final ConcurrentHashMap<String, PolicyMetrics> policyMetrics = new ConcurrentHashMap<>();
+    
+    private final LongAdder hubErrors = new LongAdder();
+    private final LongAdder failOpenFallbacks = new LongAdder();
+    private final LongAdder truncationRetries = new LongAdder();
+    private final ConcurrentHashMap<String, LongAdder> oversizeColumns = new ConcurrentHashMap<>(); // "table.column" → 건수
+    private final LongAdder sqlParseCacheHits = new LongAdder();
+    private final LongAdder sqlParseCacheMisses = new LongAdder();
+    private final LongAdder policyLookupHits = new LongAdder();
+    private final LongAdder policyLookupMisses = new LongAdder();
+    private final LongAdder wrappedStatements = new LongAdder();
+    private final LongAdder wrappedResultSets = new LongAdder();
+    
+    private final LatencyHistogram mappingRefreshLatency = new LatencyHistogram();
+    private final AtomicLong mappingRefreshLastNanos = new AtomicLong();
+    private final AtomicLong mappingVersion = new AtomicLong();
+    private volatile int mappingCount;
+    
+    // 새 정책 지표 생성 시 호출 (Micrometer 등 외부 연동용)
+    private final CopyOnWriteArrayList<Consumer<String>> policyListeners = new CopyOnWriteArrayList<>();
+    
+    private DadpMetrics(String instanceId) {
+        this.instanceId = instanceId;
+    }
+    
+    /**
+     * instanceId에 해당하는 지표 반환 (없으면 생성 후 JMX 등록)
+     */
+    public static DadpMetrics forInstance(String instanceId) {
+        DadpMetrics metrics = instances.get(instanceId);
+        if (metrics != null) {
+            return metrics;
+        }
+        return instances.computeIfAbsent(instanceId, id -> {
+            DadpMetrics created = new DadpMetrics(id);
+            created.registerMBean();
+            created.bindMicrometer();
+            return created;
+        });
+    }
+    
+    private void registerMBean() {
+        String enabled = System.getProperty("dadp.proxy.jmx-enabled");
+        if (enabled != null && !Boolean.parseBoolean(enabled.trim())) {
+            return;
+        }
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName("com.dadp.jdbc:type=DadpMetrics,instanceId=" + ObjectName.quote(instanceId));
+            if (!server.isRegistered(name)) {
+                server.registerMBean(this, name);
+                log.info("✅ DADP 지표 JMX 등록: {}", name);
+            }
+        } catch (Exception e) {
+            // JMX 등록 실패해도 지표 수집은 계속 (Fail-open)
+            log.warn("⚠️ DADP 지표 JMX 등록 실패: instanceId={}, {}", instanceId, e.getMessage());
+        }
+    }
+    
+    /**
+     * Micrometer가 클래스패스에 있으면 전역 레지스트리에 등록 (리플렉션, Micrometer 하드 의존성 없음)
+     */
+    private void bindMicrometer() {
+        String enabled = System.getProperty("dadp.proxy.micrometer-enabled");
+        if (enabled != null && !Boolean.parseBoolean(enabled.trim())) {
+            return;
+        }
+        try {
+            Class.forName("io.micrometer.core.instrument.Metrics", false, DadpMetrics.class.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            return; // Micrometer 없음
+        }
+        try {
+            Class<?> binder = Class.forName("com.dadp.jdbc.metrics.micrometer.DadpMeterBinder");
+            binder.getMethod("bindToGlobalRegistry", DadpMetrics.class).invoke(null, this);
+            log.info("✅ DADP 지표 Micrometer 등록: instanceId={}", instanceId);
+        } catch (Exception | LinkageError e) {
+            log.warn("⚠️ DADP 지표 Micrometer 등록 실패: instanceId={}, {}", instanceId, e.getMessage());
+        }
+    }
+    
+    // ===== 기록 =====
+    
+    public void recordEncrypt(String policyName, long nanos) {
+        encryptLatency.record(nanos);
+        policy(policyName).encrypt.record(nanos);
+    }
+    
+    public void recordDecrypt(String policyName, long nanos) {
+        decryptLatency.record(nanos);
+        policy(policyName).decrypt.record(nanos);
+    }
+    
+    public void recordHubError() {
+        hubErrors.increment();
+    }
+    
+    public void recordFailOpenFallback() {
+        failOpenFallbacks.increment();
+    }
+    
+    /**
+     * DB의 Data truncation 오류 후 평문으로 재실행한 경우 (크기 초과 컬럼 수는 recordOversize로 별도 집계)
+     */
+    public void recordTruncationRetry() {
+        truncationRetries.increment();
+    }
+    
+    /**
+     * 암호문이 컬럼 크기를 초과한 경우 (실행 전 사전 검사 또는 실행 후 Data truncation 오류)
+     */
+    public void recordOversize(String tableName, String columnName) {
+        String key = tableName + "." + columnName;
+        LongAdder counter = oversizeColumns.get(key);
+        if (counter == null) {
+            counter = oversizeColumns.computeIfAbsent(key, k -> new LongAdder());
+        }
+        counter.increment();
+    }
+    
+    public void recordSqlParse(boolean cacheHit) {
+        if (cacheHit) {
+            sqlParseCacheHits.increment();
+        } else {
+            sqlParseCacheMisses.increment();
+        }
+    }
+    
+    public void recordPolicyLookup(boolean hit) {
+        if (hit) {
+            policyLookupHits.increment();
+        } else {
+            policyLookupMisses.increment();
+        }
+    }
+    
+    public void recordMappingRefresh(long nanos, int count) {
+        mappingRefreshLatency.record(nanos);
+        mappingRefreshLastNanos.set(nanos);
+        mappingCount = count;
+        mappingVersion.incrementAndGet();
+    }
+    
+    public void recordWrappedStatement() {
+        wrappedStatements.increment();
+    }
+    
+    public void recordWrappedResultSet() {
+        wrappedResultSets.increment();
+    }
+    
+    private PolicyMetrics policy(String policyName) {
+        String key = policyName != null ? policyName : UNKNOWN_POLICY;
+        PolicyMetrics metrics = policyMetrics.get(key);
+        if (metrics != null) {
+            return metrics;
+        }
+        PolicyMetrics created = new PolicyMetrics();
+        PolicyMetrics existing = policyMetrics.putIfAbsent(key, created);
+        if (existing != null) {
+            return existing;
+        }
+        for (Consumer<String> listener : policyListeners) {
+            listener.accept(key);
+        }
+        return created;
+    }
+    
+    // ===== 조회 (Micrometer 등 외부 연동용) =====
+    
+    public LatencyHistogram getEncryptLatency() {
+        return encryptLatency;
+    }
+    
+    public LatencyHistogram getDecryptLatency() {
+        return decryptLatency;
+    }
+    
+    public LatencyHistogram getMappingRefreshLatency() {
+        return mappingRefreshLatency;
+    }
+    
+    /**
+     * 정책 지표 생성 리스너 등록 (이미 존재하는 정책에 대해서도 즉시 호출)
+     * 
+     * @param listener 정책명을 받는 리스너
+     */
+    public void addPolicyListener(Consumer<String> listener) {
+        policyListeners.add(listener);
+        for (String policyName : policyMetrics.keySet()) {
+            listener.accept(policyName);
+        }
+    }
+    
+    /**
+     * 정책의 암호화 지연 시간 히스토그램 (없으면 생성)
+     */
+    public LatencyHistogram getEncryptLatency(String policyName) {
+        return policy(policyName).encrypt;
+    }
+    
+    /**
+     * 정책의 복호화 지연 시간 히스토그램 (없으면 생성)
+     */
+    public LatencyHistogram getDecryptLatency(String policyName) {
+        return policy(policyName).decrypt;
+    }
+    
+    /**
+     * 정책별 암호화 지연 시간 히스토그램 (정책명 → 히스토그램)
+     */
+    public Map<String, LatencyHistogram> getEncryptLatencyByPolicy() {
+        Map<String, LatencyHistogram> result = new TreeMap<>();
+        for (Map.Entry<String, PolicyMetrics> entry : policyMetrics.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().encrypt);
+        }
+        return result;
+    }
+    
+    /**
+     * 정책별 복호화 지연 시간 히스토그램 (정책명 → 히스토그램)
+     */
+    public Map<String, LatencyHistogram> getDecryptLatencyByPolicy() {
+        Map<String, LatencyHistogram> result = new TreeMap<>();
+        for (Map.Entry<String, PolicyMetrics> entry : policyMetrics.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().decrypt);
+        }
+        return result;
+    }
+    
+    // ===== DadpMetricsMXBean =====
+    
+    @Override
+    public String getInstanceId() {
+        return instanceId;
+    }
+    
+    @Override
+    public long getEncryptCount() {
+        return encryptLatency.getCount();
+    }
+    
+    @Override
+    public long getDecryptCount() {
+        return decryptLatency.getCount();
+    }
+    
+    @Override
+    public long getEncryptLatencyP50Micros() {
+        return encryptLatency.getPercentileMicros(50);
+    }
+    
+    @Override
+    public long getEncryptLatencyP99Micros() {
+        return encryptLatency.getPercentileMicros(99);
+    }
+    
+    @Override
+    public long getDecryptLatencyP50Micros() {
+        return decryptLatency.getPercentileMicros(50);
+    }
+    
+    @Override
+    public long getDecryptLatencyP99Micros() {
+        return decryptLatency.getPercentileMicros(99);
+    }
+    
+    @Override
+    public Map<String, PolicyStats> getPolicyStats() {
+        Map<String, PolicyStats> result = new TreeMap<>();
+        for (Map.Entry<String, PolicyMetrics> entry : policyMetrics.entrySet()) {
+            PolicyMetrics m = entry.getValue();
+            result.put(entry.getKey(), new PolicyStats(
+                    m.encrypt.getCount(), m.encrypt.getPercentileMicros(50), m.encrypt.getPercentileMicros(99),
+                    m.decrypt.getCount(), m.decrypt.getPercentileMicros(50), m.decrypt.getPercentileMicros(99)));
+        }
+        return result;
+    }
+    
+    @Override
+    public long getHubErrorCount() {
+        return hubErrors.sum();
+    }
+    
+    @Override
+    public long getFailOpenFallbackCount() {
+        return failOpenFallbacks.sum();
+    }
+    
+    @Override
+    public long getTruncationRetryCount() {
+        return truncationRetries.sum();
+    }
+    
+    @Override
+    public long getOversizeCount() {
+        long total = 0;
+        for (LongAdder counter : oversizeColumns.values()) {
+            total += counter.sum();
+        }
+        return total;
+    }
+    
+    @Override
+    public Map<String, Long> getOversizeColumns() {
+        Map<String, Long> result = new TreeMap<>();
+        for (Map.Entry<String, LongAdder> entry : oversizeColumns.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().sum());
+        }
+        return result;
+    }
+    
+    @Override
+    public long getSqlParseCacheHitCount() {
+        return sqlParseCacheHits.sum();
+    }
+    
+    @Override
+    public long getSqlParseCacheMissCount() {
+        return sqlParseCacheMisses.sum();
+    }
+    
+    @Override
+    public double getSqlParseCacheHitRate() {
+        return rate(sqlParseCacheHits.sum(), sqlParseCacheMisses.sum());
+    }
+    
+    @Override
+    public long getPolicyLookupHitCount() {
+        return policyLookupHits.sum();
+    }
+    
+    @Override
+    public long getPolicyLookupMissCount() {
+        return policyLookupMisses.sum();
+    }
+    
+    @Override
+    public double getPolicyLookupHitRate() {
+        return rate(policyLookupHits.sum(), policyLookupMisses.sum());
+    }
+    
+    @Override
+    public long getMappingRefreshCount() {
+        return mappingRefreshLatency.getCount();
+    }
+    
+    @Override
+    public long getMappingRefreshLastDurationMillis() {
+        return mappingRefreshLastNanos.get() / 1000000;
+    }
+    
+    @Override
+    public long getMappingVersion() {
+        return mappingVersion.get();
+    }
+    
+    @Override
+    public int getMappingCount() {
+        return mappingCount;
+    }
+    
+    @Override
+    public long getWrappedStatementCount() {
+        return wrappedStatements.sum();
+    }
+    
+    @Override
+    public long getWrappedResultSetCount() {
+        return wrappedResultSets.sum();
+    }
+    
+    @Override
+    public int getTraceSampleRate() {
+        return DadpDiagnostics.getTraceSampleRate();
+    }
+    
+    @Override
+    public void setTraceSampleRate(int sampleRate) {
+        DadpDiagnostics.setTraceSampleRate(sampleRate);
+        log.info("🔧 상세 추적 샘플링 비율 변경: 1/{}", sampleRate);
+    }
+    
+    @Override
+    public void reset() {
+        encryptLatency.reset();
+        decryptLatency.reset();
+        mappingRefreshLatency.reset();
+        // 정책 지표는 외부(Micrometer)에서 참조할 수 있으므로 제거하지 않고 값만 초기화
+        for (PolicyMetrics m : policyMetrics.values()) {
+            m.encrypt.reset();
+            m.decrypt.reset();
+        }
+        hubErrors.reset();
+        failOpenFallbacks.reset();
+        truncationRetries.reset();
+        for (LongAdder counter : oversizeColumns.values()) {
+            counter.reset();
+        }
+        sqlParseCacheHits.reset();
+        sqlParseCacheMisses.reset();
+        policyLookupHits.reset();
+        policyLookupMisses.reset();
+        wrappedStatements.reset();
+        wrappedResultSets.reset();
+        log.info("🧹 DADP 지표 초기화: instanceId={}", instanceId);
+    }
+    
+    private static double rate(long hits, long misses) {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+    
+    /**
+     * 정책별 지연 시간
+     */
+    private static final class PolicyMetrics {
+        private final LatencyHistogram encrypt = new LatencyHistogram();
+        private final LatencyHistogram decrypt = new LatencyHistogram();
+    }
+}
@@ -0,0 +1,87 @@
+package com.dadp.jdbc.metrics;
+
+import java.util.Map;
+
+/**
+ * DADP Wrapper 지표 JMX 인터페이스
+ * 
+ * ObjectName: com.dadp.jdbc:type=DadpMetrics,instanceId=&lt;instanceId&gt;
+ * 지연 시간은 마이크로초 단위입니다.
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+public interface DadpMetricsMXBean {
+    
+    String getInstanceId();
+    
+    long getEncryptCount();
+    
+    long getDecryptCount();
+    
+    long getEncryptLatencyP50Micros();
+    
+    long getEncryptLatencyP99Micros();
+    
+    long getDecryptLatencyP50Micros();
+    
+    long getDecryptLatencyP99Micros();
+    
+    /**
+     * 정책별 암복호화 통계
+     */
+    Map<String, PolicyStats> getPolicyStats();
+    
+    long getHubErrorCount();
+    
+    long getFailOpenFallbackCount();
+    
+    long getTruncationRetryCount();
+    
+    /**
+     * 암호문이 컬럼 크기를 초과한 수 (실행 전 사전 검사와 실행 후 Data truncation 오류 모두 포함)
+     */
+    long getOversizeCount();
+    
+    /**
+     * 크기 초과 컬럼별 건수 ("table.column" → 건수)
+     */
+    Map<String, Long> getOversizeColumns();
+    
+    long getSqlParseCacheHitCount();
+    
+    long getSqlParseCacheMissCount();
+    
+    double getSqlParseCacheHitRate();
+    
+    long getPolicyLookupHitCount();
+    
+    long getPolicyLookupMissCount();
+    
+    double getPolicyLookupHitRate();
+    
+    long getMappingRefreshCount();
+    
+    long getMappingRefreshLastDurationMillis();
+    
+    long getMappingVersion();
+    
+    int getMappingCount();
+    
+    long getWrappedStatementCount();
+    
+    long getWrappedResultSetCount();
+    
+    /**
+     * 상세 추적 샘플링 비율 (N개 Statement 중 1개, 0이면 비활성화)
+     */
+    int getTraceSampleRate();
+    
+    void setTraceSampleRate(int sampleRate);
+    
+    /**
+     * 모든 지표 초기화
+     */
+    void reset();
+}
@@ -0,0 +1,113 @@
+package com.dadp.jdbc.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free 지연 시간 히스토그램
+ * 
+ * 마이크로초 단위 2의 거듭제곱 버킷(0, 1, 2-3, 4-7, ... μs)에 LongAdder로 기록하므로
+ * 여러 스레드가 동시에 기록해도 경합이 거의 없습니다.
+ * 백분위수는 버킷 상한값으로 근사합니다 (최대 2배 오차).
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+public final class LatencyHistogram {
+    
+    // 버킷 i: [2^(i-1), 2^i) μs, 마지막 버킷은 그 이상 전부 (약 2^40 μs ≒ 12일)
+    private static final int BUCKET_COUNT = 41;
+    
+    private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+    
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+    
+    /**
+     * 지연 시간 기록
+     * 
+     * @param nanos 지연 시간 (나노초)
+     */
+    public void record(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        long micros = nanos / 1000;
+        int index = Math.min(BUCKET_COUNT - 1, 64 - Long.numberOfLeadingZeros(micros));
+        buckets[index].increment();
+        count.increment();
+        totalNanos.add(nanos);
+        long max = maxNanos.get();
+        while (nanos > max && !maxNanos.compareAndSet(max, nanos)) {
+            max = maxNanos.get();
+        }
+    }
+    
+    /**
+     * 기록 초기화
+     */
+    public void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        count.reset();
+        totalNanos.reset();
+        maxNanos.set(0);
+    }
+    
+    public long getCount() {
+        return count.sum();
+    }
+    
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+    
+    /**
+     * 평균 지연 시간 (마이크로초)
+     */
+    public double getMeanMicros() {
+        long n = count.sum();
+        return n == 0 ? 0.0 : totalNanos.sum() / 1000.0 / n;
+    }
+    
+    /**
+     * 최대 지연 시간 (마이크로초)
+     */
+    public long getMaxMicros() {
+        return maxNanos.get() / 1000;
+    }
+    
+    /**
+     * 백분위수 근사값 (마이크로초, 버킷 상한값)
+     * 
+     * @param percentile 백분위수 (0.0 ~ 100.0)
+     */
+    public long getPercentileMicros(double percentile) {
+        long[] snapshot = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = buckets[i].sum();
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long target = (long) Math.ceil(total * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= target) {
+                return Math.min(i == 0 ? 0 : 1L << i, getMaxMicros());
+            }
+        }
+        return getMaxMicros();
+    }
+}
@@ -0,0 +1,56 @@
+package com.dadp.jdbc.metrics;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * 정책별 암복호화 통계 (JMX 조회용 스냅샷)
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+public class PolicyStats {
+    
+    private final long encryptCount;
+    private final long encryptP50Micros;
+    private final long encryptP99Micros;
+    private final long decryptCount;
+    private final long decryptP50Micros;
+    private final long decryptP99Micros;
+    
+    @ConstructorProperties({"encryptCount", "encryptP50Micros", "encryptP99Micros",
+            "decryptCount", "decryptP50Micros", "decryptP99Micros"})
+    public PolicyStats(long encryptCount, long encryptP50Micros, long encryptP99Micros,
+                       long decryptCount, long decryptP50Micros, long decryptP99Micros) {
+        this.encryptCount = encryptCount;
+        this.encryptP50Micros = encryptP50Micros;
+        this.encryptP99Micros = encryptP99Micros;
+        this.decryptCount = decryptCount;
+        this.decryptP50Micros = decryptP50Micros;
+        this.decryptP99Micros = decryptP99Micros;
+    }
+    
+    public long getEncryptCount() {
+        return encryptCount;
+    }
+    
+    public long getEncryptP50Micros() {
+        return encryptP50Micros;
+    }
+    
+    public long getEncryptP99Micros() {
+        return encryptP99Micros;
+    }
+    
+    public long getDecryptCount() {
+        return decryptCount;
+    }
+    
+    public long getDecryptP50Micros() {
+        return decryptP50Micros;
+    }
+    
+    public long getDecryptP99Micros() {
+        return decryptP99Micros;
+    }
+}
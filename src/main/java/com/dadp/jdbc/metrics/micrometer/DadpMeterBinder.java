@@ -0,0 +1,123 @@
+package com.dadp.jdbc.metrics.micrometer;
+
+import com.dadp.jdbc.metrics.DadpMetrics;
+import com.dadp.jdbc.metrics.LatencyHistogram;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * DADP Wrapper 지표 Micrometer 바인더
+ * 
+ * DadpMetrics의 카운터/히스토그램을 Micrometer 미터로 노출합니다 (값은 조회 시점에 DadpMetrics에서 읽음).
+ * 모든 미터에는 instanceId 태그가, 암복호화 미터에는 policy/operation 태그가 붙습니다.
+ * 
+ * Micrometer는 provided 의존성이며, DadpMetrics가 클래스패스에서 Micrometer를 감지한 경우에만
+ * 리플렉션으로 이 클래스를 로드합니다. 별도 레지스트리에 등록하려면 직접 bindTo를 호출하세요.
+ * 
+ * <pre>
+ * new DadpMeterBinder(DadpMetrics.forInstance("app-1")).bindTo(registry);
+ * </pre>
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+public class DadpMeterBinder implements MeterBinder {
+    
+    private final DadpMetrics metrics;
+    
+    public DadpMeterBinder(DadpMetrics metrics) {
+        this.metrics = metrics;
+    }
+    
+    /**
+     * Micrometer 전역 레지스트리(Metrics.globalRegistry)에 등록
+     * (DadpMetrics에서 리플렉션으로 호출)
+     */
+    public static void bindToGlobalRegistry(DadpMetrics metrics) {
+        new DadpMeterBinder(metrics).bindTo(Metrics.globalRegistry);
+    }
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Tags tags = Tags.of("instanceId", metrics.getInstanceId());
+        
+        // 정책별 암복호화 타이머 (새 정책이 생기면 그때 등록)
+        metrics.addPolicyListener(policyName -> {
+            bindCrypto(registry, tags, "encrypt", policyName, metrics.getEncryptLatency(policyName));
+            bindCrypto(registry, tags, "decrypt", policyName, metrics.getDecryptLatency(policyName));
+        });
+        
+        counter(registry, "dadp.hub.errors", "Hub 암복호화 오류 수", tags, DadpMetrics::getHubErrorCount);
+        counter(registry, "dadp.failopen.fallbacks", "Fail-open으로 원본 데이터를 사용한 수", tags,
+                DadpMetrics::getFailOpenFallbackCount);
+        counter(registry, "dadp.truncation.retries", "Data truncation으로 평문 재시도한 수", tags,
+                DadpMetrics::getTruncationRetryCount);
+        counter(registry, "dadp.oversize", "암호문 크기 초과로 실행 전 평문 바인딩한 수", tags,
+                DadpMetrics::getOversizeCount);
+        counter(registry, "dadp.sql.parse", "SQL 파싱 수", tags.and("result", "hit"),
+                DadpMetrics::getSqlParseCacheHitCount);
+        counter(registry, "dadp.sql.parse", "SQL 파싱 수", tags.and("result", "miss"),
+                DadpMetrics::getSqlParseCacheMissCount);
+        counter(registry, "dadp.policy.lookup", "정책 조회 수", tags.and("result", "hit"),
+                DadpMetrics::getPolicyLookupHitCount);
+        counter(registry, "dadp.policy.lookup", "정책 조회 수", tags.and("result", "miss"),
+                DadpMetrics::getPolicyLookupMissCount);
+        counter(registry, "dadp.statements.wrapped", "래핑된 Statement 수", tags,
+                DadpMetrics::getWrappedStatementCount);
+        counter(registry, "dadp.resultsets.wrapped", "래핑된 ResultSet 수", tags,
+                DadpMetrics::getWrappedResultSetCount);
+        
+        LatencyHistogram refresh = metrics.getMappingRefreshLatency();
+        FunctionTimer.builder("dadp.mapping.refresh", refresh,
+                        LatencyHistogram::getCount, LatencyHistogram::getTotalNanos, TimeUnit.NANOSECONDS)
+                .description("정책 매핑 갱신 시간")
+                .tags(tags)
+                .register(registry);
+        Gauge.builder("dadp.mapping.count", metrics, DadpMetrics::getMappingCount)
+                .description("로드된 정책 매핑 수")
+                .tags(tags)
+                .register(registry);
+        Gauge.builder("dadp.mapping.version", metrics, DadpMetrics::getMappingVersion)
+                .description("정책 매핑 갱신 버전")
+                .tags(tags)
+                .register(registry);
+    }
+    
+    private static void bindCrypto(MeterRegistry registry, Tags tags, String operation, String policyName,
+                                   LatencyHistogram histogram) {
+        Tags cryptoTags = tags.and("operation", operation, "policy", policyName);
+        FunctionTimer.builder("dadp.crypto", histogram,
+                        LatencyHistogram::getCount, LatencyHistogram::getTotalNanos, TimeUnit.NANOSECONDS)
+                .description("Hub 암복호화 호출 시간")
+                .tags(cryptoTags)
+                .register(registry);
+        TimeGauge.builder("dadp.crypto.latency.p99", histogram, TimeUnit.MICROSECONDS,
+                        h -> h.getPercentileMicros(99))
+                .description("Hub 암복호화 호출 시간 p99 (근사값)")
+                .tags(cryptoTags)
+                .register(registry);
+        TimeGauge.builder("dadp.crypto.latency.max", histogram, TimeUnit.MICROSECONDS,
+                        LatencyHistogram::getMaxMicros)
+                .description("Hub 암복호화 호출 시간 최대값")
+                .tags(cryptoTags)
+                .register(registry);
+    }
+    
+    private void counter(MeterRegistry registry, String name, String description, Tags tags,
+                         ToDoubleFunction<DadpMetrics> value) {
+        FunctionCounter.builder(name, metrics, value)
+                .description(description)
+                .tags(tags)
+                .register(registry);
+    }
+}
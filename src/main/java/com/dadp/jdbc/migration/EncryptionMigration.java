@@ -0,0 +1,905 @@
+package com.dadp.jdbc.migration;
+
+import com.dadp.jdbc.DadpProxyConnection;
+import com.dadp.jdbc.DadpProxyRuntime;
+import com.dadp.jdbc.crypto.BlindIndex;
+import com.dadp.jdbc.crypto.HubCryptoAdapter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 기존 평문 컬럼 일괄 암호화 마이그레이션
+ * 
+ * 정책 매핑을 새로 추가하면 기존 행은 다시 저장될 때까지 평문으로 남습니다.
+ * 이 클래스는 테이블을 기본 키 구간별로 나누어 여러 작업 스레드가 동시에 읽고,
+ * 보호 컬럼 값을 암호화한 뒤 JDBC 배치 UPDATE로 다시 저장합니다.
+ * 
+ * - 정수 기본 키: MIN~MAX를 rangeSize 단위 구간으로 나누어 작업 스레드가 구간을 하나씩 가져가 처리
+ * - 그 외 기본 키: 기본 키 순서로 한 스레드가 처리 (keyset 페이징)
+ * - 이미 암호화된 값(Hub 라이브러리 형식 검사 또는 컬럼 정책의 "정책명::ENC::Base64" 형식)은 건너뛰므로 중단 후 다시 실행해도 안전합니다.
+ * - "::ENC::"가 있지만 컬럼 정책의 암호문으로 확인되지 않는 값(부분 암호화 값, 표시가 포함된 평문)은
+ *   이중 암호화하지 않고 그대로 두며, 완료로 집계하지 않고 확인 필요 수(getUnrecognizedValues)로 보고합니다.
+ * - UPDATE는 "WHERE 기본 키 = ? AND 컬럼 = 읽은 값" 조건이라, 읽은 뒤 애플리케이션이 바꾼 값은 덮어쓰지 않습니다.
+ * - 암호화 실패 또는 컬럼 크기 초과 값은 Fail-open 모드에서는 평문으로 남기고 실패 수로 집계하며,
+ *   Fail-closed 모드에서는 예외로 중단합니다 (다시 실행하면 중단한 구간부터 처리).
+ * - 블라인드/접두사 인덱스 대상 컬럼은 동반 컬럼(_bidx, _pidx)도 함께 채웁니다.
+ * - 이미 암호화된 컬럼에 블라인드/접두사 인덱스를 새로 설정한 경우 setBackfillIndexes(true)로 실행하면
+ *   암호문을 복호화해 동반 컬럼만 채웁니다 (동반 컬럼이 비어 있으면 재작성된 검색 조건이 기존 행을 찾지 못하므로,
+ *   blindIndex/prefixIndex 설정을 애플리케이션에 적용하기 전에 실행해야 함).
+ * - checkpointFile을 지정하면 완료한 구간을 기록하여 다시 실행할 때 이어서 처리합니다.
+ * 
+ * Connection은 DADP Proxy가 아닌 원본 DB Connection이어야 합니다 (Proxy를 거치면 읽기 시 복호화됨).
+ * 인스턴스는 한 번만 실행할 수 있습니다.
+ * 
+ * 사용 예:
+ * <pre>
+ * DadpProxyRuntime runtime = new DadpProxyRuntime(params); // hubUrl, instanceId 등
+ * EncryptionMigration migration = new EncryptionMigration(rawDataSource, runtime, "users", "id");
+ * migration.setWorkers(8);
+ * migration.setCheckpointFile(Paths.get("users.checkpoint"));
+ * MigrationProgress result = migration.run();
+ * </pre>
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+public final class EncryptionMigration {
+    
+    private static final Logger log = LoggerFactory.getLogger(EncryptionMigration.class);
+    
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_$]*(\\.[A-Za-z_][A-Za-z0-9_$]*)?");
+    private static final long PROGRESS_LOG_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private static final String ENC_MARKER = "::ENC::"; // 정책명::ENC::... (부분 암호화는 평문 접두사 뒤에 위치)
+    private static final int MAX_UNRECOGNIZED_LOGS = 20; // 확인 필요 값 경고 로그 상한 (마이그레이션별)
+    
+    /**
+     * 원본 DB Connection 제공 (DataSource 또는 DriverManager)
+     */
+    public interface ConnectionFactory {
+        Connection getConnection() throws SQLException;
+    }
+    
+    private final ConnectionFactory connections;
+    private final DadpProxyRuntime runtime;
+    private final String table;
+    private final String policyTable; // 정책 매핑 조회용 테이블명 (스키마 접두사 제거)
+    private final String primaryKey;
+    private List<String> columns; // null이면 정책 매핑된 모든 문자열 컬럼
+    private int batchSize = 500;
+    private int workers = 4;
+    private long rangeSize = 100_000;
+    private int maxRowsPerSecond; // 0이면 제한 없음
+    private Path checkpointFile;
+    private boolean backfillIndexes;
+    
+    private final MigrationProgress progress = new MigrationProgress();
+    private final AtomicInteger unrecognizedLogs = new AtomicInteger();
+    private final AtomicLong lastProgressLog = new AtomicLong(System.nanoTime());
+    private volatile boolean cancelled;
+    private boolean started;
+    
+    public EncryptionMigration(DataSource dataSource, DadpProxyRuntime runtime, String table, String primaryKey) {
+        this(dataSource::getConnection, runtime, table, primaryKey);
+    }
+    
+    /**
+     * @param connections 원본 DB Connection 제공 (작업 스레드마다 하나씩 사용)
+     * @param runtime Hub 연동 런타임 (정책 매핑, 암호화 어댑터, 블라인드 인덱스)
+     * @param table 테이블명 (schema.table 허용)
+     * @param primaryKey 단일 컬럼 기본 키 (또는 고유 키)
+     */
+    public EncryptionMigration(ConnectionFactory connections, DadpProxyRuntime runtime, String table, String primaryKey) {
+        this.connections = connections;
+        this.runtime = runtime;
+        this.table = identifier(table);
+        this.primaryKey = identifier(primaryKey);
+        this.policyTable = this.table.substring(this.table.lastIndexOf('.') + 1);
+    }
+    
+    /**
+     * 암호화할 컬럼 (지정하지 않으면 정책 매핑된 모든 문자열 컬럼)
+     */
+    public void setColumns(List<String> columns) {
+        List<String> checked = new ArrayList<>();
+        for (String column : columns) {
+            checked.add(identifier(column));
+        }
+        this.columns = checked;
+    }
+    
+    /**
+     * 한 번에 읽고 UPDATE 배치로 저장할 행 수 (기본값: 500)
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = positive("batchSize", batchSize);
+    }
+    
+    /**
+     * 작업 스레드 수 (기본값: 4, 스레드마다 Connection 하나 사용)
+     */
+    public void setWorkers(int workers) {
+        this.workers = positive("workers", workers);
+    }
+    
+    /**
+     * 정수 기본 키 구간 크기 (기본값: 100000, 키 값 범위 기준)
+     */
+    public void setRangeSize(long rangeSize) {
+        if (rangeSize <= 0) {
+            throw new IllegalArgumentException("rangeSize는 0보다 커야 합니다: " + rangeSize);
+        }
+        this.rangeSize = rangeSize;
+    }
+    
+    /**
+     * 초당 최대 처리 행 수 (기본값: 0 = 제한 없음, 운영 DB/Hub 부하 조절용)
+     */
+    public void setMaxRowsPerSecond(int maxRowsPerSecond) {
+        if (maxRowsPerSecond < 0) {
+            throw new IllegalArgumentException("maxRowsPerSecond는 0 이상이어야 합니다: " + maxRowsPerSecond);
+        }
+        this.maxRowsPerSecond = maxRowsPerSecond;
+    }
+    
+    /**
+     * 진행 상황 기록 파일 (지정하면 다시 실행할 때 완료한 구간을 건너뜀)
+     */
+    public void setCheckpointFile(Path checkpointFile) {
+        this.checkpointFile = checkpointFile;
+    }
+    
+    /**
+     * 이미 암호화된 값의 블라인드/접두사 인덱스 동반 컬럼 채우기 (기본값: false)
+     * 
+     * true이면 인덱스 대상 컬럼의 암호문을 건너뛰지 않고 복호화하여 동반 컬럼(_bidx, _pidx)만 갱신합니다
+     * (암호문 컬럼은 그대로, 다시 실행하면 다시 계산). 평문 값은 기존과 같이 암호화하며 동반 컬럼도 함께 채웁니다.
+     */
+    public void setBackfillIndexes(boolean backfillIndexes) {
+        this.backfillIndexes = backfillIndexes;
+    }
+    
+    /**
+     * 진행 상황 (실행 중 다른 스레드에서 조회 가능)
+     */
+    public MigrationProgress getProgress() {
+        return progress;
+    }
+    
+    /**
+     * 실행 중단 요청 (처리 중인 배치까지 저장하고 종료, checkpoint는 유지)
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+    
+    /**
+     * 마이그레이션 실행 (완료될 때까지 대기)
+     * 
+     * @return 진행 상황 (중단 요청 시 처리한 곳까지)
+     * @throws SQLException DB 오류, Hub 어댑터 초기화 실패, Fail-closed 모드의 암호화 실패/컬럼 크기 초과
+     */
+    public MigrationProgress run() throws SQLException {
+        synchronized (this) {
+            if (started) {
+                throw new IllegalStateException("EncryptionMigration은 한 번만 실행할 수 있습니다");
+            }
+            started = true;
+        }
+        HubCryptoAdapter adapter = runtime.getHubCryptoAdapter();
+        if (adapter == null) {
+            throw new SQLException("Hub 암복호화 어댑터를 초기화할 수 없습니다: " + runtime.getConfig().getHubUrl());
+        }
+        // Proxy Connection을 거치지 않으므로 정책 매핑을 직접 로드
+        runtime.getMappingSyncService().loadMappingsFromHub();
+        
+        List<TargetColumn> targets;
+        KeyPlan keyPlan;
+        try (Connection connection = openConnection()) {
+            targets = resolveTargets(connection);
+            keyPlan = targets.isEmpty() ? null : planKeys(connection);
+        }
+        if (targets.isEmpty()) {
+            log.warn("⚠️ 암호화할 컬럼이 없습니다: {} (정책 매핑 또는 columns 설정 확인)", table);
+            progress.finish();
+            return progress;
+        }
+        if (backfillIndexes && targets.stream().noneMatch(TargetColumn::isIndexed)) {
+            log.warn("⚠️ 블라인드/접두사 인덱스 대상 컬럼이 없어 동반 컬럼을 채우지 않습니다: {} (blindIndex/prefixIndex 및 키 설정 확인)",
+                    table);
+        }
+        Checkpoint checkpoint = Checkpoint.load(checkpointFile, table, primaryKey, keyPlan);
+        List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < keyPlan.ranges; i++) {
+            if (!checkpoint.isCompleted(i)) {
+                pending.add(i);
+            }
+        }
+        progress.setTotalRanges(keyPlan.ranges);
+        for (int i = pending.size(); i < keyPlan.ranges; i++) {
+            progress.recordRangeCompleted();
+        }
+        log.info("🚀 암호화 마이그레이션 시작: {} (컬럼: {}, 구간: {}/{}개 남음, 작업 스레드: {}, 배치: {}행)", table,
+                targets, pending.size(), keyPlan.ranges, keyPlan.numeric ? workers : 1, batchSize);
+        
+        Throttle throttle = new Throttle(maxRowsPerSecond);
+        AtomicInteger nextRange = new AtomicInteger();
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        int threads = keyPlan.numeric ? Math.min(workers, Math.max(1, pending.size())) : 1;
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "dadp-migration-" + threadNumber.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        for (int w = 0; w < threads; w++) {
+            executor.execute(() -> {
+                try (Worker worker = new Worker(adapter, targets, keyPlan, throttle, checkpoint)) {
+                    int next;
+                    while (!cancelled && failure.get() == null && (next = nextRange.getAndIncrement()) < pending.size()) {
+                        worker.migrateRange(pending.get(next));
+                    }
+                } catch (Exception e) {
+                    failure.compareAndSet(null, e);
+                }
+            });
+        }
+        executor.shutdown();
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+                logProgress(false);
+            }
+        } catch (InterruptedException e) {
+            cancelled = true;
+            Thread.currentThread().interrupt();
+        }
+        progress.finish();
+        
+        Exception error = failure.get();
+        if (error != null) {
+            log.error("❌ 암호화 마이그레이션 실패: {} - {} ({})", table, error.getMessage(), progress);
+            throw error instanceof SQLException ? (SQLException) error
+                    : new SQLException("암호화 마이그레이션 실패: " + error.getMessage(), error);
+        }
+        if (cancelled) {
+            log.warn("⏹️ 암호화 마이그레이션 중단: {} ({})", table, progress);
+        } else if (progress.getUnrecognizedValues() > 0) {
+            log.warn("⚠️ 암호화 마이그레이션 완료, 암호문으로 확인되지 않은 값 {}개는 그대로 남음 (확인 필요): {} ({})",
+                    progress.getUnrecognizedValues(), table, progress);
+        } else {
+            log.info("✅ 암호화 마이그레이션 완료: {} ({})", table, progress);
+        }
+        return progress;
+    }
+    
+    private Connection openConnection() throws SQLException {
+        Connection connection = connections.getConnection();
+        if (connection instanceof DadpProxyConnection) {
+            connection.close();
+            throw new SQLException("DADP Proxy Connection은 사용할 수 없습니다 (원본 DB Connection 필요)");
+        }
+        return connection;
+    }
+    
+    /**
+     * 암호화 대상 컬럼 결정 (정책 매핑이 있는 문자열 컬럼)
+     */
+    private List<TargetColumn> resolveTargets(Connection connection) throws SQLException {
+        List<TargetColumn> targets = new ArrayList<>();
+        Set<String> requested = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        if (columns != null) {
+            requested.addAll(columns);
+        }
+        BlindIndex blindIndex = runtime.getBlindIndex();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT * FROM " + table + " WHERE 1 = 0")) {
+            ResultSetMetaData metaData = rs.getMetaData();
+            boolean keyFound = false;
+            for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                String column = metaData.getColumnName(i);
+                if (column.equalsIgnoreCase(primaryKey)) {
+                    keyFound = true;
+                    continue;
+                }
+                if (columns != null && !requested.remove(column)) {
+                    continue;
+                }
+                String policyName = resolvePolicy(column);
+                if (policyName == null) {
+                    if (columns != null) {
+                        log.warn("⚠️ 정책 매핑이 없어 건너뜀: {}.{}", table, column);
+                    }
+                    continue;
+                }
+                if (!isCharacterType(metaData.getColumnType(i))) {
+                    log.warn("⚠️ 문자열 컬럼이 아니어서 건너뜀: {}.{} ({})", table, column, metaData.getColumnTypeName(i));
+                    continue;
+                }
+                targets.add(new TargetColumn(column, policyName, metaData.getPrecision(i),
+                        blindIndex != null && blindIndex.isIndexed(policyTable, column),
+                        blindIndex != null && blindIndex.isPrefixIndexed(policyTable, column)));
+            }
+            if (!keyFound) {
+                throw new SQLException("기본 키 컬럼이 없습니다: " + table + "." + primaryKey);
+            }
+        }
+        for (String missing : requested) {
+            log.warn("⚠️ 테이블에 없는 컬럼: {}.{}", table, missing);
+        }
+        return targets;
+    }
+    
+    private String resolvePolicy(String column) {
+        String policyName = runtime.getPolicyResolver().resolvePolicy(policyTable, column);
+        if (policyName == null) {
+            policyName = runtime.getPolicyResolver().resolvePolicy(policyTable.toLowerCase(Locale.ROOT),
+                    column.toLowerCase(Locale.ROOT));
+        }
+        return policyName;
+    }
+    
+    /**
+     * 기본 키 구간 계획 (정수 키는 MIN~MAX 구간 분할, 그 외에는 구간 하나)
+     */
+    private KeyPlan planKeys(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT MIN(" + primaryKey + "), MAX(" + primaryKey + ") FROM " + table)) {
+            rs.next();
+            if (!isIntegerType(rs.getMetaData().getColumnType(1))) {
+                return new KeyPlan(false, 0, 0, 1);
+            }
+            long min = rs.getLong(1);
+            if (rs.wasNull()) {
+                return new KeyPlan(true, 0, 0, 0); // 빈 테이블
+            }
+            long max = rs.getLong(2);
+            long ranges = (max - min) / rangeSize + 1;
+            if (ranges > Integer.MAX_VALUE) {
+                throw new SQLException("구간 수가 너무 많습니다 (rangeSize를 늘려야 함): " + ranges);
+            }
+            return new KeyPlan(true, min, max, (int) ranges);
+        }
+    }
+    
+    private void logProgress(boolean force) {
+        long now = System.nanoTime();
+        long last = lastProgressLog.get();
+        if ((force || now - last >= PROGRESS_LOG_INTERVAL_NANOS) && lastProgressLog.compareAndSet(last, now)) {
+            log.info("📊 암호화 마이그레이션 진행: {} ({})", table, progress);
+        }
+    }
+    
+    /**
+     * 작업 스레드별 Connection과 PreparedStatement
+     */
+    private final class Worker implements AutoCloseable {
+        private final HubCryptoAdapter adapter;
+        private final List<TargetColumn> targets;
+        private final KeyPlan keyPlan;
+        private final Throttle throttle;
+        private final Checkpoint checkpoint;
+        private final Connection connection;
+        private final PreparedStatement select;
+        private final PreparedStatement firstSelect; // keyset 페이징의 첫 배치 (시작 키 없음)
+        private final PreparedStatement[] updates;
+        private final PreparedStatement[] indexUpdates; // 이미 암호화된 값의 동반 컬럼만 갱신 (backfillIndexes, 인덱스 대상 컬럼만)
+        
+        Worker(HubCryptoAdapter adapter, List<TargetColumn> targets, KeyPlan keyPlan, Throttle throttle,
+               Checkpoint checkpoint) throws SQLException {
+            this.adapter = adapter;
+            this.targets = targets;
+            this.keyPlan = keyPlan;
+            this.throttle = throttle;
+            this.checkpoint = checkpoint;
+            this.connection = openConnection();
+            this.updates = new PreparedStatement[targets.size()];
+            this.indexUpdates = new PreparedStatement[targets.size()];
+            try {
+                connection.setAutoCommit(false);
+                StringBuilder selectSql = new StringBuilder("SELECT ").append(primaryKey);
+                for (TargetColumn target : targets) {
+                    selectSql.append(", ").append(target.name);
+                }
+                selectSql.append(" FROM ").append(table);
+                String orderBy = " ORDER BY " + primaryKey;
+                if (keyPlan.numeric) {
+                    this.select = prepareSelect(selectSql + " WHERE " + primaryKey + " > ? AND " + primaryKey + " <= ?" + orderBy);
+                    this.firstSelect = null;
+                } else {
+                    this.select = prepareSelect(selectSql + " WHERE " + primaryKey + " > ?" + orderBy);
+                    this.firstSelect = prepareSelect(selectSql + orderBy);
+                }
+                for (int i = 0; i < targets.size(); i++) {
+                    TargetColumn target = targets.get(i);
+                    StringBuilder updateSql = new StringBuilder("UPDATE ").append(table).append(" SET ")
+                            .append(target.name).append(" = ?");
+                    if (target.blindIndexed) {
+                        updateSql.append(", ").append(target.name).append(BlindIndex.COLUMN_SUFFIX).append(" = ?");
+                    }
+                    if (target.prefixIndexed) {
+                        updateSql.append(", ").append(target.name).append(BlindIndex.PREFIX_COLUMN_SUFFIX).append(" = ?");
+                    }
+                    updateSql.append(" WHERE ").append(primaryKey).append(" = ? AND ").append(target.name).append(" = ?");
+                    updates[i] = connection.prepareStatement(updateSql.toString());
+                    if (backfillIndexes && target.isIndexed()) {
+                        indexUpdates[i] = connection.prepareStatement(indexUpdateSql(target));
+                    }
+                }
+            } catch (SQLException e) {
+                close();
+                throw e;
+            }
+        }
+        
+        private String indexUpdateSql(TargetColumn target) {
+            List<String> assignments = new ArrayList<>();
+            if (target.blindIndexed) {
+                assignments.add(target.name + BlindIndex.COLUMN_SUFFIX + " = ?");
+            }
+            if (target.prefixIndexed) {
+                assignments.add(target.name + BlindIndex.PREFIX_COLUMN_SUFFIX + " = ?");
+            }
+            return "UPDATE " + table + " SET " + String.join(", ", assignments)
+                    + " WHERE " + primaryKey + " = ? AND " + target.name + " = ?";
+        }
+        
+        private PreparedStatement prepareSelect(String sql) throws SQLException {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setMaxRows(batchSize);
+            statement.setFetchSize(batchSize);
+            return statement;
+        }
+        
+        void migrateRange(int range) throws SQLException, InterruptedException {
+            if (keyPlan.numeric) {
+                long lower = keyPlan.min - 1 + range * rangeSize; // 이 값 초과
+                long upper = range == keyPlan.ranges - 1 ? Math.max(keyPlan.max, lower + rangeSize) : lower + rangeSize;
+                long lastKey = lower;
+                while (!cancelled) {
+                    select.setLong(1, lastKey);
+                    select.setLong(2, upper);
+                    List<Object[]> rows = readRows(select);
+                    if (rows.isEmpty()) {
+                        break;
+                    }
+                    processBatch(rows);
+                    connection.commit();
+                    lastKey = ((Number) rows.get(rows.size() - 1)[0]).longValue();
+                    if (rows.size() < batchSize) {
+                        break;
+                    }
+                }
+                if (!cancelled) {
+                    checkpoint.complete(range);
+                    progress.recordRangeCompleted();
+                }
+                return;
+            }
+            // 정수가 아닌 키: 기본 키 순서로 이어서 처리하고 배치마다 마지막 키 기록
+            String lastKey = checkpoint.getLastKey();
+            while (!cancelled) {
+                PreparedStatement statement = firstSelect;
+                if (lastKey != null) {
+                    statement = select;
+                    statement.setString(1, lastKey);
+                }
+                List<Object[]> rows = readRows(statement);
+                if (rows.isEmpty()) {
+                    break;
+                }
+                processBatch(rows);
+                connection.commit();
+                lastKey = String.valueOf(rows.get(rows.size() - 1)[0]);
+                checkpoint.setLastKey(lastKey);
+                if (rows.size() < batchSize) {
+                    break;
+                }
+            }
+            if (!cancelled) {
+                checkpoint.complete(range);
+                progress.recordRangeCompleted();
+            }
+        }
+        
+        private List<Object[]> readRows(PreparedStatement statement) throws SQLException {
+            List<Object[]> rows = new ArrayList<>(batchSize);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next() && rows.size() < batchSize) {
+                    Object[] row = new Object[targets.size() + 1];
+                    row[0] = rs.getObject(1);
+                    for (int i = 0; i < targets.size(); i++) {
+                        row[i + 1] = rs.getString(i + 2);
+                    }
+                    rows.add(row);
+                }
+            }
+            return rows;
+        }
+        
+        /**
+         * 배치의 보호 컬럼 값을 암호화하고 컬럼별 UPDATE 배치로 저장 (커밋은 호출자)
+         */
+        private void processBatch(List<Object[]> rows) throws SQLException, InterruptedException {
+            throttle.acquire(rows.size());
+            BlindIndex blindIndex = runtime.getBlindIndex();
+            int encrypted = 0;
+            int skipped = 0;
+            int unrecognized = 0;
+            int failed = 0;
+            List<List<Integer>> batchedRows = new ArrayList<>(targets.size());
+            List<List<Integer>> indexedRows = new ArrayList<>(targets.size());
+            for (int c = 0; c < targets.size(); c++) {
+                TargetColumn target = targets.get(c);
+                List<Integer> rowIndexes = new ArrayList<>();
+                List<Integer> indexRowIndexes = new ArrayList<>();
+                for (int r = 0; r < rows.size(); r++) {
+                    String value = (String) rows.get(r)[c + 1];
+                    if (value == null) {
+                        continue;
+                    }
+                    if (adapter.isEncryptedData(value, target.policyName)) {
+                        if (indexUpdates[c] == null) {
+                            skipped++;
+                        } else if (bindIndexUpdate(c, target, rows.get(r)[0], value)) {
+                            indexRowIndexes.add(r);
+                        } else {
+                            failed++; // Fail-open: 복호화 실패로 동반 컬럼을 계산할 수 없음
+                        }
+                        continue;
+                    }
+                    if (value.contains(ENC_MARKER)) {
+                        // 부분 암호화 값이거나 표시가 포함된 평문: 이중 암호화하지 않고 확인 필요로 보고
+                        unrecognized++;
+                        if (unrecognizedLogs.incrementAndGet() <= MAX_UNRECOGNIZED_LOGS) {
+                            log.warn("⚠️ 암호문으로 확인되지 않는 값, 그대로 둠 (확인 필요): {}.{} ({} = {})",
+                                    table, target.name, primaryKey, rows.get(r)[0]);
+                        }
+                        continue;
+                    }
+                    String ciphertext = adapter.encrypt(value, target.policyName); // Fail-closed면 예외
+                    if (ciphertext == null || ciphertext.equals(value)) {
+                        failed++; // Fail-open: 평문 그대로 (Hub 오류)
+                        continue;
+                    }
+                    if (target.size > 0 && ciphertext.length() > target.size) {
+                        runtime.getMetrics().recordOversize(policyTable, target.name);
+                        if (!runtime.getConfig().isFailOpen()) {
+                            // Fail-closed: 평문을 남긴 채 완료로 집계하지 않도록 중단 (이전 배치까지는 커밋됨)
+                            throw new SQLException("암호화된 데이터가 컬럼 크기를 초과합니다: " + table + "." + target.name
+                                    + " (암호문: " + ciphertext.length() + "자, 컬럼: " + target.size + "자)", "22001");
+                        }
+                        failed++;
+                        log.debug("암호화 데이터가 컬럼 크기 초과, 평문 유지: {}.{} (암호문: {}자, 컬럼: {}자)",
+                                table, target.name, ciphertext.length(), target.size);
+                        continue;
+                    }
+                    PreparedStatement update = updates[c];
+                    int index = 1;
+                    update.setString(index++, ciphertext);
+                    if (target.blindIndexed) {
+                        update.setString(index++, blindIndex.compute(policyTable, target.name, value));
+                    }
+                    if (target.prefixIndexed) {
+                        update.setString(index++, blindIndex.computePrefixes(policyTable, target.name, value));
+                    }
+                    update.setObject(index++, rows.get(r)[0]);
+                    update.setString(index, value);
+                    update.addBatch();
+                    rowIndexes.add(r);
+                }
+                batchedRows.add(rowIndexes);
+                indexedRows.add(indexRowIndexes);
+            }
+            
+            // 컬럼별 UPDATE 배치 실행 (갱신 0건 = 읽은 뒤 애플리케이션이 값을 변경함)
+            boolean[] updatedRows = new boolean[rows.size()];
+            int conflicted = 0;
+            for (int c = 0; c < targets.size(); c++) {
+                List<Integer> rowIndexes = batchedRows.get(c);
+                if (rowIndexes.isEmpty()) {
+                    continue;
+                }
+                int[] counts = updates[c].executeBatch();
+                for (int k = 0; k < rowIndexes.size(); k++) {
+                    int count = k < counts.length ? counts[k] : Statement.SUCCESS_NO_INFO;
+                    if (count == 0) {
+                        conflicted++;
+                    } else {
+                        encrypted++;
+                        updatedRows[rowIndexes.get(k)] = true;
+                    }
+                }
+            }
+            // 이미 암호화된 값의 동반 컬럼 UPDATE 배치 (암호문이 바뀌었으면 갱신 0건)
+            int indexed = 0;
+            for (int c = 0; c < targets.size(); c++) {
+                List<Integer> rowIndexes = indexedRows.get(c);
+                if (rowIndexes.isEmpty()) {
+                    continue;
+                }
+                int[] counts = indexUpdates[c].executeBatch();
+                for (int k = 0; k < rowIndexes.size(); k++) {
+                    int count = k < counts.length ? counts[k] : Statement.SUCCESS_NO_INFO;
+                    if (count == 0) {
+                        conflicted++;
+                    } else {
+                        indexed++;
+                    }
+                }
+            }
+            int updated = 0;
+            for (boolean rowUpdated : updatedRows) {
+                if (rowUpdated) {
+                    updated++;
+                }
+            }
+            progress.recordBatch(rows.size(), updated, encrypted, skipped, unrecognized, failed, conflicted, indexed);
+            logProgress(false);
+        }
+        
+        /**
+         * 이미 암호화된 값을 복호화하여 동반 컬럼 UPDATE를 배치에 추가
+         * 
+         * @return 추가했으면 true, Fail-open 모드에서 복호화하지 못했으면 false (Fail-closed면 예외)
+         */
+        private boolean bindIndexUpdate(int c, TargetColumn target, Object key, String ciphertext) throws SQLException {
+            String plaintext = adapter.decrypt(ciphertext, target.policyName);
+            if (plaintext == null || plaintext.equals(ciphertext)) {
+                return false;
+            }
+            BlindIndex blindIndex = runtime.getBlindIndex();
+            PreparedStatement update = indexUpdates[c];
+            int index = 1;
+            if (target.blindIndexed) {
+                update.setString(index++, blindIndex.compute(policyTable, target.name, plaintext));
+            }
+            if (target.prefixIndexed) {
+                update.setString(index++, blindIndex.computePrefixes(policyTable, target.name, plaintext));
+            }
+            update.setObject(index++, key);
+            update.setString(index, ciphertext);
+            update.addBatch();
+            return true;
+        }
+        
+        @Override
+        public void close() {
+            try {
+                if (!connection.getAutoCommit()) {
+                    connection.rollback(); // 중단/실패 시 커밋하지 않은 배치 취소
+                    connection.setAutoCommit(true);
+                }
+            } catch (SQLException e) {
+                log.debug("마이그레이션 Connection 정리 실패 (무시): {}", e.getMessage());
+            }
+            try {
+                connection.close(); // PreparedStatement도 함께 닫힘
+            } catch (SQLException e) {
+                log.debug("마이그레이션 Connection 종료 실패 (무시): {}", e.getMessage());
+            }
+        }
+    }
+    
+    private static String identifier(String name) {
+        if (name == null || !IDENTIFIER.matcher(name.trim()).matches()) {
+            throw new IllegalArgumentException("잘못된 테이블/컬럼명: " + name);
+        }
+        return name.trim();
+    }
+    
+    private static int positive(String name, int value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException(name + "는 0보다 커야 합니다: " + value);
+        }
+        return value;
+    }
+    
+    private static boolean isCharacterType(int sqlType) {
+        switch (sqlType) {
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    private static boolean isIntegerType(int sqlType) {
+        return sqlType == Types.TINYINT || sqlType == Types.SMALLINT || sqlType == Types.INTEGER
+                || sqlType == Types.BIGINT;
+    }
+    
+    private static final class TargetColumn {
+        final String name;
+        final String policyName;
+        final int size; // 최대 길이 (모르면 0)
+        final boolean blindIndexed;
+        final boolean prefixIndexed;
+        
+        TargetColumn(String name, String policyName, int size, boolean blindIndexed, boolean prefixIndexed) {
+            this.name = name;
+            this.policyName = policyName;
+            this.size = size;
+            this.blindIndexed = blindIndexed;
+            this.prefixIndexed = prefixIndexed;
+        }
+        
+        boolean isIndexed() {
+            return blindIndexed || prefixIndexed;
+        }
+        
+        @Override
+        public String toString() {
+            return name + "(" + policyName + ")";
+        }
+    }
+    
+    private static final class KeyPlan {
+        final boolean numeric;
+        final long min;
+        final long max;
+        final int ranges;
+        
+        KeyPlan(boolean numeric, long min, long max, int ranges) {
+            this.numeric = numeric;
+            this.min = min;
+            this.max = max;
+            this.ranges = ranges;
+        }
+    }
+    
+    /**
+     * 초당 처리 행 수 제한 (작업 스레드 공용)
+     */
+    private static final class Throttle {
+        private final long nanosPerRow;
+        private final AtomicLong nextNanos = new AtomicLong(System.nanoTime());
+        
+        Throttle(int maxRowsPerSecond) {
+            this.nanosPerRow = maxRowsPerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / maxRowsPerSecond : 0;
+        }
+        
+        void acquire(int rows) throws InterruptedException {
+            if (nanosPerRow == 0) {
+                return;
+            }
+            long now = System.nanoTime();
+            long cost = nanosPerRow * rows;
+            // 이전 예약이 끝나는 시점부터 이번 배치 시간만큼 예약
+            long start = Math.max(now, nextNanos.getAndAccumulate(cost, (previous, c) -> Math.max(previous, now) + c));
+            if (start > now) {
+                TimeUnit.NANOSECONDS.sleep(start - now);
+            }
+        }
+    }
+    
+    /**
+     * 진행 상황 기록 파일 (Properties 형식, 완료한 구간 번호 또는 마지막 키)
+     * 
+     * 테이블/기본 키/구간 계획이 같을 때만 이어서 처리하며, 다르면 처음부터 시작합니다.
+     */
+    private static final class Checkpoint {
+        private final Path file;
+        private final Properties properties;
+        private final Set<Integer> completed = new TreeSet<>();
+        
+        private Checkpoint(Path file, Properties properties) {
+            this.file = file;
+            this.properties = properties;
+            String value = properties.getProperty("completed", "");
+            for (String range : value.split(",")) {
+                if (!range.trim().isEmpty()) {
+                    completed.add(Integer.parseInt(range.trim()));
+                }
+            }
+        }
+        
+        static Checkpoint load(Path file, String table, String primaryKey, KeyPlan keyPlan) throws SQLException {
+            Properties expected = new Properties();
+            expected.setProperty("table", table);
+            expected.setProperty("primaryKey", primaryKey);
+            expected.setProperty("numeric", String.valueOf(keyPlan.numeric));
+            expected.setProperty("min", String.valueOf(keyPlan.min));
+            expected.setProperty("ranges", String.valueOf(keyPlan.ranges));
+            if (file == null || !Files.exists(file)) {
+                return new Checkpoint(file, expected);
+            }
+            Properties saved = new Properties();
+            try (InputStream in = Files.newInputStream(file)) {
+                saved.load(in);
+            } catch (IOException e) {
+                throw new SQLException("checkpoint 파일을 읽을 수 없습니다: " + file, e);
+            }
+            for (String key : Arrays.asList("table", "primaryKey", "numeric", "min", "ranges")) {
+                if (!expected.getProperty(key).equals(saved.getProperty(key))) {
+                    log.warn("⚠️ checkpoint가 현재 마이그레이션과 맞지 않아 처음부터 시작: {} ({}: {} → {})",
+                            file, key, saved.getProperty(key), expected.getProperty(key));
+                    return new Checkpoint(file, expected);
+                }
+            }
+            Checkpoint checkpoint = new Checkpoint(file, saved);
+            log.info("🔄 checkpoint에서 이어서 처리: {} (완료 구간 {}개)", file, checkpoint.completed.size());
+            return checkpoint;
+        }
+        
+        synchronized boolean isCompleted(int range) {
+            return completed.contains(range);
+        }
+        
+        synchronized String getLastKey() {
+            return properties.getProperty("lastKey");
+        }
+        
+        synchronized void setLastKey(String lastKey) throws SQLException {
+            properties.setProperty("lastKey", lastKey);
+            save();
+        }
+        
+        synchronized void complete(int range) throws SQLException {
+            completed.add(range);
+            StringBuilder value = new StringBuilder();
+            for (Integer done : completed) {
+                if (value.length() > 0) {
+                    value.append(',');
+                }
+                value.append(done);
+            }
+            properties.setProperty("completed", value.toString());
+            save();
+        }
+        
+        private void save() throws SQLException {
+            if (file == null) {
+                return;
+            }
+            try {
+                Path parent = file.toAbsolutePath().getParent();
+                Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+                try (OutputStream out = Files.newOutputStream(temp)) {
+                    properties.store(out, "DADP encryption migration checkpoint");
+                }
+                try {
+                    Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } catch (IOException e) {
+                throw new SQLException("checkpoint 파일을 저장할 수 없습니다: " + file, e);
+            }
+        }
+    }
+}
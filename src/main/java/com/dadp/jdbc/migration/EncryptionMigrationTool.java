@@ -0,0 +1,199 @@
+package com.dadp.jdbc.migration;
+
+import com.dadp.jdbc.DadpProxyRuntime;
+import com.dadp.jdbc.config.ProxyConfig;
+import java.io.Console;
+import java.nio.file.Paths;
+import java.sql.DriverManager;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 암호화 마이그레이션 명령행 도구
+ * 
+ * 사용 예:
+ * <pre>
+ * java -cp dadp-jdbc-wrapper.jar:mysql-connector-j.jar com.dadp.jdbc.migration.EncryptionMigrationTool \
+ *   --url jdbc:mysql://db:3306/app --user app \
+ *   --table users --primary-key id --columns email,phone \
+ *   --workers 8 --max-rows-per-second 5000 --checkpoint users.checkpoint \
+ *   --hub-url http://hub:9004 --instance-id app-1
+ * </pre>
+ * 
+ * --url은 원본 DB URL입니다 (jdbc:dadp: 접두사 없이).
+ * 기존 암호화 컬럼에 블라인드/접두사 인덱스를 새로 설정한 경우 --backfill-indexes true로 동반 컬럼을 먼저 채웁니다.
+ * 마이그레이션 옵션 외의 옵션(--hub-url, --instance-id, --crypto-transport, --blind-index 등)은
+ * JDBC URL 파라미터와 같은 이름(camelCase)으로 Proxy 설정에 전달되며, 둘 다 아닌 옵션은 잘못된 인자로 거부합니다.
+ * DB 비밀번호는 프로세스 목록과 셸 기록에 남지 않도록 DADP_MIGRATION_PASSWORD 환경 변수나 콘솔 입력으로 받으며,
+ * --password는 호환성을 위해서만 유지합니다.
+ * Ctrl+C로 중단하면 처리 중인 배치까지 저장하고 checkpoint를 남깁니다.
+ * 
+ * 종료 코드: 0 = 완료, 1 = 실패, 2 = 잘못된 인자, 3 = 중단됨
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+public final class EncryptionMigrationTool {
+    
+    private static final String USAGE = "사용법: EncryptionMigrationTool --url <jdbc-url> --table <table> --primary-key <column>"
+            + " [--user <user>] [--columns <c1,c2>] [--batch-size <n>] [--workers <n>]"
+            + " [--range-size <n>] [--max-rows-per-second <n>] [--checkpoint <file>] [--backfill-indexes true|false]"
+            + " [--hub-url <url>] [--instance-id <id>] [--<proxy-option> <value>]"
+            + " (비밀번호: DADP_MIGRATION_PASSWORD 환경 변수 또는 콘솔 입력)";
+    
+    private static final String PASSWORD_ENV = "DADP_MIGRATION_PASSWORD";
+    
+    private EncryptionMigrationTool() {
+    }
+    
+    public static void main(String[] args) {
+        System.exit(run(args));
+    }
+    
+    static int run(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length) {
+                System.err.println("잘못된 인자: " + args[i]);
+                System.err.println(USAGE);
+                return 2;
+            }
+            options.put(args[i].substring(2), args[++i]);
+        }
+        String url = options.remove("url");
+        String table = options.remove("table");
+        String primaryKey = options.remove("primary-key");
+        if (url == null || table == null || primaryKey == null) {
+            System.err.println(USAGE);
+            return 2;
+        }
+        String user = options.remove("user");
+        String password = options.remove("password");
+        
+        EncryptionMigration migration;
+        try {
+            String columns = options.remove("columns");
+            String batchSize = options.remove("batch-size");
+            String workers = options.remove("workers");
+            String rangeSize = options.remove("range-size");
+            String maxRowsPerSecond = options.remove("max-rows-per-second");
+            String checkpoint = options.remove("checkpoint");
+            String backfillIndexes = options.remove("backfill-indexes");
+            
+            // 나머지 옵션은 Proxy 설정 (--hub-url → hubUrl), 오타 등 알 수 없는 옵션은 무시하지 않고 거부
+            Map<String, String> proxyParams = new HashMap<>();
+            for (Map.Entry<String, String> option : options.entrySet()) {
+                String name = camelCase(option.getKey());
+                if (!ProxyConfig.URL_PARAM_NAMES.contains(name)) {
+                    throw new IllegalArgumentException("알 수 없는 옵션: --" + option.getKey());
+                }
+                proxyParams.put(name, option.getValue());
+            }
+            DadpProxyRuntime runtime = new DadpProxyRuntime(proxyParams);
+            
+            // 알 수 없는 옵션을 먼저 거부한 뒤 입력받음
+            String dbPassword = password != null ? password : readPassword(user);
+            migration = new EncryptionMigration(() -> DriverManager.getConnection(url, user, dbPassword),
+                    runtime, table, primaryKey);
+            if (columns != null) {
+                migration.setColumns(Arrays.asList(columns.split("\\s*,\\s*")));
+            }
+            if (batchSize != null) {
+                migration.setBatchSize(Integer.parseInt(batchSize));
+            }
+            if (workers != null) {
+                migration.setWorkers(Integer.parseInt(workers));
+            }
+            if (rangeSize != null) {
+                migration.setRangeSize(Long.parseLong(rangeSize));
+            }
+            if (maxRowsPerSecond != null) {
+                migration.setMaxRowsPerSecond(Integer.parseInt(maxRowsPerSecond));
+            }
+            if (checkpoint != null) {
+                migration.setCheckpointFile(Paths.get(checkpoint));
+            }
+            if (backfillIndexes != null) {
+                migration.setBackfillIndexes(parseBoolean("backfill-indexes", backfillIndexes));
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println("잘못된 인자: " + e.getMessage());
+            System.err.println(USAGE);
+            return 2;
+        }
+        
+        // Ctrl+C: 처리 중인 배치까지 저장하고 종료
+        CountDownLatch finished = new CountDownLatch(1);
+        EncryptionMigration running = migration;
+        Thread shutdownHook = new Thread(() -> {
+            running.cancel();
+            try {
+                finished.await(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "dadp-migration-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+        boolean cancelled = false;
+        try {
+            MigrationProgress progress = migration.run();
+            System.out.println(progress);
+            cancelled = progress.getCompletedRanges() < progress.getTotalRanges();
+        } catch (Exception e) {
+            System.err.println("암호화 마이그레이션 실패: " + e.getMessage());
+            return 1;
+        } finally {
+            finished.countDown();
+            try {
+                Runtime.getRuntime().removeShutdownHook(shutdownHook);
+            } catch (IllegalStateException e) {
+                // 이미 종료 중
+            }
+        }
+        return cancelled ? 3 : 0;
+    }
+    
+    /**
+     * DB 비밀번호 읽기 (환경 변수 > 콘솔 입력, 사용자가 없거나 콘솔이 없으면 null)
+     */
+    private static String readPassword(String user) {
+        String password = System.getenv(PASSWORD_ENV);
+        if (password != null) {
+            return password;
+        }
+        Console console = System.console();
+        if (user == null || console == null) {
+            return null;
+        }
+        char[] input = console.readPassword("%s 비밀번호: ", user);
+        return input != null ? new String(input) : null;
+    }
+    
+    private static boolean parseBoolean(String option, String value) {
+        if ("true".equalsIgnoreCase(value)) {
+            return true;
+        }
+        if ("false".equalsIgnoreCase(value)) {
+            return false;
+        }
+        throw new IllegalArgumentException("--" + option + "는 true 또는 false여야 합니다: " + value);
+    }
+    
+    private static String camelCase(String option) {
+        StringBuilder name = new StringBuilder();
+        boolean upper = false;
+        for (char c : option.toCharArray()) {
+            if (c == '-') {
+                upper = true;
+            } else {
+                name.append(upper ? Character.toUpperCase(c) : c);
+                upper = false;
+            }
+        }
+        return name.toString();
+    }
+}
@@ -0,0 +1,141 @@
+package com.dadp.jdbc.migration;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 암호화 마이그레이션 진행 상황
+ * 
+ * 작업 스레드가 배치마다 갱신하므로 마이그레이션 실행 중에도 다른 스레드에서 조회할 수 있습니다.
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+public final class MigrationProgress {
+    
+    private final long startNanos = System.nanoTime();
+    private final AtomicLong scannedRows = new AtomicLong();
+    private final AtomicLong updatedRows = new AtomicLong();
+    private final AtomicLong encryptedValues = new AtomicLong();
+    private final AtomicLong skippedValues = new AtomicLong();
+    private final AtomicLong unrecognizedValues = new AtomicLong();
+    private final AtomicLong failedValues = new AtomicLong();
+    private final AtomicLong conflictedValues = new AtomicLong();
+    private final AtomicLong indexedValues = new AtomicLong();
+    private final AtomicInteger completedRanges = new AtomicInteger();
+    private volatile int totalRanges;
+    private volatile long endNanos;
+    
+    void setTotalRanges(int totalRanges) {
+        this.totalRanges = totalRanges;
+    }
+    
+    void recordBatch(int scanned, int updated, int encrypted, int skipped, int unrecognized, int failed, int conflicted,
+                     int indexed) {
+        scannedRows.addAndGet(scanned);
+        updatedRows.addAndGet(updated);
+        encryptedValues.addAndGet(encrypted);
+        skippedValues.addAndGet(skipped);
+        unrecognizedValues.addAndGet(unrecognized);
+        failedValues.addAndGet(failed);
+        conflictedValues.addAndGet(conflicted);
+        indexedValues.addAndGet(indexed);
+    }
+    
+    void recordRangeCompleted() {
+        completedRanges.incrementAndGet();
+    }
+    
+    void finish() {
+        endNanos = System.nanoTime();
+    }
+    
+    /**
+     * 읽은 행 수
+     */
+    public long getScannedRows() {
+        return scannedRows.get();
+    }
+    
+    /**
+     * 하나 이상의 컬럼을 암호문으로 바꾼 행 수
+     */
+    public long getUpdatedRows() {
+        return updatedRows.get();
+    }
+    
+    /**
+     * 암호화하여 저장한 값 수
+     */
+    public long getEncryptedValues() {
+        return encryptedValues.get();
+    }
+    
+    /**
+     * 이미 암호화되어 건너뛴 값 수
+     */
+    public long getSkippedValues() {
+        return skippedValues.get();
+    }
+    
+    /**
+     * "::ENC::"가 있지만 컬럼 정책의 암호문으로 확인되지 않아 그대로 둔 값 수
+     * (부분 암호화 값 또는 표시가 포함된 평문, 암호화되지 않았을 수 있으므로 확인 필요)
+     */
+    public long getUnrecognizedValues() {
+        return unrecognizedValues.get();
+    }
+    
+    /**
+     * 암호화 실패 또는 컬럼 크기 초과로 평문으로 남은 값 수
+     * (backfillIndexes에서 복호화하지 못해 동반 컬럼을 채우지 못한 값 포함)
+     */
+    public long getFailedValues() {
+        return failedValues.get();
+    }
+    
+    /**
+     * 읽은 뒤 애플리케이션이 값을 변경하여 덮어쓰지 않은 값 수
+     */
+    public long getConflictedValues() {
+        return conflictedValues.get();
+    }
+    
+    /**
+     * 이미 암호화된 값에 대해 블라인드/접두사 인덱스 동반 컬럼을 채운 값 수 (backfillIndexes)
+     */
+    public long getIndexedValues() {
+        return indexedValues.get();
+    }
+    
+    public int getCompletedRanges() {
+        return completedRanges.get();
+    }
+    
+    public int getTotalRanges() {
+        return totalRanges;
+    }
+    
+    public long getElapsedMillis() {
+        long end = endNanos != 0 ? endNanos : System.nanoTime();
+        return (end - startNanos) / 1_000_000;
+    }
+    
+    /**
+     * 초당 처리 행 수 (읽은 행 기준)
+     */
+    public double getRowsPerSecond() {
+        long elapsed = getElapsedMillis();
+        return elapsed > 0 ? getScannedRows() * 1000.0 / elapsed : 0;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("구간 %d/%d, 행 %d (갱신 %d), 암호화 %d, 인덱스 채움 %d, 건너뜀 %d, 확인 필요 %d, 실패 %d, 충돌 %d,"
+                + " %.0f행/초, %d초",
+                getCompletedRanges(), getTotalRanges(), getScannedRows(), getUpdatedRows(), getEncryptedValues(),
+                getIndexedValues(), getSkippedValues(), getUnrecognizedValues(), getFailedValues(), getConflictedValues(),
+                getRowsPerSecond(), getElapsedMillis() / 1000);
+    }
+}
@@ -4,21 +4,13 @@ import com.dadp.hub.crypto.HubCryptoService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
-import org.springframework.web.client.RestTemplate;
-
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * Hub 알림 전송 서비스
  * 
  * Wrapper에서 발생한 암호화/복호화 오류를 Hub에 알림으로 전달합니다.
- * HubCryptoService(통합 컴포넌트)를 사용하여 Hub와의 통신을 수행합니다.
+ * Hub와의 통신은 프로젝트의 HttpClientAdapter를 사용합니다 (Spring RestTemplate 미사용).
+ * 알림은 Hub URL별 NotificationDispatcher의 크기 제한 큐에 넣기만 하고 즉시 반환하며,
+ * 백그라운드 스레드가 배치로 전송합니다. 동일 알림은 전송 간격 내에 한 번만 전송됩니다.
  * 
  * @author DADP Development Team
  * @version 3.0.4
@@ -28,24 +20,30 @@ public class HubNotificationService {
     
     private static final Logger log = LoggerFactory.getLogger(HubNotificationService.class);
     
-    private final HubCryptoService hubCryptoService;
     private final String hubUrl;
     private final String proxyInstanceId;
-    private final RestTemplate restTemplate;
+    private final NotificationDispatcher dispatcher;
     
-    public HubNotificationService(HubCryptoService hubCryptoService, String proxyInstanceId) {
-        this.hubCryptoService = hubCryptoService;
+    public HubNotificationService(String hubUrl, String proxyInstanceId) {
+        this.hubUrl = hubUrl;
         this.proxyInstanceId = proxyInstanceId;
+        // Hub URL별 전송기 공유
+        this.dispatcher = NotificationDispatcher.forHub(hubUrl);
+    }
+    
+    /**
+     * @deprecated Hub URL을 직접 전달하는 {@link #HubNotificationService(String, String)}를 사용하세요.
+     */
+    @Deprecated
+    public HubNotificationService(HubCryptoService hubCryptoService, String proxyInstanceId) {
         // HubCryptoService에서 hubUrl 추출 (리플렉션 사용)
-        this.hubUrl = extractHubUrl(hubCryptoService);
-        // HubCryptoService의 RestTemplate 재사용
-        this.restTemplate = extractRestTemplate(hubCryptoService);
+        this(extractHubUrl(hubCryptoService), proxyInstanceId);
     }
     
     /**
      * HubCryptoService에서 hubUrl 추출 (리플렉션 사용)
      */
-    private String extractHubUrl(HubCryptoService service) {
+    private static String extractHubUrl(HubCryptoService service) {
         try {
             java.lang.reflect.Field field = HubCryptoService.class.getDeclaredField("hubUrl");
             field.setAccessible(true);
@@ -56,30 +54,16 @@ public class HubNotificationService {
         }
     }
     
-    /**
-     * HubCryptoService에서 RestTemplate 추출 (리플렉션 사용)
-     */
-    private RestTemplate extractRestTemplate(HubCryptoService service) {
-        try {
-            java.lang.reflect.Field field = HubCryptoService.class.getDeclaredField("restTemplate");
-            field.setAccessible(true);
-            return (RestTemplate) field.get(service);
-        } catch (Exception e) {
-            log.warn("⚠️ HubCryptoService에서 RestTemplate 추출 실패, 새로 생성: {}", e.getMessage());
-            return new RestTemplate();
-        }
-    }
-    
     /**
      * 암호화 오류 알림 전송
      * 
-     * @param tableName 테이블명
-     * @param columnName 컬럼명
+     * @param tableName 테이블명 (모르면 null)
+     * @param columnName 컬럼명 (모르면 null)
      * @param policyName 정책명
      * @param errorMessage 오류 메시지
      */
     public void notifyEncryptionError(String tableName, String columnName, String policyName, String errorMessage) {
-        String title = String.format("암호화 실패: %s.%s", tableName, columnName);
+        String title = "암호화 실패: " + target(tableName, columnName, policyName);
         String message = String.format("정책: %s, 오류: %s", policyName, errorMessage);
         sendNotification("CRYPTO_ERROR", "WARNING", title, message, "PROXY", proxyInstanceId, null);
     }
@@ -87,20 +71,34 @@ public class HubNotificationService {
     /**
      * 복호화 오류 알림 전송
      * 
-     * @param tableName 테이블명
-     * @param columnName 컬럼명
+     * @param tableName 테이블명 (모르면 null)
+     * @param columnName 컬럼명 (모르면 null)
+     * @param policyName 정책명 (모르면 null)
      * @param errorMessage 오류 메시지
      */
-    public void notifyDecryptionError(String tableName, String columnName, String errorMessage) {
-        String title = String.format("복호화 실패: %s.%s", tableName, columnName);
-        String message = String.format("오류: %s", errorMessage);
+    public void notifyDecryptionError(String tableName, String columnName, String policyName, String errorMessage) {
+        String title = "복호화 실패: " + target(tableName, columnName, policyName);
+        String message = String.format("정책: %s, 오류: %s", policyName, errorMessage);
         sendNotification("CRYPTO_ERROR", "WARNING", title, message, "PROXY", proxyInstanceId, null);
     }
     
     /**
-     * Hub에 알림 전송
+     * 알림 제목의 대상 (테이블.컬럼, 모르면 정책명)
      * 
-     * HubCryptoService(통합 컴포넌트)를 사용하여 알림을 전송합니다.
+     * 제목은 동일 알림 판정 기준이므로, 대상이 다른 오류가 하나의 알림으로 합쳐지지 않도록 항상 구분 가능한 값을 사용합니다.
+     */
+    static String target(String tableName, String columnName, String policyName) {
+        if (tableName != null && columnName != null) {
+            return tableName + "." + columnName;
+        }
+        return "정책 " + (policyName != null ? policyName : "(알 수 없음)");
+    }
+    
+    /**
+     * Hub에 알림 전송 (비동기, 배치)
+     * 
+     * 호출 스레드에서는 전송 큐에 넣기만 하고 즉시 반환합니다.
+     * 전송 간격 내 동일 알림이거나 큐가 가득 찬 경우 알림은 버려집니다 (앱 동작에는 영향 없음).
      * 
      * @param type 알림 타입 (CRYPTO_ERROR, SYSTEM_ERROR 등)
      * @param level 알림 레벨 (WARNING, ERROR 등)
@@ -109,46 +107,25 @@ public class HubNotificationService {
      * @param entityType 엔티티 타입 (PROXY, ENGINE 등)
      * @param entityId 엔티티 ID
      * @param metadata 메타데이터 (JSON 문자열, 선택)
+     * @return 전송 큐에 추가되었으면 true
      */
-    public void sendNotification(String type, String level, String title, String message, 
-                                 String entityType, String entityId, String metadata) {
-        try {
-            String notificationUrl = hubUrl + "/hub/api/v1/notifications/external";
-            
-            // 요청 본문 생성
-            Map<String, Object> body = new HashMap<>();
-            body.put("type", type);
-            body.put("level", level);
-            body.put("title", title);
-            body.put("message", message);
-            body.put("entityType", entityType);
-            body.put("entityId", entityId);
-            if (metadata != null) {
-                body.put("metadata", metadata);
-            }
-            
-            // HubCryptoService의 RestTemplate을 사용하여 요청 전송
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(body, headers);
-            
-            ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
-                notificationUrl, 
-                HttpMethod.POST, 
-                entity, 
-                new org.springframework.core.ParameterizedTypeReference<Map<String, Object>>() {}
-            );
-            
-            // 응답 확인
-            if (response.getStatusCode().value() >= 200 && response.getStatusCode().value() < 300) {
-                log.debug("✅ Hub 알림 전송 성공: {} - {}", type, title);
-            } else {
-                log.warn("⚠️ Hub 알림 전송 실패 (HTTP {}): {}", response.getStatusCode(), response.getBody());
-            }
-        } catch (Exception e) {
-            // 알림 전송 실패는 로그만 출력 (앱 동작에는 영향 없음)
-            log.warn("⚠️ Hub 알림 전송 중 오류 발생: {}", e.getMessage());
-        }
+    public boolean sendNotification(String type, String level, String title, String message, 
+                                    String entityType, String entityId, String metadata) {
+        return dispatcher.offer(new NotificationDispatcher.Notification(
+                type, level, title, message, entityType, entityId, metadata));
+    }
+    
+    /**
+     * 큐 초과로 버려진 알림 건수 (Hub URL 기준 누적)
+     */
+    public long getDroppedCount() {
+        return dispatcher.getDroppedCount();
+    }
+    
+    /**
+     * 전송 간격 내 동일 알림으로 생략된 건수 (Hub URL 기준 누적)
+     */
+    public long getSuppressedCount() {
+        return dispatcher.getSuppressedCount();
     }
 }
-
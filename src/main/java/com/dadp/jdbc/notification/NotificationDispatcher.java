@@ -0,0 +1,300 @@
+package com.dadp.jdbc.notification;
+
+import com.dadp.jdbc.config.ProxyConfig;
+import com.dadp.jdbc.http.HttpClientAdapter;
+import com.dadp.jdbc.http.VirtualThreads;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hub 알림 배치 전송기
+ * 
+ * Hub URL별로 하나씩 생성되며, 모든 HubNotificationService가 공유합니다.
+ * 알림은 호출 스레드에서 크기 제한 큐(lock-free)에 넣기만 하고,
+ * 백그라운드 스레드가 주기적으로 큐를 비우면서 여러 알림을 한 번의 요청으로 전송합니다.
+ * 
+ * - 동일 알림(타입 + 제목 + 엔티티, 즉 타입/대상(테이블.컬럼 또는 정책)/instanceId)은 전송 간격 내에 한 번만 전송하고
+ *   나머지는 생략 건수만 집계
+ * - 큐가 가득 차면 알림을 버리고 버린 건수를 집계
+ * - Hub에 배치 API가 없으면(404/405) 단건 API로 전환, 그 밖의 배치 실패 응답은 해당 배치만 단건으로 재전송
+ * - 전송은 HttpClientAdapter를 사용하며, 각 알림은 한 번만 JSON으로 직렬화하여 배치/단건 요청에 재사용
+ * 
+ * 설정 (시스템 프로퍼티):
+ * - dadp.proxy.notification-queue: 대기 큐 크기 (기본값: 1000)
+ * - dadp.proxy.notification-interval-ms: 동일 알림 최소 전송 간격 (기본값: 60000)
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+final class NotificationDispatcher {
+    
+    private static final Logger log = LoggerFactory.getLogger(NotificationDispatcher.class);
+    
+    private static final int DEFAULT_QUEUE_SIZE = 1000;
+    private static final long DEFAULT_INTERVAL_MS = 60000L;
+    private static final long FLUSH_INTERVAL_MS = 1000L;
+    private static final int MAX_BATCH_SIZE = 50;
+    
+    // 알림 JSON 직렬화용 (스레드 안전, 재사용)
+    private static final ObjectWriter JSON_WRITER = new ObjectMapper().writer();
+    
+    // Hub URL별 전송기
+    private static final ConcurrentHashMap<String, NotificationDispatcher> dispatchers = new ConcurrentHashMap<>();
+    
+    private final HttpClientAdapter httpClient;
+    private final URI notificationUri;
+    private final URI batchUri;
+    private final int capacity;
+    private final long intervalMs;
+    
+    private final ConcurrentLinkedQueue<Notification> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queueSize = new AtomicInteger();
+    private final ConcurrentHashMap<String, RateState> rateStates = new ConcurrentHashMap<>();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong suppressedCount = new AtomicLong();
+    private volatile boolean batchSupported = true;
+    
+    private NotificationDispatcher(String hubUrl) {
+        this(hubUrl, ProxyConfig.intProperty("dadp.proxy.notification-queue", DEFAULT_QUEUE_SIZE, 1),
+                ProxyConfig.longProperty("dadp.proxy.notification-interval-ms", DEFAULT_INTERVAL_MS, 1));
+    }
+    
+    /**
+     * 백그라운드 전송 없이 생성 (테스트에서 drain을 직접 호출)
+     */
+    NotificationDispatcher(String hubUrl, int capacity, long intervalMs) {
+        this.httpClient = HttpClientAdapter.Factory.create(5000, 5000);
+        this.notificationUri = URI.create(hubUrl + "/hub/api/v1/notifications/external");
+        this.batchUri = URI.create(hubUrl + "/hub/api/v1/notifications/external/batch");
+        this.capacity = capacity;
+        this.intervalMs = intervalMs;
+    }
+    
+    /**
+     * Hub URL에 해당하는 전송기 반환 (없으면 생성 후 백그라운드 전송 시작)
+     */
+    static NotificationDispatcher forHub(String hubUrl) {
+        return dispatchers.computeIfAbsent(hubUrl, url -> {
+            NotificationDispatcher dispatcher = new NotificationDispatcher(url);
+            Scheduler.SCHEDULER.scheduleWithFixedDelay(dispatcher::drain,
+                    FLUSH_INTERVAL_MS, FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+            log.debug("✅ Hub 알림 전송기 시작: hubUrl={}", url);
+            return dispatcher;
+        });
+    }
+    
+    /**
+     * 알림을 전송 큐에 추가 (호출 스레드에서 실행, 블로킹 없음)
+     * 
+     * @return 큐에 추가되었으면 true, 중복 생략 또는 큐 초과로 버려졌으면 false
+     */
+    boolean offer(Notification notification) {
+        long now = System.currentTimeMillis();
+        RateState state = rateStates.computeIfAbsent(notification.dedupKey, k -> new RateState());
+        long last = state.lastAccepted.get();
+        if ((last != 0 && now - last < intervalMs) || !state.lastAccepted.compareAndSet(last, now)) {
+            // 전송 간격 내 동일 알림: 생략 건수만 집계
+            state.suppressed.incrementAndGet();
+            suppressedCount.incrementAndGet();
+            return false;
+        }
+        notification.suppressedBefore = state.suppressed.getAndSet(0);
+        
+        if (queueSize.incrementAndGet() > capacity) {
+            queueSize.decrementAndGet();
+            long dropped = droppedCount.incrementAndGet();
+            if (dropped == 1 || dropped % 1000 == 0) {
+                log.warn("⚠️ Hub 알림 대기열 초과, 알림 버림 (누적 {}건): {} - {}", dropped,
+                        notification.type, notification.title);
+            }
+            return false;
+        }
+        queue.offer(notification);
+        return true;
+    }
+    
+    /**
+     * 큐에 쌓인 알림을 배치로 전송 (백그라운드 스레드에서 실행)
+     */
+    void drain() {
+        try {
+            List<Notification> batch = new ArrayList<>(MAX_BATCH_SIZE);
+            Notification notification;
+            while ((notification = queue.poll()) != null) {
+                queueSize.decrementAndGet();
+                batch.add(notification);
+                if (batch.size() >= MAX_BATCH_SIZE) {
+                    send(batch);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                send(batch);
+            }
+            pruneRateStates();
+        } catch (Throwable t) {
+            // 예외가 전파되면 스케줄이 중단되므로 여기서 처리
+            log.warn("⚠️ Hub 알림 배치 전송 중 오류 발생: {}", t.getMessage());
+        }
+    }
+    
+    private void send(List<Notification> batch) {
+        List<String> payloads = new ArrayList<>(batch.size());
+        for (Notification n : batch) {
+            try {
+                payloads.add(n.toJson());
+            } catch (IOException e) {
+                log.warn("⚠️ Hub 알림 직렬화 실패, 알림 버림: {} - {}", n.type, n.title);
+            }
+        }
+        
+        if (payloads.size() > 1 && batchSupported) {
+            // 직렬화된 알림을 그대로 이어 붙여 배치 요청 본문 생성
+            StringBuilder body = new StringBuilder("{\"notifications\":[");
+            for (int i = 0; i < payloads.size(); i++) {
+                if (i > 0) {
+                    body.append(',');
+                }
+                body.append(payloads.get(i));
+            }
+            body.append("]}");
+            try {
+                int statusCode = post(batchUri, body.toString());
+                if (statusCode >= 200 && statusCode < 300) {
+                    log.debug("✅ Hub 알림 배치 전송 성공: {}건", payloads.size());
+                    return;
+                }
+                if (statusCode == 404 || statusCode == 405) {
+                    // 배치 API 미지원 Hub: 이후 단건 전송
+                    batchSupported = false;
+                    log.info("ℹ️ Hub가 알림 배치 API를 지원하지 않아 단건 전송으로 전환합니다");
+                } else {
+                    // 그 밖의 실패: 이번 배치만 단건으로 재전송
+                    log.warn("⚠️ Hub 알림 배치 전송 실패 (HTTP {}): {}건 단건 전송으로 재시도", statusCode, payloads.size());
+                }
+            } catch (IOException e) {
+                log.warn("⚠️ Hub 알림 배치 전송 중 오류 발생: {}", e.getMessage());
+                return;
+            }
+        }
+        
+        for (String payload : payloads) {
+            try {
+                int statusCode = post(notificationUri, payload);
+                if (statusCode >= 200 && statusCode < 300) {
+                    log.debug("✅ Hub 알림 전송 성공");
+                } else {
+                    log.warn("⚠️ Hub 알림 전송 실패 (HTTP {})", statusCode);
+                }
+            } catch (IOException e) {
+                // 알림 전송 실패는 로그만 출력 (앱 동작에는 영향 없음)
+                log.warn("⚠️ Hub 알림 전송 중 오류 발생: {}", e.getMessage());
+            }
+        }
+    }
+    
+    private int post(URI uri, String body) throws IOException {
+        return httpClient.post(uri, body).getStatusCode();
+    }
+    
+    /**
+     * 오래된 중복 판정 상태 제거 (상태 맵이 무한히 커지지 않도록)
+     */
+    private void pruneRateStates() {
+        long expireBefore = System.currentTimeMillis() - intervalMs * 10;
+        Iterator<RateState> it = rateStates.values().iterator();
+        while (it.hasNext()) {
+            RateState state = it.next();
+            if (state.lastAccepted.get() < expireBefore && state.suppressed.get() == 0) {
+                it.remove();
+            }
+        }
+    }
+    
+    long getDroppedCount() {
+        return droppedCount.get();
+    }
+    
+    long getSuppressedCount() {
+        return suppressedCount.get();
+    }
+    
+    /**
+     * 동일 알림 전송 간격 판정 상태
+     */
+    private static final class RateState {
+        private final AtomicLong lastAccepted = new AtomicLong();
+        private final AtomicInteger suppressed = new AtomicInteger();
+    }
+    
+    /**
+     * 전송 대기 중인 알림
+     */
+    static final class Notification {
+        private final String type;
+        private final String level;
+        private final String title;
+        private final String message;
+        private final String entityType;
+        private final String entityId;
+        private final String metadata;
+        private final String dedupKey;
+        private int suppressedBefore;
+        
+        Notification(String type, String level, String title, String message,
+                     String entityType, String entityId, String metadata) {
+            this.type = type;
+            this.level = level;
+            this.title = title;
+            this.message = message;
+            this.entityType = entityType;
+            this.entityId = entityId;
+            this.metadata = metadata;
+            // 제목에 작업과 대상(테이블.컬럼, 모르면 정책명)이 포함되므로 타입 + 제목 + 엔티티로 중복 판정
+            // (전송기는 Hub URL별로 공유되므로 엔티티 ID(instanceId)가 다르면 별도 알림)
+            this.dedupKey = type + "|" + title + "|" + entityType + "|" + entityId;
+        }
+        
+        private String toJson() throws IOException {
+            Map<String, Object> body = new HashMap<>();
+            body.put("type", type);
+            body.put("level", level);
+            body.put("title", title);
+            body.put("message", suppressedBefore > 0
+                    ? message + " (직전 동일 알림 " + suppressedBefore + "건 생략)" : message);
+            body.put("entityType", entityType);
+            body.put("entityId", entityId);
+            if (metadata != null) {
+                body.put("metadata", metadata);
+            }
+            return JSON_WRITER.writeValueAsString(body);
+        }
+    }
+    
+    private static final class Scheduler {
+        private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(
+                VirtualThreads.threadFactory("dadp-hub-notification-", r -> {
+                    Thread t = new Thread(r, "dadp-hub-notification");
+                    t.setDaemon(true);
+                    return t;
+                }));
+    }
+}
@@ -1,7 +1,9 @@
 package com.dadp.jdbc.policy;
 
+import com.dadp.jdbc.metrics.DadpMetrics;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -19,8 +21,22 @@ public class PolicyResolver {
     
     private static final Logger log = LoggerFactory.getLogger(PolicyResolver.class);
     
-    // 캐시: 테이블.컬럼 → 정책명
-    private final Map<String, String> policyCache = new ConcurrentHashMap<>();
+    // 캐시: 테이블.컬럼 → 정책명 (갱신 시 맵 전체를 교체하여 조회 중 빈 캐시가 보이지 않도록 함)
+    private volatile Map<String, String> policyCache = new ConcurrentHashMap<>();
+    
+    // 매핑 버전 (매핑이 바뀔 때마다 증가, 정책명을 캐시하는 StatementPlan이 무효화 판단에 사용)
+    private final AtomicLong version = new AtomicLong();
+    
+    // 정책 조회 적중률 집계 (선택적)
+    private final DadpMetrics metrics;
+    
+    public PolicyResolver() {
+        this(null);
+    }
+    
+    public PolicyResolver(DadpMetrics metrics) {
+        this.metrics = metrics;
+    }
     
     /**
      * 정책명 조회
@@ -34,6 +50,9 @@ public class PolicyResolver {
         
         // Hub에서 로드한 매핑 정보만 사용 (캐시에서 조회)
         String policy = policyCache.get(key);
+        if (metrics != null) {
+            metrics.recordPolicyLookup(policy != null);
+        }
         
         if (policy != null) {
             log.trace("✅ 정책 캐시 적중: {} → {}", key, policy);
@@ -45,6 +64,13 @@ public class PolicyResolver {
         return null;
     }
     
+    /**
+     * 매핑 버전 조회 (값이 같으면 resolvePolicy 결과도 같음)
+     */
+    public long getVersion() {
+        return version.get();
+    }
+    
     /**
      * 규칙 기반 정책 매핑
      * 컬럼명 패턴으로 매핑 (email, phone 등)
@@ -87,9 +113,19 @@ public class PolicyResolver {
      * @param mappings 정책 매핑 맵 (테이블.컬럼 → 정책명)
      */
     public void refreshMappings(Map<String, String> mappings) {
+        replaceMappings(new ConcurrentHashMap<>(mappings));
+    }
+    
+    /**
+     * 정책 매핑 캐시 교체 (복사 없음)
+     * 전달된 맵을 그대로 캐시로 사용하므로, 호출 후 호출자는 맵을 수정하지 않아야 합니다.
+     * 
+     * @param mappings 새 정책 매핑 맵 (테이블.컬럼 → 정책명)
+     */
+    public void replaceMappings(ConcurrentHashMap<String, String> mappings) {
         log.trace("🔄 정책 매핑 캐시 갱신 시작: {}개 매핑", mappings.size());
-        policyCache.clear();
-        policyCache.putAll(mappings);
+        policyCache = mappings;
+        version.incrementAndGet();
         log.trace("✅ 정책 매핑 캐시 갱신 완료");
     }
     
@@ -99,6 +135,7 @@ public class PolicyResolver {
     public void addMapping(String tableName, String columnName, String policyName) {
         String key = tableName + "." + columnName;
         policyCache.put(key, policyName);
+        version.incrementAndGet();
         log.trace("➕ 정책 매핑 추가: {} → {}", key, policyName);
     }
     
@@ -108,6 +145,7 @@ public class PolicyResolver {
     public void removeMapping(String tableName, String columnName) {
         String key = tableName + "." + columnName;
         policyCache.remove(key);
+        version.incrementAndGet();
         log.trace("➖ 정책 매핑 제거: {}", key);
     }
     
@@ -116,6 +154,7 @@ public class PolicyResolver {
      */
     public void clearCache() {
         policyCache.clear();
+        version.incrementAndGet();
         log.trace("🧹 정책 매핑 캐시 초기화");
     }
 }
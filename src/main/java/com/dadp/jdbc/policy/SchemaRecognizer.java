@@ -1,5 +1,6 @@
 package com.dadp.jdbc.policy;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.List;
@@ -85,6 +86,10 @@ public class SchemaRecognizer {
                             schema.setColumnType(columnType);
                             schema.setIsNullable("YES".equals(columns.getString("IS_NULLABLE")));
                             schema.setColumnDefault(columnDefault);
+                            if (isCharacterType(columns.getInt("DATA_TYPE"))) {
+                                int columnSize = columns.getInt("COLUMN_SIZE");
+                                schema.setColumnSize(columns.wasNull() || columnSize <= 0 ? null : columnSize);
+                            }
                             
                             schemas.add(schema);
                             
@@ -104,6 +109,23 @@ public class SchemaRecognizer {
         return schemas;
     }
     
+    /**
+     * 문자열 컬럼 여부 (COLUMN_SIZE가 최대 문자 수인 타입)
+     */
+    private static boolean isCharacterType(int dataType) {
+        switch (dataType) {
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+                return true;
+            default:
+                return false;
+        }
+    }
+    
     /**
      * 암복호화 대상에서 제외할 컬럼인지 확인
      * 
@@ -187,6 +209,7 @@ public class SchemaRecognizer {
         private String columnType;
         private Boolean isNullable;
         private String columnDefault;
+        private Integer columnSize; // 문자열 컬럼 최대 길이 (Wrapper 내부용, Hub로 전송하지 않음)
         
         // Getters and Setters
         public String getDatabaseName() {
@@ -236,5 +259,14 @@ public class SchemaRecognizer {
         public void setColumnDefault(String columnDefault) {
             this.columnDefault = columnDefault;
         }
+        
+        @JsonIgnore
+        public Integer getColumnSize() {
+            return columnSize;
+        }
+        
+        public void setColumnSize(Integer columnSize) {
+            this.columnSize = columnSize;
+        }
     }
 }
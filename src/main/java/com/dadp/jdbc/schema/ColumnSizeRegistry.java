@@ -0,0 +1,75 @@
+package com.dadp.jdbc.schema;
+
+import com.dadp.jdbc.policy.SchemaRecognizer;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 컬럼 크기 레지스트리
+ * 
+ * 스키마 동기화 시 수집한 문자열 컬럼의 최대 길이를 instanceId별로 보관합니다.
+ * PreparedStatement가 암호문이 컬럼에 들어가는지 실행 전에 판단하는 데 사용합니다
+ * (Data too long 오류 후 평문 재시도로 인한 DB 왕복 방지).
+ * 
+ * 스키마 동기화 이후 변경된 컬럼은 반영되지 않으므로, 이 경우에는 기존 Data truncation 재시도로 처리됩니다.
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+public final class ColumnSizeRegistry {
+    
+    // instanceId별 레지스트리
+    private static final ConcurrentHashMap<String, ColumnSizeRegistry> instances = new ConcurrentHashMap<>();
+    
+    // "table.column"(소문자) → 최대 길이 (스키마 동기화마다 통째로 교체)
+    private volatile Map<String, Integer> columnSizes = Collections.emptyMap();
+    
+    private ColumnSizeRegistry() {
+    }
+    
+    public static ColumnSizeRegistry forInstance(String instanceId) {
+        return instances.computeIfAbsent(instanceId, id -> new ColumnSizeRegistry());
+    }
+    
+    /**
+     * 스키마 메타데이터로 컬럼 크기 갱신
+     */
+    public void update(List<SchemaRecognizer.SchemaMetadata> schemas) {
+        Map<String, Integer> sizes = new HashMap<>();
+        for (SchemaRecognizer.SchemaMetadata schema : schemas) {
+            if (schema.getTableName() == null || schema.getColumnName() == null || schema.getColumnSize() == null) {
+                continue;
+            }
+            // 다른 스키마에 같은 테이블.컬럼이 있으면 큰 값 사용 (크기 초과로 잘못 판단하지 않도록)
+            sizes.merge(key(schema.getTableName(), schema.getColumnName()), schema.getColumnSize(), Math::max);
+        }
+        this.columnSizes = sizes;
+    }
+    
+    /**
+     * 컬럼 최대 길이 조회
+     * 
+     * @param tableName 테이블명 (스키마 접두사 허용)
+     * @return 최대 길이 (문자열 컬럼이 아니거나 알 수 없으면 null)
+     */
+    public Integer getColumnSize(String tableName, String columnName) {
+        Map<String, Integer> sizes = columnSizes;
+        if (tableName == null || columnName == null || sizes.isEmpty()) {
+            return null;
+        }
+        int dot = tableName.lastIndexOf('.');
+        if (dot >= 0) {
+            tableName = tableName.substring(dot + 1);
+        }
+        return sizes.get(key(tableName, columnName));
+    }
+    
+    private static String key(String tableName, String columnName) {
+        return tableName.toLowerCase(Locale.ROOT) + "." + columnName.toLowerCase(Locale.ROOT);
+    }
+}
@@ -9,6 +9,8 @@ import java.net.URI;
 import java.security.MessageDigest;
 import java.sql.Connection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -55,54 +57,14 @@ public class SchemaSyncService {
      */
     public void syncSchemaToHub(Connection connection) {
         try {
-            log.trace("🔄 Hub로 스키마 메타데이터 동기화 시작: proxyInstanceId={}", proxyInstanceId);
-            
-            // 스키마 메타데이터 수집
-            List<SchemaRecognizer.SchemaMetadata> schemas = schemaRecognizer.collectSchemaMetadata(connection);
-            
-            // 스키마 해시 계산 (변경 감지용)
-            String currentHash = calculateSchemaHash(schemas);
-            String lastHash = lastSchemaHash.get(proxyInstanceId);
-            
-            // 스키마가 변경되지 않았으면 동기화 건너뛰기
-            if (lastHash != null && currentHash.equals(lastHash)) {
-                log.trace("⏭️ 스키마 변경 없음, 동기화 건너뜀: proxyInstanceId={} (해시: {})", 
-                        proxyInstanceId, currentHash.substring(0, 8) + "...");
+            PendingSync pending = prepareSync(connection);
+            if (pending == null) {
                 return;
             }
             
-            log.info("📤 스키마 변경 감지, Hub로 동기화 전송: {}개 컬럼", schemas.size());
-            
-            // Hub API로 전송
-            String syncUrl = hubUrl + "/hub/api/v1/proxy/schema/sync";
-            log.debug("🔗 Hub 스키마 동기화 URL: {}", syncUrl);
-            
-            SchemaSyncRequest request = new SchemaSyncRequest();
-            request.setProxyInstanceId(proxyInstanceId);
-            request.setSchemas(schemas);
-            
-            String requestBody = objectMapper.writeValueAsString(request);
-            
             // Java 버전에 따라 적절한 HTTP 클라이언트 사용
-            URI uri = URI.create(syncUrl);
-            HttpClientAdapter.HttpResponse response = httpClient.post(uri, requestBody);
-            
-            int statusCode = response.getStatusCode();
-            String responseBody = response.getBody();
-            
-            if (statusCode >= 200 && statusCode < 300 && responseBody != null) {
-                SchemaSyncResponse syncResponse = objectMapper.readValue(responseBody, SchemaSyncResponse.class);
-                if (syncResponse != null && syncResponse.isSuccess()) {
-                    // 동기화 성공 시 해시 저장
-                    lastSchemaHash.put(proxyInstanceId, currentHash);
-                    log.info("✅ Hub로 스키마 메타데이터 동기화 완료: {}개 컬럼 (해시: {})", 
-                            schemas.size(), currentHash.substring(0, 8) + "...");
-                } else {
-                    log.warn("⚠️ Hub로 스키마 메타데이터 동기화 실패: 응답 없음");
-                }
-            } else {
-                log.warn("⚠️ Hub로 스키마 메타데이터 동기화 실패: HTTP {}", statusCode);
-            }
+            HttpClientAdapter.HttpResponse response = httpClient.post(syncUri(), pending.requestBody);
+            handleSyncResponse(response, pending);
             
         } catch (Exception e) {
             log.error("❌ Hub로 스키마 메타데이터 동기화 실패: {}", e.getMessage());
@@ -110,6 +72,117 @@ public class SchemaSyncService {
         }
     }
     
+    /**
+     * 스키마 메타데이터를 Hub로 동기화 (비동기)
+     * 
+     * 스키마 메타데이터 수집(JDBC)은 호출 스레드에서 수행하고,
+     * Hub 전송은 비동기로 수행하여 Hub 응답 대기 중 스레드를 점유하지 않습니다.
+     * 실패 시에도 Future는 정상 완료됩니다 (Fail-open).
+     * 
+     * @param connection DB 연결
+     * @return 동기화 완료 Future
+     */
+    public CompletableFuture<Void> syncSchemaToHubAsync(Connection connection) {
+        PendingSync pending;
+        try {
+            pending = prepareSync(connection);
+        } catch (Exception e) {
+            log.error("❌ Hub로 스키마 메타데이터 동기화 실패: {}", e.getMessage());
+            return CompletableFuture.completedFuture(null);
+        }
+        if (pending == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        
+        return httpClient.postAsync(syncUri(), pending.requestBody)
+                .thenAccept(response -> {
+                    try {
+                        handleSyncResponse(response, pending);
+                    } catch (IOException e) {
+                        throw new CompletionException(e);
+                    }
+                })
+                .exceptionally(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    log.error("❌ Hub로 스키마 메타데이터 동기화 실패: {}", cause.getMessage());
+                    return null;
+                });
+    }
+    
+    /**
+     * 스키마 메타데이터 수집 및 전송 요청 본문 생성
+     * 
+     * @return 전송할 요청 (스키마 변경이 없으면 null)
+     */
+    private PendingSync prepareSync(Connection connection) throws Exception {
+        log.trace("🔄 Hub로 스키마 메타데이터 동기화 시작: proxyInstanceId={}", proxyInstanceId);
+        
+        // 스키마 메타데이터 수집
+        List<SchemaRecognizer.SchemaMetadata> schemas = schemaRecognizer.collectSchemaMetadata(connection);
+        
+        // 컬럼 크기 반영 (Hub 동기화 여부와 관계없이, 암호문 크기 사전 검사용)
+        ColumnSizeRegistry.forInstance(proxyInstanceId).update(schemas);
+        
+        // 스키마 해시 계산 (변경 감지용)
+        String currentHash = calculateSchemaHash(schemas);
+        String lastHash = lastSchemaHash.get(proxyInstanceId);
+        
+        // 스키마가 변경되지 않았으면 동기화 건너뛰기
+        if (lastHash != null && currentHash.equals(lastHash)) {
+            log.trace("⏭️ 스키마 변경 없음, 동기화 건너뜀: proxyInstanceId={} (해시: {})", 
+                    proxyInstanceId, currentHash.substring(0, 8) + "...");
+            return null;
+        }
+        
+        log.info("📤 스키마 변경 감지, Hub로 동기화 전송: {}개 컬럼", schemas.size());
+        
+        SchemaSyncRequest request = new SchemaSyncRequest();
+        request.setProxyInstanceId(proxyInstanceId);
+        request.setSchemas(schemas);
+        
+        return new PendingSync(schemas.size(), currentHash, objectMapper.writeValueAsString(request));
+    }
+    
+    private URI syncUri() {
+        String syncUrl = hubUrl + "/hub/api/v1/proxy/schema/sync";
+        log.debug("🔗 Hub 스키마 동기화 URL: {}", syncUrl);
+        return URI.create(syncUrl);
+    }
+    
+    private void handleSyncResponse(HttpClientAdapter.HttpResponse response, PendingSync pending) throws IOException {
+        int statusCode = response.getStatusCode();
+        String responseBody = response.getBody();
+        
+        if (statusCode >= 200 && statusCode < 300 && responseBody != null) {
+            SchemaSyncResponse syncResponse = objectMapper.readValue(responseBody, SchemaSyncResponse.class);
+            if (syncResponse != null && syncResponse.isSuccess()) {
+                // 동기화 성공 시 해시 저장
+                lastSchemaHash.put(proxyInstanceId, pending.schemaHash);
+                log.info("✅ Hub로 스키마 메타데이터 동기화 완료: {}개 컬럼 (해시: {})", 
+                        pending.columnCount, pending.schemaHash.substring(0, 8) + "...");
+            } else {
+                log.warn("⚠️ Hub로 스키마 메타데이터 동기화 실패: 응답 없음");
+            }
+        } else {
+            log.warn("⚠️ Hub로 스키마 메타데이터 동기화 실패: HTTP {}", statusCode);
+        }
+    }
+    
+    /**
+     * 전송 대기 중인 스키마 동기화 요청
+     */
+    private static final class PendingSync {
+        private final int columnCount;
+        private final String schemaHash;
+        private final String requestBody;
+        
+        private PendingSync(int columnCount, String schemaHash, String requestBody) {
+            this.columnCount = columnCount;
+            this.schemaHash = schemaHash;
+            this.requestBody = requestBody;
+        }
+    }
+    
     /**
      * 스키마 메타데이터의 해시값 계산
      * 
@@ -0,0 +1,143 @@
+package com.dadp.jdbc.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Java 11+용 HTTP 클라이언트 어댑터
+ * java.net.http.HttpClient를 사용합니다.
+ * 
+ * Multi-Release JAR의 META-INF/versions/11 영역에 포함되며,
+ * HttpClientAdapter.Factory가 Java 11 이상에서 리플렉션으로 로드합니다.
+ * 비동기 요청은 HttpClient.sendAsync를 사용하므로 호출 스레드를 점유하지 않습니다.
+ * Java 21 이상에서는 HttpClient의 응답 처리 Executor로 가상 스레드를 사용합니다 (VirtualThreads 참고).
+ * HttpClient(선택자 스레드, 연결 풀, Executor 포함)는 연결 타임아웃별로 프로세스에서 하나만 만들어 공유합니다.
+ * 어댑터는 Connection/Runtime마다 생성되고 닫히지 않으므로, 어댑터마다 HttpClient를 만들면 스레드와 Executor가 계속 늘어납니다.
+ * 읽기 타임아웃은 요청 단위 설정이므로 어댑터별로 유지됩니다.
+ * (HttpClientAdapter.HttpResponse와 이름이 겹치므로 java.net.http.HttpResponse는 전체 이름으로 사용)
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ */
+class Java11HttpClientAdapter implements HttpClientAdapter {
+    
+    // 연결 타임아웃 → 공유 HttpClient
+    private static final ConcurrentHashMap<Integer, HttpClient> sharedClients = new ConcurrentHashMap<>();
+    
+    private final HttpClient httpClient;
+    private final int readTimeout;
+    
+    public Java11HttpClientAdapter(int connectTimeout, int readTimeout) {
+        this.readTimeout = readTimeout;
+        this.httpClient = sharedClients.computeIfAbsent(connectTimeout, Java11HttpClientAdapter::newHttpClient);
+    }
+    
+    private static HttpClient newHttpClient(int connectTimeout) {
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeout));
+        ExecutorService virtual = VirtualThreads.newThreadPerTaskExecutor("dadp-hub-http-");
+        if (virtual != null) {
+            builder.executor(virtual);
+        }
+        return builder.build();
+    }
+    
+    @Override
+    public HttpResponse get(URI uri) throws IOException {
+        return send(newRequest(uri).GET().build());
+    }
+    
+    @Override
+    public HttpResponse post(URI uri, String body) throws IOException {
+        return send(newRequest(uri).POST(HttpRequest.BodyPublishers.ofString(body)).build());
+    }
+    
+    @Override
+    public CompletableFuture<HttpResponse> getAsync(URI uri) {
+        return sendAsync(newRequest(uri).GET().build());
+    }
+    
+    @Override
+    public CompletableFuture<HttpResponse> postAsync(URI uri, String body) {
+        return sendAsync(newRequest(uri).POST(HttpRequest.BodyPublishers.ofString(body)).build());
+    }
+    
+    @Override
+    public StreamResponse getStream(URI uri) throws IOException {
+        try {
+            return toStreamResponse(httpClient.send(newRequest(uri).GET().build(),
+                    java.net.http.HttpResponse.BodyHandlers.ofInputStream()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("HTTP request interrupted", e);
+        }
+    }
+    
+    @Override
+    public CompletableFuture<StreamResponse> getStreamAsync(URI uri) {
+        return httpClient.sendAsync(newRequest(uri).GET().build(),
+                        java.net.http.HttpResponse.BodyHandlers.ofInputStream())
+                .thenApply(Java11HttpClientAdapter::toStreamResponse);
+    }
+    
+    private HttpRequest.Builder newRequest(URI uri) {
+        return HttpRequest.newBuilder()
+                .uri(uri)
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofMillis(readTimeout));
+    }
+    
+    private HttpResponse send(HttpRequest request) throws IOException {
+        try {
+            return toResponse(httpClient.send(request, java.net.http.HttpResponse.BodyHandlers.ofString()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("HTTP request interrupted", e);
+        }
+    }
+    
+    private CompletableFuture<HttpResponse> sendAsync(HttpRequest request) {
+        return httpClient.sendAsync(request, java.net.http.HttpResponse.BodyHandlers.ofString())
+                .thenApply(Java11HttpClientAdapter::toResponse);
+    }
+    
+    private static HttpResponse toResponse(java.net.http.HttpResponse<String> response) {
+        return new HttpResponse() {
+            @Override
+            public int getStatusCode() {
+                return response.statusCode();
+            }
+            
+            @Override
+            public String getBody() {
+                return response.body();
+            }
+        };
+    }
+    
+    private static StreamResponse toStreamResponse(java.net.http.HttpResponse<InputStream> response) {
+        return new StreamResponse() {
+            @Override
+            public int getStatusCode() {
+                return response.statusCode();
+            }
+            
+            @Override
+            public InputStream getBody() {
+                return response.body();
+            }
+            
+            @Override
+            public void close() throws IOException {
+                response.body().close();
+            }
+        };
+    }
+}
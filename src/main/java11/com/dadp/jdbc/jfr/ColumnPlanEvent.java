@@ -0,0 +1,29 @@
+package com.dadp.jdbc.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 컬럼 매핑 구성 JFR 이벤트 (PreparedStatement 파라미터 → 컬럼)
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+@Name("com.dadp.jdbc.ColumnPlan")
+@Label("DADP Column Plan")
+@Description("PreparedStatement 파라미터와 컬럼 매핑 구성")
+@Category({"DADP", "JDBC Wrapper"})
+@StackTrace(false)
+final class ColumnPlanEvent extends Event {
+    
+    @Label("Table")
+    String tableName;
+    
+    @Label("Mapped Columns")
+    int mappedColumns;
+}
@@ -0,0 +1,35 @@
+package com.dadp.jdbc.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Hub 암복호화 호출 JFR 이벤트
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+@Name("com.dadp.jdbc.HubCrypto")
+@Label("DADP Hub Crypto")
+@Description("Hub 암복호화 호출")
+@Category({"DADP", "JDBC Wrapper"})
+@StackTrace(false)
+final class HubCryptoEvent extends Event {
+    
+    @Label("Operation")
+    String operation;
+    
+    @Label("Policy")
+    String policyName;
+    
+    @Label("Batch Size")
+    int batchSize;
+    
+    @Label("Outcome")
+    String outcome;
+}
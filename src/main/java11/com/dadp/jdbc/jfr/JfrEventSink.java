@@ -0,0 +1,118 @@
+package com.dadp.jdbc.jfr;
+
+/**
+ * Java 11+용 JFR 이벤트 기록 구현
+ * 
+ * Multi-Release JAR의 META-INF/versions/11 영역에 포함되며,
+ * DadpEventSink.Factory가 리플렉션으로 로드합니다.
+ * 이벤트가 비활성화되어 있으면 begin*()이 null을 반환하므로 begin()/commit() 비용이 없습니다.
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+class JfrEventSink implements DadpEventSink {
+    
+    public JfrEventSink() {
+    }
+    
+    @Override
+    public Object beginHubCrypto() {
+        HubCryptoEvent event = new HubCryptoEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+    
+    @Override
+    public void endHubCrypto(Object event, String operation, String policyName, int batchSize, String outcome) {
+        if (event == null) {
+            return;
+        }
+        HubCryptoEvent e = (HubCryptoEvent) event;
+        e.end();
+        if (e.shouldCommit()) {
+            e.operation = operation;
+            e.policyName = policyName;
+            e.batchSize = batchSize;
+            e.outcome = outcome;
+            e.commit();
+        }
+    }
+    
+    @Override
+    public Object beginSqlAnalysis() {
+        SqlAnalysisEvent event = new SqlAnalysisEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+    
+    @Override
+    public void endSqlAnalysis(Object event, String sqlType, String tableName, boolean cacheHit) {
+        if (event == null) {
+            return;
+        }
+        SqlAnalysisEvent e = (SqlAnalysisEvent) event;
+        e.end();
+        if (e.shouldCommit()) {
+            e.sqlType = sqlType;
+            e.tableName = tableName;
+            e.cacheHit = cacheHit;
+            e.commit();
+        }
+    }
+    
+    @Override
+    public Object beginColumnPlan() {
+        ColumnPlanEvent event = new ColumnPlanEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+    
+    @Override
+    public void endColumnPlan(Object event, String tableName, int mappedColumns) {
+        if (event == null) {
+            return;
+        }
+        ColumnPlanEvent e = (ColumnPlanEvent) event;
+        e.end();
+        if (e.shouldCommit()) {
+            e.tableName = tableName;
+            e.mappedColumns = mappedColumns;
+            e.commit();
+        }
+    }
+    
+    @Override
+    public Object beginMappingRefresh() {
+        MappingRefreshEvent event = new MappingRefreshEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+    
+    @Override
+    public void endMappingRefresh(Object event, String instanceId, int mappingCount, boolean success) {
+        if (event == null) {
+            return;
+        }
+        MappingRefreshEvent e = (MappingRefreshEvent) event;
+        e.end();
+        if (e.shouldCommit()) {
+            e.instanceId = instanceId;
+            e.mappingCount = mappingCount;
+            e.success = success;
+            e.commit();
+        }
+    }
+}
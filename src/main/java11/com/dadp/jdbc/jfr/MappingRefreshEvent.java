@@ -0,0 +1,32 @@
+package com.dadp.jdbc.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 정책 매핑 갱신 JFR 이벤트
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+@Name("com.dadp.jdbc.MappingRefresh")
+@Label("DADP Mapping Refresh")
+@Description("Hub에서 정책 매핑 조회 및 갱신")
+@Category({"DADP", "JDBC Wrapper"})
+@StackTrace(false)
+final class MappingRefreshEvent extends Event {
+    
+    @Label("Instance ID")
+    String instanceId;
+    
+    @Label("Mapping Count")
+    int mappingCount;
+    
+    @Label("Success")
+    boolean success;
+}
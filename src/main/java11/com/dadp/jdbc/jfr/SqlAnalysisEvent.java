@@ -0,0 +1,32 @@
+package com.dadp.jdbc.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * SQL 분석(파싱) JFR 이벤트
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+@Name("com.dadp.jdbc.SqlAnalysis")
+@Label("DADP SQL Analysis")
+@Description("Wrapper의 SQL 파싱 (테이블/컬럼 추출)")
+@Category({"DADP", "JDBC Wrapper"})
+@StackTrace(false)
+final class SqlAnalysisEvent extends Event {
+    
+    @Label("SQL Type")
+    String sqlType;
+    
+    @Label("Table")
+    String tableName;
+    
+    @Label("Cache Hit")
+    boolean cacheHit;
+}
@@ -0,0 +1,209 @@
+package com.dadp.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.dadp.jdbc.stub.StubHubServer;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.sql.ConnectionEvent;
+import javax.sql.ConnectionEventListener;
+import javax.sql.PooledConnection;
+import javax.sql.XAConnection;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * DadpDataSource / DadpXADataSource 래핑 테스트 (H2 JdbcDataSource + Stub Hub)
+ *
+ * H2 JdbcDataSource는 DataSource, ConnectionPoolDataSource, XADataSource를 모두 구현하므로 위임 객체로 사용합니다.
+ *
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+class DadpDataSourceTest {
+
+    private static final String ENCRYPTED_PREFIX = "pii::ENC::";
+
+    private static StubHubServer hub;
+
+    private JdbcDataSource h2;
+    private String instanceId;
+    private Connection keep; // 인메모리 DB 유지 및 검증용
+
+    @BeforeAll
+    static void startHub() throws Exception {
+        hub = new StubHubServer(0).start();
+        hub.addMapping("users", "email", "pii");
+    }
+
+    @AfterAll
+    static void stopHub() {
+        hub.stop();
+    }
+
+    @BeforeEach
+    void createTable(TestInfo testInfo) throws SQLException {
+        String name = testInfo.getTestMethod().get().getName();
+        h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1;DATABASE_TO_LOWER=TRUE");
+        h2.setUser("sa");
+        instanceId = "datasource-" + name;
+        keep = h2.getConnection();
+        try (Statement statement = keep.createStatement()) {
+            statement.execute("CREATE TABLE users (id BIGINT PRIMARY KEY, email VARCHAR(500))");
+        }
+    }
+
+    @AfterEach
+    void dropDatabase() throws SQLException {
+        try (Statement statement = keep.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        keep.close();
+    }
+
+    private <T extends AbstractDadpDataSource> T configure(T dataSource) {
+        dataSource.setHubUrl(hub.getUrl());
+        dataSource.setInstanceId(instanceId);
+        dataSource.setFailOpen(false);
+        return dataSource;
+    }
+
+    /**
+     * 논리 Connection으로 행을 저장하고 조회하여, 저장 값은 암호문이고 조회 값은 평문인지 확인
+     */
+    private void assertRoundTrip(Connection connection, long id, String email) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO users (id, email) VALUES (?, ?)")) {
+            insert.setLong(1, id);
+            insert.setString(2, email);
+            assertEquals(1, insert.executeUpdate());
+        }
+        try (PreparedStatement select = connection.prepareStatement("SELECT email FROM users WHERE id = ?")) {
+            select.setLong(1, id);
+            try (ResultSet rs = select.executeQuery()) {
+                assertTrue(rs.next());
+                assertEquals(email, rs.getString(1));
+            }
+        }
+        try (Statement statement = keep.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT email FROM users WHERE id = " + id)) {
+            assertTrue(rs.next());
+            assertTrue(rs.getString(1).startsWith(ENCRYPTED_PREFIX), rs.getString(1));
+        }
+    }
+
+    @Test
+    void connectionsShareOneRuntimeAndEncrypt() throws Exception {
+        DadpDataSource dataSource = configure(new DadpDataSource(h2));
+
+        try (Connection first = dataSource.getConnection(); Connection second = dataSource.getConnection("sa", "")) {
+            DadpProxyConnection proxyFirst = first.unwrap(DadpProxyConnection.class);
+            DadpProxyConnection proxySecond = second.unwrap(DadpProxyConnection.class);
+            assertSame(proxyFirst.getRuntime(), proxySecond.getRuntime());
+            assertEquals(instanceId, proxyFirst.getRuntime().getConfig().getInstanceId());
+
+            assertRoundTrip(first, 1, "a@x.com");
+            assertRoundTrip(second, 2, "b@x.com");
+        }
+
+        // 런타임 생성 후 설정 변경 불가
+        assertThrows(IllegalStateException.class, () -> dataSource.setInstanceId("other"));
+        assertSame(h2, dataSource.unwrap(JdbcDataSource.class));
+        assertTrue(dataSource.isWrapperFor(JdbcDataSource.class));
+    }
+
+    @Test
+    void missingDelegateIsReported() {
+        DadpDataSource dataSource = configure(new DadpDataSource());
+        assertThrows(SQLException.class, dataSource::getConnection);
+
+        DadpXADataSource xaDataSource = configure(new DadpXADataSource());
+        assertThrows(SQLException.class, xaDataSource::getXAConnection);
+        // ConnectionPoolDataSource/XADataSource가 아닌 DataSource는 위임 객체로 받지 않음
+        assertThrows(IllegalArgumentException.class, () -> xaDataSource.setDataSource(new DadpDataSource(h2)));
+    }
+
+    @Test
+    void xaConnectionWrapsLogicalConnectionsAndForwardsEvents() throws Exception {
+        DadpXADataSource dataSource = configure(new DadpXADataSource(h2));
+        List<ConnectionEvent> closed = new CopyOnWriteArrayList<>();
+
+        XAConnection xaConnection = dataSource.getXAConnection();
+        DadpProxyRuntime runtime;
+        try {
+            xaConnection.addConnectionEventListener(new ConnectionEventListener() {
+                @Override
+                public void connectionClosed(ConnectionEvent event) {
+                    closed.add(event);
+                }
+
+                @Override
+                public void connectionErrorOccurred(ConnectionEvent event) {
+                }
+            });
+            assertNotNull(xaConnection.getXAResource());
+
+            Connection connection = xaConnection.getConnection();
+            assertTrue(connection instanceof DadpProxyConnection);
+            runtime = ((DadpProxyConnection) connection).getRuntime();
+            assertRoundTrip(connection, 1, "a@x.com");
+            connection.close();
+
+            // 논리 Connection 종료 이벤트는 래핑한 XAConnection을 source로 전달
+            assertEquals(1, closed.size());
+            assertSame(xaConnection, closed.get(0).getSource());
+        } finally {
+            xaConnection.close();
+        }
+
+        PooledConnection pooledConnection = dataSource.getPooledConnection();
+        try (Connection connection = pooledConnection.getConnection()) {
+            assertSame(runtime, connection.unwrap(DadpProxyConnection.class).getRuntime());
+            assertRoundTrip(connection, 2, "b@x.com");
+        } finally {
+            pooledConnection.close();
+        }
+    }
+
+    @Test
+    void pooledConnectionWithoutXaRejectsXaResource() throws Exception {
+        DadpXADataSource dataSource = configure(new DadpXADataSource(h2));
+        PooledConnection pooled = h2.getPooledConnection();
+        // H2의 PooledConnection은 XAConnection이므로 PooledConnection 인터페이스만 노출하도록 감쌈
+        PooledConnection plain = (PooledConnection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] {PooledConnection.class}, (proxy, method, args) -> {
+                    try {
+                        return method.invoke(pooled, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+        DadpPooledConnection wrapped = new DadpPooledConnection(plain, "test", dataSource.getRuntime());
+        try {
+            assertThrows(SQLFeatureNotSupportedException.class, wrapped::getXAResource);
+            try (Connection connection = wrapped.getConnection()) {
+                assertRoundTrip(connection, 1, "a@x.com");
+            }
+        } finally {
+            wrapped.close();
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.dadp.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.dadp.jdbc.stub.StubHubServer;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.Base64;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Logger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * DadpJdbcDriver URL 파라미터 처리, URL 캐시, 실제 Driver 탐색 테스트 (H2 인메모리 DB + Stub Hub)
+ *
+ * 실제 Driver가 받은 URL과 SQL을 확인하기 위해 jdbc:rec: URL을 H2로 연결하면서 기록하는 Driver를 등록합니다.
+ *
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+class DadpJdbcDriverTest {
+
+    private static final String KEY_PROPERTY = "dadp.proxy.blind-index-key";
+
+    private static StubHubServer hub;
+    private static RecordingDriver recorder;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        System.setProperty(KEY_PROPERTY,
+                Base64.getEncoder().encodeToString("0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.US_ASCII)));
+        hub = new StubHubServer(0).start();
+        recorder = new RecordingDriver("jdbc:rec:", false);
+        DriverManager.registerDriver(recorder);
+        Class.forName(DadpJdbcDriver.class.getName());
+    }
+
+    @AfterAll
+    static void tearDown() throws SQLException {
+        DriverManager.deregisterDriver(recorder);
+        hub.stop();
+        System.clearProperty(KEY_PROPERTY);
+    }
+
+    @Test
+    void indexParametersConfigureRuntimeAndAreStrippedFromDelegateUrl() throws Exception {
+        String url = "jdbc:dadp:rec:mem:driverIndexParams;DB_CLOSE_DELAY=-1;DATABASE_TO_LOWER=TRUE"
+                + "?hubUrl=" + hub.getUrl() + "&instanceId=driver-index-params"
+                + "&blindIndex=users.email&prefixIndex=users.name&prefixIndexLength=4";
+
+        try (Connection connection = DriverManager.getConnection(url)) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE users (id BIGINT PRIMARY KEY, email VARCHAR(500), email_bidx VARCHAR(64),"
+                        + " name VARCHAR(500), name_pidx VARCHAR(500))");
+            }
+
+            assertEquals("jdbc:rec:mem:driverIndexParams;DB_CLOSE_DELAY=-1;DATABASE_TO_LOWER=TRUE", recorder.urls.get(0));
+
+            try (PreparedStatement select = connection.prepareStatement("SELECT id FROM users WHERE email = ?")) {
+                assertTrue(recorder.statements.contains("SELECT id FROM users WHERE email_bidx = ?"), recorder.statements.toString());
+            }
+            try (PreparedStatement select = connection.prepareStatement("SELECT id FROM users WHERE name LIKE ?")) {
+                assertTrue(recorder.statements.contains("SELECT id FROM users WHERE name_pidx LIKE ?"), recorder.statements.toString());
+            }
+            assertEquals(4, connection.unwrap(DadpProxyConnection.class).getRuntime().getConfig().getPrefixIndexLength());
+        }
+    }
+
+    @Test
+    void sameUrlReusesParsedUrlAndRuntime() throws Exception {
+        String url = "jdbc:dadp:rec:mem:driverUrlCache;DB_CLOSE_DELAY=-1?hubUrl=" + hub.getUrl()
+                + "&instanceId=driver-url-cache";
+        String actualUrl = "jdbc:rec:mem:driverUrlCache;DB_CLOSE_DELAY=-1";
+
+        try (Connection first = DriverManager.getConnection(url);
+             Connection second = DriverManager.getConnection(url);
+             Connection other = DriverManager.getConnection(url + "&failOpen=false")) {
+            DadpProxyRuntime runtime = first.unwrap(DadpProxyConnection.class).getRuntime();
+            assertSame(runtime, second.unwrap(DadpProxyConnection.class).getRuntime());
+            // URL이 다르면 별도 런타임
+            assertNotSame(runtime, other.unwrap(DadpProxyConnection.class).getRuntime());
+            assertFalse(other.unwrap(DadpProxyConnection.class).getRuntime().getConfig().isFailOpen());
+        }
+        assertEquals(3, recorder.urls.stream().filter(actualUrl::equals).count());
+    }
+
+    @Test
+    void refusedConnectFallsBackToDriverManager() throws Exception {
+        RecordingDriver refusing = new RecordingDriver("jdbc:fallback:", true);
+        RecordingDriver accepting = new RecordingDriver("jdbc:fallback:", false);
+        DriverManager.registerDriver(refusing);
+        DriverManager.registerDriver(accepting);
+        try {
+            String url = "jdbc:dadp:fallback:mem:driverFallback;DB_CLOSE_DELAY=-1?hubUrl=" + hub.getUrl()
+                    + "&instanceId=driver-fallback";
+            for (int i = 0; i < 2; i++) {
+                try (Connection connection = DriverManager.getConnection(url)) {
+                    assertTrue(connection.isWrapperFor(DadpProxyConnection.class));
+                }
+            }
+            // 캐시한 Driver가 null을 반환할 때마다 DriverManager 탐색으로 다른 Driver에 연결
+            assertEquals(2, accepting.urls.size());
+            assertTrue(refusing.urls.size() >= 2, refusing.urls.toString());
+        } finally {
+            DriverManager.deregisterDriver(refusing);
+            DriverManager.deregisterDriver(accepting);
+        }
+    }
+
+    @Test
+    void urlWithoutDriverIsNotCachedUntilDriverIsRegistered() throws Exception {
+        String url = "jdbc:dadp:late:mem:driverLate;DB_CLOSE_DELAY=-1?hubUrl=" + hub.getUrl()
+                + "&instanceId=driver-late";
+
+        assertThrows(SQLException.class, () -> DriverManager.getConnection(url).close());
+
+        RecordingDriver late = new RecordingDriver("jdbc:late:", false);
+        DriverManager.registerDriver(late);
+        try (Connection connection = DriverManager.getConnection(url)) {
+            assertTrue(connection.isWrapperFor(DadpProxyConnection.class));
+            assertEquals(1, late.urls.size());
+        } finally {
+            DriverManager.deregisterDriver(late);
+        }
+    }
+
+    /**
+     * 지정한 접두사의 URL을 jdbc:h2:로 연결하고, 받은 URL과 준비한 SQL을 기록하는 Driver
+     * (refuse이면 URL을 받아들인다고 응답하지만 connect는 null 반환)
+     */
+    private static final class RecordingDriver implements Driver {
+
+        private final String prefix;
+        private final boolean refuse;
+
+        final List<String> urls = new CopyOnWriteArrayList<>();
+        final List<String> statements = new CopyOnWriteArrayList<>();
+
+        RecordingDriver(String prefix, boolean refuse) {
+            this.prefix = prefix;
+            this.refuse = refuse;
+        }
+
+        @Override
+        public Connection connect(String url, Properties info) throws SQLException {
+            if (!acceptsURL(url)) {
+                return null;
+            }
+            urls.add(url);
+            if (refuse) {
+                return null;
+            }
+            Connection connection = DriverManager.getConnection("jdbc:h2:" + url.substring(prefix.length()), info);
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Connection.class},
+                    (proxy, method, args) -> {
+                        if ("prepareStatement".equals(method.getName())) {
+                            statements.add((String) args[0]);
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+        }
+
+        @Override
+        public boolean acceptsURL(String url) {
+            return url != null && url.startsWith(prefix);
+        }
+
+        @Override
+        public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) {
+            return new DriverPropertyInfo[0];
+        }
+
+        @Override
+        public int getMajorVersion() {
+            return 1;
+        }
+
+        @Override
+        public int getMinorVersion() {
+            return 0;
+        }
+
+        @Override
+        public boolean jdbcCompliant() {
+            return false;
+        }
+
+        @Override
+        public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+            throw new SQLFeatureNotSupportedException();
+        }
+    }
+}
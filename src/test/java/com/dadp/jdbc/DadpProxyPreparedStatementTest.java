@@ -0,0 +1,273 @@
+package com.dadp.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.dadp.jdbc.stub.StubHubServer;
+import java.io.StringReader;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * DadpProxyPreparedStatement 파라미터 암호화 및 크기 초과 처리 테스트 (H2 인메모리 DB + Stub Hub)
+ * 
+ * 컬럼 크기 사전 검사가 동작하지 않는 경우(컬럼 크기를 모름)를 재현하기 위해,
+ * 암호문이 바인딩되면 MySQL과 같은 "Data too long"(1406) 오류를 발생시키는 Connection을 사용합니다.
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+class DadpProxyPreparedStatementTest {
+    
+    private static final String ENC_MARKER = "::ENC::";
+    
+    private static StubHubServer hub;
+    
+    private String url;
+    private String instanceId;
+    private Connection keep; // 인메모리 DB 유지 및 검증용
+    
+    @BeforeAll
+    static void startHub() throws Exception {
+        hub = new StubHubServer(0).start();
+        hub.addMapping("users", "email", "pii");
+        hub.addMapping("users", "name", "pii");
+    }
+    
+    @AfterAll
+    static void stopHub() {
+        hub.stop();
+    }
+    
+    @BeforeEach
+    void createTable(TestInfo testInfo) throws SQLException {
+        String name = testInfo.getTestMethod().get().getName();
+        url = "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1;DATABASE_TO_LOWER=TRUE";
+        instanceId = "prepared-" + name;
+        keep = DriverManager.getConnection(url);
+        try (Statement statement = keep.createStatement()) {
+            statement.execute("CREATE TABLE users (id BIGINT PRIMARY KEY, email VARCHAR(500), name VARCHAR(500))");
+        }
+    }
+    
+    @AfterEach
+    void dropDatabase() throws SQLException {
+        try (Statement statement = keep.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        keep.close();
+    }
+    
+    private DadpProxyConnection connect(boolean failOpen) throws SQLException {
+        return connect(failOpen, true);
+    }
+    
+    private DadpProxyConnection connect(boolean failOpen, boolean rejectCiphertext) throws SQLException {
+        Map<String, String> params = new HashMap<>();
+        params.put("hubUrl", hub.getUrl());
+        params.put("instanceId", instanceId);
+        params.put("failOpen", String.valueOf(failOpen));
+        Connection connection = DriverManager.getConnection(url);
+        return new DadpProxyConnection(rejectCiphertext ? rejectingCiphertext(connection) : connection, url,
+                new DadpProxyRuntime(params));
+    }
+    
+    /**
+     * 암호문이 바인딩된 executeUpdate를 "Data too long" 오류로 거부하는 Connection
+     */
+    private static Connection rejectingCiphertext(Connection connection) {
+        ClassLoader loader = DadpProxyPreparedStatementTest.class.getClassLoader();
+        return (Connection) Proxy.newProxyInstance(loader, new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (!(result instanceof PreparedStatement)) {
+                return result;
+            }
+            PreparedStatement statement = (PreparedStatement) result;
+            Map<Object, Object> bound = new HashMap<>();
+            return Proxy.newProxyInstance(loader, new Class<?>[] {PreparedStatement.class}, (p, m, a) -> {
+                if (m.getName().startsWith("set") && a != null && a.length >= 2 && a[0] instanceof Integer) {
+                    bound.put(a[0], a[1]);
+                } else if ("clearParameters".equals(m.getName())) {
+                    bound.clear();
+                } else if ("executeUpdate".equals(m.getName())
+                        && bound.values().stream().anyMatch(v -> v != null && v.toString().contains(ENC_MARKER))) {
+                    throw new SQLException("Data too long for column 'email' at row 1", "22001", 1406);
+                }
+                return invoke(statement, m, a);
+            });
+        });
+    }
+    
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+    
+    private String[] selectRow(long id) throws SQLException {
+        try (PreparedStatement select = keep.prepareStatement("SELECT email, name FROM users WHERE id = ?")) {
+            select.setLong(1, id);
+            try (ResultSet rs = select.executeQuery()) {
+                assertTrue(rs.next());
+                return new String[] {rs.getString(1), rs.getString(2)};
+            }
+        }
+    }
+    
+    private long countRows() throws SQLException {
+        try (Statement statement = keep.createStatement(); ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM users")) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+    
+    @Test
+    void truncationFailsWithoutPlaintextRetryWhenFailClosed() throws Exception {
+        try (DadpProxyConnection connection = connect(false);
+             PreparedStatement insert = connection.prepareStatement("INSERT INTO users (id, email) VALUES (?, ?)")) {
+            insert.setLong(1, 1);
+            insert.setString(2, "a@x.com");
+            
+            SQLException e = assertThrows(SQLException.class, insert::executeUpdate);
+            assertEquals("22001", e.getSQLState());
+            assertTrue(e.getMessage().contains("users.email"), e.getMessage());
+            assertEquals(1406, ((SQLException) e.getCause()).getErrorCode());
+            assertEquals(0, countRows());
+            assertEquals(Long.valueOf(1), connection.getMetrics().getOversizeColumns().get("users.email"));
+            assertEquals(0, connection.getMetrics().getTruncationRetryCount());
+        }
+    }
+    
+    @Test
+    void truncationRetriesWithPlaintextWhenFailOpen() throws Exception {
+        try (DadpProxyConnection connection = connect(true);
+             PreparedStatement insert = connection.prepareStatement("INSERT INTO users (id, email) VALUES (?, ?)")) {
+            insert.setLong(1, 1);
+            insert.setString(2, "a@x.com");
+            
+            assertEquals(1, insert.executeUpdate());
+            try (Statement statement = keep.createStatement();
+                 ResultSet rs = statement.executeQuery("SELECT email FROM users WHERE id = 1")) {
+                assertTrue(rs.next());
+                assertEquals("a@x.com", rs.getString(1));
+            }
+            assertEquals(Long.valueOf(1), connection.getMetrics().getOversizeColumns().get("users.email"));
+            assertEquals(1, connection.getMetrics().getTruncationRetryCount());
+        }
+    }
+    
+    @Test
+    void truncationRetryDoesNotRebindReplacedPlaintext() throws Exception {
+        try (DadpProxyConnection connection = connect(true);
+             PreparedStatement insert = connection.prepareStatement("INSERT INTO users (id, email, name) VALUES (?, ?, ?)")) {
+            // 암호화된 값을 setNull로 바꾼 뒤 다른 컬럼에서 재시도가 발생해도 이전 평문을 다시 바인딩하지 않음
+            insert.setLong(1, 1);
+            insert.setString(2, "a@x.com");
+            insert.setNull(2, Types.VARCHAR);
+            insert.setString(3, "kim");
+            assertEquals(1, insert.executeUpdate());
+            assertArrayEquals(new String[] {null, "kim"}, selectRow(1));
+            
+            // clearParameters 후 문자열이 아닌 값으로 바인딩한 경우
+            insert.setLong(1, 2);
+            insert.setString(2, "b@x.com");
+            insert.setString(3, "lee");
+            insert.clearParameters();
+            insert.setLong(1, 2);
+            insert.setInt(2, 42);
+            insert.setString(3, "park");
+            assertEquals(1, insert.executeUpdate());
+            assertArrayEquals(new String[] {"42", "park"}, selectRow(2));
+            assertEquals(2, connection.getMetrics().getTruncationRetryCount());
+        }
+    }
+    
+    @Test
+    void characterSettersEncryptMappedColumns() throws Exception {
+        try (DadpProxyConnection connection = connect(false, false);
+             PreparedStatement insert = connection.prepareStatement("INSERT INTO users (id, email, name) VALUES (?, ?, ?)")) {
+            insert.setLong(1, 1);
+            insert.setObject(2, "a@x.com");
+            insert.setNString(3, "kim");
+            insert.executeUpdate();
+            
+            insert.setLong(1, 2);
+            insert.setObject(2, "b@x.com", Types.VARCHAR);
+            insert.setCharacterStream(3, new StringReader("lee"));
+            insert.executeUpdate();
+            
+            insert.setLong(1, 3);
+            insert.setClob(2, new StringReader("c@x.com"), 7);
+            // 문자 타입이 아닌 targetSqlType으로 변환되는 값은 암호화하지 않음
+            insert.setObject(3, "123", Types.INTEGER);
+            insert.executeUpdate();
+        }
+        
+        String[][] expected = {{"a@x.com", "kim"}, {"b@x.com", "lee"}, {"c@x.com", null}};
+        for (int id = 1; id <= 3; id++) {
+            String[] row = selectRow(id);
+            for (int c = 0; c < 2; c++) {
+                if (expected[id - 1][c] == null) {
+                    assertEquals("123", row[c]);
+                    continue;
+                }
+                assertTrue(row[c].startsWith("pii" + ENC_MARKER), row[c]);
+                assertEquals(expected[id - 1][c], hub.decrypt(row[c]));
+            }
+        }
+    }
+    
+    @Test
+    void predictedOversizeFailsBeforeCallingHub() throws Exception {
+        try (DadpProxyConnection connection = connect(false, false);
+             PreparedStatement insert = connection.prepareStatement("INSERT INTO users (id, email) VALUES (?, ?)")) {
+            // 스키마 동기화로 컬럼 크기(500)를 수집할 때까지 대기
+            long deadline = System.currentTimeMillis() + 5000;
+            while (connection.getRuntime().getColumnSizes().getColumnSize("users", "email") == null
+                    && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+            assertEquals(Integer.valueOf(500), connection.getRuntime().getColumnSizes().getColumnSize("users", "email"));
+            
+            // 암호화 결과로 정책별 암호문 크기를 학습 (샘플 8개 이상부터 예측)
+            for (int id = 1; id <= 8; id++) {
+                insert.setLong(1, id);
+                insert.setString(2, "user" + id + "@x.com");
+                insert.executeUpdate();
+            }
+            long cryptoRequests = hub.getRequestCount(StubHubServer.Endpoint.CRYPTO);
+            
+            char[] longValue = new char[480];
+            Arrays.fill(longValue, 'a');
+            insert.setLong(1, 9);
+            SQLException e = assertThrows(SQLException.class, () -> insert.setString(2, new String(longValue)));
+            
+            assertEquals("22001", e.getSQLState());
+            assertEquals(cryptoRequests, hub.getRequestCount(StubHubServer.Endpoint.CRYPTO));
+            assertEquals(Long.valueOf(1), connection.getMetrics().getOversizeColumns().get("users.email"));
+            assertEquals(8, countRows());
+        }
+    }
+}
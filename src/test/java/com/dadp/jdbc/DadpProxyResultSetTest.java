@@ -0,0 +1,231 @@
+package com.dadp.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.dadp.jdbc.stub.StubHubServer;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.NClob;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * DadpProxyResultSet 행 단위 복호화 테스트 (H2 인메모리 DB + Stub Hub)
+ *
+ * 보호 컬럼에는 Stub Hub로 암호화한 값을 직접 저장하고, Proxy Connection으로 조회하여 접근자별 복호화 결과를 확인합니다.
+ *
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+class DadpProxyResultSetTest {
+
+    private static final String SELECT = "SELECT id, email, memo, note FROM users WHERE id = ?";
+    private static final int EMAIL = 2;
+    private static final int MEMO = 3;
+    private static final int NOTE = 4;
+
+    private static StubHubServer hub;
+
+    private String url;
+    private String instanceId;
+    private Connection keep; // 인메모리 DB 유지 및 암호문 저장용
+
+    @BeforeAll
+    static void startHub() throws Exception {
+        hub = new StubHubServer(0).start();
+        hub.addMapping("users", "email", "pii");
+        hub.addMapping("users", "memo", "pii");
+    }
+
+    @AfterAll
+    static void stopHub() {
+        hub.stop();
+    }
+
+    @BeforeEach
+    void createTable(TestInfo testInfo) throws Exception {
+        String name = testInfo.getTestMethod().get().getName();
+        url = "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1;DATABASE_TO_LOWER=TRUE";
+        instanceId = "result-set-" + name;
+        keep = DriverManager.getConnection(url);
+        try (Statement statement = keep.createStatement()) {
+            statement.execute("CREATE TABLE users (id BIGINT PRIMARY KEY, email VARCHAR(500), memo CLOB, note VARCHAR(50))");
+        }
+        insert(1, "a@x.com", "첫 번째 메모", "plain-note");
+        insert(2, "b@x.com", null, null);
+    }
+
+    @AfterEach
+    void dropDatabase() throws SQLException {
+        try (Statement statement = keep.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        keep.close();
+    }
+
+    private void insert(long id, String email, String memo, String note) throws Exception {
+        try (PreparedStatement insert = keep.prepareStatement("INSERT INTO users (id, email, memo, note) VALUES (?, ?, ?, ?)")) {
+            insert.setLong(1, id);
+            insert.setString(2, email != null ? hub.encrypt(email, "pii") : null);
+            insert.setString(3, memo != null ? hub.encrypt(memo, "pii") : null);
+            insert.setString(4, note);
+            insert.executeUpdate();
+        }
+    }
+
+    private DadpProxyConnection connect() throws SQLException {
+        Map<String, String> params = new HashMap<>();
+        params.put("hubUrl", hub.getUrl());
+        params.put("instanceId", instanceId);
+        params.put("failOpen", "false");
+        return new DadpProxyConnection(DriverManager.getConnection(url), url, new DadpProxyRuntime(params));
+    }
+
+    private static ResultSet select(PreparedStatement select, long id) throws SQLException {
+        select.setLong(1, id);
+        ResultSet rs = select.executeQuery();
+        assertTrue(rs.next());
+        return rs;
+    }
+
+    private static String read(Reader reader) throws Exception {
+        StringBuilder text = new StringBuilder();
+        char[] buffer = new char[64];
+        for (int n; (n = reader.read(buffer)) != -1; ) {
+            text.append(buffer, 0, n);
+        }
+        return text.toString();
+    }
+
+    private static String read(InputStream in) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[64];
+        for (int n; (n = in.read(buffer)) != -1; ) {
+            out.write(buffer, 0, n);
+        }
+        return new String(out.toByteArray(), StandardCharsets.US_ASCII);
+    }
+
+    @Test
+    void characterAccessorsDecryptProtectedColumns() throws Exception {
+        try (DadpProxyConnection connection = connect();
+             PreparedStatement select = connection.prepareStatement(SELECT);
+             ResultSet rs = select(select, 1)) {
+            assertEquals("a@x.com", rs.getString(EMAIL));
+            assertEquals("a@x.com", rs.getNString(EMAIL));
+            assertEquals("a@x.com", rs.getNString("email"));
+            assertEquals("a@x.com", rs.getObject(EMAIL, String.class));
+            assertEquals("a@x.com", rs.getObject("email", String.class));
+            assertEquals("a@x.com", read(rs.getCharacterStream(EMAIL)));
+            assertEquals("a@x.com", read(rs.getNCharacterStream("email")));
+            assertEquals("a@x.com", read(rs.getAsciiStream(EMAIL)));
+            assertEquals("a@x.com", read(rs.getObject(EMAIL, Reader.class)));
+
+            assertEquals("첫 번째 메모", rs.getString(MEMO));
+            assertEquals("첫 번째 메모", read(rs.getCharacterStream("memo")));
+        }
+    }
+
+    @Test
+    void clobAccessorsReturnReadOnlyPlaintext() throws Exception {
+        try (DadpProxyConnection connection = connect();
+             PreparedStatement select = connection.prepareStatement(SELECT);
+             ResultSet rs = select(select, 1)) {
+            Clob clob = rs.getClob(MEMO);
+            assertEquals("첫 번째 메모".length(), clob.length());
+            assertEquals("첫 번째 메모", clob.getSubString(1, (int) clob.length()));
+            assertEquals("메모", read(clob.getCharacterStream(6, 2)));
+            assertEquals(3, clob.position("번째", 1));
+            // 복호화된 평문이 LOB 로케이터를 통해 다시 저장되지 않도록 수정 불가
+            assertThrows(SQLFeatureNotSupportedException.class, () -> clob.setString(1, "x"));
+            assertThrows(SQLFeatureNotSupportedException.class, () -> clob.truncate(0));
+
+            NClob nClob = rs.getNClob("memo");
+            assertEquals("첫 번째 메모", nClob.getSubString(1, (int) nClob.length()));
+            assertEquals("첫 번째 메모", rs.getObject(MEMO, Clob.class).getSubString(1, "첫 번째 메모".length()));
+            assertEquals("첫 번째 메모", read(rs.getObject("memo", NClob.class).getCharacterStream()));
+
+            Object value = rs.getObject(MEMO);
+            String text = value instanceof Clob ? ((Clob) value).getSubString(1, (int) ((Clob) value).length()) : (String) value;
+            assertEquals("첫 번째 메모", text);
+        }
+    }
+
+    @Test
+    void unmappedAndNullValuesAreReturnedAsIs() throws Exception {
+        try (DadpProxyConnection connection = connect();
+             PreparedStatement select = connection.prepareStatement(SELECT)) {
+            try (ResultSet rs = select(select, 1)) {
+                assertEquals("plain-note", rs.getNString(NOTE));
+                assertEquals("plain-note", read(rs.getCharacterStream(NOTE)));
+                assertEquals("plain-note", read(rs.getAsciiStream("note")));
+            }
+            try (ResultSet rs = select(select, 2)) {
+                assertNull(rs.getClob(MEMO));
+                assertTrue(rs.wasNull());
+                assertNull(rs.getNClob("memo"));
+                assertNull(rs.getCharacterStream(MEMO));
+                assertNull(rs.getNString(NOTE));
+                assertNull(rs.getObject(MEMO, Reader.class));
+                assertFalse(rs.next());
+            }
+        }
+    }
+
+    @Test
+    void decryptedValueIsReusedWithinRowOnly() throws Exception {
+        try (DadpProxyConnection connection = connect();
+             PreparedStatement select = connection.prepareStatement("SELECT id, email, memo, note FROM users ORDER BY id",
+                     ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_UPDATABLE);
+             ResultSet rs = select.executeQuery()) {
+            long before = hub.getRequestCount(StubHubServer.Endpoint.CRYPTO);
+            assertTrue(rs.next());
+            // 같은 행의 같은 컬럼은 접근자/인덱스/레이블과 관계없이 한 번만 복호화
+            assertEquals("a@x.com", rs.getString(EMAIL));
+            assertEquals("a@x.com", rs.getObject(EMAIL));
+            assertEquals("a@x.com", rs.getString("email"));
+            assertEquals("a@x.com", rs.getNString(EMAIL));
+            assertEquals("a@x.com", rs.getObject("email", String.class));
+            assertEquals(1, hub.getRequestCount(StubHubServer.Endpoint.CRYPTO) - before);
+
+            assertTrue(rs.next());
+            assertEquals("b@x.com", rs.getString(EMAIL));
+            assertEquals(2, hub.getRequestCount(StubHubServer.Endpoint.CRYPTO) - before);
+
+            // 커서가 이동하면 같은 행으로 돌아와도 다시 복호화
+            assertTrue(rs.previous());
+            assertEquals("a@x.com", rs.getString(EMAIL));
+            assertTrue(rs.absolute(1));
+            assertEquals("a@x.com", rs.getString("email"));
+            assertEquals(4, hub.getRequestCount(StubHubServer.Endpoint.CRYPTO) - before);
+
+            // 같은 행이라도 암호문이 바뀌면(updateRow) 새 값을 복호화
+            rs.updateString(EMAIL, hub.encrypt("new@x.com", "pii"));
+            rs.updateRow();
+            assertEquals("new@x.com", rs.getString(EMAIL));
+            assertEquals("new@x.com", rs.getString("email"));
+            assertEquals(5, hub.getRequestCount(StubHubServer.Endpoint.CRYPTO) - before);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.dadp.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.dadp.jdbc.stub.StubHubServer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * DadpProxyRuntime 공유 상태 테스트 (H2 인메모리 DB + Stub Hub 2개)
+ *
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+class DadpProxyRuntimeTest {
+
+    private static final String URL = "jdbc:h2:mem:proxy-runtime;DB_CLOSE_DELAY=-1";
+
+    private static StubHubServer hubA;
+    private static StubHubServer hubB;
+
+    @BeforeAll
+    static void startHubs() throws Exception {
+        hubA = new StubHubServer(0).start();
+        hubA.addMapping("users", "email", "pii");
+        hubB = new StubHubServer(0).start();
+        hubB.addMapping("users", "email", "card");
+    }
+
+    @AfterAll
+    static void stopHubs() {
+        hubA.stop();
+        hubB.stop();
+    }
+
+    private static DadpProxyRuntime runtime(StubHubServer hub) {
+        Map<String, String> params = new HashMap<>();
+        params.put("hubUrl", hub.getUrl());
+        params.put("instanceId", "runtime-shared-id");
+        return new DadpProxyRuntime(params);
+    }
+
+    /**
+     * 첫 prepareStatement에서 매핑 로드를 기다린 뒤 컬럼의 정책명 조회
+     */
+    private static String loadedPolicy(DadpProxyRuntime runtime) throws Exception {
+        try (Connection connection = new DadpProxyConnection(DriverManager.getConnection(URL), URL, runtime);
+             PreparedStatement ignored = connection.prepareStatement("SELECT 1")) {
+            return runtime.getPolicyResolver().resolvePolicy("users", "email");
+        }
+    }
+
+    @Test
+    void policyResolverIsSharedPerHubAndInstance() throws Exception {
+        DadpProxyRuntime first = runtime(hubA);
+        DadpProxyRuntime second = runtime(hubA);
+        DadpProxyRuntime otherHub = runtime(hubB);
+
+        assertSame(first.getPolicyResolver(), second.getPolicyResolver());
+        assertNotSame(first.getPolicyResolver(), otherHub.getPolicyResolver());
+
+        // instanceId가 같아도 Hub마다 자기 매핑을 로드
+        assertEquals("pii", loadedPolicy(first));
+        assertEquals("card", loadedPolicy(otherHub));
+        assertEquals("pii", second.getPolicyResolver().resolvePolicy("users", "email"));
+    }
+}
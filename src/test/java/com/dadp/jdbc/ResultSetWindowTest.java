@@ -0,0 +1,255 @@
+package com.dadp.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.NClob;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ResultSetWindow 버퍼 이동 및 타입 변환 테스트 (H2 인메모리 DB)
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+class ResultSetWindowTest {
+    
+    private static final int ID = 1;
+    private static final int BIG = 2;
+    private static final int DEC = 3;
+    private static final int TXT = 4;
+    private static final int TS = 5;
+    private static final int D = 6;
+    private static final int T = 7;
+    private static final int NUL = 8;
+    
+    private Connection connection;
+    private Statement statement;
+    private ResultSet rs;
+    
+    @BeforeEach
+    void createTable() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:result-set-window;DB_CLOSE_DELAY=-1");
+        statement = connection.createStatement();
+        statement.execute("CREATE TABLE t (id INT, big BIGINT, dec DECIMAL(30, 2), txt VARCHAR(40),"
+                + " ts TIMESTAMP, d DATE, t TIME, nul VARCHAR(10))");
+        statement.execute("INSERT INTO t VALUES (1, 3000000000, 1234.50, '70000',"
+                + " TIMESTAMP '2025-01-02 03:04:05', DATE '2025-01-02', TIME '03:04:05', NULL)");
+        statement.execute("INSERT INTO t VALUES (2, -5, 10000000000000000000000000, '2025-01-02 03:04:05',"
+                + " NULL, NULL, NULL, NULL)");
+        statement.execute("INSERT INTO t VALUES (3, 7, 0.99, 'garbage', NULL, NULL, NULL, NULL)");
+    }
+    
+    @AfterEach
+    void dropTable() throws SQLException {
+        if (rs != null) {
+            rs.close();
+        }
+        statement.execute("DROP TABLE t");
+        connection.close();
+    }
+    
+    private ResultSetWindow window(String[] policyNames, int windowRows) throws SQLException {
+        rs = statement.executeQuery("SELECT * FROM t ORDER BY id");
+        return ResultSetWindow.create(rs, rs.getMetaData(), policyNames, windowRows);
+    }
+    
+    private ResultSetWindow window() throws SQLException {
+        return window(new String[NUL + 1], 10);
+    }
+    
+    private static void assertSqlState(String sqlState, SQLException e) {
+        assertEquals(sqlState, e.getSQLState(), e.getMessage());
+    }
+    
+    @Test
+    void fillAndAdvanceTrackRowPosition() throws SQLException {
+        ResultSetWindow window = window(new String[NUL + 1], 2);
+        
+        assertTrue(window.isBeforeFirst());
+        assertTrue(window.fill());
+        assertTrue(window.isFirst());
+        assertEquals(1, window.getRow());
+        assertTrue(window.advance());
+        assertEquals(2, window.getRow());
+        assertFalse(window.advance());
+        assertTrue(window.fill());
+        assertEquals(3, window.getRow());
+        assertEquals(3, window.getInt(ID));
+        assertTrue(window.isLast());
+        assertFalse(window.fill());
+        assertTrue(window.isAfterLast());
+    }
+    
+    @Test
+    void integerConversionsAreRangeChecked() throws SQLException {
+        ResultSetWindow window = window();
+        window.fill();
+        
+        assertEquals(Integer.valueOf(1), window.getObject(ID, Integer.class));
+        assertEquals(Long.valueOf(3000000000L), window.getObject(BIG, Long.class));
+        assertSqlState("22003", assertThrows(SQLException.class, () -> window.getObject(BIG, Integer.class)));
+        assertSqlState("22003", assertThrows(SQLException.class, () -> window.getInt(BIG)));
+        assertEquals(Short.valueOf((short) 1234), window.getObject(DEC, Short.class)); // 소수부 버림
+        assertSqlState("22003", assertThrows(SQLException.class, () -> window.getObject(DEC, Byte.class)));
+        assertEquals(Integer.valueOf(70000), window.getObject(TXT, Integer.class)); // 복호화된 문자열 값
+        assertSqlState("22003", assertThrows(SQLException.class, () -> window.getObject(TXT, Short.class)));
+        
+        window.advance();
+        assertEquals(Byte.valueOf((byte) -5), window.getObject(BIG, Byte.class));
+        assertSqlState("22003", assertThrows(SQLException.class, () -> window.getLong(DEC)));
+        assertEquals(new BigDecimal("10000000000000000000000000.00"), window.getObject(DEC, BigDecimal.class));
+        
+        window.advance();
+        assertSqlState("22018", assertThrows(SQLException.class, () -> window.getObject(TXT, Integer.class)));
+    }
+    
+    @Test
+    void javaTimeConversions() throws SQLException {
+        ResultSetWindow window = window();
+        window.fill();
+        
+        assertEquals(LocalDateTime.of(2025, 1, 2, 3, 4, 5), window.getObject(TS, LocalDateTime.class));
+        assertEquals(LocalDate.of(2025, 1, 2), window.getObject(D, LocalDate.class));
+        assertEquals(LocalTime.of(3, 4, 5), window.getObject(T, LocalTime.class));
+        assertEquals(LocalDate.of(2025, 1, 2), window.getObject(TS, LocalDate.class));
+        
+        window.advance();
+        assertEquals(LocalDateTime.of(2025, 1, 2, 3, 4, 5), window.getObject(TXT, LocalDateTime.class));
+        assertEquals(LocalTime.of(3, 4, 5), window.getObject(TXT, LocalTime.class));
+        assertNull(window.getObject(TS, LocalDateTime.class));
+        assertNull(window.getObject(D, LocalDate.class));
+        assertNull(window.getObject(T, LocalTime.class));
+        assertTrue(window.wasNull());
+        
+        window.advance();
+        assertSqlState("22007", assertThrows(SQLException.class, () -> window.getObject(TXT, LocalDate.class)));
+        assertSqlState("22007", assertThrows(SQLException.class, () -> window.getObject(TXT, LocalTime.class)));
+    }
+    
+    @Test
+    void sqlNullConvertsToNullOrDefault() throws SQLException {
+        ResultSetWindow window = window();
+        window.fill();
+        
+        assertNull(window.getObject(NUL, Integer.class));
+        assertTrue(window.wasNull());
+        assertEquals(0, window.getInt(NUL));
+        assertEquals(0L, window.getLong(NUL));
+        assertFalse(window.getBoolean(NUL));
+        assertNull(window.getString(NUL));
+        assertEquals(Integer.valueOf(1), window.getObject(ID, Integer.class));
+        assertFalse(window.wasNull());
+    }
+    
+    @Test
+    void nonCharacterColumnsReturnDriverText() throws SQLException {
+        statement.execute("CREATE TABLE b (id INT, bin VARBINARY(4), flag VARCHAR(5))");
+        try {
+            statement.execute("INSERT INTO b VALUES (1, X'00ff10', 'yes')");
+            String[] expected = new String[NUL + 1];
+            try (Statement plain = connection.createStatement();
+                 ResultSet original = plain.executeQuery("SELECT * FROM t ORDER BY id")) {
+                original.next();
+                for (int i = 1; i <= NUL; i++) {
+                    expected[i] = original.getString(i);
+                }
+            }
+            ResultSetWindow window = window();
+            window.fill();
+            for (int i = 1; i <= NUL; i++) {
+                assertEquals(expected[i], window.getString(i), "컬럼 " + i);
+            }
+            assertEquals(expected[DEC], window.getObject(DEC, String.class));
+            
+            rs.close();
+            rs = statement.executeQuery("SELECT * FROM b");
+            ResultSetWindow binary = ResultSetWindow.create(rs, rs.getMetaData(), new String[4], 10);
+            binary.fill();
+            try (Statement plain = connection.createStatement();
+                 ResultSet original = plain.executeQuery("SELECT * FROM b")) {
+                original.next();
+                assertEquals(original.getString(2), binary.getString(2));
+            }
+            assertArrayEquals(new byte[] {0x00, (byte) 0xff, 0x10}, binary.getBytes(2));
+            assertFalse(binary.getBoolean(3)); // Driver에 없는 문자열 리터럴은 true로 해석하지 않음
+        } finally {
+            statement.execute("DROP TABLE b");
+        }
+    }
+    
+    @Test
+    void protectedValuesAreReplacedInPlace() throws SQLException {
+        String[] policyNames = new String[NUL + 1];
+        policyNames[TXT] = "pii";
+        ResultSetWindow window = window(policyNames, 10);
+        window.fill();
+        
+        assertTrue(window.isProtected(TXT));
+        assertFalse(window.isProtected(ID));
+        String[] values = new String[window.protectedCapacity()];
+        String[] policies = new String[values.length];
+        assertEquals(10, values.length); // 윈도우 행 수 × 보호 컬럼 수
+        assertEquals(3, window.collectProtected(values, policies));
+        assertArrayEquals(new String[] {"70000", "2025-01-02 03:04:05", "garbage"}, Arrays.copyOf(values, 3));
+        assertArrayEquals(new String[] {"pii", "pii", "pii"}, Arrays.copyOf(policies, 3));
+        
+        window.storeProtected(new String[] {"12", null, "decrypted"});
+        assertEquals(Integer.valueOf(12), window.getObject(TXT, Integer.class));
+        window.advance();
+        assertEquals("2025-01-02 03:04:05", window.getString(TXT)); // null은 원래 값 유지
+        window.advance();
+        assertEquals("decrypted", window.getString(TXT));
+    }
+    
+    @Test
+    void characterLobAndStreamAccessorsReturnBufferedText() throws Exception {
+        String[] policyNames = new String[NUL + 1];
+        policyNames[TXT] = "pii";
+        ResultSetWindow window = window(policyNames, 10);
+        window.fill();
+        window.storeProtected(new String[] {"decrypted", null, null});
+        
+        Clob clob = window.getObject(TXT, Clob.class);
+        assertEquals("decrypted", clob.getSubString(1, (int) clob.length()));
+        NClob nclob = window.getObject(TXT, NClob.class);
+        assertEquals("decrypted", nclob.getSubString(1, (int) nclob.length()));
+        try (Reader reader = window.getObject(TXT, Reader.class)) {
+            char[] buffer = new char[32];
+            assertEquals("decrypted", new String(buffer, 0, reader.read(buffer)));
+        }
+        assertEquals("1", window.getObject(ID, Clob.class).getSubString(1, 1));
+        assertNull(window.getObject(NUL, Clob.class));
+        assertNull(window.getObject(NUL, Reader.class));
+    }
+    
+    @Test
+    void invalidCursorOrColumnFails() throws SQLException {
+        ResultSetWindow window = window();
+        
+        assertThrows(SQLException.class, () -> window.getObject(ID));
+        window.fill();
+        assertThrows(SQLException.class, () -> window.getObject(0));
+        assertThrows(SQLException.class, () -> window.getObject(NUL + 1));
+        assertThrows(SQLException.class, () -> window.getObject(ID, StringBuilder.class));
+    }
+}
@@ -0,0 +1,94 @@
+package com.dadp.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.dadp.jdbc.config.ProxyConfig;
+import com.dadp.jdbc.crypto.BlindIndex;
+import com.dadp.jdbc.metrics.DadpMetrics;
+import com.dadp.jdbc.policy.PolicyResolver;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * StatementPlanCache 공유 범위 및 매핑 버전 변경 시 정책 재조회 테스트
+ *
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+class StatementPlanCacheTest {
+
+    private static final String KEY_PROPERTY = "dadp.proxy.blind-index-key";
+    private static final String SELECT = "SELECT id FROM users WHERE email = ?";
+
+    private static DadpMetrics metrics;
+
+    @BeforeAll
+    static void setUp() {
+        System.setProperty(KEY_PROPERTY,
+                Base64.getEncoder().encodeToString("0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.US_ASCII)));
+        metrics = DadpMetrics.forInstance("statement-plan-cache");
+    }
+
+    @AfterAll
+    static void clearKey() {
+        System.clearProperty(KEY_PROPERTY);
+    }
+
+    private static BlindIndex blindIndex(String columns) {
+        Map<String, String> params = new HashMap<>();
+        params.put("blindIndex", columns);
+        return BlindIndex.create(new ProxyConfig(params));
+    }
+
+    @Test
+    void cacheIsSeparatedByBlindIndexConfig() {
+        BlindIndex email = blindIndex("users.email");
+        StatementPlanCache indexed = StatementPlanCache.forRuntime("http://hub|plan-cache", email);
+        StatementPlanCache plain = StatementPlanCache.forRuntime("http://hub|plan-cache", null);
+
+        // 재작성 설정이 같으면 BlindIndex 인스턴스가 달라도 같은 캐시
+        assertSame(indexed, StatementPlanCache.forRuntime("http://hub|plan-cache", blindIndex("users.email")));
+        assertNotSame(indexed, plain);
+        assertNotSame(indexed, StatementPlanCache.forRuntime("http://hub|plan-cache", blindIndex("users.email,users.phone")));
+        assertNotSame(indexed, StatementPlanCache.forRuntime("http://other-hub|plan-cache", email));
+
+        // 같은 instanceId에서 먼저 만든 재작성 계획이 다른 설정의 Connection에 쓰이지 않음
+        assertEquals("SELECT id FROM users WHERE email_bidx = ?", indexed.getPlan(SELECT, metrics, email).getExecutableSql());
+        assertEquals(SELECT, plain.getPlan(SELECT, metrics, null).getExecutableSql());
+    }
+
+    @Test
+    void cachedPlanResolvesPolicyAgainWhenMappingVersionChanges() {
+        String sql = "INSERT INTO users (id, email) VALUES (?, ?)";
+        StatementPlanCache cache = StatementPlanCache.forRuntime("http://hub|plan-version", null);
+        PolicyResolver resolver = new PolicyResolver();
+        resolver.addMapping("users", "email", "pii");
+
+        StatementPlan plan = cache.getPlan(sql, metrics, null);
+        assertEquals("pii", plan.getParameterPolicy(2, resolver));
+        assertNull(plan.getParameterPolicy(1, resolver));
+
+        resolver.addMapping("users", "email", "card");
+        StatementPlan cached = cache.getPlan(sql, metrics, null);
+        assertSame(plan, cached);
+        assertEquals("card", cached.getParameterPolicy(2, resolver));
+
+        resolver.refreshMappings(Collections.emptyMap());
+        assertNull(cached.getParameterPolicy(2, resolver));
+
+        // 다른 Hub의 PolicyResolver로 조회해도 그 Resolver의 매핑을 사용
+        PolicyResolver other = new PolicyResolver();
+        other.addMapping("users", "email", "other");
+        assertEquals("other", cached.getParameterPolicy(2, other));
+    }
+}
@@ -0,0 +1,187 @@
+package com.dadp.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.dadp.jdbc.config.ProxyConfig;
+import com.dadp.jdbc.crypto.BlindIndex;
+import com.dadp.jdbc.policy.SqlParser;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * StatementPlan 블라인드 인덱스 재작성 및 파라미터 인덱스 매핑 테스트
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+class StatementPlanTest {
+    
+    private static final String KEY_PROPERTY = "dadp.proxy.blind-index-key";
+    
+    private static BlindIndex blindIndex;
+    
+    @BeforeAll
+    static void createBlindIndex() {
+        System.setProperty(KEY_PROPERTY,
+                Base64.getEncoder().encodeToString("0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.US_ASCII)));
+        Map<String, String> params = new HashMap<>();
+        params.put("blindIndex", "users.email");
+        params.put("prefixIndex", "users.name");
+        blindIndex = BlindIndex.create(new ProxyConfig(params));
+    }
+    
+    @AfterAll
+    static void clearKey() {
+        System.clearProperty(KEY_PROPERTY);
+    }
+    
+    private static StatementPlan plan(String sql) {
+        return new StatementPlan(sql, new SqlParser().parse(sql), blindIndex);
+    }
+    
+    @Test
+    void insertAddsCompanionColumnAndParameter() {
+        StatementPlan plan = plan("INSERT INTO users (id, email, note) VALUES (?, ?, ?)");
+        
+        assertEquals("INSERT INTO users (id, email, note, email_bidx) VALUES (?, ?, ?, ?)", plan.getExecutableSql());
+        assertTrue(plan.isRewritten());
+        assertEquals("email", plan.getParameterColumn(2));
+        assertEquals(1, plan.getActualIndex(1));
+        assertEquals(2, plan.getActualIndex(2));
+        assertEquals(3, plan.getActualIndex(3));
+        assertEquals(4, plan.getCompanionIndex(2));
+        assertEquals(0, plan.getCompanionIndex(1));
+        assertEquals(0, plan.getCompanionIndex(3));
+        assertTrue(plan.hasCompanion(2));
+        assertEquals("email", plan.getBlindIndexColumn(2));
+        assertFalse(plan.isBlindSearch(2));
+    }
+    
+    @Test
+    void insertAddsPrefixCompanionAfterBlindCompanion() {
+        StatementPlan plan = plan("INSERT INTO users (email, name, note) VALUES (?, ?, ?)");
+        
+        assertEquals("INSERT INTO users (email, name, note, email_bidx, name_pidx) VALUES (?, ?, ?, ?, ?)",
+                plan.getExecutableSql());
+        assertEquals(4, plan.getCompanionIndex(1));
+        assertEquals(0, plan.getPrefixCompanionIndex(1));
+        assertEquals(0, plan.getCompanionIndex(2));
+        assertEquals(5, plan.getPrefixCompanionIndex(2));
+        assertTrue(plan.hasCompanion(2));
+        assertFalse(plan.hasCompanion(3));
+        assertEquals(3, plan.getActualIndex(3));
+    }
+    
+    @Test
+    void insertWithNonPlaceholderValuesIsNotRewritten() {
+        String sql = "INSERT INTO users (id, email) VALUES (?, UPPER(?)), (?, ?)";
+        StatementPlan plan = plan(sql);
+        
+        assertEquals(sql, plan.getExecutableSql());
+        assertFalse(plan.isRewritten());
+        assertEquals(2, plan.getActualIndex(2));
+        assertEquals(0, plan.getCompanionIndex(2));
+    }
+    
+    @Test
+    void updateAppendsCompanionAssignmentAndShiftsWhereParameters() {
+        StatementPlan plan = plan("UPDATE users SET email = ?, note = ? WHERE id = ?");
+        
+        assertEquals("UPDATE users SET email = ?, note = ?, email_bidx = ? WHERE id = ?", plan.getExecutableSql());
+        assertEquals(1, plan.getActualIndex(1));
+        assertEquals(2, plan.getActualIndex(2));
+        assertEquals(4, plan.getActualIndex(3));
+        assertEquals(3, plan.getCompanionIndex(1));
+        assertFalse(plan.hasCompanion(2));
+    }
+    
+    @Test
+    void selectEqualityUsesCompanionColumn() {
+        StatementPlan plan = plan("SELECT id, email FROM users WHERE email = ? AND id > ?");
+        
+        assertEquals("SELECT id, email FROM users WHERE email_bidx = ? AND id > ?", plan.getExecutableSql());
+        assertTrue(plan.isBlindSearch(1));
+        assertFalse(plan.isBlindSearch(2));
+        assertEquals(1, plan.getActualIndex(1));
+        assertEquals(2, plan.getActualIndex(2));
+        assertEquals(0, plan.getCompanionIndex(1));
+        assertEquals("email", plan.getParameterColumn(1));
+        assertEquals("id", plan.getParameterColumn(2));
+    }
+    
+    @Test
+    void selectRewritesOnlyMainTableQualifier() {
+        StatementPlan plan = plan("SELECT u.id FROM users u JOIN orders o ON o.user_id = u.id"
+                + " WHERE o.email = ? AND u.email = ? AND users.email = ?");
+        
+        assertEquals("SELECT u.id FROM users u JOIN orders o ON o.user_id = u.id"
+                + " WHERE o.email = ? AND u.email_bidx = ? AND users.email_bidx = ?", plan.getExecutableSql());
+        assertFalse(plan.isBlindSearch(1));
+        assertTrue(plan.isBlindSearch(2));
+        assertTrue(plan.isBlindSearch(3));
+    }
+    
+    @Test
+    void selectWithAsAliasIsRewritten() {
+        StatementPlan plan = plan("SELECT x.id FROM users AS x WHERE x.email = ?");
+        
+        assertEquals("SELECT x.id FROM users AS x WHERE x.email_bidx = ?", plan.getExecutableSql());
+        assertTrue(plan.isBlindSearch(1));
+    }
+    
+    @Test
+    void selectLikeOnPrefixColumnUsesPrefixCompanion() {
+        StatementPlan plan = plan("SELECT u.id FROM users u WHERE u.name LIKE ? AND u.email = ? AND u.note LIKE ?");
+        
+        assertEquals("SELECT u.id FROM users u WHERE u.name_pidx LIKE ? AND u.email_bidx = ? AND u.note LIKE ?",
+                plan.getExecutableSql());
+        assertTrue(plan.isPrefixSearch(1));
+        assertFalse(plan.isBlindSearch(1));
+        assertTrue(plan.isBlindSearch(2));
+        assertFalse(plan.isPrefixSearch(2));
+        assertFalse(plan.isPrefixSearch(3));
+        assertEquals("name", plan.getBlindIndexColumn(1));
+        assertEquals(3, plan.getActualIndex(3));
+    }
+    
+    @Test
+    void updateAddsPrefixCompanionAssignment() {
+        StatementPlan plan = plan("UPDATE users SET name = ? WHERE id = ?");
+        
+        assertEquals("UPDATE users SET name = ?, name_pidx = ? WHERE id = ?", plan.getExecutableSql());
+        assertEquals(2, plan.getPrefixCompanionIndex(1));
+        assertEquals(3, plan.getActualIndex(2));
+    }
+    
+    @Test
+    void selectNonEqualityIsNotRewritten() {
+        String sql = "SELECT id FROM users WHERE email LIKE ?";
+        StatementPlan plan = plan(sql);
+        
+        assertEquals(sql, plan.getExecutableSql());
+        assertFalse(plan.isBlindSearch(1));
+        assertEquals("email", plan.getParameterColumn(1));
+    }
+    
+    @Test
+    void planWithoutBlindIndexKeepsSqlAndMapsParameters() {
+        String sql = "UPDATE users SET email = ?, name = ? WHERE id = ?";
+        StatementPlan plan = new StatementPlan(sql, new SqlParser().parse(sql), null);
+        
+        assertEquals(sql, plan.getExecutableSql());
+        assertFalse(plan.isRewritten());
+        assertEquals(3, plan.getActualIndex(3));
+        assertEquals("email", plan.getParameterColumn(1));
+        assertEquals("name", plan.getParameterColumn(2));
+        assertNull(plan.getBlindIndexColumn(1));
+    }
+}
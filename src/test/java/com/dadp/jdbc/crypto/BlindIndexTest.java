@@ -0,0 +1,120 @@
+package com.dadp.jdbc.crypto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.dadp.jdbc.config.ProxyConfig;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * BlindIndex 동등 검색 값과 접두사 인덱스 패턴 테스트
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+class BlindIndexTest {
+    
+    private static final String KEY_PROPERTY = "dadp.proxy.blind-index-key";
+    private static final String KEY = Base64.getEncoder().encodeToString(
+            "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.US_ASCII));
+    private static final int TOKEN_LENGTH = 12;
+    
+    @AfterEach
+    void clearKey() {
+        System.clearProperty(KEY_PROPERTY);
+    }
+    
+    private static BlindIndex create(String key) {
+        if (key != null) {
+            System.setProperty(KEY_PROPERTY, key);
+        }
+        Map<String, String> params = new HashMap<>();
+        params.put("blindIndex", "users.email");
+        params.put("prefixIndex", "users.name");
+        params.put("prefixIndexLength", "4");
+        return BlindIndex.create(new ProxyConfig(params));
+    }
+    
+    @Test
+    void targetColumnsIgnoreCaseAndSchema() {
+        BlindIndex blindIndex = create(KEY);
+        
+        assertTrue(blindIndex.isIndexed("USERS", "Email"));
+        assertTrue(blindIndex.isIndexed("app.users", "email"));
+        assertFalse(blindIndex.isIndexed("users", "name"));
+        assertTrue(blindIndex.isPrefixIndexed("users", "NAME"));
+        assertFalse(blindIndex.isPrefixIndexed("users", "email"));
+    }
+    
+    @Test
+    void computeIsDeterministicPerColumn() {
+        BlindIndex blindIndex = create(KEY);
+        
+        String value = blindIndex.compute("users", "email", "a@x.com");
+        assertEquals(44, value.length());
+        assertEquals(value, blindIndex.compute("app.USERS", "EMAIL", "a@x.com"));
+        assertNotEquals(value, blindIndex.compute("users", "email", "b@x.com"));
+        assertNotEquals(value, blindIndex.compute("orders", "email", "a@x.com"));
+    }
+    
+    @Test
+    void computePrefixesStopsAtMaximumLength() {
+        BlindIndex blindIndex = create(KEY);
+        
+        assertEquals(2 * TOKEN_LENGTH, blindIndex.computePrefixes("users", "name", "Al").length());
+        assertEquals(4 * TOKEN_LENGTH, blindIndex.computePrefixes("users", "name", "Alice").length());
+        assertEquals(blindIndex.computePrefixes("users", "name", "ALICE"),
+                blindIndex.computePrefixes("users", "name", "alice"));
+    }
+    
+    @Test
+    void prefixPatternMatchesStoredPrefixes() {
+        BlindIndex blindIndex = create(KEY);
+        String stored = blindIndex.computePrefixes("users", "name", "Alice");
+        
+        String pattern = blindIndex.prefixPattern("users", "name", "aL%");
+        assertNotNull(pattern);
+        assertTrue(pattern.endsWith("%"));
+        assertEquals(2 * TOKEN_LENGTH + 1, pattern.length());
+        assertTrue(stored.startsWith(pattern.substring(0, pattern.length() - 1)));
+        
+        String fullLength = blindIndex.prefixPattern("users", "name", "alic%");
+        assertEquals(stored + "%", fullLength);
+        
+        String other = blindIndex.prefixPattern("users", "name", "bo%");
+        assertFalse(stored.startsWith(other.substring(0, other.length() - 1)));
+    }
+    
+    @Test
+    void prefixPatternRejectsUnsupportedPatterns() {
+        BlindIndex blindIndex = create(KEY);
+        
+        assertNull(blindIndex.prefixPattern("users", "name", null));
+        assertNull(blindIndex.prefixPattern("users", "name", "%"));
+        assertNull(blindIndex.prefixPattern("users", "name", "al"));
+        assertNull(blindIndex.prefixPattern("users", "name", "%al"));
+        assertNull(blindIndex.prefixPattern("users", "name", "%al%"));
+        assertNull(blindIndex.prefixPattern("users", "name", "a_c%"));
+        assertNull(blindIndex.prefixPattern("users", "name", "a%c%"));
+        assertNull(blindIndex.prefixPattern("users", "name", "a\\%%"));
+        assertNull(blindIndex.prefixPattern("users", "name", "alice%")); // 최대 접두사 길이(4) 초과
+    }
+    
+    @Test
+    void createRequiresUsableKey() {
+        assertNull(create(null));
+        assertNull(create("not base64!"));
+        assertNull(create(Base64.getEncoder().encodeToString(new byte[8])));
+        assertNotNull(create(KEY));
+    }
+}
@@ -0,0 +1,104 @@
+package com.dadp.jdbc.crypto;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ParallelDecryptor 병렬 복호화 및 실패 전달 테스트
+ *
+ * Hub 대신 복호화 동작을 지정한 HubCryptoAdapter를 사용합니다.
+ *
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+class ParallelDecryptorTest {
+
+    /**
+     * 지정한 함수로 복호화하고 동시에 실행 중인 복호화 수를 기록하는 어댑터
+     */
+    private static final class FakeAdapter extends HubCryptoAdapter {
+
+        final AtomicInteger active = new AtomicInteger();
+        private final BiFunction<String, String, String> decryptor;
+
+        FakeAdapter(BiFunction<String, String, String> decryptor) {
+            super("http://127.0.0.1:1", false);
+            this.decryptor = decryptor;
+        }
+
+        @Override
+        public String decrypt(String encryptedData, String policyName) {
+            active.incrementAndGet();
+            try {
+                return decryptor.apply(encryptedData, policyName);
+            } finally {
+                active.decrementAndGet();
+            }
+        }
+    }
+
+    @Test
+    void valuesAreDecryptedInPlaceByPolicy() {
+        FakeAdapter adapter = new FakeAdapter((value, policy) -> policy + ":" + value);
+        int count = 300;
+        String[] values = new String[count + 5];
+        String[] policies = new String[values.length];
+        String[] expected = new String[values.length];
+        for (int i = 0; i < count; i++) {
+            policies[i] = i % 3 == 0 ? "card" : "pii";
+            if (i % 10 != 0) {
+                values[i] = "v" + i;
+                expected[i] = policies[i] + ":v" + i;
+            }
+        }
+        // count 이후 항목은 처리하지 않음
+        values[count] = "untouched";
+        expected[count] = "untouched";
+
+        ParallelDecryptor.decryptAll(adapter, values, policies, count);
+
+        assertArrayEquals(expected, values);
+        assertNull(values[10]);
+    }
+
+    @Test
+    void failureIsRethrownOnlyAfterClaimedChunksFinish() throws Exception {
+        IllegalStateException failure = new IllegalStateException("Fail-closed");
+        FakeAdapter adapter = new FakeAdapter((value, policy) -> {
+            if ("fail".equals(value)) {
+                throw failure;
+            }
+            try {
+                Thread.sleep(2);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "plain-" + value;
+        });
+        // 같은 정책 256개 → 청크 4개 (64개씩), 마지막 청크 중간에서 실패
+        String[] values = new String[256];
+        String[] policies = new String[values.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = "v" + i;
+            policies[i] = "pii";
+        }
+        values[224] = "fail";
+
+        assertSame(failure, assertThrows(IllegalStateException.class,
+                () -> ParallelDecryptor.decryptAll(adapter, values, policies, values.length)));
+
+        // 예외 전달 시점에 진행 중인 복호화가 없고, 이후 values가 바뀌지 않아야 함
+        assertEquals(0, adapter.active.get());
+        String[] snapshot = values.clone();
+        Thread.sleep(200);
+        assertArrayEquals(snapshot, values);
+    }
+}
@@ -0,0 +1,132 @@
+package com.dadp.jdbc.mapping;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.dadp.jdbc.policy.PolicyResolver;
+import com.sun.net.httpserver.HttpServer;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * MappingSyncService 매핑 응답 스트리밍 파싱 테스트
+ *
+ * 응답 본문을 그대로 돌려주는 HttpServer로 정상/비정상 응답을 재현합니다.
+ *
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+class MappingSyncServiceTest {
+
+    private HttpServer server;
+    private volatile int status = 200;
+    private volatile String body;
+
+    private PolicyResolver resolver;
+    private MappingSyncService service;
+
+    @BeforeEach
+    void startServer() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/hub/api/v1/proxy/mappings", exchange -> {
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        server.start();
+        resolver = new PolicyResolver();
+        service = new MappingSyncService("http://127.0.0.1:" + server.getAddress().getPort(), "mapping-test", resolver);
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void readsEnabledMappingsAndSkipsUnknownContent() {
+        body = "{\"message\":{\"nested\":[1,{\"a\":2}]},"
+                + "\"data\":["
+                + "{\"id\":1,\"tableName\":\"users\",\"columnName\":\"email\",\"policyName\":\"pii\",\"enabled\":true,"
+                + "\"extra\":{\"tags\":[\"x\",\"y\"]}},"
+                + "null,"
+                + "\"unexpected\","
+                + "{\"enabled\":true,\"policyName\":\"card\",\"columnName\":\"card_no\",\"tableName\":\"orders\"},"
+                + "{\"tableName\":\"users\",\"columnName\":\"name\",\"policyName\":\"pii\",\"enabled\":false},"
+                + "{\"tableName\":\"users\",\"columnName\":\"phone\",\"policyName\":\"pii\"}"
+                + "],\"success\":true}";
+
+        assertEquals(2, service.loadMappingsFromHub());
+
+        assertEquals("pii", resolver.resolvePolicy("users", "email"));
+        assertEquals("card", resolver.resolvePolicy("orders", "card_no"));
+        assertNull(resolver.resolvePolicy("users", "name"));
+        assertNull(resolver.resolvePolicy("users", "phone"));
+    }
+
+    @Test
+    void largeResponseIsLoadedCompletely() throws Exception {
+        StringBuilder json = new StringBuilder("{\"success\":true,\"data\":[");
+        for (int i = 0; i < 20000; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"tableName\":\"t").append(i).append("\",\"columnName\":\"c\",\"policyName\":\"p")
+                    .append(i % 7).append("\",\"enabled\":true}");
+        }
+        body = json.append("]}").toString();
+
+        assertEquals(20000, service.loadMappingsFromHubAsync().get(10, TimeUnit.SECONDS).intValue());
+        assertEquals("p" + 19999 % 7, resolver.resolvePolicy("t19999", "c"));
+    }
+
+    @Test
+    void truncatedDataArrayKeepsPreviousMappings() {
+        resolver.addMapping("users", "email", "pii");
+        body = "{\"success\":true,\"data\":[{\"tableName\":\"orders\",\"columnName\":\"card_no\","
+                + "\"policyName\":\"card\",\"enabled\":true},";
+
+        assertEquals(0, service.loadMappingsFromHub());
+
+        assertEquals("pii", resolver.resolvePolicy("users", "email"));
+        assertNull(resolver.resolvePolicy("orders", "card_no"));
+    }
+
+    @Test
+    void failedResponsesKeepPreviousMappings() {
+        resolver.addMapping("users", "email", "pii");
+
+        body = "{\"success\":false,\"data\":[{\"tableName\":\"orders\",\"columnName\":\"card_no\","
+                + "\"policyName\":\"card\",\"enabled\":true}]}";
+        assertEquals(0, service.loadMappingsFromHub());
+
+        body = "[]";
+        assertEquals(0, service.loadMappingsFromHub());
+
+        status = 500;
+        body = "{\"success\":false,\"message\":\"오류\"}";
+        assertEquals(0, service.loadMappingsFromHub());
+
+        assertEquals("pii", resolver.resolvePolicy("users", "email"));
+        assertNull(resolver.resolvePolicy("orders", "card_no"));
+    }
+
+    @Test
+    void emptyDataReplacesMappings() {
+        resolver.addMapping("users", "email", "pii");
+        body = "{\"success\":true,\"data\":[]}";
+
+        assertEquals(0, service.loadMappingsFromHub());
+
+        assertNull(resolver.resolvePolicy("users", "email"));
+    }
+}
@@ -0,0 +1,383 @@
+package com.dadp.jdbc.migration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.dadp.jdbc.DadpProxyRuntime;
+import com.dadp.jdbc.stub.StubHubServer;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * EncryptionMigration 구간 분할, checkpoint 재개, 동시 변경 충돌, 컬럼 크기 초과 처리 테스트
+ * (H2 인메모리 DB + Stub Hub)
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+class EncryptionMigrationTest {
+    
+    private static final String KEY_PROPERTY = "dadp.proxy.blind-index-key";
+    private static final String ENCRYPTED_PREFIX = "pii::ENC::";
+    
+    private static StubHubServer hub;
+    
+    private String url;
+    private String instanceId;
+    private Connection keep; // 인메모리 DB 유지 및 검증용
+    
+    @TempDir
+    Path tempDir;
+    
+    @BeforeAll
+    static void startHub() throws Exception {
+        System.setProperty(KEY_PROPERTY,
+                Base64.getEncoder().encodeToString("0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.US_ASCII)));
+        hub = new StubHubServer(0).start();
+        hub.addMapping("users", "email", "pii");
+        hub.addMapping("users", "name", "pii");
+        hub.addMapping("codes", "val", "pii");
+    }
+    
+    @AfterAll
+    static void stopHub() {
+        hub.stop();
+        System.clearProperty(KEY_PROPERTY);
+    }
+    
+    @BeforeEach
+    void createTables(TestInfo testInfo) throws SQLException {
+        String name = testInfo.getTestMethod().get().getName();
+        url = "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1;DATABASE_TO_LOWER=TRUE";
+        instanceId = "migration-" + name;
+        keep = DriverManager.getConnection(url);
+        try (Statement statement = keep.createStatement()) {
+            statement.execute("CREATE TABLE users (id BIGINT PRIMARY KEY, email VARCHAR(500), email_bidx VARCHAR(64),"
+                    + " name VARCHAR(12), note VARCHAR(50))");
+            statement.execute("CREATE TABLE codes (code VARCHAR(20) PRIMARY KEY, val VARCHAR(500))");
+        }
+        try (PreparedStatement insert = keep.prepareStatement("INSERT INTO users (id, email, note) VALUES (?, ?, ?)")) {
+            for (int i = 1; i <= 200; i++) {
+                insert.setLong(1, i);
+                insert.setString(2, i % 10 == 0 ? null : email(i));
+                insert.setString(3, "note" + i);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+    }
+    
+    @AfterEach
+    void dropDatabase() throws SQLException {
+        try (Statement statement = keep.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        keep.close();
+    }
+    
+    private static String email(int i) {
+        return "u" + i + "@x.com";
+    }
+    
+    private DadpProxyRuntime runtime(boolean failOpen) {
+        return runtime(failOpen, true);
+    }
+    
+    private DadpProxyRuntime runtime(boolean failOpen, boolean blindIndex) {
+        Map<String, String> params = new HashMap<>();
+        params.put("hubUrl", hub.getUrl());
+        params.put("instanceId", instanceId);
+        if (blindIndex) {
+            params.put("blindIndex", "users.email");
+        }
+        params.put("failOpen", String.valueOf(failOpen));
+        return new DadpProxyRuntime(params);
+    }
+    
+    private EncryptionMigration migration(EncryptionMigration.ConnectionFactory connections, DadpProxyRuntime runtime,
+                                          String table, String primaryKey) {
+        EncryptionMigration migration = new EncryptionMigration(connections, runtime, table, primaryKey);
+        migration.setColumns(Collections.singletonList(table.equals("users") ? "email" : "val"));
+        return migration;
+    }
+    
+    private EncryptionMigration.ConnectionFactory raw() {
+        return () -> DriverManager.getConnection(url);
+    }
+    
+    /**
+     * SELECT를 실행할 때마다 hook을 호출하는 Connection (실행 순서를 결정적으로 만들기 위해 작업 스레드 1개에서 사용)
+     */
+    private EncryptionMigration.ConnectionFactory onSelect(Runnable hook) {
+        return () -> {
+            Connection connection = DriverManager.getConnection(url);
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Connection.class},
+                    (proxy, method, args) -> {
+                        Object result = invoke(connection, method, args);
+                        if (result instanceof PreparedStatement && ((String) args[0]).startsWith("SELECT")) {
+                            PreparedStatement select = (PreparedStatement) result;
+                            return Proxy.newProxyInstance(getClass().getClassLoader(),
+                                    new Class<?>[] {PreparedStatement.class}, (p, m, a) -> {
+                                        Object value = invoke(select, m, a);
+                                        if ("executeQuery".equals(m.getName())) {
+                                            hook.run(); // 결과는 이미 읽힌 상태 (H2는 결과를 메모리에 구성)
+                                        }
+                                        return value;
+                                    });
+                        }
+                        return result;
+                    });
+        };
+    }
+    
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+    
+    private String queryString(String sql) throws SQLException {
+        try (Statement statement = keep.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            return rs.getString(1);
+        }
+    }
+    
+    private long queryLong(String sql) throws SQLException {
+        try (Statement statement = keep.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+    
+    @Test
+    void backfillFillsIndexesOfAlreadyEncryptedValues() throws Exception {
+        // 블라인드 인덱스 없이 먼저 암호화된 상태 (동반 컬럼 비어 있음)
+        assertEquals(180, migration(raw(), runtime(true, false), "users", "id").run().getEncryptedValues());
+        String ciphertext = queryString("SELECT email FROM users WHERE id = 77");
+        assertEquals(0, queryLong("SELECT COUNT(*) FROM users WHERE email_bidx IS NOT NULL"));
+        try (Statement statement = keep.createStatement()) {
+            statement.execute("UPDATE users SET email = '" + email(5) + "' WHERE id = 5"); // 이후 평문으로 저장된 행
+        }
+        
+        // 백필 없이 실행하면 암호화된 값은 건너뛰어 동반 컬럼이 채워지지 않음
+        DadpProxyRuntime runtime = runtime(true);
+        MigrationProgress plain = migration(raw(), runtime, "users", "id").run();
+        assertEquals(1, plain.getEncryptedValues());
+        assertEquals(179, plain.getSkippedValues());
+        assertEquals(1, queryLong("SELECT COUNT(*) FROM users WHERE email_bidx IS NOT NULL"));
+        
+        EncryptionMigration backfill = migration(raw(), runtime, "users", "id");
+        backfill.setBackfillIndexes(true);
+        backfill.setBatchSize(7);
+        MigrationProgress progress = backfill.run();
+        
+        assertEquals(0, progress.getEncryptedValues());
+        assertEquals(180, progress.getIndexedValues());
+        assertEquals(0, progress.getSkippedValues());
+        assertEquals(0, progress.getFailedValues());
+        assertEquals(180, queryLong("SELECT COUNT(*) FROM users WHERE email_bidx IS NOT NULL"));
+        // 암호문은 그대로 두고 동반 컬럼만 갱신
+        assertEquals(ciphertext, queryString("SELECT email FROM users WHERE id = 77"));
+        assertEquals(runtime.getBlindIndex().compute("users", "email", email(77)),
+                queryString("SELECT email_bidx FROM users WHERE id = 77"));
+        assertEquals(runtime.getBlindIndex().compute("users", "email", email(5)),
+                queryString("SELECT email_bidx FROM users WHERE id = 5"));
+    }
+    
+    @Test
+    void numericKeyRangesAreEncryptedWithBlindIndex() throws Exception {
+        DadpProxyRuntime runtime = runtime(true);
+        EncryptionMigration migration = migration(raw(), runtime, "users", "id");
+        migration.setRangeSize(30);
+        migration.setBatchSize(7);
+        migration.setWorkers(3);
+        
+        MigrationProgress progress = migration.run();
+        
+        assertEquals(7, progress.getTotalRanges()); // (200 - 1) / 30 + 1
+        assertEquals(7, progress.getCompletedRanges());
+        assertEquals(200, progress.getScannedRows());
+        assertEquals(180, progress.getEncryptedValues());
+        assertEquals(0, progress.getFailedValues());
+        assertEquals(180, queryLong("SELECT COUNT(*) FROM users WHERE email LIKE '" + ENCRYPTED_PREFIX + "%'"));
+        assertEquals(0, queryLong("SELECT COUNT(*) FROM users WHERE note LIKE '" + ENCRYPTED_PREFIX + "%'"));
+        assertEquals(email(77), hub.decrypt(queryString("SELECT email FROM users WHERE id = 77")));
+        assertEquals(runtime.getBlindIndex().compute("users", "email", email(77)),
+                queryString("SELECT email_bidx FROM users WHERE id = 77"));
+        
+        // 다시 실행해도 이미 암호화된 값은 건너뜀
+        EncryptionMigration again = migration(raw(), runtime, "users", "id");
+        again.setRangeSize(500);
+        MigrationProgress second = again.run();
+        assertEquals(0, second.getEncryptedValues());
+        assertEquals(180, second.getSkippedValues());
+        assertEquals(email(77), hub.decrypt(queryString("SELECT email FROM users WHERE id = 77")));
+    }
+    
+    @Test
+    void markerWithoutPolicyEnvelopeIsReportedNotSkipped() throws Exception {
+        try (Statement statement = keep.createStatement()) {
+            statement.execute("UPDATE users SET email = 'a::ENC::b@x.com' WHERE id = 1"); // 표시가 포함된 평문
+            statement.execute("UPDATE users SET email = '010-" + ENCRYPTED_PREFIX + "AAAA' WHERE id = 2"); // 부분 암호화
+            statement.execute("UPDATE users SET email = 'other::ENC::AAAA' WHERE id = 3"); // 다른 정책
+            statement.execute("UPDATE users SET email = '" + ENCRYPTED_PREFIX + "not base64!' WHERE id = 4");
+        }
+        EncryptionMigration migration = migration(raw(), runtime(true), "users", "id");
+        migration.setRangeSize(500);
+        
+        MigrationProgress progress = migration.run();
+        
+        assertEquals(176, progress.getEncryptedValues());
+        assertEquals(0, progress.getSkippedValues());
+        assertEquals(4, progress.getUnrecognizedValues());
+        assertEquals("a::ENC::b@x.com", queryString("SELECT email FROM users WHERE id = 1"));
+        assertEquals("010-" + ENCRYPTED_PREFIX + "AAAA", queryString("SELECT email FROM users WHERE id = 2"));
+        assertEquals(email(5), hub.decrypt(queryString("SELECT email FROM users WHERE id = 5")));
+    }
+    
+    @Test
+    void cancelledRunResumesFromCheckpoint() throws Exception {
+        DadpProxyRuntime runtime = runtime(true);
+        Path checkpoint = tempDir.resolve("users.checkpoint");
+        AtomicInteger selects = new AtomicInteger();
+        EncryptionMigration[] first = new EncryptionMigration[1];
+        // 구간 50행, 배치 10행: 구간마다 SELECT 6번 (마지막은 빈 결과), 두 번째 구간의 두 번째 배치에서 중단
+        first[0] = migration(onSelect(() -> {
+            if (selects.incrementAndGet() == 8) {
+                first[0].cancel();
+            }
+        }), runtime, "users", "id");
+        first[0].setRangeSize(50);
+        first[0].setBatchSize(10);
+        first[0].setWorkers(1);
+        first[0].setCheckpointFile(checkpoint);
+        
+        MigrationProgress cancelled = first[0].run();
+        assertEquals(4, cancelled.getTotalRanges());
+        assertEquals(1, cancelled.getCompletedRanges());
+        assertEquals(63, cancelled.getEncryptedValues()); // 첫 구간 45 + 중단 전 두 배치 18
+        assertTrue(Files.exists(checkpoint));
+        
+        EncryptionMigration resumed = migration(raw(), runtime, "users", "id");
+        resumed.setRangeSize(50);
+        resumed.setBatchSize(10);
+        resumed.setWorkers(2);
+        resumed.setCheckpointFile(checkpoint);
+        MigrationProgress progress = resumed.run();
+        
+        assertEquals(4, progress.getCompletedRanges());
+        assertEquals(150, progress.getScannedRows()); // 완료한 첫 구간은 읽지 않음
+        assertEquals(18, progress.getSkippedValues());
+        assertEquals(117, progress.getEncryptedValues());
+        assertEquals(180, queryLong("SELECT COUNT(*) FROM users WHERE email LIKE '" + ENCRYPTED_PREFIX + "%'"));
+    }
+    
+    @Test
+    void concurrentChangeIsNotOverwritten() throws Exception {
+        AtomicInteger selects = new AtomicInteger();
+        EncryptionMigration migration = migration(onSelect(() -> {
+            if (selects.incrementAndGet() == 1) {
+                // 마이그레이션이 읽은 뒤 애플리케이션이 값을 변경
+                try (Statement statement = keep.createStatement()) {
+                    statement.executeUpdate("UPDATE users SET email = 'changed@x.com' WHERE id = 1");
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }), runtime(true), "users", "id");
+        migration.setWorkers(1);
+        
+        MigrationProgress progress = migration.run();
+        
+        assertEquals(1, progress.getConflictedValues());
+        assertEquals(179, progress.getEncryptedValues());
+        assertEquals("changed@x.com", queryString("SELECT email FROM users WHERE id = 1"));
+    }
+    
+    @Test
+    void oversizeCiphertextFailsWhenFailClosed() throws Exception {
+        try (Statement statement = keep.createStatement()) {
+            statement.executeUpdate("UPDATE users SET name = 'n' || id");
+        }
+        DadpProxyRuntime runtime = runtime(false);
+        EncryptionMigration migration = new EncryptionMigration(raw(), runtime, "users", "id");
+        migration.setColumns(Collections.singletonList("name"));
+        
+        SQLException e = assertThrows(SQLException.class, migration::run);
+        assertEquals("22001", e.getSQLState());
+        assertTrue(e.getMessage().contains("users.name"), e.getMessage());
+        assertTrue(runtime.getMetrics().getOversizeCount() > 0);
+        assertEquals(0, queryLong("SELECT COUNT(*) FROM users WHERE name LIKE '" + ENCRYPTED_PREFIX + "%'"));
+    }
+    
+    @Test
+    void oversizeCiphertextStaysPlainWhenFailOpen() throws Exception {
+        try (Statement statement = keep.createStatement()) {
+            statement.executeUpdate("UPDATE users SET name = 'n' || id");
+        }
+        EncryptionMigration migration = new EncryptionMigration(raw(), runtime(true), "users", "id");
+        migration.setColumns(Collections.singletonList("name"));
+        
+        MigrationProgress progress = migration.run();
+        
+        assertEquals(200, progress.getFailedValues());
+        assertEquals(0, progress.getEncryptedValues());
+        assertEquals("n5", queryString("SELECT name FROM users WHERE id = 5"));
+    }
+    
+    @Test
+    void nonNumericKeyUsesKeysetPaging() throws Exception {
+        try (PreparedStatement insert = keep.prepareStatement("INSERT INTO codes VALUES (?, ?)")) {
+            for (int i = 0; i < 123; i++) {
+                insert.setString(1, String.format("k%05d", i));
+                insert.setString(2, "v" + i);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        Path checkpoint = tempDir.resolve("codes.checkpoint");
+        EncryptionMigration migration = migration(raw(), runtime(true), "codes", "code");
+        migration.setBatchSize(20);
+        migration.setCheckpointFile(checkpoint);
+        
+        MigrationProgress progress = migration.run();
+        
+        assertEquals(1, progress.getTotalRanges());
+        assertEquals(123, progress.getEncryptedValues());
+        assertEquals(123, queryLong("SELECT COUNT(*) FROM codes WHERE val LIKE '" + ENCRYPTED_PREFIX + "%'"));
+        assertEquals("v42", hub.decrypt(queryString("SELECT val FROM codes WHERE code = 'k00042'")));
+    }
+    
+    @Test
+    void toolRejectsUnknownOptions() {
+        assertEquals(2, EncryptionMigrationTool.run(new String[] {
+                "--url", "jdbc:h2:mem:unused", "--table", "users", "--primary-key", "id", "--worker", "8"}));
+    }
+}
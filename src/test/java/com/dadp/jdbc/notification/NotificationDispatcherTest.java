@@ -0,0 +1,135 @@
+package com.dadp.jdbc.notification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.dadp.jdbc.stub.StubHubServer;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * NotificationDispatcher 배치 전송, 동일 알림 생략, 배치 API 미지원 시 단건 전환 테스트 (Stub Hub)
+ *
+ * 백그라운드 전송 없이 생성한 전송기의 drain을 직접 호출하여 요청 수를 확인합니다.
+ *
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+class NotificationDispatcherTest {
+
+    private StubHubServer hub;
+
+    @BeforeEach
+    void startHub() throws Exception {
+        hub = new StubHubServer(0).start();
+    }
+
+    @AfterEach
+    void stopHub() {
+        hub.stop();
+    }
+
+    private static NotificationDispatcher.Notification notification(String title, String entityId) {
+        return new NotificationDispatcher.Notification("CRYPTO_ERROR", "WARNING", title, "오류", "PROXY", entityId, null);
+    }
+
+    private List<String> receivedTitles() {
+        return hub.getNotifications().stream().map(n -> n.path("title").asText()).collect(Collectors.toList());
+    }
+
+    @Test
+    void queuedNotificationsAreSentInOneBatchRequest() {
+        NotificationDispatcher dispatcher = new NotificationDispatcher(hub.getUrl(), 100, 60000L);
+        for (int i = 0; i < 3; i++) {
+            assertTrue(dispatcher.offer(notification("암호화 실패: users.c" + i, "app-1")));
+        }
+
+        dispatcher.drain();
+
+        assertEquals(1, hub.getRequestCount(StubHubServer.Endpoint.NOTIFICATIONS));
+        assertEquals(3, hub.getNotifications().size());
+    }
+
+    @Test
+    void sameNotificationIsSentOncePerIntervalAndReportsSuppressedCount() throws Exception {
+        NotificationDispatcher dispatcher = new NotificationDispatcher(hub.getUrl(), 100, 200L);
+
+        assertTrue(dispatcher.offer(notification("복호화 실패: users.email", "app-1")));
+        assertFalse(dispatcher.offer(notification("복호화 실패: users.email", "app-1")));
+        assertFalse(dispatcher.offer(notification("복호화 실패: users.email", "app-1")));
+        // 대상이나 instanceId가 다르면 별도 알림
+        assertTrue(dispatcher.offer(notification("복호화 실패: users.name", "app-1")));
+        assertTrue(dispatcher.offer(notification("복호화 실패: users.email", "app-2")));
+        assertEquals(2, dispatcher.getSuppressedCount());
+
+        Thread.sleep(300);
+        assertTrue(dispatcher.offer(notification("복호화 실패: users.email", "app-1")));
+        dispatcher.drain();
+
+        List<JsonNode> received = hub.getNotifications();
+        assertEquals(4, received.size());
+        assertTrue(received.get(3).path("message").asText().contains("직전 동일 알림 2건 생략"),
+                received.get(3).toString());
+    }
+
+    @Test
+    void fullQueueDropsNotifications() {
+        NotificationDispatcher dispatcher = new NotificationDispatcher(hub.getUrl(), 2, 60000L);
+
+        assertTrue(dispatcher.offer(notification("a", "app-1")));
+        assertTrue(dispatcher.offer(notification("b", "app-1")));
+        assertFalse(dispatcher.offer(notification("c", "app-1")));
+
+        assertEquals(1, dispatcher.getDroppedCount());
+    }
+
+    @Test
+    void missingBatchApiSwitchesToSingleNotifications() {
+        hub.setNotificationBatchSupported(false);
+        NotificationDispatcher dispatcher = new NotificationDispatcher(hub.getUrl(), 100, 60000L);
+        dispatcher.offer(notification("a", "app-1"));
+        dispatcher.offer(notification("b", "app-1"));
+
+        dispatcher.drain();
+
+        // 배치 요청 1건(404) + 단건 재전송 2건
+        assertEquals(3, hub.getRequestCount(StubHubServer.Endpoint.NOTIFICATIONS));
+        assertEquals(2, hub.getNotifications().size());
+
+        dispatcher.offer(notification("c", "app-1"));
+        dispatcher.offer(notification("d", "app-1"));
+        dispatcher.drain();
+
+        // 이후에는 배치 API를 호출하지 않음
+        assertEquals(5, hub.getRequestCount(StubHubServer.Endpoint.NOTIFICATIONS));
+        assertEquals(4, hub.getNotifications().size());
+    }
+
+    @Test
+    void cryptoErrorsWithoutColumnAreKeptApartByPolicy() throws Exception {
+        HubNotificationService service = new HubNotificationService(hub.getUrl(), "app-1");
+        long suppressedBefore = service.getSuppressedCount();
+
+        service.notifyDecryptionError(null, null, "pii", "Hub 오류");
+        service.notifyDecryptionError(null, null, "card", "Hub 오류");
+        service.notifyEncryptionError(null, null, "pii", "Hub 오류");
+        service.notifyDecryptionError(null, null, "pii", "Hub 오류");
+
+        assertEquals(1, service.getSuppressedCount() - suppressedBefore);
+        long deadline = System.currentTimeMillis() + 5000;
+        while (hub.getNotifications().size() < 3 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        List<String> titles = receivedTitles();
+        assertEquals(3, titles.size(), titles.toString());
+        assertTrue(titles.contains("복호화 실패: 정책 pii"), titles.toString());
+        assertTrue(titles.contains("복호화 실패: 정책 card"), titles.toString());
+        assertTrue(titles.contains("암호화 실패: 정책 pii"), titles.toString());
+    }
+}
@@ -0,0 +1,640 @@
+package com.dadp.jdbc.stub;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 통합/부하 테스트용 내장 Stub Hub
+ * 
+ * JDK의 com.sun.net.httpserver.HttpServer로 Wrapper가 호출하는 Hub API를 흉내 냅니다.
+ * - GET  /hub/api/v1/proxy/mappings, /hub/api/v1/proxy/mappings/check
+ * - POST /hub/api/v1/proxy/schema/sync
+ * - POST /hub/api/v1/notifications/external, /hub/api/v1/notifications/external/batch
+ * - POST /hub/api/v1/crypto/encrypt, /hub/api/v1/crypto/decrypt
+ * 
+ * 암호화는 정책별 키를 사용하는 AES-256-GCM(정책명::ENC::Base64)이며 Stub 전용 형식입니다 (실제 Hub 암호문과 호환되지 않음).
+ * 키 없이 만들 수 있는 암호문이 필요하면 fakeEncrypt(정책명::ENC::Base64 평문)를 사용하세요.
+ * 
+ * 지연 시간/오류율/장애를 실행 중에 바꿀 수 있습니다. 오류 발생 여부는 시드가 고정된 Random으로 결정하므로
+ * 같은 요청 순서에서는 같은 결과가 재현됩니다.
+ * 
+ * <pre>
+ * StubHubServer hub = new StubHubServer(0);
+ * hub.addMapping("users", "email", "dadp");
+ * hub.setLatencyMillis(20);
+ * hub.start();
+ * String url = "jdbc:dadp:h2:mem:test?hubUrl=" + hub.getUrl() + "&amp;instanceId=it";
+ * ...
+ * hub.stop();
+ * </pre>
+ * 
+ * @author DADP Development Team
+ * @version 3.0.5
+ * @since 2025-12-01
+ */
+public class StubHubServer {
+    
+    private static final Logger log = LoggerFactory.getLogger(StubHubServer.class);
+    
+    private static final String ENC_MARKER = "::ENC::";
+    private static final byte ENVELOPE_VERSION = 0x01;
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_BITS = 128;
+    private static final long DEFAULT_SEED = 42L;
+    
+    static {
+        // JDK HttpServer는 기본적으로 Nagle 알고리즘을 사용하므로 응답마다 delayed ACK(약 40ms)가 붙음
+        // (이 JVM에서 HttpServer를 처음 만들기 전에 설정해야 적용됨)
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+    
+    /**
+     * Hub API 구분 (요청 수 집계 및 장애 주입 대상 지정용)
+     */
+    public enum Endpoint {
+        MAPPINGS,
+        MAPPINGS_CHECK,
+        SCHEMA_SYNC,
+        NOTIFICATIONS,
+        CRYPTO
+    }
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final int requestedPort;
+    private final int threads;
+    private HttpServer server;
+    private ExecutorService executor;
+    
+    // 테이블.컬럼 → 정책명
+    private final Map<String, String> mappings = new ConcurrentHashMap<>();
+    private final AtomicLong mappingVersion = new AtomicLong();
+    // proxyInstanceId → 마지막으로 조회한 매핑 버전
+    private final Map<String, Long> seenVersions = new ConcurrentHashMap<>();
+    
+    // 장애 주입
+    private volatile long latencyMillis;
+    private volatile long latencyJitterMillis;
+    private volatile double errorRate;
+    private volatile boolean outage;
+    private volatile Set<Endpoint> faultEndpoints = EnumSet.allOf(Endpoint.class);
+    private final Random random = new Random(DEFAULT_SEED);
+    
+    // 관찰용
+    private final Map<Endpoint, AtomicLong> requestCounts = new EnumMap<>(Endpoint.class);
+    private final AtomicLong injectedErrors = new AtomicLong();
+    private final ConcurrentLinkedQueue<JsonNode> notifications = new ConcurrentLinkedQueue<>();
+    private volatile JsonNode lastSchemaSync;
+    private volatile boolean notificationBatchSupported = true;
+    
+    // 암호화 키: 정책명 → keyId, keyId → 키
+    private final Map<String, String> currentKeyIds = new ConcurrentHashMap<>();
+    private final Map<String, StubKey> keys = new ConcurrentHashMap<>();
+    private final AtomicLong keySequence = new AtomicLong();
+    private final SecureRandom secureRandom = new SecureRandom();
+    
+    /**
+     * @param port 포트 (0이면 임의의 빈 포트)
+     */
+    public StubHubServer(int port) {
+        this(port, 16);
+    }
+    
+    /**
+     * @param port 포트 (0이면 임의의 빈 포트)
+     * @param threads 요청 처리 스레드 수 (부하 테스트 시 Wrapper 동시성보다 크게)
+     */
+    public StubHubServer(int port, int threads) {
+        this.requestedPort = port;
+        this.threads = threads;
+        for (Endpoint endpoint : Endpoint.values()) {
+            requestCounts.put(endpoint, new AtomicLong());
+        }
+    }
+    
+    /**
+     * 서버 시작
+     */
+    public synchronized StubHubServer start() throws IOException {
+        if (server != null) {
+            return this;
+        }
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", requestedPort), 0);
+        server.createContext("/hub/api/v1/proxy/mappings", this::handleMappings);
+        server.createContext("/hub/api/v1/proxy/schema/sync", exchange -> handle(exchange, Endpoint.SCHEMA_SYNC));
+        server.createContext("/hub/api/v1/notifications/external", exchange -> handle(exchange, Endpoint.NOTIFICATIONS));
+        server.createContext("/hub/api/v1/crypto", exchange -> handle(exchange, Endpoint.CRYPTO));
+        executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "dadp-stub-hub");
+            t.setDaemon(true);
+            return t;
+        });
+        server.setExecutor(executor);
+        server.start();
+        log.info("✅ Stub Hub 시작: {}", getUrl());
+        return this;
+    }
+    
+    /**
+     * 서버 중지
+     */
+    public synchronized void stop() {
+        if (server == null) {
+            return;
+        }
+        server.stop(0);
+        executor.shutdownNow();
+        server = null;
+        log.info("✅ Stub Hub 중지");
+    }
+    
+    /**
+     * Hub URL (Wrapper의 hubUrl 설정값)
+     */
+    public String getUrl() {
+        return "http://127.0.0.1:" + getPort();
+    }
+    
+    public int getPort() {
+        if (server == null) {
+            throw new IllegalStateException("Stub Hub가 시작되지 않았습니다");
+        }
+        return server.getAddress().getPort();
+    }
+    
+    // ===== 매핑 =====
+    
+    /**
+     * 정책 매핑 추가 (다음 /mappings/check에서 변경됨으로 응답)
+     */
+    public void addMapping(String tableName, String columnName, String policyName) {
+        mappings.put(tableName + "." + columnName, policyName);
+        mappingVersion.incrementAndGet();
+    }
+    
+    public void removeMapping(String tableName, String columnName) {
+        mappings.remove(tableName + "." + columnName);
+        mappingVersion.incrementAndGet();
+    }
+    
+    public void clearMappings() {
+        mappings.clear();
+        mappingVersion.incrementAndGet();
+    }
+    
+    // ===== 장애 주입 =====
+    
+    /**
+     * 응답 지연 시간 (밀리초)
+     */
+    public void setLatencyMillis(long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+    
+    /**
+     * 응답 지연 시간에 더할 무작위 편차 (0 ~ jitter 밀리초)
+     */
+    public void setLatencyJitterMillis(long latencyJitterMillis) {
+        this.latencyJitterMillis = latencyJitterMillis;
+    }
+    
+    /**
+     * HTTP 500 응답 비율 (0.0 ~ 1.0)
+     */
+    public void setErrorRate(double errorRate) {
+        this.errorRate = errorRate;
+    }
+    
+    /**
+     * 장애 모드: 응답 없이 연결을 끊음 (Hub 다운 상황)
+     */
+    public void setOutage(boolean outage) {
+        this.outage = outage;
+    }
+    
+    /**
+     * 지연/오류/장애를 적용할 API (기본값: 전체)
+     */
+    public void setFaultEndpoints(Set<Endpoint> endpoints) {
+        this.faultEndpoints = endpoints.isEmpty() ? EnumSet.noneOf(Endpoint.class) : EnumSet.copyOf(endpoints);
+    }
+    
+    /**
+     * 오류 주입용 난수 시드 (같은 시드, 같은 요청 순서에서 같은 결과)
+     */
+    public void setSeed(long seed) {
+        synchronized (random) {
+            random.setSeed(seed);
+        }
+    }
+    
+    /**
+     * 장애 주입 설정 및 집계 초기화 (매핑과 암호화 키는 유지)
+     */
+    public void reset() {
+        latencyMillis = 0;
+        latencyJitterMillis = 0;
+        errorRate = 0;
+        outage = false;
+        faultEndpoints = EnumSet.allOf(Endpoint.class);
+        setSeed(DEFAULT_SEED);
+        for (AtomicLong count : requestCounts.values()) {
+            count.set(0);
+        }
+        injectedErrors.set(0);
+        notifications.clear();
+        lastSchemaSync = null;
+        notificationBatchSupported = true;
+    }
+    
+    /**
+     * 알림 배치 API 지원 여부 (false면 배치 요청에 404 응답 → Wrapper는 단건 API로 전환)
+     */
+    public void setNotificationBatchSupported(boolean notificationBatchSupported) {
+        this.notificationBatchSupported = notificationBatchSupported;
+    }
+    
+    // ===== 관찰 =====
+    
+    public long getRequestCount(Endpoint endpoint) {
+        return requestCounts.get(endpoint).get();
+    }
+    
+    public long getInjectedErrorCount() {
+        return injectedErrors.get();
+    }
+    
+    /**
+     * 수신한 알림 (배치 요청은 개별 알림으로 풀어서 저장)
+     */
+    public List<JsonNode> getNotifications() {
+        return Collections.unmodifiableList(new ArrayList<>(notifications));
+    }
+    
+    /**
+     * 마지막으로 수신한 스키마 동기화 요청 본문
+     */
+    public JsonNode getLastSchemaSync() {
+        return lastSchemaSync;
+    }
+    
+    // ===== 암복호화 =====
+    
+    private String getCurrentKeyId(String policyName) {
+        return currentKeyIds.computeIfAbsent(policyName, this::newKey);
+    }
+    
+    private String newKey(String policyName) {
+        String keyId = "k" + keySequence.incrementAndGet();
+        byte[] secret = new byte[32];
+        secureRandom.nextBytes(secret);
+        keys.put(keyId, new StubKey(keyId, new SecretKeySpec(secret, "AES")));
+        return keyId;
+    }
+    
+    /**
+     * 정책의 키로 암호화 (Stub 전용 AES-GCM 형식)
+     */
+    public String encrypt(String data, String policyName) throws GeneralSecurityException {
+        StubKey key = keys.get(getCurrentKeyId(policyName));
+        byte[] keyId = key.keyId.getBytes(StandardCharsets.US_ASCII);
+        byte[] iv = new byte[IV_LENGTH];
+        secureRandom.nextBytes(iv);
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.ENCRYPT_MODE, key.secretKey, new GCMParameterSpec(TAG_BITS, iv));
+        cipher.updateAAD(policyName.getBytes(StandardCharsets.UTF_8));
+        byte[] encrypted = cipher.doFinal(data.getBytes(StandardCharsets.UTF_8));
+        ByteBuffer payload = ByteBuffer.allocate(2 + keyId.length + IV_LENGTH + encrypted.length);
+        payload.put(ENVELOPE_VERSION).put((byte) keyId.length).put(keyId).put(iv).put(encrypted);
+        return policyName + ENC_MARKER + Base64.getEncoder().encodeToString(payload.array());
+    }
+    
+    /**
+     * 복호화 (AES-GCM 형식과 fakeEncrypt 형식 모두 지원)
+     * 
+     * @return 평문 (암호화된 형식이 아니면 null)
+     */
+    public String decrypt(String encryptedData) throws GeneralSecurityException {
+        int marker = encryptedData != null ? encryptedData.indexOf(ENC_MARKER) : -1;
+        if (marker < 0) {
+            return null;
+        }
+        byte[] payload;
+        try {
+            payload = Base64.getDecoder().decode(encryptedData.substring(marker + ENC_MARKER.length()));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (payload.length < 2 || payload[0] != ENVELOPE_VERSION) {
+            // fakeEncrypt 형식
+            return new String(payload, StandardCharsets.UTF_8);
+        }
+        int keyIdLength = payload[1] & 0xFF;
+        StubKey key = payload.length > 2 + keyIdLength + IV_LENGTH
+                ? keys.get(new String(payload, 2, keyIdLength, StandardCharsets.US_ASCII)) : null;
+        if (key == null) {
+            throw new GeneralSecurityException("암호화 키를 찾을 수 없습니다");
+        }
+        int ivOffset = 2 + keyIdLength;
+        int dataOffset = ivOffset + IV_LENGTH;
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.DECRYPT_MODE, key.secretKey, new GCMParameterSpec(TAG_BITS, payload, ivOffset, IV_LENGTH));
+        cipher.updateAAD(encryptedData.substring(0, marker).getBytes(StandardCharsets.UTF_8));
+        return new String(cipher.doFinal(payload, dataOffset, payload.length - dataOffset), StandardCharsets.UTF_8);
+    }
+    
+    /**
+     * 키 없이 암호화 형식만 흉내 냄 (정책명::ENC::Base64 평문, decrypt로 복호화 가능)
+     */
+    public static String fakeEncrypt(String data, String policyName) {
+        return policyName + ENC_MARKER + Base64.getEncoder().encodeToString(data.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * fakeEncrypt 형식 복호화
+     * 
+     * @return 평문 (fakeEncrypt 형식이 아니면 null)
+     */
+    public static String fakeDecrypt(String encryptedData) {
+        int marker = encryptedData != null ? encryptedData.indexOf(ENC_MARKER) : -1;
+        if (marker < 0) {
+            return null;
+        }
+        try {
+            byte[] decoded = Base64.getDecoder().decode(encryptedData.substring(marker + ENC_MARKER.length()));
+            return new String(decoded, StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+    
+    // ===== 요청 처리 =====
+    
+    private void handleMappings(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        handle(exchange, path.endsWith("/check") ? Endpoint.MAPPINGS_CHECK : Endpoint.MAPPINGS);
+    }
+    
+    private void handle(HttpExchange exchange, Endpoint endpoint) throws IOException {
+        try {
+            requestCounts.get(endpoint).incrementAndGet();
+            byte[] requestBody = readBody(exchange.getRequestBody());
+            
+            if (faultEndpoints.contains(endpoint)) {
+                if (outage) {
+                    // 응답 헤더 없이 연결 종료 → 클라이언트는 I/O 오류
+                    return;
+                }
+                sleepLatency();
+                if (shouldFail()) {
+                    injectedErrors.incrementAndGet();
+                    sendJson(exchange, 500, error("Stub Hub 주입 오류"));
+                    return;
+                }
+            }
+            
+            String path = exchange.getRequestURI().getPath();
+            switch (endpoint) {
+                case MAPPINGS:
+                    sendJson(exchange, 200, mappingsResponse(exchange));
+                    break;
+                case MAPPINGS_CHECK:
+                    sendJson(exchange, 200, checkResponse(exchange));
+                    break;
+                case SCHEMA_SYNC:
+                    lastSchemaSync = objectMapper.readTree(requestBody);
+                    sendJson(exchange, 200, success(null));
+                    break;
+                case NOTIFICATIONS:
+                    if (path.endsWith("/batch") && !notificationBatchSupported) {
+                        sendJson(exchange, 404, error("알 수 없는 API: " + path));
+                        break;
+                    }
+                    receiveNotifications(path, requestBody);
+                    sendJson(exchange, 200, success(null));
+                    break;
+                case CRYPTO:
+                    handleCrypto(exchange, path, requestBody);
+                    break;
+                default:
+                    sendJson(exchange, 404, error("알 수 없는 API: " + path));
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ Stub Hub 요청 처리 실패: {}", e.getMessage());
+            sendJson(exchange, 500, error(e.getMessage()));
+        } finally {
+            exchange.close();
+        }
+    }
+    
+    private ObjectNode mappingsResponse(HttpExchange exchange) {
+        String instanceId = queryParam(exchange, "proxyInstanceId");
+        if (instanceId != null) {
+            seenVersions.put(instanceId, mappingVersion.get());
+        }
+        ArrayNode data = objectMapper.createArrayNode();
+        for (Map.Entry<String, String> entry : mappings.entrySet()) {
+            String key = entry.getKey();
+            int dot = key.lastIndexOf('.');
+            ObjectNode mapping = data.addObject();
+            mapping.put("tableName", key.substring(0, dot));
+            mapping.put("columnName", key.substring(dot + 1));
+            mapping.put("policyName", entry.getValue());
+            mapping.put("enabled", true);
+        }
+        return success(data);
+    }
+    
+    private ObjectNode checkResponse(HttpExchange exchange) {
+        String instanceId = queryParam(exchange, "proxyInstanceId");
+        Long seen = instanceId != null ? seenVersions.get(instanceId) : null;
+        boolean changed = seen == null || seen != mappingVersion.get();
+        return success(objectMapper.getNodeFactory().booleanNode(changed));
+    }
+    
+    private void receiveNotifications(String path, byte[] requestBody) throws IOException {
+        JsonNode body = objectMapper.readTree(requestBody);
+        if (path.endsWith("/batch")) {
+            for (JsonNode notification : body.path("notifications")) {
+                notifications.add(notification);
+            }
+        } else {
+            notifications.add(body);
+        }
+    }
+    
+    private void handleCrypto(HttpExchange exchange, String path, byte[] requestBody)
+            throws IOException, GeneralSecurityException {
+        JsonNode request = objectMapper.readTree(requestBody);
+        if (path.endsWith("/encrypt")) {
+            String data = request.path("data").asText(null);
+            String policyName = request.path("policyName").asText(null);
+            if (data == null || policyName == null) {
+                sendJson(exchange, 400, error("data와 policyName은 필수입니다"));
+                return;
+            }
+            sendJson(exchange, 200, success(objectMapper.getNodeFactory().textNode(encrypt(data, policyName))));
+        } else if (path.endsWith("/decrypt")) {
+            String decrypted = decrypt(request.path("encryptedData").asText(null));
+            // 암호화되지 않은 데이터는 success + data null (Hub와 동일)
+            sendJson(exchange, 200, success(decrypted != null ? objectMapper.getNodeFactory().textNode(decrypted) : null));
+        } else {
+            sendJson(exchange, 404, error("알 수 없는 API: " + path));
+        }
+    }
+    
+    private void sleepLatency() {
+        long delay = latencyMillis;
+        long jitter = latencyJitterMillis;
+        if (jitter > 0) {
+            synchronized (random) {
+                delay += (long) (random.nextDouble() * jitter);
+            }
+        }
+        if (delay <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private boolean shouldFail() {
+        double rate = errorRate;
+        if (rate <= 0) {
+            return false;
+        }
+        synchronized (random) {
+            return random.nextDouble() < rate;
+        }
+    }
+    
+    private ObjectNode success(JsonNode data) {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("success", true);
+        node.set("data", data);
+        return node;
+    }
+    
+    private ObjectNode error(String message) {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("success", false);
+        node.put("message", message);
+        return node;
+    }
+    
+    private void sendJson(HttpExchange exchange, int status, JsonNode body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+    
+    /**
+     * 정책별 암호화 키
+     */
+    private static final class StubKey {
+        final String keyId;
+        final SecretKey secretKey;
+        
+        StubKey(String keyId, SecretKey secretKey) {
+            this.keyId = keyId;
+            this.secretKey = secretKey;
+        }
+    }
+    
+    private static byte[] readBody(InputStream in) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        byte[] chunk = new byte[4096];
+        int n;
+        while ((n = in.read(chunk)) != -1) {
+            buffer.write(chunk, 0, n);
+        }
+        return buffer.toByteArray();
+    }
+    
+    private static String queryParam(HttpExchange exchange, String name) {
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            return null;
+        }
+        for (String pair : query.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0 && pair.substring(0, eq).equals(name)) {
+                try {
+                    return URLDecoder.decode(pair.substring(eq + 1), "UTF-8");
+                } catch (UnsupportedEncodingException e) {
+                    return pair.substring(eq + 1);
+                }
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * 단독 실행
+     * 
+     * <pre>
+     * java -jar stub-hub.jar [port] [테이블.컬럼=정책명 ...]
+     * </pre>
+     * 
+     * 지연 시간/오류율은 -Ddadp.stub-hub.latency-ms, -Ddadp.stub-hub.error-rate로 지정합니다.
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 9090;
+        StubHubServer hub = new StubHubServer(port);
+        for (int i = 1; i < args.length; i++) {
+            String[] mapping = args[i].split("=", 2);
+            int dot = mapping[0].lastIndexOf('.');
+            if (mapping.length != 2 || dot < 0) {
+                throw new IllegalArgumentException("매핑 형식 오류 (테이블.컬럼=정책명): " + args[i]);
+            }
+            hub.addMapping(mapping[0].substring(0, dot), mapping[0].substring(dot + 1), mapping[1]);
+        }
+        hub.setLatencyMillis(Long.getLong("dadp.stub-hub.latency-ms", 0L));
+        hub.setErrorRate(Double.parseDouble(System.getProperty("dadp.stub-hub.error-rate", "0")));
+        hub.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(hub::stop));
+    }
+}